@@ -18,6 +18,7 @@ package com.hcl.domino.data;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Path;
 
 /**
@@ -130,12 +131,55 @@ public interface Attachment {
 
   /**
    * Retrieves an input stream to access the data of the attachment.
+   * <p>
+   * Compressed attachments and attachments of encrypted documents may be
+   * decompressed on a background thread that uses the parent document. The
+   * stream must therefore be closed before the document, also when it is not
+   * read to the end; otherwise the background thread keeps waiting for the
+   * data to be consumed.
+   * </p>
    *
-   * @return a new {@link InputStream} for the attachment data
+   * @return a new {@link InputStream} for the attachment data, which must be
+   *         closed after use
    * @throws IOException in case of I/O errors
    */
   InputStream getInputStream() throws IOException;
 
+  /**
+   * Retrieves an input stream to access a range of the attachment data, e.g. to
+   * answer HTTP range requests.
+   * <p>
+   * Uncompressed attachments are read directly from the database at the
+   * requested offset, compressed ones are decompressed from the start and the
+   * data before the offset is skipped.
+   * </p>
+   *
+   * @param offset offset of the first byte to read
+   * @param length maximum number of bytes to read
+   * @return a new {@link InputStream} for the range, which must be closed after
+   *         use, see {@link #getInputStream()}
+   * @throws IOException in case of I/O errors
+   * @throws IllegalArgumentException if offset or length are negative
+   * @since 1.44.0
+   */
+  InputStream getInputStream(long offset, long length) throws IOException;
+
+  /**
+   * Opens a read-only channel to access the attachment data.
+   * <p>
+   * For uncompressed attachments, the channel reads directly from the database
+   * and supports efficient random access via
+   * {@link SeekableByteChannel#position(long)}. For compressed attachments, the
+   * data is decompressed while reading; moving the position backwards restarts
+   * the decompression.
+   * </p>
+   *
+   * @return a new channel, which should be closed after use
+   * @throws IOException in case of I/O errors
+   * @since 1.44.0
+   */
+  SeekableByteChannel newByteChannel() throws IOException;
+
   /**
    * Returns the parent document of this attachment
    *
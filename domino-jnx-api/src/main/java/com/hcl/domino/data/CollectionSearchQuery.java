@@ -337,6 +337,31 @@ public interface CollectionSearchQuery extends SearchQuery {
     T start();
   }
 
+  /**
+   * {@link CollectionEntryProcessor} that collects the note ids of the read
+   * entries in a {@link NoteIdList}
+   *
+   * @since 1.44.0
+   */
+  public static class NoteIdListProcessor implements CollectionEntryProcessor<NoteIdList> {
+
+    @Override
+    public NoteIdList end(final NoteIdList result) {
+      return result;
+    }
+
+    @Override
+    public Action entryRead(final NoteIdList result, final CollectionEntry entry) {
+      result.add(entry.getNoteID());
+      return Action.Continue;
+    }
+
+    @Override
+    public NoteIdList start() {
+      return new NoteIdList();
+    }
+  }
+
   // configure expanded and selected navigation, e.g. next selected, next
   // expanded, next selected expanded
 
@@ -534,6 +559,19 @@ public interface CollectionSearchQuery extends SearchQuery {
    */
   void collectIds(int skip, int count, Collection<Integer> idTable);
 
+  /**
+   * Return the note ids of the search result as a {@link NoteIdList}, avoiding
+   * the boxing overhead of {@link #collectIds(int, int)}
+   *
+   * @param skip  paging offset
+   * @param count paging count
+   * @return ordered list of note ids
+   * @since 1.44.0
+   */
+  default NoteIdList collectNoteIds(final int skip, final int count) {
+    return this.build(skip, count, new NoteIdListProcessor());
+  }
+
   // decide what to do with the view content
 
   /**
@@ -709,7 +747,11 @@ public interface CollectionSearchQuery extends SearchQuery {
   CollectionSearchQuery selectByKey(String key, boolean exact);
 
   /**
-   * Slow method to compute the total number of collection entries
+   * Slow method to compute the total number of collection entries.<br>
+   * <br>
+   * The count is cached in the {@link DominoCollection} and reused by later queries
+   * with the same selection, expanded entries, navigation direction and start entry
+   * until the collection index changes, see {@link DominoCollection#getCountCacheStatistics()}.
    *
    * @return total
    */
@@ -627,6 +627,14 @@ public interface Database extends IAdaptable, AutoCloseable, DominoClientDescend
 
   void deleteDocuments(Collection<Integer> noteIds);
 
+  /**
+   * Deletes several documents at once
+   *
+   * @param noteIds note ids of the documents to delete
+   * @since 1.44.0
+   */
+  void deleteDocuments(NoteIdList noteIds);
+
   void deleteDocumentsByUNID(Collection<String> unids);
 
   /**
@@ -886,6 +894,26 @@ public interface Database extends IAdaptable, AutoCloseable, DominoClientDescend
    */
   Optional<Document> getDocumentById(int noteId, Set<OpenDocumentMode> flags);
 
+  /**
+   * Opens a number of documents in batches, using one server round trip per batch
+   * instead of one per document.<br>
+   * <br>
+   * The next batches are read in the background while the stream is consumed (if
+   * the client allows cross-thread access). Each document is closed as soon as the
+   * stream moves on to the next one, so documents should not be collected for later
+   * use. Note IDs of documents that do not exist or have been deleted are skipped.<br>
+   * <br>
+   * Close the stream when stopping before the end to release the documents that
+   * have been read ahead.
+   *
+   * @param noteIds   note IDs of the documents to open, e.g. an {@link IDTable}
+   * @param flags     the flags to control the document-opening mode
+   * @param batchSize number of documents to open per round trip
+   * @return stream of documents in the order of <code>noteIds</code>
+   * @since 1.44.0
+   */
+  Stream<Document> streamDocuments(Collection<Integer> noteIds, Set<OpenDocumentMode> flags, int batchSize);
+
   /**
    * Uses an efficient NSF lookup mechanism to find a document that
    * matches the primary key specified with <code>category</code> and
@@ -1456,6 +1484,15 @@ public interface Database extends IAdaptable, AutoCloseable, DominoClientDescend
    */
   DocumentSummaryQueryResult queryDocuments(Collection<Integer> ids);
 
+  /**
+   * Runs an operation on a number of documents in the database
+   *
+   * @param ids note ids of documents to process
+   * @return query result, see {@link #queryDocuments(Collection)}
+   * @since 1.44.0
+   */
+  DocumentSummaryQueryResult queryDocuments(NoteIdList ids);
+
   /**
    * Runs a DQL query against the documents in the database.<br>
    *
@@ -1557,6 +1594,36 @@ public interface Database extends IAdaptable, AutoCloseable, DominoClientDescend
       TemporalAccessor since, Set<DocumentClass> docClass, Map<String, String> computeValues,
       FormulaQueryCallback callback);
 
+  /**
+   * Evaluates a formula on all documents of the database using multiple threads.<br>
+   * <br>
+   * The note ids of the database are split into ranges that are searched concurrently,
+   * each thread using its own handle of this database, opened with {@link #reopen()} so
+   * that it has the same access and sees the same documents. Matches are reported to the
+   * <code>callback</code> from all of these threads as they are found, so the callback
+   * needs to be thread-safe and receives the thread's {@link Database} instance,
+   * which must not be used after the callback returns.<br>
+   * <br>
+   * Using other threads requires cross-thread access to be enabled for the client
+   * (Java property <code>jnx.allowCrossThreadAccess</code>).
+   * Otherwise all ranges are searched sequentially on the calling thread.<br>
+   * <br>
+   * If the calling thread is interrupted, the search is stopped in all threads. The
+   * method still waits for them to finish, so that the callback is not called after
+   * it returns, and then throws a {@link com.hcl.domino.DominoException}.
+   *
+   * @param selectionFormula selection formula
+   * @param docClass         class of documents to search
+   * @param computeValues    map to compute summary values for the search matches,
+   *                         see {@link #queryFormula(String, Set, Set, TemporalAccessor, Set, Map, FormulaQueryCallback)}
+   * @param parallelism      number of threads to use, 0 to use one thread per processor
+   * @param callback         thread-safe callback to receive matches; returning
+   *                         {@link Action#Stop} stops the search in all threads
+   * @since 1.44.0
+   */
+  void parallelScan(String selectionFormula, Set<DocumentClass> docClass, Map<String, String> computeValues,
+      int parallelism, FormulaQueryCallback callback);
+
   /**
    * Performs a fulltext search in the database with advanced options.
    *
@@ -1761,6 +1828,16 @@ public interface Database extends IAdaptable, AutoCloseable, DominoClientDescend
    */
   void toUNIDs(Collection<Integer> noteIds, Map<Integer, String> resolvedUNIDsByNoteId, Set<Integer> unresolvedNoteIds);
 
+  /**
+   * Bulk conversion of note ids to UNIDs without boxing the note ids
+   *
+   * @param noteIds note ids to convert
+   * @return array with the same length and order as {@code noteIds}, containing
+   *         the UNID of each note id or {@code null} if it could not be resolved
+   * @since 1.44.0
+   */
+  String[] toUNIDs(NoteIdList noteIds);
+
   /**
    * Harvest view design elements for optimized DQL performance.
    *
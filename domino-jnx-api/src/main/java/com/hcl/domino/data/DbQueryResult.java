@@ -16,6 +16,7 @@
  */
 package com.hcl.domino.data;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import com.hcl.domino.data.CollectionSearchQuery.CollectionEntryProcessor;
+import com.hcl.domino.data.CollectionSearchQuery.NoteIdListProcessor;
 import com.hcl.domino.misc.Loop;
 
 public interface DbQueryResult<CHAINTYPE extends DbQueryResult<?>> {
@@ -92,6 +94,19 @@ public interface DbQueryResult<CHAINTYPE extends DbQueryResult<?>> {
    */
   void collectIds(int skip, int count, Collection<Integer> idTable);
 
+  /**
+   * Return the note ids of the search result as a {@link NoteIdList}, avoiding
+   * the boxing overhead of {@link #collectIds(int, int)}
+   *
+   * @param skip  paging offset
+   * @param count paging count
+   * @return ordered list of note ids
+   * @since 1.44.0
+   */
+  default NoteIdList collectNoteIds(final int skip, final int count) {
+    return this.build(skip, count, new NoteIdListProcessor());
+  }
+
   /**
    * Dynamically computes virtual item values from the summary buffer data
    *
@@ -147,7 +162,8 @@ public interface DbQueryResult<CHAINTYPE extends DbQueryResult<?>> {
   /**
    * Sorts/filters the note ids of the search result like the specified
    * {@link DominoCollection}.
-   * Note ids that are not part of the collection will be ignored.<br>
+   * Note ids that are not part of the collection will be ignored. Replaces a sort
+   * order set via {@link #sortBy(List)}.<br>
    * <br>
    * For maximum performance, please make sure to <b>disable</b> these settings in the view:<br>
    * <ul>
@@ -162,4 +178,41 @@ public interface DbQueryResult<CHAINTYPE extends DbQueryResult<?>> {
    */
   CHAINTYPE sort(DominoCollection collection);
 
+  /**
+   * Sorts the note ids of the search result by summary values without using a
+   * view, e.g. by values computed via {@link #computeValues(Map)}. Items that
+   * are not computed are read from the document summary.<br>
+   * <br>
+   * The sort values are read from the summary data of all documents in the
+   * result and compared in memory. Paging methods like
+   * {@link #build(int, int, CollectionEntryProcessor)} only keep the
+   * <code>skip+count</code> first documents, so fetching the first pages of a
+   * large result is cheap. Sorting the whole result holds the note id and
+   * sort values of every document in memory until the sort is done, which
+   * grows with the result size and the length of text sort values.<br>
+   * <br>
+   * Multiple values are compared value by value, starting with the first one,
+   * documents without a value sort first in ascending order and text is
+   * compared case-insensitively using the collation of the default locale.<br>
+   * <br>
+   * Replaces a sort order set via {@link #sort(DominoCollection)}.
+   *
+   * @param sortSpecs sort criteria, ordered by priority
+   * @return this search query
+   * @since 1.44.0
+   */
+  CHAINTYPE sortBy(List<SortSpec> sortSpecs);
+
+  /**
+   * Sorts the note ids of the search result by summary values without using a
+   * view, see {@link #sortBy(List)}
+   *
+   * @param sortSpecs sort criteria, ordered by priority
+   * @return this search query
+   * @since 1.44.0
+   */
+  default CHAINTYPE sortBy(final SortSpec... sortSpecs) {
+    return this.sortBy(Arrays.asList(sortSpecs));
+  }
+
 }
@@ -319,6 +319,11 @@ public interface Document extends TypedAccess, IAdaptable {
    * and source binary data arbitrarily. It does not use compression. No temp
    * file is created on disk.
    * </p>
+   * <p>
+   * To store a compressed attachment, write the data to a file and use
+   * {@link #attachFile(String, String, Attachment.Compression)}, which lets
+   * the Notes runtime compress it.
+   * </p>
    *
    * @param uniqueFileNameInDoc a name for the attachment in the document
    * @param fileCreated         the creation date for the stored file
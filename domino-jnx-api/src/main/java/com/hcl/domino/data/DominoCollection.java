@@ -24,6 +24,7 @@ import java.util.function.BiConsumer;
 import com.hcl.domino.data.structures.CollectionData;
 import com.hcl.domino.misc.DominoClientDescendant;
 import com.hcl.domino.misc.Loop;
+import com.hcl.domino.runtime.CacheStatistics;
 
 /**
  * Term borrowed from MongoDB. Covers Domino views/folders
@@ -95,6 +96,44 @@ public interface DominoCollection extends IAdaptable, DominoClientDescendant {
    * @return sorted set of note ids
    */
   Set<Integer> getAllIdsByKey(Set<Find> findFlags, Object key);
+
+  /**
+   * Returns the note ids for collection entries that the current user is
+   * allowed to see, in collection order.<br>
+   * <br>
+   * Same as {@link #getAllIds(boolean, boolean)}, but avoids boxing the note ids,
+   * which considerably reduces the memory footprint for large collections.
+   *
+   * @param withDocuments  true to return document note ids
+   * @param withCategories true to return category note ids
+   * @return ordered list of note ids
+   * @since 1.44.0
+   */
+  NoteIdList getAllIdsAsNoteIdList(boolean withDocuments, boolean withCategories);
+
+  /**
+   * Returns the note ids for collection entries that match the specified lookup
+   * key (supporting multi column lookups), in collection order, without boxing
+   * them like {@link #getAllIdsByKey(Set, Collection)}
+   *
+   * @param findFlags flags to configure the lookup operation
+   * @param key       lookup key (list of String, Number, DominoDateRange)
+   * @return ordered list of note ids
+   * @since 1.44.0
+   */
+  NoteIdList getAllIdsByKeyAsNoteIdList(Set<Find> findFlags, Collection<Object> key);
+
+  /**
+   * Returns the note ids for collection entries that match the specified lookup
+   * key, in collection order, without boxing them like
+   * {@link #getAllIdsByKey(Set, Object)}
+   *
+   * @param findFlags flags to configure the lookup operation
+   * @param key       lookup key (String, Number, DominoDateRange)
+   * @return ordered list of note ids
+   * @since 1.44.0
+   */
+  NoteIdList getAllIdsByKeyAsNoteIdList(Set<Find> findFlags, Object key);
   
   /**
    * Retrieve detailed information about the collection itself, such
@@ -143,6 +182,17 @@ public interface DominoCollection extends IAdaptable, DominoClientDescendant {
 
   void refresh();
 
+  /**
+   * Returns the usage counters of the cache that lets {@link CollectionSearchQuery#size()}
+   * reuse the entry count of an earlier query with the same selection, expanded entries,
+   * navigation direction and start entry. Cached counts are dropped as soon as the
+   * collection index changes.
+   *
+   * @return statistics
+   * @since 1.44.0
+   */
+  CacheStatistics getCountCacheStatistics();
+
   void resetViewSortingToDefault();
 
   void resortView(String progColumnName, Direction direction);
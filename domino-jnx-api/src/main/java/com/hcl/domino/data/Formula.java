@@ -214,6 +214,53 @@ public interface Formula {
    */
   FormulaExecutionResult evaluateExt(Document doc);
 
+  /**
+   * Callback to receive the results of a batch evaluation
+   *
+   * @since 1.44.0
+   */
+  @FunctionalInterface
+  public interface BatchEvaluationCallback {
+
+    /**
+     * Called with the formula result of one document
+     *
+     * @param noteId note id of the document
+     * @param value  result, e.g. List with String or {@link DominoDateTime}
+     * @return {@link Database.Action#Continue} to receive more results,
+     *         {@link Database.Action#Stop} to end the evaluation
+     */
+    Database.Action resultComputed(int noteId, List<Object> value);
+
+  }
+
+  /**
+   * Runs the formula on many documents without opening them.<br>
+   * <br>
+   * The formula is computed as summary value of a database search restricted to
+   * the specified note ids, so it only has access to the summary items of the
+   * documents, like a view column formula. Changes the formula makes to the
+   * documents are not saved and restrictions set via {@link #disallow(Disallow)}
+   * do not apply. Note ids of deleted documents are skipped.
+   *
+   * @param db       database containing the documents
+   * @param noteIds  note ids of the documents, e.g. an {@link IDTable}
+   * @param callback callback to receive the results
+   * @since 1.44.0
+   */
+  void evaluate(Database db, Collection<Integer> noteIds, BatchEvaluationCallback callback);
+
+  /**
+   * Runs the formula on many documents without opening them, see
+   * {@link #evaluate(Database, Collection, BatchEvaluationCallback)}
+   *
+   * @param db       database containing the documents
+   * @param noteIds  note ids of the documents
+   * @param callback callback to receive the results
+   * @since 1.44.0
+   */
+  void evaluate(Database db, int[] noteIds, BatchEvaluationCallback callback);
+
   /**
    * Returns the formula string that was used to compile this {@link Formula}
    * object
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 /**
  * Wraps the C API IDTable, a very efficient set of note ids that is sorted in
@@ -58,6 +59,26 @@ public interface IDTable extends IAdaptable, Set<Integer> {
    */
   IDTable intersect(Collection<Integer> noteIds);
 
+  /**
+   * Adds all note ids of an array to this table without boxing them. Consecutive
+   * note ids are inserted as ranges.
+   *
+   * @param noteIds note ids to add
+   * @return true if the table has been changed
+   * @since 1.44.0
+   */
+  boolean addAll(int[] noteIds);
+
+  /**
+   * Adds all note ids of a {@link NoteIdList} to this table without boxing
+   * them
+   *
+   * @param noteIds note ids to add
+   * @return true if the table has been changed
+   * @since 1.44.0
+   */
+  boolean addAll(NoteIdList noteIds);
+
   /**
    * Sense of list inverted (reserved for use by caller only)
    *
@@ -72,6 +93,15 @@ public interface IDTable extends IAdaptable, Set<Integer> {
    */
   boolean isModified();
 
+  /**
+   * Calls the consumer for each note id in ascending order without boxing the
+   * note ids
+   *
+   * @param action consumer to receive the note ids
+   * @since 1.44.0
+   */
+  void forEachId(IntConsumer action);
+
   /**
    * Returns a note id iterator in reverse order
    *
@@ -108,4 +138,14 @@ public interface IDTable extends IAdaptable, Set<Integer> {
    */
   int[] toIntArray();
 
+  /**
+   * Copies the contents of the ID table into a {@link NoteIdList}
+   *
+   * @return the contents of this ID table in ascending order
+   * @since 1.44.0
+   */
+  default NoteIdList toNoteIdList() {
+    return NoteIdList.of(this.toIntArray());
+  }
+
 }
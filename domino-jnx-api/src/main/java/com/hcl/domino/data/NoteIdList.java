@@ -0,0 +1,401 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.data;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Ordered set of note ids backed by primitive {@code int} arrays.<br>
+ * <br>
+ * This is the unboxed counterpart to the {@link LinkedHashSet LinkedHashSet&lt;Integer&gt;}
+ * returned by methods like {@link DominoCollection#getAllIds(boolean, boolean)}:
+ * note ids keep their insertion order and duplicates are ignored, but each id
+ * only costs a few bytes instead of an {@link Integer} and a hash entry. Use it
+ * when reading or processing large numbers of note ids.<br>
+ * <br>
+ * Instances are not thread-safe.
+ *
+ * @since 1.44.0
+ */
+public final class NoteIdList implements Iterable<Integer> {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int[] EMPTY = new int[0];
+
+  /** note ids in insertion order */
+  private int[] m_ids;
+  private int m_size;
+  /**
+   * open addressing hash table with 1-based positions into {@link #m_ids},
+   * 0 marks a free slot; its length is a power of two and at least twice the
+   * capacity of {@link #m_ids}
+   */
+  private int[] m_slots;
+
+  /**
+   * Creates a new, empty list
+   */
+  public NoteIdList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new, empty list with room for the specified number of note ids
+   *
+   * @param initialCapacity expected number of note ids
+   */
+  public NoteIdList(final int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Capacity cannot be negative"); //$NON-NLS-1$
+    }
+    this.m_ids = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    this.m_slots = new int[slotCount(Math.max(initialCapacity, DEFAULT_CAPACITY))];
+  }
+
+  /**
+   * Creates a list with the specified note ids
+   *
+   * @param noteIds note ids
+   * @return new list
+   */
+  public static NoteIdList of(final int... noteIds) {
+    final NoteIdList list = new NoteIdList(noteIds.length);
+    list.addAll(noteIds);
+    return list;
+  }
+
+  /**
+   * Creates a list with the note ids of a boxed collection, e.g. to pass the
+   * result of older APIs to methods that expect a {@link NoteIdList}.
+   * {@link IDTable}s are copied via {@link IDTable#toIntArray()}.
+   *
+   * @param noteIds note ids
+   * @return new list
+   */
+  public static NoteIdList copyOf(final Collection<Integer> noteIds) {
+    if (noteIds instanceof IDTable) {
+      return NoteIdList.of(((IDTable) noteIds).toIntArray());
+    }
+    final NoteIdList list = new NoteIdList(noteIds.size());
+    for (final Integer noteId : noteIds) {
+      list.add(noteId.intValue());
+    }
+    return list;
+  }
+
+  private static int slotCount(final int capacity) {
+    int n = Integer.highestOneBit(Math.max(capacity, 1)) << 2;
+    if (n < 0) {
+      // capacity beyond 2^29 entries, cap at the largest power of two array
+      n = 1 << 30;
+    }
+    return n;
+  }
+
+  private static int hash(final int noteId) {
+    // note ids are multiples of 4, so spread the bits before masking
+    // (finalization step of MurmurHash3)
+    int h = noteId;
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Adds a note id to the end of the list unless it is already contained
+   *
+   * @param noteId note id
+   * @return true if the note id was added
+   */
+  public boolean add(final int noteId) {
+    final int mask = this.m_slots.length - 1;
+    int slot = NoteIdList.hash(noteId) & mask;
+    int pos;
+    while ((pos = this.m_slots[slot]) != 0) {
+      if (this.m_ids[pos - 1] == noteId) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    if (this.m_size == this.m_ids.length) {
+      this.grow(this.m_size + 1);
+      return this.add(noteId);
+    }
+    this.m_ids[this.m_size++] = noteId;
+    this.m_slots[slot] = this.m_size;
+    return true;
+  }
+
+  /**
+   * Adds several note ids to the end of the list, skipping ids that are already
+   * contained
+   *
+   * @param noteIds note ids
+   * @return number of note ids that have been added
+   */
+  public int addAll(final int[] noteIds) {
+    return this.addAll(noteIds, 0, noteIds.length);
+  }
+
+  /**
+   * Adds a range of note ids to the end of the list, skipping ids that are
+   * already contained
+   *
+   * @param noteIds note ids
+   * @param offset  offset of the first note id to add
+   * @param len     number of note ids to add
+   * @return number of note ids that have been added
+   */
+  public int addAll(final int[] noteIds, final int offset, final int len) {
+    if (offset < 0 || len < 0 || offset + len > noteIds.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    this.ensureCapacity(this.m_size + len);
+    int added = 0;
+    for (int i = offset; i < offset + len; i++) {
+      if (this.add(noteIds[i])) {
+        added++;
+      }
+    }
+    return added;
+  }
+
+  /**
+   * Adds all note ids of another list to the end of this list, skipping ids
+   * that are already contained
+   *
+   * @param other other list
+   * @return number of note ids that have been added
+   */
+  public int addAll(final NoteIdList other) {
+    return this.addAll(other.m_ids, 0, other.m_size);
+  }
+
+  /**
+   * Removes all note ids
+   */
+  public void clear() {
+    this.m_size = 0;
+    Arrays.fill(this.m_slots, 0);
+  }
+
+  /**
+   * Checks if the list contains a note id
+   *
+   * @param noteId note id
+   * @return true if contained
+   */
+  public boolean contains(final int noteId) {
+    return this.indexOf(noteId) != -1;
+  }
+
+  /**
+   * Makes sure the list can hold the specified number of note ids without
+   * resizing
+   *
+   * @param capacity minimum capacity
+   */
+  public void ensureCapacity(final int capacity) {
+    if (capacity > this.m_ids.length) {
+      this.grow(capacity);
+    }
+  }
+
+  /**
+   * Calls the consumer for each note id in insertion order
+   *
+   * @param action consumer
+   */
+  public void forEachId(final IntConsumer action) {
+    for (int i = 0; i < this.m_size; i++) {
+      action.accept(this.m_ids[i]);
+    }
+  }
+
+  /**
+   * Returns the note id at a position
+   *
+   * @param index position in insertion order
+   * @return note id
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  public int get(final int index) {
+    if (index < 0 || index >= this.m_size) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return this.m_ids[index];
+  }
+
+  /**
+   * Returns the position of a note id
+   *
+   * @param noteId note id
+   * @return position in insertion order or -1 if not contained
+   */
+  public int indexOf(final int noteId) {
+    final int mask = this.m_slots.length - 1;
+    int slot = NoteIdList.hash(noteId) & mask;
+    int pos;
+    while ((pos = this.m_slots[slot]) != 0) {
+      if (this.m_ids[pos - 1] == noteId) {
+        return pos - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  public boolean isEmpty() {
+    return this.m_size == 0;
+  }
+
+  /**
+   * Returns an iterator over the note ids in insertion order. Use
+   * {@link PrimitiveIterator.OfInt#nextInt()} to read the values without
+   * boxing.
+   *
+   * @return iterator
+   */
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new PrimitiveIterator.OfInt() {
+      private int m_pos;
+
+      @Override
+      public boolean hasNext() {
+        return this.m_pos < NoteIdList.this.m_size;
+      }
+
+      @Override
+      public int nextInt() {
+        if (this.m_pos >= NoteIdList.this.m_size) {
+          throw new NoSuchElementException();
+        }
+        return NoteIdList.this.m_ids[this.m_pos++];
+      }
+    };
+  }
+
+  public int size() {
+    return this.m_size;
+  }
+
+  /**
+   * Returns the note ids as a stream in insertion order
+   *
+   * @return stream of note ids
+   */
+  public IntStream stream() {
+    return Arrays.stream(this.m_ids, 0, this.m_size);
+  }
+
+  /**
+   * Copies the note ids into a new array
+   *
+   * @return note ids in insertion order
+   */
+  public int[] toIntArray() {
+    return Arrays.copyOf(this.m_ids, this.m_size);
+  }
+
+  /**
+   * Copies the note ids into a boxed {@link LinkedHashSet} for APIs that
+   * expect a {@link Set}
+   *
+   * @return ordered set of note ids
+   */
+  public Set<Integer> toSet() {
+    final Set<Integer> result = new LinkedHashSet<>(Math.max(16, (int) (this.m_size / .75f) + 1));
+    for (int i = 0; i < this.m_size; i++) {
+      result.add(this.m_ids[i]);
+    }
+    return result;
+  }
+
+  private void grow(final int minCapacity) {
+    int newCapacity = Math.max(minCapacity, this.m_ids.length + (this.m_ids.length >> 1));
+    newCapacity = Math.max(newCapacity, DEFAULT_CAPACITY);
+    this.m_ids = Arrays.copyOf(this.m_ids, newCapacity);
+
+    final int slotCount = NoteIdList.slotCount(newCapacity);
+    if (slotCount != this.m_slots.length) {
+      this.m_slots = new int[slotCount];
+      final int mask = slotCount - 1;
+      for (int i = 0; i < this.m_size; i++) {
+        int slot = NoteIdList.hash(this.m_ids[i]) & mask;
+        while (this.m_slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        this.m_slots[slot] = i + 1;
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof NoteIdList)) {
+      return false;
+    }
+    final NoteIdList other = (NoteIdList) obj;
+    if (this.m_size != other.m_size) {
+      return false;
+    }
+    for (int i = 0; i < this.m_size; i++) {
+      if (this.m_ids[i] != other.m_ids[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    for (int i = 0; i < this.m_size; i++) {
+      result = 31 * result + this.m_ids[i];
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("NoteIdList [size=").append(this.m_size).append(", ids=["); //$NON-NLS-1$ //$NON-NLS-2$
+    final int max = Math.min(this.m_size, 100);
+    for (int i = 0; i < max; i++) {
+      if (i > 0) {
+        sb.append(", "); //$NON-NLS-1$
+      }
+      sb.append(this.m_ids[i]);
+    }
+    if (max < this.m_size) {
+      sb.append(", ..."); //$NON-NLS-1$
+    }
+    return sb.append("]]").toString(); //$NON-NLS-1$
+  }
+}
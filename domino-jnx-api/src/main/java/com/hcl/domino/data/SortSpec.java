@@ -0,0 +1,86 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.data;
+
+import java.text.MessageFormat;
+import java.util.Map;
+
+/**
+ * Sort criterion for {@link DbQueryResult#sortBy(java.util.List)}: the name of a
+ * summary item, usually one of the values computed via
+ * {@link DbQueryResult#computeValues(Map)}, and the sort direction.
+ *
+ * @since 1.44.0
+ */
+public final class SortSpec {
+  private final String m_itemName;
+  private final boolean m_descending;
+
+  private SortSpec(final String itemName, final boolean descending) {
+    if (itemName == null || itemName.isEmpty()) {
+      throw new IllegalArgumentException("Item name cannot be empty");
+    }
+    this.m_itemName = itemName;
+    this.m_descending = descending;
+  }
+
+  /**
+   * Sorts by the specified item in ascending order
+   *
+   * @param itemName item name or name of a computed value
+   * @return sort criterion
+   */
+  public static SortSpec ascending(final String itemName) {
+    return new SortSpec(itemName, false);
+  }
+
+  /**
+   * Sorts by the specified item in descending order
+   *
+   * @param itemName item name or name of a computed value
+   * @return sort criterion
+   */
+  public static SortSpec descending(final String itemName) {
+    return new SortSpec(itemName, true);
+  }
+
+  /**
+   * Returns the name of the item to sort by
+   *
+   * @return item name
+   */
+  public String getItemName() {
+    return this.m_itemName;
+  }
+
+  /**
+   * Returns the sort direction
+   *
+   * @return true for descending order
+   */
+  public boolean isDescending() {
+    return this.m_descending;
+  }
+
+  @Override
+  public String toString() {
+    return MessageFormat.format(
+      "SortSpec [itemName={0}, descending={1}]", //$NON-NLS-1$
+      this.m_itemName, this.m_descending
+    );
+  }
+}
@@ -202,7 +202,15 @@ public interface DirectorySearchQuery extends SearchQuery {
 
   /**
    * Returns a {@link Stream} of {@link DirEntry}, e.g. to map them to your
-   * own objects
+   * own objects.<br>
+   * <br>
+   * Since 1.44.0, if the client allows cross thread access, the directory is
+   * searched on a separate thread while the stream is consumed, so the first
+   * entries are available before the whole directory has been read. Close the
+   * stream when not consuming it to the end, e.g. with try-with-resources, to stop
+   * the search; closing waits until the search thread has finished. Errors of the search are thrown by the stream operation reading
+   * the next entry. Without cross thread access, all entries are read before
+   * this method returns.
    *
    * @return stream
    * @throws DominoException thrown if an error occured, e.g. the formula could
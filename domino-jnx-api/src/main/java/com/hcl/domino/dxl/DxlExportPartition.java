@@ -0,0 +1,81 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.dxl;
+
+import java.text.MessageFormat;
+
+import com.hcl.domino.data.NoteIdList;
+
+/**
+ * Manifest entry of a partitioned DXL export, see
+ * {@link DxlExporter#exportDatabase(com.hcl.domino.data.Database, java.util.Set, int, int, DxlExporter.PartitionOutputFactory)}
+ *
+ * @since 1.44.0
+ */
+public final class DxlExportPartition {
+  private final int m_index;
+  private final NoteIdList m_noteIds;
+
+  /**
+   * Creates a new partition
+   *
+   * @param index   position of the partition in the export, starting with 0
+   * @param noteIds note ids exported to the partition
+   */
+  public DxlExportPartition(final int index, final NoteIdList noteIds) {
+    this.m_index = index;
+    this.m_noteIds = noteIds;
+  }
+
+  /**
+   * Returns the position of the partition in the export
+   *
+   * @return index, starting with 0
+   */
+  public int getIndex() {
+    return this.m_index;
+  }
+
+  /**
+   * Returns the note ids exported to this partition in export order.
+   * The returned list must not be modified.
+   *
+   * @return note ids
+   */
+  public NoteIdList getNoteIds() {
+    return this.m_noteIds;
+  }
+
+  /**
+   * Returns the number of notes exported to this partition
+   *
+   * @return number of notes
+   */
+  public int getNoteCount() {
+    return this.m_noteIds.size();
+  }
+
+  @Override
+  public String toString() {
+    return MessageFormat.format(
+      "DxlExportPartition [index={0}, noteCount={1}, firstNoteId={2}, lastNoteId={3}]", //$NON-NLS-1$
+      this.m_index, this.m_noteIds.size(),
+      this.m_noteIds.isEmpty() ? 0 : this.m_noteIds.get(0),
+      this.m_noteIds.isEmpty() ? 0 : this.m_noteIds.get(this.m_noteIds.size() - 1)
+    );
+  }
+}
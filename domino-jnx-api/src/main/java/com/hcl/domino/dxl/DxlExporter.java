@@ -21,14 +21,18 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.hcl.domino.data.Database;
 import com.hcl.domino.data.Document;
+import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.misc.CNativeEnum;
 
 public interface DxlExporter {
@@ -140,7 +144,7 @@ public interface DxlExporter {
    * Export the ACL of the specified database in XML format.
    *
    * @param db  database to export
-   * @param out result stream
+   * @param out result stream, receives UTF-8 encoded data
    * @throws IOException in case of I/O errors
    */
   default void exportACL(final Database db, final OutputStream out) throws IOException {
@@ -149,6 +153,18 @@ public interface DxlExporter {
     w.flush();
   }
 
+  /**
+   * Export the ACL of the specified database in XML format.
+   *
+   * @param db  database to export
+   * @param out result channel, receives UTF-8 encoded data
+   * @throws IOException in case of I/O errors
+   * @since 1.44.0
+   */
+  default void exportACL(final Database db, final WritableByteChannel out) throws IOException {
+    this.exportACL(db, Channels.newOutputStream(out));
+  }
+
   /**
    * Export the ACL of the specified database in XML format.
    *
@@ -162,7 +178,7 @@ public interface DxlExporter {
    * Export an entire database in XML format.
    *
    * @param db  database to export
-   * @param out result stream
+   * @param out result stream, receives UTF-8 encoded data
    * @throws IOException in case of I/O errors
    */
   default void exportDatabase(final Database db, final OutputStream out) throws IOException {
@@ -171,6 +187,18 @@ public interface DxlExporter {
     w.flush();
   }
 
+  /**
+   * Export an entire database in XML format.
+   *
+   * @param db  database to export
+   * @param out result channel, receives UTF-8 encoded data
+   * @throws IOException in case of I/O errors
+   * @since 1.44.0
+   */
+  default void exportDatabase(final Database db, final WritableByteChannel out) throws IOException {
+    this.exportDatabase(db, Channels.newOutputStream(out));
+  }
+
   /**
    * Export an entire database in XML format.
    *
@@ -180,6 +208,55 @@ public interface DxlExporter {
    */
   void exportDatabase(final Database db, final Writer out) throws IOException;
 
+  /**
+   * Exports the documents of a database in parallel, writing one well-formed DXL
+   * document per partition of note ids.<br>
+   * <br>
+   * The note ids of the database are split into partitions of up to
+   * <code>notesPerPartition</code> notes. The partitions are exported by worker threads,
+   * each using its own exporter with the settings of this one and its own handle of the
+   * database, reopened via {@link Database#reopen()} with the same access rights. Running
+   * these on other threads requires cross-thread access to be enabled
+   * for the client (Java property <code>jnx.allowCrossThreadAccess</code>); otherwise all
+   * partitions are exported sequentially on the calling thread.<br>
+   * <br>
+   * If the export of a partition fails, no further partitions are started and the
+   * first error is thrown after all running partitions have finished. The same applies
+   * when the calling thread is interrupted while waiting; its interrupt flag is restored
+   * before the exception is thrown.
+   *
+   * @param db                database to export
+   * @param docClasses        classes of the notes to export
+   * @param notesPerPartition maximum number of notes per partition, 1 to export each
+   *                          note separately
+   * @param parallelism       number of threads to use, 0 to use one thread per processor
+   * @param outputFactory     thread-safe factory of the streams receiving the UTF-8 encoded
+   *                          DXL of each partition; the streams are closed by the exporter
+   * @return manifest of the partitions in note id order
+   * @throws IOException in case of I/O errors
+   * @since 1.44.0
+   */
+  List<DxlExportPartition> exportDatabase(Database db, Set<DocumentClass> docClasses, int notesPerPartition,
+      int parallelism, PartitionOutputFactory outputFactory) throws IOException;
+
+  /**
+   * Provides the output streams of a partitioned DXL export
+   *
+   * @since 1.44.0
+   */
+  @FunctionalInterface
+  interface PartitionOutputFactory {
+
+    /**
+     * Opens the stream for a partition. Called from the thread exporting the partition.
+     *
+     * @param partition partition to be exported
+     * @return stream receiving the DXL of the partition
+     * @throws IOException in case of I/O errors
+     */
+    OutputStream openPartition(DxlExportPartition partition) throws IOException;
+  }
+
   /**
    * Exports an entire database into XML format and returns the string.
    * 
@@ -200,7 +277,7 @@ public interface DxlExporter {
    * Export a single document into XML format.
    *
    * @param doc document to export
-   * @param out result stream
+   * @param out result stream, receives UTF-8 encoded data
    * @throws IOException in case of I/O errors
    */
   default void exportDocument(final Document doc, final OutputStream out) throws IOException {
@@ -209,6 +286,18 @@ public interface DxlExporter {
     w.flush();
   }
 
+  /**
+   * Export a single document into XML format.
+   *
+   * @param doc document to export
+   * @param out result channel, receives UTF-8 encoded data
+   * @throws IOException in case of I/O errors
+   * @since 1.44.0
+   */
+  default void exportDocument(final Document doc, final WritableByteChannel out) throws IOException {
+    this.exportDocument(doc, Channels.newOutputStream(out));
+  }
+
   /**
    * Export a single document into XML format.
    *
@@ -241,7 +330,7 @@ public interface DxlExporter {
    *
    * @param db  database containing the export ids
    * @param ids ids to export
-   * @param out result stream
+   * @param out result stream, receives UTF-8 encoded data
    * @throws IOException in case of I/O errors
    */
   default void exportIDs(final Database db, final Collection<Integer> ids, final OutputStream out) throws IOException {
@@ -250,6 +339,19 @@ public interface DxlExporter {
     w.flush();
   }
 
+  /**
+   * Export a set of note ids into XML format.
+   *
+   * @param db  database containing the export ids
+   * @param ids ids to export
+   * @param out result channel, receives UTF-8 encoded data
+   * @throws IOException in case of I/O errors
+   * @since 1.44.0
+   */
+  default void exportIDs(final Database db, final Collection<Integer> ids, final WritableByteChannel out) throws IOException {
+    this.exportIDs(db, ids, Channels.newOutputStream(out));
+  }
+
   /**
    * Export a set of note IDs into XML format.
    * 
@@ -18,6 +18,8 @@ package com.hcl.domino.mq;
 
 import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +80,47 @@ public interface MessageQueue extends BlockingQueue<String>, Closeable {
     Action dataReceived(ByteBuffer buffer, int priority);
   }
 
+  /**
+   * Callback interface to receive messages of a {@link Subscription}
+   *
+   * @since 1.44.0
+   */
+  @FunctionalInterface
+  public interface IMQBatchCallback {
+
+    /**
+     * Implement this method to process the messages that have been removed
+     * from the queue in one wake-up of the subscription thread
+     *
+     * @param messages messages in queue order, at least one
+     */
+    void messagesReceived(List<String> messages);
+  }
+
+  /**
+   * Handle of a queue consumer created via {@link MessageQueue#subscribe(int, IMQBatchCallback)}
+   *
+   * @since 1.44.0
+   */
+  public interface Subscription extends AutoCloseable {
+
+    /**
+     * Checks if the subscription still receives messages. Subscriptions end when
+     * they get closed, when the queue enters the QUIT state or when the callback
+     * throws an exception.
+     *
+     * @return true if active
+     */
+    boolean isActive();
+
+    /**
+     * Stops the subscription and waits until the current batch has been processed.
+     * An exception thrown by the callback or while reading the queue is rethrown here.
+     */
+    @Override
+    void close();
+  }
+
   /**
    * Maximum allowed message-count per queue.
    * TODO: verify if this is actually the case
@@ -123,6 +166,19 @@ public interface MessageQueue extends BlockingQueue<String>, Closeable {
    */
   void put(byte[] buffer, int priority, int offset, int length);
 
+  /**
+   * Adds a list of messages to the queue, reusing one native buffer for all of
+   * them. Messages are encoded in UTF-8, the charset used by {@link #poll()} to decode them.<br>
+   * <br>
+   * Adding stops when the queue is full.
+   *
+   * @param messages messages to add
+   * @param priority priority
+   * @return number of messages that have been added
+   * @since 1.44.0
+   */
+  int putAll(Collection<String> messages, int priority);
+
   /**
    * This function puts the message queue in a QUIT state, which indicates to
    * applications that read the message queue that they should terminate.
@@ -172,4 +228,22 @@ public interface MessageQueue extends BlockingQueue<String>, Closeable {
    *            if available
    */
   Optional<String> get(long timeout, TimeUnit unit) throws InterruptedException;
+
+  /**
+   * Starts consuming the queue on a dedicated thread. The thread waits for a
+   * message, then removes all other waiting messages in the same pass (up to
+   * <code>maxBatchSize</code>) and hands them over to the callback.<br>
+   * <br>
+   * Messages are decoded as UTF-8, like the ones returned by {@link #poll()}.
+   * The subscription ends when the queue enters the QUIT state, see {@link #putQuitMsg()}.
+   * Only one subscription should be active per queue, since messages are removed
+   * before they are delivered.
+   *
+   * @param maxBatchSize maximum number of messages per callback invocation
+   * @param callback callback to receive the messages, invoked on the subscription thread
+   * @return subscription, close it to stop consuming
+   * @throws IllegalStateException if the client does not allow cross-thread access
+   * @since 1.44.0
+   */
+  Subscription subscribe(int maxBatchSize, IMQBatchCallback callback);
 }
@@ -17,9 +17,7 @@
 package com.hcl.domino.richtext.records;
 
 import java.text.MessageFormat;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import com.hcl.domino.richtext.RichTextConstants;
@@ -883,17 +881,43 @@ public enum RecordType {
     }
   }
 
-  private static Map<String, RecordType> m_recordsByConstant;
+  /*
+   * Open-addressing table keyed by (area << 16) | constant, so that lookups
+   * while reading rich text do not allocate key objects
+   */
+  private static final int[] m_lookupKeys;
+  private static final RecordType[] m_lookupValues;
   static {
-    RecordType.m_recordsByConstant = new HashMap<>();
+    int tableSize = 1;
+    while (tableSize < RecordType.values().length * 4) {
+      tableSize <<= 1;
+    }
+    m_lookupKeys = new int[tableSize];
+    m_lookupValues = new RecordType[tableSize];
     for (final RecordType currType : RecordType.values()) {
       for(int area : currType.getArea()) {
-        final String key = currType.getConstant() + "|" + area; //$NON-NLS-1$
-        RecordType.m_recordsByConstant.put(key, currType);
+        final int key = RecordType.toLookupKey(currType.getConstant(), area);
+        int slot = RecordType.findSlot(key);
+        RecordType.m_lookupKeys[slot] = key;
+        RecordType.m_lookupValues[slot] = currType;
       }
     }
   }
 
+  private static int toLookupKey(final short constant, final int area) {
+    // area codes start at 1, so a key is never 0, which marks an empty slot
+    return area << 16 | constant & 0xFFFF;
+  }
+
+  private static int findSlot(final int key) {
+    final int mask = RecordType.m_lookupKeys.length - 1;
+    int slot = key * 0x9E3779B9 >>> 16 & mask;
+    while (RecordType.m_lookupKeys[slot] != 0 && RecordType.m_lookupKeys[slot] != key) {
+      slot = slot + 1 & mask;
+    }
+    return slot;
+  }
+
   /**
    * Looks up a {@link RecordType} for the provided encapsulating interface.
    *
@@ -925,7 +949,7 @@ public enum RecordType {
    * @return record type or <code>null</code> if unknown constant
    */
   public static RecordType getRecordTypeForConstant(final short constant, final Area area) {
-    return m_recordsByConstant.get(constant + "|" + area.code); //$NON-NLS-1$
+    return RecordType.m_lookupValues[RecordType.findSlot(RecordType.toLookupKey(constant, area.code))];
   }
 
   /**
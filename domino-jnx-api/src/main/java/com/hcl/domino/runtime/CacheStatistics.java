@@ -0,0 +1,127 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.runtime;
+
+import java.text.MessageFormat;
+
+/**
+ * Snapshot of the usage counters of an internal cache, e.g. the caches used
+ * to convert strings between Java and LMBCS.
+ *
+ * @since 1.44.0
+ */
+public final class CacheStatistics {
+  private final String m_name;
+  private final long m_hits;
+  private final long m_misses;
+  private final long m_evictions;
+  private final long m_size;
+  private final long m_maxSize;
+
+  /**
+   * Creates a new snapshot
+   *
+   * @param name      name of the cache
+   * @param hits      number of successful lookups
+   * @param misses    number of lookups that did not find a value
+   * @param evictions number of entries removed to stay within the size limit
+   * @param size      current weighted size of the cache
+   * @param maxSize   maximum weighted size of the cache
+   */
+  public CacheStatistics(final String name, final long hits, final long misses, final long evictions,
+      final long size, final long maxSize) {
+    this.m_name = name;
+    this.m_hits = hits;
+    this.m_misses = misses;
+    this.m_evictions = evictions;
+    this.m_size = size;
+    this.m_maxSize = maxSize;
+  }
+
+  /**
+   * Returns the name of the cache
+   *
+   * @return name
+   */
+  public String getName() {
+    return this.m_name;
+  }
+
+  /**
+   * Returns the number of lookups that found a cached value
+   *
+   * @return hits
+   */
+  public long getHits() {
+    return this.m_hits;
+  }
+
+  /**
+   * Returns the number of lookups that did not find a cached value
+   *
+   * @return misses
+   */
+  public long getMisses() {
+    return this.m_misses;
+  }
+
+  /**
+   * Returns the number of entries that have been removed to stay within
+   * the size limit
+   *
+   * @return evictions
+   */
+  public long getEvictions() {
+    return this.m_evictions;
+  }
+
+  /**
+   * Returns the current weighted size of the cache, e.g. in bytes
+   *
+   * @return size
+   */
+  public long getSize() {
+    return this.m_size;
+  }
+
+  /**
+   * Returns the maximum weighted size of the cache
+   *
+   * @return max size
+   */
+  public long getMaxSize() {
+    return this.m_maxSize;
+  }
+
+  /**
+   * Returns the ratio of hits to all lookups
+   *
+   * @return hit rate between 0 and 1, 0 if there have not been any lookups
+   */
+  public double getHitRate() {
+    final long lookups = this.m_hits + this.m_misses;
+    return lookups == 0 ? 0 : (double) this.m_hits / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return MessageFormat.format(
+      "CacheStatistics [name={0}, hits={1}, misses={2}, hitRate={3,number,#.###}, evictions={4}, size={5}, maxSize={6}]", //$NON-NLS-1$
+      this.m_name, this.m_hits, this.m_misses, this.getHitRate(), this.m_evictions, this.m_size, this.m_maxSize
+    );
+  }
+}
@@ -18,6 +18,8 @@ package com.hcl.domino.runtime;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -129,4 +131,38 @@ public interface DominoRuntime {
    * @param value        the value to set
    */
   void setProperty(String propertyName, String value);
+
+  /**
+   * Returns the usage counters of the internal caches of the implementation,
+   * e.g. the caches used to convert strings between Java and LMBCS.
+   *
+   * @return list of cache statistics, empty if the implementation does not
+   *         provide any
+   * @since 1.44.0
+   */
+  default List<CacheStatistics> getCacheStatistics() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Resets the hit, miss and eviction counters of the internal caches
+   *
+   * @since 1.44.0
+   */
+  default void resetCacheStatistics() {
+  }
+
+  /**
+   * Removes cached user names lists, so that the group membership is read from
+   * the directory again the next time a database is opened for the user. Call
+   * this after changing groups or person documents to make the change visible
+   * before the cached names lists expire.
+   *
+   * @param userName name of the user whose names lists should be removed, either
+   *                 abbreviated or canonical, or {@code null} to remove the names
+   *                 lists of all users
+   * @since 1.44.0
+   */
+  default void invalidateUserNamesLists(final String userName) {
+  }
 }
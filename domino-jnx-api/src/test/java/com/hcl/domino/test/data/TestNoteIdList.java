@@ -0,0 +1,95 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.test.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.hcl.domino.data.NoteIdList;
+
+public class TestNoteIdList {
+
+  @Test
+  public void testInsertionOrderAndDuplicates() {
+    NoteIdList list = new NoteIdList();
+    assertTrue(list.isEmpty());
+    assertTrue(list.add(0x20));
+    assertTrue(list.add(0x8));
+    assertTrue(list.add(0x80000004));
+    assertFalse(list.add(0x8));
+    assertTrue(list.add(0));
+
+    assertEquals(4, list.size());
+    assertArrayEquals(new int[] { 0x20, 0x8, 0x80000004, 0 }, list.toIntArray());
+    assertEquals(2, list.indexOf(0x80000004));
+    assertEquals(-1, list.indexOf(0xC));
+    assertTrue(list.contains(0));
+    assertEquals(0x8, list.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+  }
+
+  @Test
+  public void testMatchesLinkedHashSet() {
+    Random random = new Random(42);
+    NoteIdList list = new NoteIdList(0);
+    Set<Integer> expected = new LinkedHashSet<>();
+    for (int i = 0; i < 100000; i++) {
+      int noteId = random.nextInt(50000) * 4;
+      assertEquals(expected.add(noteId), list.add(noteId));
+    }
+
+    assertEquals(expected, list.toSet());
+    assertEquals(expected.size(), list.size());
+
+    List<Integer> iterated = new ArrayList<>();
+    PrimitiveIterator.OfInt it = list.iterator();
+    while (it.hasNext()) {
+      iterated.add(it.nextInt());
+    }
+    assertEquals(new ArrayList<>(expected), iterated);
+    assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), list.stream().sum());
+  }
+
+  @Test
+  public void testAddAllAndClear() {
+    NoteIdList list = NoteIdList.of(4, 8, 12);
+    assertEquals(2, list.addAll(new int[] { 12, 16, 4, 20 }));
+    assertArrayEquals(new int[] { 4, 8, 12, 16, 20 }, list.toIntArray());
+
+    assertEquals(NoteIdList.copyOf(Arrays.asList(4, 8, 12, 16, 20)), list);
+    assertEquals(NoteIdList.copyOf(Arrays.asList(4, 8, 12, 16, 20)).hashCode(), list.hashCode());
+
+    list.clear();
+    assertTrue(list.isEmpty());
+    assertFalse(list.contains(4));
+    assertTrue(list.add(4));
+    assertEquals(1, list.size());
+  }
+}
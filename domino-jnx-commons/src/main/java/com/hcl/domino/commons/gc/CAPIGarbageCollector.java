@@ -22,8 +22,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -64,6 +66,15 @@ public class CAPIGarbageCollector {
     public void unreferencedAPIObjectFound(final DominoClient client, final APIObjectAllocations apiObjectAllocations) {
     }
 
+    @Override
+    public void treeDisposed(final DominoClient client, final APIObjectAllocations apiObjectAllocations, final int disposedCount,
+        final long durationNanos) {
+    }
+
+    @Override
+    public void refQueueFlushed(final DominoClient client, final int disposedCount, final long durationNanos) {
+    }
+
   }
 
   /**
@@ -131,12 +142,44 @@ public class CAPIGarbageCollector {
      */
     void unreferencedAPIObjectFound(DominoClient client, APIObjectAllocations apiObjectAllocations);
 
+    /**
+     * Called after an allocations tree (the allocations and all of their children)
+     * has been disposed on behalf of {@link CAPIGarbageCollector#dispose(IAPIObject)},
+     * {@link CAPIGarbageCollector#dispose(IGCDominoClient)} or a reference queue flush.
+     * 
+     * @param client               Domino client
+     * @param apiObjectAllocations root allocations of the disposed tree
+     * @param disposedCount        number of allocations in the tree, including the root
+     * @param durationNanos        time spent disposing the tree in nanoseconds
+     * @since 1.44.0
+     */
+    default void treeDisposed(DominoClient client, APIObjectAllocations apiObjectAllocations, int disposedCount, long durationNanos) {
+    }
+
+    /**
+     * Called after the reference queue of a Domino client has been flushed
+     * 
+     * @param client        Domino client
+     * @param disposedCount number of allocations disposed during the flush, including children
+     *                      of unreferenced objects
+     * @param durationNanos time spent flushing the queue in nanoseconds
+     * @since 1.44.0
+     */
+    default void refQueueFlushed(DominoClient client, int disposedCount, long durationNanos) {
+    }
+
   }
 
   private static final Map<IGCDominoClient, ReferenceQueue<? super IAPIObject>> referenceQueues = Collections
       .synchronizedMap(new HashMap<>());
   
-  private static final Map<IGCDominoClient, Map<APIObjectAllocations, List<APIObjectAllocations>>> dominoClientAllocationsByParent = Collections
+  /**
+   * Child allocations per parent allocations for each Domino client. The inner maps are only accessed while holding
+   * the client's GC write lock. {@link APIObjectAllocations} do not override {@code equals}/{@code hashCode}, so
+   * the {@link LinkedHashSet} values give us identity-based O(1) add/remove while keeping the creation order we
+   * need to dispose children in reverse order.
+   */
+  private static final Map<IGCDominoClient, Map<APIObjectAllocations, Set<APIObjectAllocations>>> dominoClientAllocationsByParent = Collections
       .synchronizedMap(new HashMap<>());
   
   private static final Map<IGCDominoClient, List<ICAPIGarbageCollectorListener>> gcListenerByClient = Collections
@@ -150,8 +193,8 @@ public class CAPIGarbageCollector {
   private static final Lock gcLocksByClientLock = new ReentrantLock();
   
   /**
-   * Returns a R/W lock to ensure there's no concurrent GC on the same DominoClient instance. We currently
-   * only use the write lock. The read lock could be used in the future to analyze the GC'ed objects for a client.
+   * Returns a R/W lock to ensure there's no concurrent GC on the same DominoClient instance. All modifications
+   * use the write lock, the read lock is used to compute allocation statistics.
    * 
    * @param client client
    * @return R/W lock
@@ -196,99 +239,121 @@ public class CAPIGarbageCollector {
   }
 
   /**
-   * Internal recursive disposal of an {@link APIObjectAllocations} tree
-   * structure.
+   * Disposes an {@link APIObjectAllocations} tree structure and notifies the listeners
+   * about the number of disposed allocations and the time it took.<br>
+   * Caller must hold the client's GC write lock.
    * 
    * @param client      Domino client
-   * @param allocations allocations to dispose (we first dispose the child
-   *                    allocations in reverse order)
-   * @param depth       contains 0 for the first tree level
+   * @param allocations allocations to dispose
+   * @param listeners   GC listeners of the client or null
+   * @return number of disposed allocations
    */
-  private static void dispose(final DominoClient client, final APIObjectAllocations allocations, final int depth) {
+  private static int disposeTree(final DominoClient client, final APIObjectAllocations allocations,
+      final List<ICAPIGarbageCollectorListener> listeners) {
     if (allocations == null) {
-      return;
+      return 0;
     }
     
-    ReadWriteLock gcLock = getClientGCLock(client);
-    gcLock.writeLock().lock();
-    try {
-      final List<ICAPIGarbageCollectorListener> listeners = CAPIGarbageCollector.gcListenerByClient.get(client);
-      if (listeners != null) {
-        for (final ICAPIGarbageCollectorListener currListener : listeners) {
-          try {
-            currListener.startDispose(client, allocations, depth);
-          } catch (final Exception e) {
-            e.printStackTrace();
-          }
+    final long startNanos = System.nanoTime();
+    final int disposedCount = CAPIGarbageCollector.dispose(client, allocations, 0, listeners,
+        CAPIGarbageCollector.dominoClientAllocationsByParent.get(client));
+    
+    if (listeners != null) {
+      final long durationNanos = System.nanoTime() - startNanos;
+      for (final ICAPIGarbageCollectorListener currListener : listeners) {
+        try {
+          currListener.treeDisposed(client, allocations, disposedCount, durationNanos);
+        } catch (final Exception e) {
+          e.printStackTrace();
+        }
+      }
+    }
+    return disposedCount;
+  }
+  
+  /**
+   * Internal recursive disposal of an {@link APIObjectAllocations} tree
+   * structure.<br>
+   * Caller must hold the client's GC write lock.
+   * 
+   * @param client             Domino client
+   * @param allocations        allocations to dispose (we first dispose the child
+   *                           allocations in reverse order)
+   * @param depth              contains 0 for the first tree level
+   * @param listeners          GC listeners of the client or null
+   * @param allocationsByParent child allocations of the client or null
+   * @return number of allocations in the tree, including {@code allocations}
+   */
+  private static int dispose(final DominoClient client, final APIObjectAllocations allocations, final int depth,
+      final List<ICAPIGarbageCollectorListener> listeners,
+      final Map<APIObjectAllocations, Set<APIObjectAllocations>> allocationsByParent) {
+    if (allocations == null) {
+      return 0;
+    }
+    
+    int disposedCount = 1;
+    
+    if (listeners != null) {
+      for (final ICAPIGarbageCollectorListener currListener : listeners) {
+        try {
+          currListener.startDispose(client, allocations, depth);
+        } catch (final Exception e) {
+          e.printStackTrace();
         }
       }
+    }
 
-      // dispose children first
-      final Map<APIObjectAllocations, List<APIObjectAllocations>> allocationsByParent = CAPIGarbageCollector.dominoClientAllocationsByParent
-          .get(client);
-      if (allocationsByParent != null) {
-        final List<APIObjectAllocations> childAllocations = allocationsByParent.get(allocations);
-        if (childAllocations != null) {
-          if (!childAllocations.isEmpty()) {
-            final APIObjectAllocations[] childAllocationsCopy = childAllocations
-                .toArray(new APIObjectAllocations[childAllocations.size()]);
-
-            final int childAllocationsSize = childAllocationsCopy.length;
-
-            for (int i = childAllocationsSize - 1; i >= 0; i--) {
-              try {
-                final APIObjectAllocations currChild = childAllocationsCopy[i];
-                CAPIGarbageCollector.dispose(client, currChild, depth + 1);
-              } catch (final Exception e) {
-                throw new DominoException(MessageFormat.format("Error disposing {0}", childAllocationsCopy[i]), e);
-              }
-            }
-            childAllocations.clear();
+    // dispose children first
+    if (allocationsByParent != null) {
+      final Set<APIObjectAllocations> childAllocations = allocationsByParent.remove(allocations);
+      if (childAllocations != null && !childAllocations.isEmpty()) {
+        final APIObjectAllocations[] childAllocationsCopy = childAllocations
+            .toArray(new APIObjectAllocations[childAllocations.size()]);
+        // the children are detached from the tree at this point, so they
+        // don't need to remove themselves from their parent's set
+        childAllocations.clear();
+
+        for (int i = childAllocationsCopy.length - 1; i >= 0; i--) {
+          try {
+            final APIObjectAllocations currChild = childAllocationsCopy[i];
+            disposedCount += CAPIGarbageCollector.dispose(client, currChild, depth + 1, listeners, allocationsByParent);
+          } catch (final Exception e) {
+            throw new DominoException(MessageFormat.format("Error disposing {0}", childAllocationsCopy[i]), e);
           }
-
-          allocationsByParent.remove(allocations);
         }
       }
+    }
 
-      if (!allocations.isDisposed()) {
-        final APIObjectAllocations parentAllocations = allocations.getParentAllocations();
+    if (!allocations.isDisposed()) {
+      final APIObjectAllocations parentAllocations = allocations.getParentAllocations();
 
-        if (!CAPIGarbageCollector.skipDispose) {
-          if (!allocations.isDisposed()) {
-            allocations.dispose();
-          }
+      if (!CAPIGarbageCollector.skipDispose) {
+        if (!allocations.isDisposed()) {
+          allocations.dispose();
         }
+      }
 
-        if (parentAllocations != null && allocationsByParent != null) {
-          final List<APIObjectAllocations> parentsChildAllocations = allocationsByParent.get(parentAllocations);
-          if (parentsChildAllocations!=null) {
-            synchronized (parentsChildAllocations) {
-              //prevent concurrent modification on parentsChildAllocations in multiple threads
-              if (parentsChildAllocations.contains(allocations)) {
-                parentsChildAllocations.remove(allocations);
-
-                if (parentsChildAllocations.isEmpty()) {
-                  allocationsByParent.remove(parentAllocations);
-                }
-              }
-            }
+      if (parentAllocations != null && allocationsByParent != null) {
+        final Set<APIObjectAllocations> parentsChildAllocations = allocationsByParent.get(parentAllocations);
+        if (parentsChildAllocations != null && parentsChildAllocations.remove(allocations)) {
+          if (parentsChildAllocations.isEmpty()) {
+            allocationsByParent.remove(parentAllocations);
           }
         }
       }
+    }
 
-      if (listeners != null) {
-        for (final ICAPIGarbageCollectorListener currListener : listeners) {
-          try {
-            currListener.endDispose(client, allocations, depth);
-          } catch (final Exception e) {
-            e.printStackTrace();
-          }
+    if (listeners != null) {
+      for (final ICAPIGarbageCollectorListener currListener : listeners) {
+        try {
+          currListener.endDispose(client, allocations, depth);
+        } catch (final Exception e) {
+          e.printStackTrace();
         }
-      }        
-    }
-    finally {
-      gcLock.writeLock().unlock();
+      }
     }
+    
+    return disposedCount;
   }
 
   /**
@@ -304,7 +369,7 @@ public class CAPIGarbageCollector {
     try {
       final APIObjectAllocations objectAllocations = baseAPIObject.getAdapter(APIObjectAllocations.class);
       if (objectAllocations != null) {
-        CAPIGarbageCollector.dispose(client, objectAllocations, 0);
+        CAPIGarbageCollector.disposeTree(client, objectAllocations, CAPIGarbageCollector.gcListenerByClient.get(client));
       }
     }
     finally {
@@ -322,7 +387,7 @@ public class CAPIGarbageCollector {
     gcLock.writeLock().lock();
     try {
       final APIObjectAllocations clientAllocations = client.getAdapter(APIObjectAllocations.class);
-      CAPIGarbageCollector.dispose(client, clientAllocations, 0);
+      CAPIGarbageCollector.disposeTree(client, clientAllocations, CAPIGarbageCollector.gcListenerByClient.get(client));
     }
     finally {
       gcLock.writeLock().unlock();
@@ -348,6 +413,8 @@ public class CAPIGarbageCollector {
         }
       }
 
+      final long startNanos = System.nanoTime();
+      int disposedCount = 0;
       APIObjectAllocations currAlloc;
       
       while ((currAlloc = (APIObjectAllocations) queue.poll()) != null) {
@@ -357,12 +424,14 @@ public class CAPIGarbageCollector {
           }
         }
 
-        CAPIGarbageCollector.dispose(client, currAlloc, 0);
+        disposedCount += CAPIGarbageCollector.disposeTree(client, currAlloc, listeners);
       }
 
       if (listeners != null) {
+        final long durationNanos = System.nanoTime() - startNanos;
         for (final ICAPIGarbageCollectorListener currListener : listeners) {
           currListener.endFlushingRefQueue(client);
+          currListener.refQueueFlushed(client, disposedCount, durationNanos);
         }
       }
     }
@@ -445,21 +514,19 @@ public class CAPIGarbageCollector {
             parent.getClass().getName()));
       }
 
-      Map<APIObjectAllocations, List<APIObjectAllocations>> allocationsByParent = CAPIGarbageCollector.dominoClientAllocationsByParent.get(client);
+      Map<APIObjectAllocations, Set<APIObjectAllocations>> allocationsByParent = CAPIGarbageCollector.dominoClientAllocationsByParent.get(client);
       if (allocationsByParent == null) {
-        allocationsByParent = Collections.synchronizedMap(new HashMap<>());
+        allocationsByParent = new HashMap<>();
         CAPIGarbageCollector.dominoClientAllocationsByParent.put((IGCDominoClient) client, allocationsByParent);
       }
 
-      List<APIObjectAllocations> allocationsForParent = allocationsByParent.get(parentObjectAllocations);
+      Set<APIObjectAllocations> allocationsForParent = allocationsByParent.get(parentObjectAllocations);
       if (allocationsForParent == null) {
-        allocationsForParent = new ArrayList<>();
+        allocationsForParent = new LinkedHashSet<>();
         allocationsByParent.put(parentObjectAllocations, allocationsForParent);
       }
 
-      if (!allocationsForParent.contains(objectAllocations)) {
-        allocationsForParent.add(objectAllocations);
-      }
+      allocationsForParent.add(objectAllocations);
 
       final List<ICAPIGarbageCollectorListener> listeners = CAPIGarbageCollector.gcListenerByClient.get(client);
       if (listeners != null) {
@@ -528,6 +595,34 @@ public class CAPIGarbageCollector {
     }
   }
   
+  /**
+   * Returns the number of child allocations currently tracked for a Domino client,
+   * e.g. to monitor for leaked API objects
+   * 
+   * @param client Domino client
+   * @return number of tracked allocations
+   * @since 1.44.0
+   */
+  public static int getAllocationCount(final IGCDominoClient client) {
+    ReadWriteLock gcLock = getClientGCLock(client);
+    gcLock.readLock().lock();
+    try {
+      final Map<APIObjectAllocations, Set<APIObjectAllocations>> allocationsByParent = CAPIGarbageCollector.dominoClientAllocationsByParent
+          .get(client);
+      if (allocationsByParent == null) {
+        return 0;
+      }
+      int count = 0;
+      for (final Set<APIObjectAllocations> childAllocations : allocationsByParent.values()) {
+        count += childAllocations.size();
+      }
+      return count;
+    }
+    finally {
+      gcLock.readLock().unlock();
+    }
+  }
+  
   public static Collection<IGCDominoClient> getAllClients() {
     return new ArrayList<>(referenceQueues.keySet());
   }
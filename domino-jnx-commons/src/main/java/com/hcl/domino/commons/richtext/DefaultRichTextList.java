@@ -16,24 +16,18 @@
  */
 package com.hcl.domino.commons.richtext;
 
-import java.text.MessageFormat;
 import java.util.AbstractList;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.ListIterator;
-import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
-import com.hcl.domino.commons.richtext.RichtextNavigator.RichtextPosition;
-import com.hcl.domino.commons.richtext.records.AbstractCDRecord;
 import com.hcl.domino.richtext.RichTextRecordList;
 import com.hcl.domino.richtext.records.RecordType;
 import com.hcl.domino.richtext.records.RichTextRecord;
 
-public class DefaultRichTextList extends AbstractList<RichTextRecord<?>> implements RichTextRecordList {
+public class DefaultRichTextList extends AbstractList<RichTextRecord<?>> implements RichTextRecordList, RandomAccess {
   private class RichTextIterator implements ListIterator<RichTextRecord<?>> {
     private int index;
 
@@ -48,12 +42,7 @@ public class DefaultRichTextList extends AbstractList<RichTextRecord<?>> impleme
 
     @Override
     public boolean hasNext() {
-      // If we already hit the end, use that
-      if (DefaultRichTextList.this.size > -1 && this.index >= DefaultRichTextList.this.size) {
-        return false;
-      }
-      DefaultRichTextList.this.fillTo(this.index);
-      return this.index < DefaultRichTextList.this.cache.size();
+      return DefaultRichTextList.this.records.ensureIndexed(this.index);
     }
 
     @Override
@@ -96,66 +85,76 @@ public class DefaultRichTextList extends AbstractList<RichTextRecord<?>> impleme
 
   }
 
-  private final RichtextNavigator nav;
-  private final List<RichtextPosition> cache = new ArrayList<>();
-  private int size = -1;
-  private final RecordType.Area area;
+  private class RichTextSpliterator implements Spliterator<RichTextRecord<?>> {
+    private int index;
+    // -1 until the end is known, which requires reading all records
+    private int fence;
 
-  public DefaultRichTextList(final RichtextNavigator nav, final RecordType.Area area) {
-    this.nav = Objects.requireNonNull(nav, "nav cannot be null");
-    this.area = area;
-  }
+    public RichTextSpliterator(final int index, final int fence) {
+      this.index = index;
+      this.fence = fence;
+    }
+
+    private int getFence() {
+      if (this.fence < 0) {
+        this.fence = DefaultRichTextList.this.records.size();
+      }
+      return this.fence;
+    }
+
+    @Override
+    public int characteristics() {
+      int result = Spliterator.ORDERED | Spliterator.NONNULL;
+      if (this.fence >= 0) {
+        result |= Spliterator.SIZED | Spliterator.SUBSIZED;
+      }
+      return result;
+    }
+
+    @Override
+    public long estimateSize() {
+      if (this.fence < 0 && !DefaultRichTextList.this.records.isComplete()) {
+        return Long.MAX_VALUE;
+      }
+      return this.getFence() - this.index;
+    }
 
-  private void fillTo(final int index) {
-    while (this.cache.size() <= index) {
-      boolean moved;
-      if (this.cache.size() == 0) {
-        moved = this.nav.gotoFirst();
-      } else {
-        moved = this.nav.gotoNext();
+    @Override
+    public boolean tryAdvance(final Consumer<? super RichTextRecord<?>> action) {
+      if (this.fence < 0 ? !DefaultRichTextList.this.records.ensureIndexed(this.index) : this.index >= this.fence) {
+        return false;
       }
-      if (!moved) {
-        // Then we hit the end - mark it and end
-        this.size = this.cache.size();
-        return;
+      action.accept(DefaultRichTextList.this.records.get(this.index));
+      this.index++;
+      return true;
+    }
+
+    @Override
+    public Spliterator<RichTextRecord<?>> trySplit() {
+      final int lo = this.index;
+      final int mid = lo + this.getFence() >>> 1;
+      if (lo >= mid) {
+        return null;
       }
-      this.cache.add(this.nav.getCurrentPosition());
+      this.index = mid;
+      return new RichTextSpliterator(lo, mid);
     }
   }
 
+  private final RichTextRecordIndex records;
+
+  public DefaultRichTextList(final RichtextNavigator nav, final RecordType.Area area) {
+    this.records = new RichTextRecordIndex(nav, area);
+  }
+
   @Override
   public RichTextRecord<?> get(final int index) {
-    this.fillTo(index);
-    if (index >= this.cache.size()) {
-      throw new IndexOutOfBoundsException(MessageFormat.format("Index: {0}, Size: {1}", index, this.size));
-    }
-    final RichtextPosition cur = this.nav.getCurrentPosition();
-    try {
-      this.nav.restorePosition(this.cache.get(index));
-      final RichTextRecord<?> record = this.nav.getCurrentRecord();
-      if (this.area != null && record instanceof AbstractCDRecord) {
-        final RecordType type = Stream.of(this.area, RecordType.Area.RESERVED_INTERNAL)
-            .map(a -> RecordType.getRecordTypeForConstant(record.getTypeValue(), a))
-            .filter(Objects::nonNull)
-            .findFirst()
-            .orElse(null);
-        if (type != null) {
-          final Class<? extends RichTextRecord<?>> encapsulation = type.getEncapsulation();
-          if (encapsulation != null) {
-            return RichTextUtil.reencapsulateRecord(type, (AbstractCDRecord<?>) record, encapsulation);
-          }
-        }
-      }
-      return record;
-    } finally {
-      this.nav.restorePosition(cur);
-    }
+    return this.records.get(index);
   }
 
   @Override
   public boolean isEmpty() {
-    this.fillTo(0);
-    return this.cache.isEmpty();
+    return !this.records.ensureIndexed(0);
   }
 
   @Override
@@ -170,15 +169,11 @@ public class DefaultRichTextList extends AbstractList<RichTextRecord<?>> impleme
 
   @Override
   public int size() {
-    if (this.size == -1) {
-      this.fillTo(Integer.MAX_VALUE);
-    }
-
-    return this.size;
+    return this.records.size();
   }
 
   @Override
   public Spliterator<RichTextRecord<?>> spliterator() {
-    return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED);
+    return new RichTextSpliterator(0, this.records.isComplete() ? this.records.size() : -1);
   }
 }
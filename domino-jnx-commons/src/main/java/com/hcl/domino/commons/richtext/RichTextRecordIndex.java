@@ -0,0 +1,210 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.commons.richtext;
+
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.hcl.domino.commons.richtext.records.AbstractCDRecord;
+import com.hcl.domino.richtext.records.RecordType;
+import com.hcl.domino.richtext.records.RichTextRecord;
+
+/**
+ * Index over the CD records of a {@link RichtextNavigator}.
+ * <p>
+ * The navigator is read once from the first to the last record, on demand as
+ * records are requested. The record data is copied into retained buffers and the
+ * index only stores the buffer number, offset, length and signature of each
+ * record, so random access does not have to move the navigator again and
+ * several threads can read records at the same time.
+ * </p>
+ *
+ * @since 1.44.0
+ */
+public class RichTextRecordIndex {
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final RichtextNavigator nav;
+  private final RecordType.Area area;
+
+  private final List<byte[]> chunks = new ArrayList<>();
+  private byte[] currentChunk;
+  private int currentChunkIndex;
+  private int currentChunkPos;
+
+  private int[] recordChunks = new int[RichTextRecordIndex.INITIAL_CAPACITY];
+  private int[] recordOffsets = new int[RichTextRecordIndex.INITIAL_CAPACITY];
+  private int[] recordLengths = new int[RichTextRecordIndex.INITIAL_CAPACITY];
+  private short[] recordSignatures = new short[RichTextRecordIndex.INITIAL_CAPACITY];
+  private int count;
+  private volatile boolean complete;
+
+  /**
+   * Creates a new index
+   *
+   * @param nav  the navigator to read the records from
+   * @param area the {@link RecordType.Area} used to resolve the record types, or
+   *             {@code null} to return the records with their generic
+   *             encapsulation
+   */
+  public RichTextRecordIndex(final RichtextNavigator nav, final RecordType.Area area) {
+    this.nav = Objects.requireNonNull(nav, "nav cannot be null");
+    this.area = area;
+  }
+
+  /**
+   * Reads records from the navigator until the record at the given index is
+   * part of the index or the end of the rich text is reached
+   *
+   * @param index the index of the record to read
+   * @return {@code true} if the record exists
+   */
+  public boolean ensureIndexed(final int index) {
+    if (this.complete) {
+      return index < this.count;
+    }
+    synchronized (this) {
+      while (!this.complete && this.count <= index) {
+        this.readNext();
+      }
+      return index < this.count;
+    }
+  }
+
+  /**
+   * Returns whether the navigator has been read up to the last record
+   *
+   * @return {@code true} if all records are part of the index
+   */
+  public boolean isComplete() {
+    return this.complete;
+  }
+
+  /**
+   * Returns the number of records, reading the remaining records from the
+   * navigator if required
+   *
+   * @return number of records
+   */
+  public int size() {
+    this.ensureIndexed(Integer.MAX_VALUE);
+    return this.count;
+  }
+
+  /**
+   * Returns the record at the given index
+   *
+   * @param index the index of the record
+   * @return record backed by the data retained by this index
+   * @throws IndexOutOfBoundsException if there is no record at {@code index}
+   */
+  public RichTextRecord<?> get(final int index) {
+    final byte[] chunk;
+    final int offset;
+    final int length;
+    final short signature;
+    if (this.complete) {
+      if (index < 0 || index >= this.count) {
+        throw new IndexOutOfBoundsException(MessageFormat.format("Index: {0}, Size: {1}", index, this.count));
+      }
+      chunk = this.chunks.get(this.recordChunks[index]);
+      offset = this.recordOffsets[index];
+      length = this.recordLengths[index];
+      signature = this.recordSignatures[index];
+    } else {
+      synchronized (this) {
+        if (index < 0 || !this.ensureIndexed(index)) {
+          throw new IndexOutOfBoundsException(MessageFormat.format("Index: {0}, Size: {1}", index, this.count));
+        }
+        chunk = this.chunks.get(this.recordChunks[index]);
+        offset = this.recordOffsets[index];
+        length = this.recordLengths[index];
+        signature = this.recordSignatures[index];
+      }
+    }
+
+    final AbstractCDRecord<?> record = RichTextUtil.encapsulateRecord(signature, ByteBuffer.wrap(chunk, offset, length));
+    if (this.area != null) {
+      RecordType type = RecordType.getRecordTypeForConstant(signature, this.area);
+      if (type == null) {
+        type = RecordType.getRecordTypeForConstant(signature, RecordType.Area.RESERVED_INTERNAL);
+      }
+      if (type != null) {
+        final Class<? extends RichTextRecord<?>> encapsulation = type.getEncapsulation();
+        if (encapsulation != null) {
+          return RichTextUtil.reencapsulateRecord(type, record, encapsulation);
+        }
+      }
+    }
+    return record;
+  }
+
+  private void readNext() {
+    final boolean moved = this.count == 0 ? this.nav.gotoFirst() : this.nav.gotoNext();
+    if (!moved) {
+      // Then we hit the end
+      this.complete = true;
+      return;
+    }
+
+    final RichTextRecord<?> record = this.nav.getCurrentRecord();
+    final ByteBuffer src = record.getData().duplicate();
+    src.rewind();
+    final int length = src.remaining();
+
+    final byte[] chunk;
+    final int chunkIndex;
+    final int offset;
+    if (length > RichTextRecordIndex.CHUNK_SIZE) {
+      // Give large records their own buffer and keep filling the current one
+      chunk = new byte[length];
+      chunkIndex = this.chunks.size();
+      this.chunks.add(chunk);
+      offset = 0;
+    } else {
+      if (this.currentChunk == null || this.currentChunkPos + length > this.currentChunk.length) {
+        this.currentChunk = new byte[RichTextRecordIndex.CHUNK_SIZE];
+        this.currentChunkIndex = this.chunks.size();
+        this.currentChunkPos = 0;
+        this.chunks.add(this.currentChunk);
+      }
+      chunk = this.currentChunk;
+      chunkIndex = this.currentChunkIndex;
+      offset = this.currentChunkPos;
+      this.currentChunkPos += length;
+    }
+    src.get(chunk, offset, length);
+
+    if (this.count == this.recordOffsets.length) {
+      final int newCapacity = this.count * 2;
+      this.recordChunks = Arrays.copyOf(this.recordChunks, newCapacity);
+      this.recordOffsets = Arrays.copyOf(this.recordOffsets, newCapacity);
+      this.recordLengths = Arrays.copyOf(this.recordLengths, newCapacity);
+      this.recordSignatures = Arrays.copyOf(this.recordSignatures, newCapacity);
+    }
+    this.recordChunks[this.count] = chunkIndex;
+    this.recordOffsets[this.count] = offset;
+    this.recordLengths[this.count] = length;
+    this.recordSignatures[this.count] = record.getTypeValue();
+    this.count++;
+  }
+}
@@ -16,6 +16,7 @@
  */
 package com.hcl.domino.commons.structures;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
@@ -35,6 +36,7 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import com.hcl.domino.commons.NotYetImplementedException;
 import com.hcl.domino.commons.data.DefaultDominoDateTime;
@@ -42,7 +44,6 @@ import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.misc.DominoEnumUtil;
 import com.hcl.domino.misc.INumberEnum;
 import com.hcl.domino.richtext.annotation.StructureGetter;
-import com.hcl.domino.richtext.annotation.StructureSetter;
 import com.hcl.domino.richtext.records.RecordType;
 import com.hcl.domino.richtext.structures.MemoryStructure;
 import com.hcl.domino.richtext.structures.OpaqueTimeDate;
@@ -349,9 +350,112 @@ public class MemoryStructureProxy implements InvocationHandler {
     }
   }
 
+  /**
+   * Generates an accessor for the provided {@link StructureGetter}-annotated method that reads
+   * the member from a byte buffer and converts it to the method's return type.
+   * 
+   * <p>All decisions that depend only on the method signature are made here once, so that
+   * invoking the accessor only costs the buffer read and value conversion.</p>
+   * 
+   * @param thisMethod the getter method
+   * @param member the struct member read by the getter
+   * @return a {@link Function} that can be applied to the structure's data buffer
+   * @since 1.44.0
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  static Function<ByteBuffer, Object> getter(final Method thisMethod, final StructMember member) {
+    final BiFunction<ByteBuffer, Integer, Object> reader = member.reader;
+    final Integer offset = member.offset;
+    final Class<?> returnType = thisMethod.getReturnType();
+    
+    if (member.type.isPrimitive() && INumberEnum.class.isAssignableFrom(returnType)) {
+      // Handle the case where a member declared as a primitive is nonetheless
+      // requested as an enum
+      final Class<? extends INumberEnum<?>> enumType = (Class<? extends INumberEnum<?>>) returnType;
+      return buf -> {
+        final Number val = (Number) reader.apply(buf, offset);
+        return DominoEnumUtil.valueOf(enumType, val).orElse(null);
+      };
+    } else if (member.type.isPrimitive() && Collection.class.isAssignableFrom(returnType)) {
+      // Same as above, but for enum collections. TestStructAnnotations in core
+      // assures this will be a compatible type
+      final Class enumType = (Class) ((ParameterizedType) thisMethod.getGenericReturnType()).getActualTypeArguments()[0];
+      return buf -> {
+        final Number val = (Number) reader.apply(buf, offset);
+        return DominoEnumUtil.valuesOf(enumType, val.longValue());
+      };
+    } else if(member.type.isPrimitive() && MemoryStructureUtil.isOptionalOf(thisMethod.getGenericReturnType(), INumberEnum.class)) {
+      // Same as above, but for Optionals of single enums
+      final Class enumType = (Class) ((ParameterizedType) thisMethod.getGenericReturnType()).getActualTypeArguments()[0];
+      return buf -> {
+        final Number val = (Number) reader.apply(buf, offset);
+        return DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>) enumType, val);
+      };
+    } else if(member.type.isPrimitive() && Boolean.TYPE.equals(returnType)) {
+      return buf -> ((Number) reader.apply(buf, offset)).longValue() != 0;
+    } else if (member.type.equals(OpaqueTimeDate.class) && DominoDateTime.class.equals(returnType)) {
+      return buf -> {
+        final OpaqueTimeDate dt = (OpaqueTimeDate) reader.apply(buf, offset);
+        return new DefaultDominoDateTime(dt.getInnards());
+      };
+    } else if(INumberEnum.class.isAssignableFrom(member.type)) {
+      if(returnType.isPrimitive()) {
+        // Return the number directly
+        return buf -> reader.apply(buf, offset);
+      } else if(member.bitfield) {
+        return buf -> {
+          final Number val = (Number) reader.apply(buf, offset);
+          return DominoEnumUtil.valuesOf((Class)member.type, val.longValue());
+        };
+      } else if(MemoryStructureUtil.isOptionalOf(thisMethod.getGenericReturnType(), member.type)) {
+        // Pass through the optional result
+        return buf -> {
+          final Number val = (Number) reader.apply(buf, offset);
+          return DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>)member.type, val.longValue());
+        };
+      } else {
+        // Then unwrap the Optional coming from the reader
+        return buf -> {
+          final Number val = (Number) reader.apply(buf, offset);
+          return DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>)member.type, val.longValue())
+              .orElseThrow(() -> new NoSuchElementException(MessageFormat.format("Unable to find {0} value for {1}", member.type.getName(), val)));
+        };
+      }
+    } else if(member.type.isArray() && INumberEnum.class.isAssignableFrom(member.type.getComponentType())) {
+      if(!returnType.isArray()) {
+        return buf -> {
+          throw new IllegalStateException("Getters for array members must have array return types");
+        };
+      }
+      // Same as above, but for arrays
+      if(returnType.getComponentType().isPrimitive()) {
+        // Then return directly
+        return buf -> reader.apply(buf, offset);
+      } else if(member.bitfield) {
+        return buf -> {
+          throw new UnsupportedOperationException("Bitfield array members not supported");
+        };
+      } else {
+        return buf -> {
+          Object arrayVal = reader.apply(buf, offset);
+          Object result = Array.newInstance(member.type.getComponentType(), member.length);
+          for(int i = 0; i < member.length; i++) {
+            Number val = (Number)Array.get(arrayVal, i);
+            Optional<?> opt = DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>)member.type.getComponentType(), val);
+            Array.set(result, i, opt.orElseThrow(() -> new NoSuchElementException(MessageFormat.format("Unable to find {0} value for {1}", member.type.getName(), val))));
+          }
+          return result;
+        };
+      }
+    } else {
+      return buf -> reader.apply(buf, offset);
+    }
+  }
+
   private final MemoryStructure record;
   private final Class<? extends MemoryStructure> encapsulated;
   private final RecordType recordType;
+  private final StructureMap struct;
 
   /**
    * Constructs a new {@code MemoryStructureProxy} instance for the provided memory layout.
@@ -364,184 +468,106 @@ public class MemoryStructureProxy implements InvocationHandler {
     this.record = record;
     this.encapsulated = encapsulated;
     this.recordType = recordType;
+    this.struct = MemoryStructureUtil.getStructureMap(encapsulated);
   }
 
   @Override
   public Object invoke(final Object self, final Method thisMethod, final Object[] args) throws Throwable {
-    final StructureMap struct = MemoryStructureUtil.getStructureMap(this.encapsulated);
+    final StructureMap struct = this.struct;
 
-    if (thisMethod.isAnnotationPresent(StructureGetter.class)) {
-      final StructMember member = struct.getterMap.get(thisMethod);
-      if (member != null) {
-        final ByteBuffer buf = this.record.getData();
-        if (member.type.isPrimitive() && INumberEnum.class.isAssignableFrom(thisMethod.getReturnType())) {
-          // Handle the case where a member declared as a primitive is nonetheless
-          // requested as an enum
-          final Number val = (Number) member.reader.apply(buf, member.offset);
-          @SuppressWarnings("unchecked")
-          final Optional<? extends INumberEnum<?>> result = DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>) thisMethod.getReturnType(), val);
-          return result.orElse(null);
-        } else if (member.type.isPrimitive() && Collection.class.isAssignableFrom(thisMethod.getReturnType())) {
-          // Same as above, but for enum collections. TestStructAnnotations in core
-          // assures this will be a compatible type
-          final Number val = (Number) member.reader.apply(buf, member.offset);
-          @SuppressWarnings("rawtypes")
-          final Class enumType = (Class) ((ParameterizedType) thisMethod.getGenericReturnType()).getActualTypeArguments()[0];
-          @SuppressWarnings("unchecked")
-          final Object result = DominoEnumUtil.valuesOf(enumType, val.longValue());
-          return result;
-        } else if(member.type.isPrimitive() && MemoryStructureUtil.isOptionalOf(thisMethod.getGenericReturnType(), INumberEnum.class)) {
-          // Same as above, but for Optionals of single enums
-          final Number val = (Number) member.reader.apply(buf, member.offset);
-          @SuppressWarnings("rawtypes")
-          final Class enumType = (Class) ((ParameterizedType) thisMethod.getGenericReturnType()).getActualTypeArguments()[0];
-          @SuppressWarnings("unchecked")
-          final Optional<? extends INumberEnum<?>> result = DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>) enumType, val);
-          return result;
-        } else if(member.type.isPrimitive() && Boolean.TYPE.equals(thisMethod.getReturnType())) {
-          final Number val = (Number) member.reader.apply(buf, member.offset);
-          return val.longValue() != 0;
-        } else if (member.type.equals(OpaqueTimeDate.class) && DominoDateTime.class.equals(thisMethod.getReturnType())) {
-          final OpaqueTimeDate dt = (OpaqueTimeDate) member.reader.apply(buf, member.offset);
-          return new DefaultDominoDateTime(dt.getInnards());
-        } else if(INumberEnum.class.isAssignableFrom(member.type)) {
-          Number val = (Number)member.reader.apply(buf, member.offset);
-          if(thisMethod.getReturnType().isPrimitive()) {
-            // Return the number directly
-            return val;
-          } else if(member.bitfield) {
-            @SuppressWarnings({ "unchecked", "rawtypes" })
-            Set<?> result = DominoEnumUtil.valuesOf((Class)member.type, val.longValue());
-            return result;
-          } else {
-            @SuppressWarnings("unchecked")
-            Optional<?> opt = DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>)member.type, val.longValue());
-            if(MemoryStructureUtil.isOptionalOf(thisMethod.getGenericReturnType(), member.type)) {
-              // Pass through the optional result
-              return opt;
-            } else {
-              // Then unwrap the Optional coming from the reader
-              return opt
-                  .orElseThrow(() -> new NoSuchElementException(MessageFormat.format("Unable to find {0} value for {1}", member.type.getName(), val)));
-            }
-          }
-        } else if(member.type.isArray() && INumberEnum.class.isAssignableFrom(member.type.getComponentType())) {
-          if(!thisMethod.getReturnType().isArray()) {
-            throw new IllegalStateException("Getters for array members must have array return types");
-          }
-          // Same as above, but for arrays
-          Object arrayVal = member.reader.apply(buf, member.offset);
-          if(thisMethod.getReturnType().getComponentType().isPrimitive()) {
-            // Then return directly
-            return arrayVal;
-          } else if(member.bitfield) {
-            throw new UnsupportedOperationException("Bitfield array members not supported");
+    final Function<ByteBuffer, Object> getter = struct.getterAccessors.get(thisMethod);
+    if (getter != null) {
+      return getter.apply(this.record.getData());
+    }
+    
+    final StructMember member = struct.setterMap.get(thisMethod);
+    if (member != null) {
+      final ByteBuffer buf = this.record.getData();
+      Class<?> paramType = thisMethod.getParameterTypes()[0];
+      if (member.type.isPrimitive() && INumberEnum.class.isAssignableFrom(paramType)) {
+        // Handle the case where a member declared as a primitive is nonetheless set as
+        // an enum
+        final Object newVal = args[0];
+        Number val = newVal == null ? 0 : ((INumberEnum<?>) newVal).getValue();
+        val = MemoryStructureUtil.matchPrimitiveSizeForEnum(val, member);
+        member.writer.accept(buf, member.offset, val);
+      } else if(member.type.isPrimitive() && Boolean.TYPE.isAssignableFrom(paramType)) {
+        final Object newVal = args[0];
+        int val = newVal == null ? 0 : (Boolean)newVal ? 1 : 0;
+        member.writer.accept(buf, member.offset, val);
+      } else if (member.type.equals(OpaqueTimeDate.class) && DominoDateTime.class.equals(paramType)) {
+        final int[] innards = ((DominoDateTime) args[0]).getAdapter(int[].class);
+        member.writer.accept(buf, member.offset, innards);
+      } else if(INumberEnum.class.isAssignableFrom(member.type) && paramType.isPrimitive()) {
+        // Handle the case where a member declared as an enum is set as a primitive
+        member.writer.accept(buf, member.offset, args[0]);
+      } else if(INumberEnum.class.isAssignableFrom(member.type)) {
+        final Object newVal = args[0];
+        Number numVal;
+        if(member.bitfield) {
+          // Read the existing value and preserve possible undocumented flags
+          Number existing = (Number)member.reader.apply(buf, member.offset);
+          @SuppressWarnings({ "unchecked", "rawtypes" })
+          Number antimask = ~(DominoEnumUtil.toBitField((Class)member.type, EnumSet.allOf((Class)member.type)).longValue());
+          long savedMask = existing.longValue() & antimask.longValue();
+          
+          // It's possible that the setter sets a single value or a collection
+          if (Collection.class.isInstance(newVal)) {
+            // Assume newVal is a Collection of enums
+            @SuppressWarnings({ "rawtypes", "unchecked" })
+            Number result = newVal == null ? 0 : DominoEnumUtil.toBitField((Class) member.type, (Collection) newVal);
+            numVal = result.longValue() | savedMask;
           } else {
-            Object result = Array.newInstance(member.type.getComponentType(), member.length);
-            for(int i = 0; i < member.length; i++) {
-              Number val = (Number)Array.get(arrayVal, i);
-              @SuppressWarnings("unchecked")
-              Optional<?> opt = DominoEnumUtil.valueOf((Class<? extends INumberEnum<?>>)member.type.getComponentType(), val);
-              Array.set(result, i, opt.orElseThrow(() -> new NoSuchElementException(MessageFormat.format("Unable to find {0} value for {1}", member.type.getName(), val))));
-            }
-            return result;
+            // Assume it's a single enum
+            @SuppressWarnings("rawtypes")
+            Number result = newVal == null ? 0 : ((INumberEnum) newVal).getValue();
+            numVal = result.longValue() | savedMask;
           }
         } else {
-          return member.reader.apply(buf, member.offset);
+          @SuppressWarnings("rawtypes")
+          Number result = newVal == null ? 0 : ((INumberEnum) newVal).getValue();
+          numVal = result;
         }
-      } else {
-        throw new IllegalStateException(MessageFormat.format("Generated structure map failed to include method: {0}", thisMethod));
-      }
-    } else if (thisMethod.isAnnotationPresent(StructureSetter.class)) {
-      final StructMember member = struct.setterMap.get(thisMethod);
-      if (member != null) {
-        final ByteBuffer buf = this.record.getData();
-        Class<?> paramType = thisMethod.getParameterTypes()[0];
-        if (member.type.isPrimitive() && INumberEnum.class.isAssignableFrom(paramType)) {
-          // Handle the case where a member declared as a primitive is nonetheless set as
-          // an enum
-          final Object newVal = args[0];
-          Number val = newVal == null ? 0 : ((INumberEnum<?>) newVal).getValue();
-          val = MemoryStructureUtil.matchPrimitiveSizeForEnum(val, member);
-          member.writer.accept(buf, member.offset, val);
-        } else if(member.type.isPrimitive() && Boolean.TYPE.isAssignableFrom(paramType)) {
-          final Object newVal = args[0];
-          int val = newVal == null ? 0 : (Boolean)newVal ? 1 : 0;
-          member.writer.accept(buf, member.offset, val);
-        } else if (member.type.equals(OpaqueTimeDate.class) && DominoDateTime.class.equals(paramType)) {
-          final int[] innards = ((DominoDateTime) args[0]).getAdapter(int[].class);
-          member.writer.accept(buf, member.offset, innards);
-        } else if(INumberEnum.class.isAssignableFrom(member.type) && paramType.isPrimitive()) {
-          // Handle the case where a member declared as an enum is set as a primitive
-          member.writer.accept(buf, member.offset, args[0]);
-        } else if(INumberEnum.class.isAssignableFrom(member.type)) {
-          final Object newVal = args[0];
-          Number numVal;
-          if(member.bitfield) {
-            // Read the existing value and preserve possible undocumented flags
-            Number existing = (Number)member.reader.apply(buf, member.offset);
-            @SuppressWarnings({ "unchecked", "rawtypes" })
-            Number antimask = ~(DominoEnumUtil.toBitField((Class)member.type, EnumSet.allOf((Class)member.type)).longValue());
-            long savedMask = existing.longValue() & antimask.longValue();
-            
-            // It's possible that the setter sets a single value or a collection
-            if (Collection.class.isInstance(newVal)) {
-              // Assume newVal is a Collection of enums
-              @SuppressWarnings({ "rawtypes", "unchecked" })
-              Number result = newVal == null ? 0 : DominoEnumUtil.toBitField((Class) member.type, (Collection) newVal);
-              numVal = result.longValue() | savedMask;
+        member.writer.accept(buf, member.offset, numVal);
+      } else if(member.type.isArray() && INumberEnum.class.isAssignableFrom(member.type.getComponentType())) {
+        // Same as above, but for arrays
+        Object newVal = args[0];
+        Class<?> numArrayType = MemoryStructureUtil.getNumberArrayType(member.type);
+        Class<?> numType = numArrayType.getComponentType();
+        Object numArray;
+        if(newVal.getClass().getComponentType().isPrimitive()) {
+          // If it's a primitive array, pass it through as-is
+          numArray = newVal;
+        } else {
+          // Otherwise, unwrap the enum values to their raw values
+          numArray = Array.newInstance(numType, member.length);
+          int count = Math.min(Array.getLength(newVal), member.length);
+          for(int i = 0; i < count; i++) {
+            INumberEnum<?> val = (INumberEnum<?>)Array.get(newVal, i);
+            if(byte.class.equals(numType)) {
+              Array.setByte(numArray, i, val.getValue().byteValue());
+            } else if(short.class.equals(numType)) {
+              Array.setShort(numArray, i, val.getValue().shortValue());
+            } else if(int.class.equals(numType)) {
+              Array.setInt(numArray, i, val.getValue().intValue());
             } else {
-              // Assume it's a single enum
-              @SuppressWarnings("rawtypes")
-              Number result = newVal == null ? 0 : ((INumberEnum) newVal).getValue();
-              numVal = result.longValue() | savedMask;
+              Array.setLong(numArray, i, val.getValue().longValue());
             }
-          } else {
-            @SuppressWarnings("rawtypes")
-            Number result = newVal == null ? 0 : ((INumberEnum) newVal).getValue();
-            numVal = result;
           }
-          member.writer.accept(buf, member.offset, numVal);
-        } else if(member.type.isArray() && INumberEnum.class.isAssignableFrom(member.type.getComponentType())) {
-          // Same as above, but for arrays
-          Object newVal = args[0];
-          Class<?> numArrayType = MemoryStructureUtil.getNumberArrayType(member.type);
-          Class<?> numType = numArrayType.getComponentType();
-          Object numArray;
-          if(newVal.getClass().getComponentType().isPrimitive()) {
-            // If it's a primitive array, pass it through as-is
-            numArray = newVal;
-          } else {
-            // Otherwise, unwrap the enum values to their raw values
-            numArray = Array.newInstance(numType, member.length);
-            int count = Math.min(Array.getLength(newVal), member.length);
-            for(int i = 0; i < count; i++) {
-              INumberEnum<?> val = (INumberEnum<?>)Array.get(newVal, i);
-              if(byte.class.equals(numType)) {
-                Array.setByte(numArray, i, val.getValue().byteValue());
-              } else if(short.class.equals(numType)) {
-                Array.setShort(numArray, i, val.getValue().shortValue());
-              } else if(int.class.equals(numType)) {
-                Array.setInt(numArray, i, val.getValue().intValue());
-              } else {
-                Array.setLong(numArray, i, val.getValue().longValue());
-              }
-            }
-          }
-          member.writer.accept(buf, member.offset, numArray);
-        } else {
-          member.writer.accept(buf, member.offset, args[0]);
         }
+        member.writer.accept(buf, member.offset, numArray);
+      } else {
+        member.writer.accept(buf, member.offset, args[0]);
+      }
 
-        if (void.class.equals(thisMethod.getReturnType()) || Void.class.equals(thisMethod.getReturnType())) {
-          return null;
-        }
-        if (this.encapsulated.equals(thisMethod.getReturnType())) {
-          return self;
-        } else {
-          throw new IllegalStateException(
-              MessageFormat.format("Unhandled proxy return type: {0}", thisMethod.getGenericReturnType()));
-        }
+      if (void.class.equals(thisMethod.getReturnType()) || Void.class.equals(thisMethod.getReturnType())) {
+        return null;
+      }
+      if (this.encapsulated.equals(thisMethod.getReturnType())) {
+        return self;
+      } else {
+        throw new IllegalStateException(
+            MessageFormat.format("Unhandled proxy return type: {0}", thisMethod.getGenericReturnType()));
       }
     }
     final Method synthMember = struct.synthSetterMap.get(thisMethod);
@@ -549,14 +575,23 @@ public class MemoryStructureProxy implements InvocationHandler {
       return this.invoke(self, synthMember, args);
     }
     
+    if (thisMethod.isAnnotationPresent(StructureGetter.class)) {
+      throw new IllegalStateException(MessageFormat.format("Generated structure map failed to include method: {0}", thisMethod));
+    }
+    
     // Special handling for rich-text records with applied RecordTypes
     if(this.recordType != null && "getType".equals(thisMethod.getName()) && thisMethod.getParameterCount() == 0) { //$NON-NLS-1$
       return EnumSet.of(this.recordType);
     }
 
-    if (MemoryStructureUtil.isInLineage(thisMethod, this.encapsulated)) {
-      if (thisMethod.isDefault()) {
-        return this.invokeDefault(self, thisMethod, args);
+    if (thisMethod.isDefault()) {
+      MethodHandle defaultMethod = struct.defaultMethods.get(thisMethod);
+      if (defaultMethod == null && MemoryStructureUtil.isInLineage(thisMethod, this.encapsulated)) {
+        defaultMethod = this.findDefault(thisMethod);
+        struct.defaultMethods.putIfAbsent(thisMethod, defaultMethod);
+      }
+      if (defaultMethod != null) {
+        return defaultMethod.bindTo(self).invokeWithArguments(args);
       }
     }
 
@@ -580,23 +615,20 @@ public class MemoryStructureProxy implements InvocationHandler {
   }
 
   /**
-   * Invokes a default method from an interface, accounting for access-control
+   * Looks up a default method from an interface, accounting for access-control
    * differences between Java 8 and future versions.
    * 
-   * @param self       the invocation context object
-   * @param thisMethod the default interface method to invoke
-   * @return the result of the method invocation
-   * @throws Throwable if there is an exception invoking the method
+   * @param thisMethod the default interface method to look up
+   * @return an unbound {@link MethodHandle} for the method
+   * @throws Throwable if there is an exception looking up the method
    */
-  private Object invokeDefault(final Object self, final Method thisMethod, final Object[] args) throws Throwable {
+  private MethodHandle findDefault(final Method thisMethod) throws Throwable {
     if (MemoryStructureProxy.JAVA_8) {
       final Constructor<Lookup> constructor = Lookup.class.getDeclaredConstructor(Class.class);
       constructor.setAccessible(true);
       return constructor.newInstance(this.encapsulated)
           .in(this.encapsulated)
-          .unreflectSpecial(thisMethod, this.encapsulated)
-          .bindTo(self)
-          .invokeWithArguments(args);
+          .unreflectSpecial(thisMethod, this.encapsulated);
     } else {
       return MethodHandles.lookup()
           .findSpecial(
@@ -606,9 +638,7 @@ public class MemoryStructureProxy implements InvocationHandler {
                   thisMethod.getReturnType(),
                   thisMethod.getParameterTypes()
               ),
-              this.encapsulated)
-          .bindTo(self)
-          .invokeWithArguments(args);
+              this.encapsulated);
     }
   }
 
@@ -24,7 +24,6 @@ import java.nio.ByteOrder;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,8 +58,7 @@ import com.hcl.domino.richtext.structures.WSIG;
 public enum MemoryStructureUtil {
   ;
   
-  private static final Map<Class<? extends MemoryStructure>, StructureMap> structureMap = Collections
-      .synchronizedMap(new HashMap<>());
+  private static final Map<Class<? extends MemoryStructure>, StructureMap> structureMap = new ConcurrentHashMap<>();
   
   private static final Map<Class<?>, Integer> sizeMap = new ConcurrentHashMap<>();
 
@@ -116,11 +114,19 @@ public enum MemoryStructureUtil {
    * @return a {@link Map} of getter methods to implementing structure members
    * @since 1.0.34
    */
-  public static synchronized <T extends MemoryStructure> StructureMap getStructureMap(Class<T> subtype) {
-    if(!structureMap.containsKey(subtype)) {
-      structureMap.put(subtype, generateStructureMap(subtype));
+  public static <T extends MemoryStructure> StructureMap getStructureMap(Class<T> subtype) {
+    StructureMap result = structureMap.get(subtype);
+    if(result == null) {
+      // Not using computeIfAbsent, since generating a map recursively looks up the maps of
+      // nested structures. Concurrent callers may generate the same map twice, but only the
+      // first one wins
+      result = generateStructureMap(subtype);
+      StructureMap existing = structureMap.putIfAbsent(subtype, result);
+      if(existing != null) {
+        result = existing;
+      }
     }
-    return structureMap.get(subtype);
+    return result;
   }
 
   /**
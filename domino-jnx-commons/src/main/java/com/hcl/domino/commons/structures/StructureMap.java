@@ -16,22 +16,33 @@
  */
 package com.hcl.domino.commons.structures;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 class StructureMap {
   final List<StructMember> members = new ArrayList<>();
   final Map<Method, StructMember> getterMap = new HashMap<>();
   final Map<Method, StructMember> setterMap = new HashMap<>();
   final Map<Method, Method> synthSetterMap = new HashMap<>();
+  /** pre-built accessors for all getters, see {@link MemoryStructureProxy#getter(Method, StructMember)} */
+  final Map<Method, Function<ByteBuffer, Object>> getterAccessors = new HashMap<>();
+  /** lazily-resolved handles for default interface methods */
+  final Map<Method, MethodHandle> defaultMethods = new ConcurrentHashMap<>();
 
   void add(final StructMember member, final List<Method> getters, final List<Method> setters,
       final Map<Method, Method> synthSetters) {
     this.members.add(member);
-    getters.forEach(m -> this.getterMap.put(m, member));
+    getters.forEach(m -> {
+      this.getterMap.put(m, member);
+      this.getterAccessors.put(m, MemoryStructureProxy.getter(m, member));
+    });
     setters.forEach(m -> {
       this.setterMap.put(m, member);
     });
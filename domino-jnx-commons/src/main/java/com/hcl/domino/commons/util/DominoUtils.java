@@ -143,6 +143,261 @@ public enum DominoUtils {
     setJavaProperty("jnx.noinittermthread", Boolean.toString(noInitTermThread));
   }
 
+  /**
+   * Determines whether the {@code NotesInitThread} and {@code NotesTermThread}
+   * calls around each locked handle access should be skipped for threads that
+   * have already been initialized natively via
+   * {@link com.hcl.domino.DominoProcess#initializeThread()}.<br>
+   * <br>
+   * The value is read once when the handle lock registry is created.
+   * 
+   * @return {@code true} to skip the per-lock thread initialization,
+   *         {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isSkipHandleLockThreadInit() {
+    return DominoUtils.checkBooleanProperty("jnx.skiphandlelockthreadinit", "JNX_SKIPHANDLELOCKTHREADINIT"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+  
+  /**
+   * Sets whether the {@code NotesInitThread} and {@code NotesTermThread}
+   * calls around each locked handle access should be skipped for threads that
+   * have already been initialized natively. Needs to be called before the
+   * first handle is locked.
+   * 
+   * @param skip {@code true} to skip the per-lock thread initialization,
+   *         {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static void setSkipHandleLockThreadInit(boolean skip) {
+    setJavaProperty("jnx.skiphandlelockthreadinit", Boolean.toString(skip));
+  }
+
+  /**
+   * Determines whether collection entries read with summary values should keep
+   * a copy of the lookup buffer and decode their column values on first access
+   * instead of decoding all columns when the entries are read.
+   *
+   * @return {@code true} to decode column values lazily, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isLazyCollectionEntryDecoding() {
+    return DominoUtils.checkBooleanProperty("jnx.lazycollectionentrydecoding", "JNX_LAZYCOLLECTIONENTRYDECODING"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Sets whether collection entries read with summary values should decode their
+   * column values on first access.
+   *
+   * @param lazy {@code true} to decode column values lazily, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static void setLazyCollectionEntryDecoding(boolean lazy) {
+    setJavaProperty("jnx.lazycollectionentrydecoding", Boolean.toString(lazy));
+  }
+
+  /**
+   * Determines whether the caches for string conversions between Java and LMBCS
+   * should be disabled.<br>
+   * <br>
+   * This and the other {@code jnx.lmbcscache.*} settings are read once when the
+   * caches are created.
+   *
+   * @return {@code true} to disable the caches, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isLMBCSCacheDisabled() {
+    return DominoUtils.checkBooleanProperty("jnx.lmbcscache.disabled", "JNX_LMBCSCACHE_DISABLED"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the maximum size of each string conversion cache in bytes
+   *
+   * @return size in bytes, defaults to 1,000,000
+   * @since 1.44.0
+   */
+  public static int getLMBCSCacheSize() {
+    return DominoUtils.getIntProperty("jnx.lmbcscache.size", "JNX_LMBCSCACHE_SIZE", 1000000); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the number of independently locked segments of each shared string
+   * conversion cache. Each segment gets an equal part of the cache size.
+   *
+   * @return number of segments, defaults to the number of processors (max. 16)
+   * @since 1.44.0
+   */
+  public static int getLMBCSCacheStripes() {
+    final int defaultStripes = Math.min(16, Runtime.getRuntime().availableProcessors());
+    return Math.max(1, DominoUtils.getIntProperty("jnx.lmbcscache.stripes", "JNX_LMBCSCACHE_STRIPES", defaultStripes)); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Determines whether each thread should use its own string conversion caches
+   * instead of sharing them across threads. Per-thread caches avoid any
+   * synchronization, but each of them may grow to {@link #getLMBCSCacheSize()}.
+   *
+   * @return {@code true} for per-thread caches, {@code false} for shared caches
+   * @since 1.44.0
+   */
+  public static boolean isLMBCSCachePerThread() {
+    return DominoUtils.checkBooleanProperty("jnx.lmbcscache.perthread", "JNX_LMBCSCACHE_PERTHREAD"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Determines whether short strings converted from LMBCS should be interned,
+   * so that highly repetitive values like form names or categories share a
+   * single {@link String} instance.
+   *
+   * @return {@code true} to intern converted strings, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isLMBCSCacheIntern() {
+    return DominoUtils.checkBooleanProperty("jnx.lmbcscache.intern", "JNX_LMBCSCACHE_INTERN"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the number of pages of document summary data that DQL result
+   * processing reads ahead on a background thread. Read-ahead requires cross
+   * thread access to be enabled for the client, otherwise pages are read
+   * synchronously.
+   *
+   * @return number of pages to read ahead, defaults to 0 (disabled)
+   * @since 1.44.0
+   */
+  public static int getDocumentSummaryPrefetchPages() {
+    return Math.max(0, DominoUtils.getIntProperty("jnx.summaryprefetchpages", "JNX_SUMMARYPREFETCHPAGES", 0)); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Determines whether the cache for compiled formulas should be disabled, so
+   * that each formula evaluation and search compiles its formula again.<br>
+   * <br>
+   * This and the other {@code jnx.formulacache.*} settings are read once when the
+   * cache is created.
+   *
+   * @return {@code true} to disable the cache, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isFormulaCacheDisabled() {
+    return DominoUtils.checkBooleanProperty("jnx.formulacache.disabled", "JNX_FORMULACACHE_DISABLED"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the maximum size of the compiled formula cache in bytes, counting
+   * both the formula text and the compiled formula
+   *
+   * @return size in bytes, defaults to 4,000,000
+   * @since 1.44.0
+   */
+  public static int getFormulaCacheSize() {
+    return DominoUtils.getIntProperty("jnx.formulacache.size", "JNX_FORMULACACHE_SIZE", 4000000); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Determines whether the per-database cache of UNID/note id pairs should be
+   * disabled, so that each conversion between UNIDs and note ids reads the
+   * database again
+   *
+   * @return {@code true} to disable the cache, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isUnidCacheDisabled() {
+    return DominoUtils.checkBooleanProperty("jnx.unidcache.disabled", "JNX_UNIDCACHE_DISABLED"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the maximum number of UNID/note id pairs cached per database
+   *
+   * @return number of entries, defaults to 1,000,000
+   * @since 1.44.0
+   */
+  public static int getUnidCacheSize() {
+    return DominoUtils.getIntProperty("jnx.unidcache.size", "JNX_UNIDCACHE_SIZE", 1000000); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the maximum number of databases to cache UNID/note id pairs for.
+   * The caches of the least recently used databases are dropped first.
+   *
+   * @return number of databases, defaults to 100
+   * @since 1.44.0
+   */
+  public static int getUnidCacheDatabases() {
+    return DominoUtils.getIntProperty("jnx.unidcache.databases", "JNX_UNIDCACHE_DATABASES", 100); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the minimum number of milliseconds between two checks of a database
+   * for modified and deleted documents, which invalidate their cached UNID/note id
+   * pairs. Changes made by others are seen after this interval at the latest;
+   * 0 checks the database on every conversion.
+   *
+   * @return interval in milliseconds, defaults to 1000
+   * @since 1.44.0
+   */
+  public static int getUnidCacheRefreshInterval() {
+    return DominoUtils.getIntProperty("jnx.unidcache.refreshinterval", "JNX_UNIDCACHE_REFRESHINTERVAL", 1000); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Determines whether the cache of computed user names lists should be disabled,
+   * so that group membership is expanded again each time a database is opened
+   *
+   * @return {@code true} to disable the cache, {@code false} otherwise
+   * @since 1.44.0
+   */
+  public static boolean isNamesListCacheDisabled() {
+    return DominoUtils.checkBooleanProperty("jnx.nameslistcache.disabled", "JNX_NAMESLISTCACHE_DISABLED"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the maximum number of server/user combinations whose names lists
+   * are cached
+   *
+   * @return number of entries, defaults to 10,000
+   * @since 1.44.0
+   */
+  public static int getNamesListCacheSize() {
+    return DominoUtils.getIntProperty("jnx.nameslistcache.size", "JNX_NAMESLISTCACHE_SIZE", 10000); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Returns the number of milliseconds a cached names list is used before the
+   * group membership of the user is expanded again, so that changes to the
+   * directory become visible
+   *
+   * @return time to live in milliseconds, defaults to 300,000 (5 minutes)
+   * @since 1.44.0
+   */
+  public static int getNamesListCacheTTL() {
+    return DominoUtils.getIntProperty("jnx.nameslistcache.ttl", "JNX_NAMESLISTCACHE_TTL", 300000); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  /**
+   * Reads an integer Java property or, if not set, environment variable
+   *
+   * @param propertyName the Java property name to check
+   * @param envVarName   the environment variable to check
+   * @param defaultValue value to return if neither is set or the value is not a number
+   * @return property value
+   * @since 1.44.0
+   */
+  public static int getIntProperty(final String propertyName, final String envVarName, final int defaultValue) {
+    String val = DominoUtils.getJavaProperty(propertyName, null);
+    if (StringUtil.isEmpty(val)) {
+      val = DominoUtils.getenv(envVarName);
+    }
+    if (StringUtil.isEmpty(val)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(val.trim());
+    } catch (final NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
   /**
    * Determines whether calls to {@code NotesTerm} should be skipped even when
    * otherwise valid.
@@ -0,0 +1,172 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.commons.util;
+
+/**
+ * Pure-Java encoder and decoder for the subset of LMBCS that can be converted
+ * without calling into the C API.<br>
+ * <br>
+ * Supported are:
+ * <ul>
+ * <li>group 0: printable ASCII plus tab, line feed and carriage return</li>
+ * <li>group 1 (the default optimization group, code page 850): all characters
+ * that map to the Latin-1 range U+00A0-U+00FF, with or without an explicit
+ * 0x01 group prefix</li>
+ * <li>the Unicode group 0x14 followed by a big-endian UTF-16 code unit
+ * (decoding only)</li>
+ * </ul>
+ * Both directions return {@code null} when they encounter anything else, e.g.
+ * the Greek, Cyrillic or CJK groups or the box-drawing characters of code page
+ * 850. Callers are expected to fall back to {@code OSTranslate} in that case, so
+ * that the result is always byte-for-byte identical to the native conversion.
+ *
+ * @since 1.44.0
+ */
+public class LMBCSCodec {
+  /** Explicit group prefix for LMBCS group 1 (code page 850) */
+  public static final byte GROUP_1 = 0x01;
+  /** Group prefix for a big-endian UTF-16 code unit */
+  public static final byte GROUP_UNICODE = 0x14;
+
+  private static final char HT = 0x09;
+  private static final char LF = 0x0A;
+  private static final char CR = 0x0D;
+
+  /**
+   * Code page 850 upper half, restricted to characters in the Latin-1 range;
+   * 0 marks bytes we leave to the native translator
+   */
+  private static final char[] GROUP1_TO_UNICODE = {
+    0x00C7, 0x00FC, 0x00E9, 0x00E2, 0x00E4, 0x00E0, 0x00E5, 0x00E7,
+    0x00EA, 0x00EB, 0x00E8, 0x00EF, 0x00EE, 0x00EC, 0x00C4, 0x00C5,
+    0x00C9, 0x00E6, 0x00C6, 0x00F4, 0x00F6, 0x00F2, 0x00FB, 0x00F9,
+    0x00FF, 0x00D6, 0x00DC, 0x00F8, 0x00A3, 0x00D8, 0x00D7, 0x0000,
+    0x00E1, 0x00ED, 0x00F3, 0x00FA, 0x00F1, 0x00D1, 0x00AA, 0x00BA,
+    0x00BF, 0x00AE, 0x00AC, 0x00BD, 0x00BC, 0x00A1, 0x00AB, 0x00BB,
+    0x0000, 0x0000, 0x0000, 0x0000, 0x0000, 0x00C1, 0x00C2, 0x00C0,
+    0x00A9, 0x0000, 0x0000, 0x0000, 0x0000, 0x00A2, 0x00A5, 0x0000,
+    0x0000, 0x0000, 0x0000, 0x0000, 0x0000, 0x0000, 0x00E3, 0x00C3,
+    0x0000, 0x0000, 0x0000, 0x0000, 0x0000, 0x0000, 0x0000, 0x00A4,
+    0x00F0, 0x00D0, 0x00CA, 0x00CB, 0x00C8, 0x0000, 0x00CD, 0x00CE,
+    0x00CF, 0x0000, 0x0000, 0x0000, 0x0000, 0x00A6, 0x00CC, 0x0000,
+    0x00D3, 0x00DF, 0x00D4, 0x00D2, 0x00F5, 0x00D5, 0x00B5, 0x00FE,
+    0x00DE, 0x00DA, 0x00DB, 0x00D9, 0x00FD, 0x00DD, 0x00AF, 0x00B4,
+    0x00AD, 0x00B1, 0x0000, 0x00BE, 0x00B6, 0x00A7, 0x00F7, 0x00B8,
+    0x00B0, 0x00A8, 0x00B7, 0x00B9, 0x00B3, 0x00B2, 0x0000, 0x00A0,
+  };
+
+  /** Inverse of {@link #GROUP1_TO_UNICODE} for U+00A0-U+00FF */
+  private static final byte[] LATIN1_TO_GROUP1 = new byte[0x60];
+
+  static {
+    for (int i = 0; i < GROUP1_TO_UNICODE.length; i++) {
+      char c = GROUP1_TO_UNICODE[i];
+      if (c != 0) {
+        LATIN1_TO_GROUP1[c - 0xA0] = (byte) (0x80 + i);
+      }
+    }
+  }
+
+  private LMBCSCodec() {
+  }
+
+  /**
+   * Decodes a range of LMBCS data that does not contain \0 bytes.
+   *
+   * @param data   the LMBCS data
+   * @param offset offset of the first byte to decode
+   * @param len    number of bytes to decode
+   * @return the decoded string or {@code null} if the data contains character
+   *         groups not supported by this class
+   */
+  public static String decode(byte[] data, int offset, int len) {
+    if (len == 0) {
+      return ""; //$NON-NLS-1$
+    }
+
+    // every supported sequence produces at most one char per byte
+    char[] out = new char[len];
+    int outPos = 0;
+    int end = offset + len;
+    int i = offset;
+    while (i < end) {
+      int b = data[i] & 0xff;
+      if (b >= 0x80) {
+        char c = GROUP1_TO_UNICODE[b - 0x80];
+        if (c == 0) {
+          return null;
+        }
+        out[outPos++] = c;
+        i++;
+      } else if (b >= 0x20 || b == HT || b == LF || b == CR) {
+        out[outPos++] = (char) b;
+        i++;
+      } else if (b == GROUP_1) {
+        if (i + 1 >= end) {
+          return null;
+        }
+        int b2 = data[i + 1] & 0xff;
+        char c = b2 >= 0x80 ? GROUP1_TO_UNICODE[b2 - 0x80] : 0;
+        if (c == 0) {
+          return null;
+        }
+        out[outPos++] = c;
+        i += 2;
+      } else if (b == GROUP_UNICODE) {
+        if (i + 2 >= end) {
+          return null;
+        }
+        out[outPos++] = (char) (((data[i + 1] & 0xff) << 8) | (data[i + 2] & 0xff));
+        i += 3;
+      } else {
+        return null;
+      }
+    }
+    return new String(out, 0, outPos);
+  }
+
+  /**
+   * Encodes a string to LMBCS. Line breaks are written as-is, so callers that
+   * need \0 delimiters must split the string first.
+   *
+   * @param str the string to encode
+   * @return the LMBCS bytes (without null terminator) or {@code null} if the
+   *         string contains characters that need the native translator
+   */
+  public static byte[] encode(CharSequence str) {
+    int len = str.length();
+    byte[] out = new byte[len];
+    for (int i = 0; i < len; i++) {
+      char c = str.charAt(i);
+      if (c < 0x80) {
+        if (c < 0x20 && c != HT && c != LF && c != CR) {
+          return null;
+        }
+        out[i] = (byte) c;
+      } else if (c >= 0xA0 && c <= 0xFF) {
+        byte b = LATIN1_TO_GROUP1[c - 0xA0];
+        if (b == 0) {
+          return null;
+        }
+        out[i] = b;
+      } else {
+        return null;
+      }
+    }
+    return out;
+  }
+}
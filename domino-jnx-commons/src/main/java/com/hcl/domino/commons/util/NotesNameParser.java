@@ -0,0 +1,247 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.commons.util;
+
+import com.hcl.domino.misc.NotesConstants;
+
+/**
+ * Pure Java conversion of Notes distinguished names between canonical
+ * ({@code CN=John Doe/OU=Sales/O=Acme/C=US}) and abbreviated
+ * ({@code John Doe/Sales/Acme/US}) format.<br>
+ * <br>
+ * The parser only handles the unambiguous hierarchical forms made of a common name,
+ * up to four organizational units, an organization and an optional upper-case
+ * two-letter country code. For all other input, e.g. wildcards, domain suffixes,
+ * other labels or surrounding whitespace, {@link #toCanonical(String)} returns
+ * {@code null} so that the caller can fall back to {@code DNCanonicalize}.
+ *
+ * @since 1.44.0
+ */
+public class NotesNameParser {
+  /** maximum number of components: CN, four OUs, O and C */
+  private static final int MAX_COMPONENTS = 7;
+  private static final int MAX_ORGUNITS = 4;
+
+  private NotesNameParser() {
+  }
+
+  /**
+   * Converts a name in abbreviated or canonical format to canonical format,
+   * producing the same result as {@code DNCanonicalize} without a template name
+   *
+   * @param name name to convert
+   * @return canonical name, the input string itself if it is already canonical or
+   *         a common name, or {@code null} if the name cannot be converted safely
+   *         without the native call
+   */
+  public static String toCanonical(final String name) {
+    if (name == null) {
+      return null;
+    }
+    final int len = name.length();
+    if (len == 0) {
+      return name;
+    }
+
+    // positions of the '/' separators, -1 and len as sentinels
+    final int[] separators = new int[MAX_COMPONENTS + 1];
+    separators[0] = -1;
+    int components = 1;
+    boolean hasLabels = false;
+    for (int i = 0; i < len; i++) {
+      final char c = name.charAt(i);
+      if (c == '/') {
+        if (components == MAX_COMPONENTS) {
+          return null;
+        }
+        separators[components++] = i;
+      } else if (c == '=') {
+        hasLabels = true;
+      } else if (!NotesNameParser.isPlainNameChar(c)) {
+        return null;
+      }
+    }
+    separators[components] = len;
+
+    for (int i = 0; i < components; i++) {
+      final int start = separators[i] + 1;
+      final int end = separators[i + 1];
+      if (start == end || Character.isWhitespace(name.charAt(start)) || Character.isWhitespace(name.charAt(end - 1))) {
+        return null;
+      }
+    }
+
+    if (hasLabels) {
+      return NotesNameParser.isCanonical(name, separators, components) && NotesNameParser.fitsUserName(name) ? name : null;
+    }
+    if (components == 1) {
+      return NotesNameParser.fitsUserName(name) ? name : null;
+    }
+    return NotesNameParser.abbreviatedToCanonical(name, separators, components);
+  }
+
+  /**
+   * Converts a name in canonical format to abbreviated format by removing the
+   * labels of all components
+   *
+   * @param name name to convert
+   * @return abbreviated name, the input string itself if it does not contain labels
+   */
+  public static String toAbbreviated(final String name) {
+    if (name == null || name.indexOf('=') == -1 && !name.startsWith("/")) { //$NON-NLS-1$
+      return name;
+    }
+
+    final int len = name.length();
+    final StringBuilder sb = new StringBuilder(len);
+    int start = 0;
+    while (start <= len) {
+      int end = name.indexOf('/', start);
+      if (end == -1) {
+        end = len;
+      }
+      if (sb.length() > 0) {
+        sb.append('/');
+      }
+      final int labelEnd = name.indexOf('=', start);
+      sb.append(name, labelEnd != -1 && labelEnd < end ? labelEnd + 1 : start, end);
+      start = end + 1;
+    }
+    return sb.toString();
+  }
+
+  private static boolean isPlainNameChar(final char c) {
+    switch (c) {
+      case '*':
+      case '@':
+      case '[':
+      case ']':
+      case ',':
+      case '\\':
+      case '"':
+      case 0:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  private static boolean isCountryCode(final String name, final int start, final int end) {
+    if (end - start != 2) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      final char c = name.charAt(i);
+      if (c < 'A' || c > 'Z') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks for the strict canonical form CN=x/OU=x.../O=x[/C=xx] with upper-case labels,
+   * the only labeled form that {@code DNCanonicalize} returns unchanged
+   */
+  private static boolean isCanonical(final String name, final int[] separators, final int components) {
+    int orgUnits = 0;
+    boolean hasOrg = false;
+    boolean hasCountry = false;
+
+    for (int i = 0; i < components; i++) {
+      final int start = separators[i] + 1;
+      final int end = separators[i + 1];
+      final int valueStart;
+
+      if (i == 0) {
+        if (!name.startsWith("CN=", start)) { //$NON-NLS-1$
+          return false;
+        }
+        valueStart = start + 3;
+      } else if (name.startsWith("OU=", start)) { //$NON-NLS-1$
+        if (hasOrg || ++orgUnits > NotesNameParser.MAX_ORGUNITS) {
+          return false;
+        }
+        valueStart = start + 3;
+      } else if (name.startsWith("O=", start)) { //$NON-NLS-1$
+        if (hasOrg) {
+          return false;
+        }
+        hasOrg = true;
+        valueStart = start + 2;
+      } else if (name.startsWith("C=", start)) { //$NON-NLS-1$
+        if (!hasOrg || hasCountry || !NotesNameParser.isCountryCode(name, start + 2, end)) {
+          return false;
+        }
+        hasCountry = true;
+        valueStart = start + 2;
+      } else {
+        return false;
+      }
+
+      final int nextLabelEnd = name.indexOf('=', valueStart);
+      if (valueStart == end || nextLabelEnd != -1 && nextLabelEnd < end
+          || Character.isWhitespace(name.charAt(valueStart))) {
+        return false;
+      }
+    }
+    return hasOrg;
+  }
+
+  private static String abbreviatedToCanonical(final String name, final int[] separators, final int components) {
+    final int lastStart = separators[components - 1] + 1;
+    final boolean hasCountry = NotesNameParser.isCountryCode(name, lastStart, name.length());
+    if (name.length() - lastStart == 2 && (!hasCountry || components == 2)) {
+      // two-character organizations like "Acme/us" or "John/US" are ambiguous
+      return null;
+    }
+    final int orgIdx = hasCountry ? components - 2 : components - 1;
+    if (orgIdx - 1 > NotesNameParser.MAX_ORGUNITS) {
+      return null;
+    }
+
+    final StringBuilder sb = new StringBuilder(name.length() + 5 + 3 * components);
+    for (int i = 0; i < components; i++) {
+      final int start = separators[i] + 1;
+      final int end = separators[i + 1];
+      if (i == 0) {
+        sb.append("CN="); //$NON-NLS-1$
+      } else if (i < orgIdx) {
+        sb.append("/OU="); //$NON-NLS-1$
+      } else if (i == orgIdx) {
+        sb.append("/O="); //$NON-NLS-1$
+      } else {
+        sb.append("/C="); //$NON-NLS-1$
+      }
+      sb.append(name, start, end);
+    }
+
+    return NotesNameParser.fitsUserName(sb) ? sb.toString() : null;
+  }
+
+  /**
+   * Checks whether the LMBCS form of a name would fit into a buffer of
+   * {@link NotesConstants#MAXUSERNAME} bytes, which truncates the result of the native call
+   */
+  private static boolean fitsUserName(final CharSequence name) {
+    int bytes = 0;
+    for (int i = 0; i < name.length(); i++) {
+      bytes += name.charAt(i) < 0x80 ? 1 : 3;
+    }
+    return bytes < NotesConstants.MAXUSERNAME;
+  }
+}
@@ -18,6 +18,13 @@ package com.hcl.domino.commons.test.richtext.records;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.Test;
 
 import com.hcl.domino.commons.structures.MemoryStructureUtil;
@@ -32,4 +39,34 @@ public class TestMemoryStructureProxy {
     assertEquals(255, color.getRed());
   }
 
+  @Test
+  public void testColorValueFlagsAndDefaultMethod() {
+    ColorValue color = MemoryStructureUtil.newStructure(ColorValue.class, 0);
+    color.setRed((short)0x12).setGreen((short)0x34).setBlue((short)0xFE);
+    color.setFlags(EnumSet.of(ColorValue.Flag.ISRGB));
+    assertEquals(EnumSet.of(ColorValue.Flag.ISRGB), color.getFlags());
+    assertEquals("1234FE", color.toHexString()); //$NON-NLS-1$
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    ExecutorService exec = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        final short red = (short)i;
+        results.add(exec.submit(() -> {
+          ColorValue color = MemoryStructureUtil.newStructure(ColorValue.class, 0);
+          color.setRed(red);
+          return (int)color.getRed();
+        }));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        assertEquals(i, results.get(i).get().intValue());
+      }
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
 }
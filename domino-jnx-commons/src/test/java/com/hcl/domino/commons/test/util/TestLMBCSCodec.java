@@ -0,0 +1,75 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.commons.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.hcl.domino.commons.util.LMBCSCodec;
+
+@SuppressWarnings("nls")
+public class TestLMBCSCodec {
+
+  @ParameterizedTest
+  @ValueSource(strings = { "", "Hello", "Tab\tand\r\nnewlines", "Grüße aus Köln", "Ça coûte 5 £ ± ¼", " ÿ" })
+  public void testRoundTrip(String value) {
+    byte[] encoded = LMBCSCodec.encode(value);
+    assertEquals(value.length(), encoded.length);
+    assertEquals(value, LMBCSCodec.decode(encoded, 0, encoded.length));
+  }
+
+  @Test
+  public void testGroup1() {
+    // code page 850: 0x81 = ü, 0x82 = é
+    assertArrayEquals(new byte[] { 'a', (byte) 0x81, (byte) 0x82 }, LMBCSCodec.encode("aüé"));
+    // explicit group 1 prefix
+    byte[] data = { 'a', LMBCSCodec.GROUP_1, (byte) 0x81, 'b' };
+    assertEquals("aüb", LMBCSCodec.decode(data, 0, data.length));
+  }
+
+  @Test
+  public void testUnicodeGroup() {
+    byte[] data = { 'x', LMBCSCodec.GROUP_UNICODE, 0x20, (byte) 0xAC, 'y' };
+    assertEquals("x€y", LMBCSCodec.decode(data, 0, data.length));
+  }
+
+  @Test
+  public void testOffset() {
+    byte[] data = { 'a', 'b', 'c', 'd' };
+    assertEquals("bc", LMBCSCodec.decode(data, 1, 2));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "€", "EkranAlıntısı1.JPG", "Привет", "日本", "\u0001", "░" })
+  public void testUnsupportedEncode(String value) {
+    assertNull(LMBCSCodec.encode(value));
+  }
+
+  @Test
+  public void testUnsupportedDecode() {
+    // Greek group, truncated group 1 / Unicode sequences and code page 850 box drawing
+    assertNull(LMBCSCodec.decode(new byte[] { 0x02, (byte) 0x80 }, 0, 2));
+    assertNull(LMBCSCodec.decode(new byte[] { LMBCSCodec.GROUP_1 }, 0, 1));
+    assertNull(LMBCSCodec.decode(new byte[] { LMBCSCodec.GROUP_UNICODE, 0x20 }, 0, 2));
+    assertNull(LMBCSCodec.decode(new byte[] { (byte) 0xB0 }, 0, 1));
+  }
+}
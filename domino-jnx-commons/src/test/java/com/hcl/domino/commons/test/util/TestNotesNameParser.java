@@ -0,0 +1,102 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.commons.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.hcl.domino.commons.util.NotesNameParser;
+
+@SuppressWarnings("nls")
+public class TestNotesNameParser {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "John Doe/Acme                           | CN=John Doe/O=Acme",
+      "John Doe/Acme/US                        | CN=John Doe/O=Acme/C=US",
+      "John Doe/East/Acme                      | CN=John Doe/OU=East/O=Acme",
+      "John Doe/East/Acme/US                   | CN=John Doe/OU=East/O=Acme/C=US",
+      "John Doe/Guitars/Music/Sales/East/Acme  | CN=John Doe/OU=Guitars/OU=Music/OU=Sales/OU=East/O=Acme",
+      "John Doe/Guitars/Music/Sales/East/Acme/US | CN=John Doe/OU=Guitars/OU=Music/OU=Sales/OU=East/O=Acme/C=US",
+      "Jürgen Müller/Vertrieb/Acme/DE          | CN=Jürgen Müller/OU=Vertrieb/O=Acme/C=DE",
+  })
+  public void testAbbreviatedToCanonical(final String abbreviated, final String canonical) {
+    assertEquals(canonical, NotesNameParser.toCanonical(abbreviated));
+    assertEquals(abbreviated, NotesNameParser.toAbbreviated(canonical));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "John Doe",
+      "CN=John Doe/O=Acme",
+      "CN=John Doe/OU=Guitars/OU=Music/OU=Sales/OU=East/O=Acme/C=US"
+  })
+  public void testUnchanged(final String name) {
+    assertSame(name, NotesNameParser.toCanonical(name));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      // ambiguous or beyond the hierarchical form
+      "John Doe/US",
+      "John Doe/Acme/us",
+      "John Doe/G/M/S/E/F/Acme/US",
+      // other labels or label order
+      "cn=John Doe/o=Acme",
+      "CN=John Doe",
+      "O=Acme",
+      "CN=John Doe/OU=East/Acme",
+      "CN=John Doe/O=Acme/OU=East",
+      "CN=John Doe/O=Acme/C=USA",
+      // wildcards, domains, roles and whitespace
+      "*/Acme",
+      "John Doe/Acme@AcmeDomain",
+      "[Admin]",
+      "John Doe / Acme",
+      " John Doe/Acme",
+      "John Doe//Acme"
+  })
+  public void testFallback(final String name) {
+    assertNull(NotesNameParser.toCanonical(name));
+  }
+
+  @Test
+  public void testAbbreviated() {
+    assertNull(NotesNameParser.toAbbreviated(null));
+    assertEquals("", NotesNameParser.toAbbreviated(""));
+    assertEquals("*/Acme", NotesNameParser.toAbbreviated("*/O=Acme"));
+    assertEquals("John Doe/East/Acme", NotesNameParser.toAbbreviated("CN=John Doe/OU=East/Acme"));
+
+    final String abbreviated = "John Doe/Acme";
+    assertSame(abbreviated, NotesNameParser.toAbbreviated(abbreviated));
+  }
+
+  @Test
+  public void testMaxUserName() {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 300; i++) {
+      sb.append('x');
+    }
+    assertNull(NotesNameParser.toCanonical(sb + "/Acme"));
+  }
+}
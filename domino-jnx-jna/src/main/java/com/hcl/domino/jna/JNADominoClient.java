@@ -113,6 +113,7 @@ import com.hcl.domino.jna.internal.Mem;
 import com.hcl.domino.jna.internal.NotesNamingUtils;
 import com.hcl.domino.jna.internal.NotesNamingUtils.Privileges;
 import com.hcl.domino.jna.internal.NotesStringUtils;
+import com.hcl.domino.jna.internal.UserNamesListCache;
 import com.hcl.domino.jna.internal.capi.INotesCAPI1201;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
 import com.hcl.domino.jna.internal.capi.NotesCAPI1201;
@@ -281,7 +282,7 @@ public class JNADominoClient implements IGCDominoClient<JNADominoClientAllocatio
       // special case where the full usernameslist is already provided
       namesList = NotesNamingUtils.writeNewNamesList(this, m_builderNamesList);
     } else {
-      namesList = NotesNamingUtils.buildNamesList(this, server, getEffectiveUserName());
+      namesList = UserNamesListCache.getNamesList(this, server, getEffectiveUserName());
     }
 
     // setting authenticated flag for the user is required when running on the server
@@ -56,6 +56,8 @@ public class JNADominoProcess implements DominoProcess {
   private static boolean processTerminated;
   private static Map<Thread, ThreadInfo> threadEnabledForDominoRefCount =
       Collections.synchronizedMap(new HashMap<>());
+  /** set for threads where {@link #initializeThread(boolean, boolean)} called NotesInitThread */
+  private static final ThreadLocal<Boolean> threadNativelyInitialized = new ThreadLocal<>();
   private static final Object pacemakerThreadlock = new Object();
 
   private static final Method notesThreadInit;
@@ -342,6 +344,7 @@ public class JNADominoProcess implements DominoProcess {
           NotesCAPI.get(true).NotesInitThread(); // true => do not check if thread is initialized
                                                  // for Domino, because we do this
         }
+        threadNativelyInitialized.set(Boolean.TRUE);
       }
       threadInfo =
           new ThreadInfo(Thread.currentThread().getStackTrace(), System.currentTimeMillis());
@@ -389,12 +392,24 @@ public class JNADominoProcess implements DominoProcess {
           NotesCAPI.get().NotesTermThread();
         }
       }
+      threadNativelyInitialized.remove();
       threadEnabledForDominoRefCount.remove(thread);
     } else {
       threadInfo.setRefCount(threadInfo.getRefCount() - 1);
     }
   }
 
+  /**
+   * Checks whether {@link #initializeThread(boolean, boolean)} has called NotesInitThread
+   * for the current thread and the thread has not been terminated yet
+   * 
+   * @return true if the thread is initialized natively
+   * @since 1.44.0
+   */
+  public static boolean isThreadNativelyInitialized() {
+    return threadNativelyInitialized.get() != null;
+  }
+
   /**
    * Makes sure that the process and current thread have been initialized for Domino C API access
    * 
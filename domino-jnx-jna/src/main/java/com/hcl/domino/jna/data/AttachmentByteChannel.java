@@ -0,0 +1,218 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Read-only channel to the data of a {@link JNAAttachment}.<br>
+ * <br>
+ * Uncompressed attachments of unencrypted documents are read directly from the database
+ * object with NSFDbReadObject, so that any position can be read without extracting the
+ * file first. Small reads are served from a reusable direct read-ahead buffer, large
+ * reads are copied straight into the caller's buffer.<br>
+ * <br>
+ * All other attachments are read sequentially from a decompressing stream. Moving the
+ * position forward skips data, moving it backwards restarts the stream.
+ * 
+ * @since 1.44.0
+ */
+public class AttachmentByteChannel implements SeekableByteChannel {
+	private final JNAAttachment m_attachment;
+	private final long m_size;
+	private final boolean m_randomAccess;
+	private long m_position;
+	private boolean m_open = true;
+
+	/** read-ahead buffer for random access, positioned at the next unread byte */
+	private ByteBuffer m_readAhead;
+	/** attachment offset of the byte at index 0 of {@link #m_readAhead} */
+	private long m_readAheadOffset;
+	private final int m_readAheadSize;
+
+	/** stream for sequential access and its current offset */
+	private InputStream m_stream;
+	private long m_streamPosition;
+
+	/**
+	 * Creates a new channel
+	 * 
+	 * @param attachment attachment to read
+	 * @param readAheadSize number of bytes to read per NSFDbReadObject call for random access
+	 */
+	AttachmentByteChannel(JNAAttachment attachment, int readAheadSize) {
+		m_attachment = attachment;
+		m_size = attachment.getFileSize();
+		m_randomAccess = attachment.isRandomAccessSupported();
+		m_readAheadSize = readAheadSize;
+	}
+
+	/**
+	 * Checks whether the channel reads directly from the database object, which
+	 * makes changing the position cheap
+	 * 
+	 * @return true for random access
+	 */
+	public boolean isRandomAccess() {
+		return m_randomAccess;
+	}
+
+	@Override
+	public synchronized int read(ByteBuffer dst) throws IOException {
+		checkOpen();
+		if (m_position >= m_size) {
+			return -1;
+		}
+		if (!dst.hasRemaining()) {
+			return 0;
+		}
+
+		int len = (int) Math.min(dst.remaining(), m_size - m_position);
+		int bytesRead = m_randomAccess ? readObject(dst, len) : readStream(dst, len);
+		if (bytesRead > 0) {
+			m_position += bytesRead;
+		}
+		return bytesRead;
+	}
+
+	private int readObject(ByteBuffer dst, int len) {
+		if (m_readAhead!=null && m_position >= m_readAheadOffset && m_position < m_readAheadOffset + m_readAhead.limit()) {
+			m_readAhead.position((int) (m_position - m_readAheadOffset));
+			int bytesToCopy = Math.min(len, m_readAhead.remaining());
+			ByteBuffer slice = m_readAhead.slice();
+			slice.limit(bytesToCopy);
+			dst.put(slice);
+			return bytesToCopy;
+		}
+
+		if (len >= m_readAheadSize) {
+			//large read, no need to buffer
+			m_attachment.readObject(m_position, m_readAheadSize, dst);
+			return m_readAheadSize;
+		}
+
+		if (m_readAhead==null) {
+			m_readAhead = ByteBuffer.allocateDirect(m_readAheadSize);
+		}
+		int bytesToBuffer = (int) Math.min(m_readAheadSize, m_size - m_position);
+		m_readAhead.clear();
+		m_attachment.readObject(m_position, bytesToBuffer, m_readAhead);
+		m_readAhead.flip();
+		m_readAheadOffset = m_position;
+		return readObject(dst, len);
+	}
+
+	private int readStream(ByteBuffer dst, int len) throws IOException {
+		if (m_stream==null || m_streamPosition > m_position) {
+			closeStream();
+			m_stream = m_attachment.openExtractStream();
+			m_streamPosition = 0;
+		}
+		while (m_streamPosition < m_position) {
+			long skipped = m_stream.skip(m_position - m_streamPosition);
+			if (skipped <= 0) {
+				if (m_stream.read() == -1) {
+					return -1;
+				}
+				skipped = 1;
+			}
+			m_streamPosition += skipped;
+		}
+
+		int bytesRead;
+		if (dst.hasArray()) {
+			bytesRead = m_stream.read(dst.array(), dst.arrayOffset() + dst.position(), len);
+			if (bytesRead > 0) {
+				dst.position(dst.position() + bytesRead);
+			}
+		}
+		else {
+			byte[] buf = new byte[Math.min(len, 8192)];
+			bytesRead = m_stream.read(buf, 0, buf.length);
+			if (bytesRead > 0) {
+				dst.put(buf, 0, bytesRead);
+			}
+		}
+		if (bytesRead > 0) {
+			m_streamPosition += bytesRead;
+		}
+		return bytesRead;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public synchronized long position() throws IOException {
+		checkOpen();
+		return m_position;
+	}
+
+	@Override
+	public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+		checkOpen();
+		if (newPosition < 0) {
+			throw new IllegalArgumentException("Position cannot be negative");
+		}
+		m_position = newPosition;
+		return this;
+	}
+
+	@Override
+	public long size() throws IOException {
+		checkOpen();
+		return m_size;
+	}
+
+	@Override
+	public SeekableByteChannel truncate(long size) throws IOException {
+		throw new NonWritableChannelException();
+	}
+
+	@Override
+	public synchronized boolean isOpen() {
+		return m_open;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		m_open = false;
+		m_readAhead = null;
+		closeStream();
+	}
+
+	private void closeStream() throws IOException {
+		if (m_stream!=null) {
+			InputStream stream = m_stream;
+			m_stream = null;
+			stream.close();
+		}
+	}
+
+	private void checkOpen() throws ClosedChannelException {
+		if (!m_open) {
+			throw new ClosedChannelException();
+		}
+	}
+}
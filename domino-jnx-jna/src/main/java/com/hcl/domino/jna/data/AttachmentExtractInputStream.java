@@ -0,0 +1,154 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.hcl.domino.data.Attachment.IDataCallback.Action;
+import com.hcl.domino.jna.JNADominoClient;
+import com.hcl.domino.jna.internal.BackgroundPrefetcher;
+
+/**
+ * {@link InputStream} that extracts and decompresses an attachment on a background
+ * thread with {@link JNAAttachment#readData(com.hcl.domino.data.Attachment.IDataCallback)}
+ * and hands the data to the reading thread through a bounded queue, so that the first
+ * bytes are available before the whole file has been extracted and no temporary file is
+ * needed.<br>
+ * <br>
+ * This requires cross thread access to be enabled for the {@link JNADominoClient}.
+ * The background thread uses the note handle of the document until the attachment
+ * has been read completely, so callers must close the stream before the document;
+ * {@link #close()} waits for the background thread to finish.
+ * 
+ * @since 1.44.0
+ */
+class AttachmentExtractInputStream extends InputStream {
+	private final BackgroundPrefetcher<byte[]> m_prefetcher;
+	private boolean m_closed;
+
+	private byte[] m_chunk;
+	private int m_chunkIdx;
+	private boolean m_eof;
+
+	/**
+	 * Starts extracting the attachment
+	 * 
+	 * @param attachment attachment to read
+	 * @param client client to create the background thread
+	 * @param queueSize number of data chunks to read ahead
+	 */
+	AttachmentExtractInputStream(JNAAttachment attachment, JNADominoClient client, int queueSize) {
+		m_prefetcher = new BackgroundPrefetcher<>(client, "JNX attachment extraction " + attachment.getFileName(), //$NON-NLS-1$
+				queueSize, (prefetcher) -> extract(attachment, prefetcher), null, "Error extracting attachment");
+	}
+
+	/**
+	 * Runs on the background thread and queues the extracted data
+	 * 
+	 * @param attachment attachment to read
+	 * @param prefetcher prefetcher to hand the data to
+	 */
+	private static void extract(JNAAttachment attachment, BackgroundPrefetcher<byte[]> prefetcher) {
+		attachment.readData((data) -> {
+			try {
+				return prefetcher.offer(data) ? Action.Continue : Action.Stop;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Action.Stop;
+			}
+		});
+	}
+
+	/**
+	 * Makes sure that {@link #m_chunk} has unread data
+	 * 
+	 * @return false if all data has been read
+	 */
+	private boolean fill() throws IOException {
+		while (m_chunk==null || m_chunkIdx >= m_chunk.length) {
+			if (m_eof) {
+				return false;
+			}
+			if (m_closed) {
+				throw new IOException("Stream is closed");
+			}
+
+			try {
+				m_chunk = m_prefetcher.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while waiting for attachment data", e);
+			} catch (RuntimeException | Error e) {
+				m_eof = true;
+				throw e;
+			}
+			m_chunkIdx = 0;
+			if (m_chunk==null) {
+				m_eof = true;
+				return false;
+			}
+		}
+		return true;
+	}
+	@Override
+	public int read() throws IOException {
+		if (!fill()) {
+			return -1;
+		}
+		return m_chunk[m_chunkIdx++] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len==0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+		int bytesToCopy = Math.min(len, m_chunk.length - m_chunkIdx);
+		System.arraycopy(m_chunk, m_chunkIdx, b, off, bytesToCopy);
+		m_chunkIdx += bytesToCopy;
+		return bytesToCopy;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (n <= 0 || !fill()) {
+			return 0;
+		}
+		int bytesToSkip = (int) Math.min(n, m_chunk.length - m_chunkIdx);
+		m_chunkIdx += bytesToSkip;
+		return bytesToSkip;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return m_chunk==null ? 0 : m_chunk.length - m_chunkIdx;
+	}
+
+	/**
+	 * Stops the background thread, waits until it has finished and discards unread data
+	 */
+	@Override
+	public void close() throws IOException {
+		m_closed = true;
+		m_chunk = null;
+		m_prefetcher.close();
+	}
+}
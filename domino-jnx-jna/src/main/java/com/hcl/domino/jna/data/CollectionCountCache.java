@@ -0,0 +1,188 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.data;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.hcl.domino.data.Navigate;
+import com.hcl.domino.runtime.CacheStatistics;
+
+/**
+ * Cache for the number of entries computed by {@link JNACollectionSearchQuery#size()}, so
+ * that queries built for each page of a paging UI do not have to skip over the whole
+ * collection again.<br>
+ * <br>
+ * Counts are only valid for the index modified sequence number they have been computed for.
+ * As soon as the collection index changes, all cached counts are dropped.
+ *
+ * @since 1.44.0
+ */
+class CollectionCountCache {
+	/** max number of cached counts per collection */
+	private static final int MAX_ENTRIES = 100;
+	
+	private final String m_name;
+	private final Map<Key,Integer> m_counts;
+	private int m_indexModifiedSequenceNo;
+	private long m_hits;
+	private long m_misses;
+	private long m_evictions;
+	
+	CollectionCountCache(String name) {
+		m_name = name;
+		m_counts = new LinkedHashMap<Key,Integer>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key,Integer> eldest) {
+				if (size() > MAX_ENTRIES) {
+					m_evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+	
+	/**
+	 * Looks up a count
+	 * 
+	 * @param key query settings
+	 * @param indexModifiedSequenceNo current index modified sequence number of the collection
+	 * @return count or null if not cached
+	 */
+	synchronized Integer get(Key key, int indexModifiedSequenceNo) {
+		invalidateIfModified(indexModifiedSequenceNo);
+		
+		Integer count = m_counts.get(key);
+		if (count==null) {
+			m_misses++;
+		}
+		else {
+			m_hits++;
+		}
+		return count;
+	}
+	
+	/**
+	 * Stores a count
+	 * 
+	 * @param key query settings
+	 * @param indexModifiedSequenceNo index modified sequence number of the collection when the count was computed
+	 * @param count number of entries
+	 */
+	synchronized void put(Key key, int indexModifiedSequenceNo, int count) {
+		invalidateIfModified(indexModifiedSequenceNo);
+		m_counts.put(key, count);
+	}
+	
+	private void invalidateIfModified(int indexModifiedSequenceNo) {
+		if (m_indexModifiedSequenceNo != indexModifiedSequenceNo) {
+			m_evictions += m_counts.size();
+			m_counts.clear();
+			m_indexModifiedSequenceNo = indexModifiedSequenceNo;
+		}
+	}
+	
+	/**
+	 * Removes all counts, e.g. when the collation of the collection has been changed
+	 */
+	synchronized void clear() {
+		m_evictions += m_counts.size();
+		m_counts.clear();
+	}
+	
+	synchronized CacheStatistics getStatistics() {
+		return new CacheStatistics(m_name, m_hits, m_misses, m_evictions, m_counts.size(), MAX_ENTRIES);
+	}
+	
+	synchronized void resetStatistics() {
+		m_hits = 0;
+		m_misses = 0;
+		m_evictions = 0;
+	}
+	
+	/**
+	 * Settings of a query that influence the number of entries
+	 */
+	static class Key {
+		private final Navigate m_direction;
+		private final int[] m_selectedIds;
+		private final boolean m_selectedInverted;
+		private final int[] m_collapsedIds;
+		private final boolean m_collapsedInverted;
+		private final boolean m_startAtLastEntry;
+		private final int m_startAtEntryId;
+		private final List<Object> m_startAtCategoryLevels;
+		private final int m_hashCode;
+		
+		/**
+		 * Creates a new key
+		 * 
+		 * @param direction navigation direction used for the lookup
+		 * @param selectedList selected note ids or null if the direction does not use the selection
+		 * @param collapsedList collapsed note ids or null if the direction does not use expand states
+		 * @param startAtLastEntry true to start at the last entry
+		 * @param startAtEntryId note id of the start entry or 0
+		 * @param startAtCategoryLevels category to start at or null
+		 */
+		Key(Navigate direction, JNAIDTable selectedList, JNAIDTable collapsedList,
+				boolean startAtLastEntry, int startAtEntryId, List<Object> startAtCategoryLevels) {
+			m_direction = direction;
+			m_selectedIds = selectedList==null ? null : selectedList.toIntArray();
+			m_selectedInverted = selectedList!=null && selectedList.isInverted();
+			m_collapsedIds = collapsedList==null ? null : collapsedList.toIntArray();
+			m_collapsedInverted = collapsedList!=null && collapsedList.isInverted();
+			m_startAtLastEntry = startAtLastEntry;
+			m_startAtEntryId = startAtEntryId;
+			m_startAtCategoryLevels = startAtCategoryLevels;
+			
+			m_hashCode = Objects.hash(m_direction, Arrays.hashCode(m_selectedIds), m_selectedInverted,
+					Arrays.hashCode(m_collapsedIds), m_collapsedInverted, m_startAtLastEntry, m_startAtEntryId,
+					m_startAtCategoryLevels);
+		}
+		
+		@Override
+		public int hashCode() {
+			return m_hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return m_hashCode == other.m_hashCode
+					&& m_direction == other.m_direction
+					&& m_selectedInverted == other.m_selectedInverted
+					&& m_collapsedInverted == other.m_collapsedInverted
+					&& m_startAtLastEntry == other.m_startAtLastEntry
+					&& m_startAtEntryId == other.m_startAtEntryId
+					&& Arrays.equals(m_selectedIds, other.m_selectedIds)
+					&& Arrays.equals(m_collapsedIds, other.m_collapsedIds)
+					&& Objects.equals(m_startAtCategoryLevels, other.m_startAtCategoryLevels);
+		}
+	}
+}
@@ -21,6 +21,7 @@ import static java.text.MessageFormat.format;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -35,17 +36,21 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.hcl.domino.DominoException;
+import com.hcl.domino.commons.util.DominoUtils;
 import com.hcl.domino.data.CollectionEntry;
 import com.hcl.domino.data.CollectionSearchQuery.CollectionEntryProcessor;
 import com.hcl.domino.data.CollectionSearchQuery.SelectedEntries;
 import com.hcl.domino.data.Database;
 import com.hcl.domino.data.Database.Action;
+import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.exception.IncompatibleImplementationException;
 import com.hcl.domino.data.DbQueryResult;
 import com.hcl.domino.data.Document;
 import com.hcl.domino.data.DominoCollection;
 import com.hcl.domino.data.IDTable;
 import com.hcl.domino.data.Navigate;
+import com.hcl.domino.data.NoteIdList;
+import com.hcl.domino.data.SortSpec;
 import com.hcl.domino.jna.data.DocumentSummaryIterator.DocumentData;
 import com.hcl.domino.jna.internal.search.NotesSearch.JNASearchMatch;
 import com.hcl.domino.misc.Loop;
@@ -53,6 +58,11 @@ import com.hcl.domino.misc.Loop;
 public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> implements DbQueryResult<QUERYTYPE> {
 	private Map<String,String> m_computeValues;
 	private JNADominoCollection m_sortCollection;
+	private List<SortSpec> m_sortSpecs;
+	/** first note ids of the result in the order of {@link #m_sortSpecs} */
+	private int[] m_sortedIds;
+	/** number of note ids requested when {@link #m_sortedIds} was computed */
+	private int m_sortedIdsLimit;
 	private Integer m_total;
 	
 	public DbQueryResultUtil() {
@@ -69,6 +79,7 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 	@Override
 	public QUERYTYPE computeValues(Map<String, String> itemsAndFormulas) {
 		m_computeValues.putAll(itemsAndFormulas);
+		m_sortedIds = null;
 		return (QUERYTYPE) this;
 	}
 	
@@ -86,6 +97,7 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 		for (int i=0; i<itemsAndFormulas.length; i+=2) {
 			m_computeValues.put(itemsAndFormulas[i], itemsAndFormulas[i+1]);
 		}
+		m_sortedIds = null;
 		return (QUERYTYPE) this;
 	}
 	
@@ -96,8 +108,47 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 			throw new IncompatibleImplementationException(collection, JNADominoCollection.class);
 		}
 		m_sortCollection = (JNADominoCollection) collection;
+		m_sortSpecs = null;
+		m_sortedIds = null;
+		m_total = null;
 		return (QUERYTYPE) this;
 	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public QUERYTYPE sortBy(List<SortSpec> sortSpecs) {
+		m_sortSpecs = sortSpecs==null || sortSpecs.isEmpty() ? null : new ArrayList<>(sortSpecs);
+		m_sortCollection = null;
+		m_sortedIds = null;
+		m_total = null;
+		return (QUERYTYPE) this;
+	}
+	
+	/**
+	 * Returns a page of the note ids sorted via {@link #sortBy(List)}. The sort
+	 * result is kept for subsequent calls requesting the same or earlier pages.
+	 * 
+	 * @param skip paging offset
+	 * @param count paging count
+	 * @return note ids in sort order
+	 */
+	private NoteIdList collectSortedNoteIds(int skip, int count) {
+		IDTable ids = getNoteIds().get();
+		int start = Math.max(skip, 0);
+		int limit = (int) Math.min((long) start + Math.max(count, 0), ids.size());
+		
+		if (m_sortedIds==null || m_sortedIdsLimit < limit) {
+			SummaryValueSorter sorter = new SummaryValueSorter(m_sortSpecs, m_computeValues);
+			m_sortedIds = sorter.sort((JNADatabase) getParentDatabase(), ids, limit);
+			m_sortedIdsLimit = limit;
+		}
+		
+		int offset = Math.min(start, m_sortedIds.length);
+		int len = Math.min(Math.max(count, 0), m_sortedIds.length - offset);
+		NoteIdList result = new NoteIdList(len);
+		result.addAll(m_sortedIds, offset, len);
+		return result;
+	}
 
 	@Override
 	public Stream<Document> getDocuments() {
@@ -107,6 +158,9 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 			//produce note id iterator in collection order
 			idsIt = collectIds(0, Integer.MAX_VALUE).iterator();
 		}
+		else if (m_sortSpecs!=null) {
+			idsIt = collectSortedNoteIds(0, Integer.MAX_VALUE).iterator();
+		}
 		else {
 			idsIt = getNoteIds().get().iterator();
 		}
@@ -144,18 +198,20 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 
 				int pageSize = Math.min(count, 20000);
 
-				DocumentSummaryIterator summaryIterator = new DocumentSummaryIterator(parentDb,
+				try (DocumentSummaryIterator summaryIterator = new DocumentSummaryIterator(parentDb,
 						pageSize, idsInCollectionOrder.iterator(),
-						skip, count, m_computeValues);
-				
-				while (summaryIterator.hasNext()) {
-					DocumentData currDocData = summaryIterator.next();
-					
-					JNADocSummaryCollectionEntry entry = toCollectionEntry(parentDb, m_sortCollection, currDocData);
+						skip, count, m_computeValues, EnumSet.of(DocumentClass.DATA),
+						DominoUtils.getDocumentSummaryPrefetchPages())) {
 					
-					Action action = processor.entryRead(result, entry);
-					if (action == Action.Stop) {
-						break;
+					while (summaryIterator.hasNext()) {
+						DocumentData currDocData = summaryIterator.next();
+						
+						JNADocSummaryCollectionEntry entry = toCollectionEntry(parentDb, m_sortCollection, currDocData);
+						
+						Action action = processor.entryRead(result, entry);
+						if (action == Action.Stop) {
+							break;
+						}
 					}
 				}
 			}
@@ -171,22 +227,34 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 			T result = processor.start();
 			
 			if (count>0) {
-				Iterator<Integer> noteIdIt = ids.iterator();
+				Iterator<Integer> noteIdIt;
+				int idsToSkip;
+				if (m_sortSpecs!=null) {
+					//the requested page has already been cut out of the sorted note ids
+					noteIdIt = collectSortedNoteIds(skip, count).iterator();
+					idsToSkip = 0;
+				}
+				else {
+					noteIdIt = ids.iterator();
+					idsToSkip = skip;
+				}
 
 				int pageSize = Math.min(count, 20000);
 
-				DocumentSummaryIterator summaryIterator = new DocumentSummaryIterator(parentDb,
+				try (DocumentSummaryIterator summaryIterator = new DocumentSummaryIterator(parentDb,
 						pageSize, noteIdIt,
-						skip, count, m_computeValues);
-				
-				while (summaryIterator.hasNext()) {
-					DocumentData currDocData = summaryIterator.next();
-					
-					JNADocSummaryCollectionEntry entry = toCollectionEntry(parentDb, defaultCollection, currDocData);
+						idsToSkip, count, m_computeValues, EnumSet.of(DocumentClass.DATA),
+						DominoUtils.getDocumentSummaryPrefetchPages())) {
 					
-					Action action = processor.entryRead(result, entry);
-					if (action == Action.Stop) {
-						break;
+					while (summaryIterator.hasNext()) {
+						DocumentData currDocData = summaryIterator.next();
+						
+						JNADocSummaryCollectionEntry entry = toCollectionEntry(parentDb, defaultCollection, currDocData);
+						
+						Action action = processor.entryRead(result, entry);
+						if (action == Action.Stop) {
+							break;
+						}
 					}
 				}
 			}
@@ -232,6 +300,9 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 
 			return idsInCollectionOrder;
 		}
+		else if (m_sortSpecs!=null) {
+			return collectSortedNoteIds(skip, count).toSet();
+		}
 		else {
 			LinkedHashSet<Integer> result = new LinkedHashSet<>();
 			int skipped = 0;
@@ -280,6 +351,9 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 
 			idTable.addAll(idsInCollectionOrder);
 		}
+		else if (m_sortSpecs!=null) {
+			collectSortedNoteIds(skip, count).forEachId(idTable::add);
+		}
 		else {
 			int skipped = 0;
 			int processed = 0;
@@ -303,6 +377,40 @@ public abstract class DbQueryResultUtil<QUERYTYPE extends DbQueryResult<?>> impl
 		}
 	}
 
+	@Override
+	public NoteIdList collectNoteIds(int skip, int count) {
+		if (count==0) {
+			return new NoteIdList(0);
+		}
+		
+		IDTable ids = getNoteIds().get();
+
+		if (m_sortCollection!=null) {
+			//select note ids in view and find out which of them are in the requested page (skip, count)
+			return m_sortCollection
+					.query()
+					.select(
+							SelectedEntries
+							.deselectAll()
+							.select(ids)
+							)
+					.direction(Navigate.NEXT_SELECTED)
+					.collectNoteIds(skip, count);
+		}
+		else if (m_sortSpecs!=null) {
+			return collectSortedNoteIds(skip, count);
+		}
+		else {
+			int[] idsArr = ids.toIntArray();
+			int offset = Math.min(Math.max(skip, 0), idsArr.length);
+			int len = Math.min(Math.max(count, 0), idsArr.length - offset);
+			
+			NoteIdList result = new NoteIdList(len);
+			result.addAll(idsArr, offset, len);
+			return result;
+		}
+	}
+
 	@Override
 	public List<CollectionEntry> collectEntries(int skip, int count) {
 		return build(skip, count, new CollectionEntryProcessor<List<CollectionEntry>>() {
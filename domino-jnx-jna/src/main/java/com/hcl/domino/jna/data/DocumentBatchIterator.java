@@ -0,0 +1,263 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.hcl.domino.DominoException;
+import com.hcl.domino.admin.replication.GetDocumentsMode;
+import com.hcl.domino.admin.replication.Replication;
+import com.hcl.domino.commons.errors.INotesErrorConstants;
+import com.hcl.domino.commons.gc.APIObjectAllocations;
+import com.hcl.domino.commons.util.NotesErrorUtils;
+import com.hcl.domino.data.Database.OpenDocumentMode;
+import com.hcl.domino.data.Document;
+import com.hcl.domino.exception.DocumentDeletedException;
+import com.hcl.domino.jna.JNADominoClient;
+import com.hcl.domino.jna.internal.BackgroundPrefetcher;
+import com.hcl.domino.jna.internal.capi.NotesCAPI;
+import com.hcl.domino.jna.internal.gc.allocations.JNADocumentAllocations;
+import com.hcl.domino.jna.internal.gc.handles.DHANDLE;
+import com.hcl.domino.jna.internal.gc.handles.LockUtil;
+import com.hcl.domino.misc.NotesConstants;
+
+/**
+ * Iterator that opens documents in batches with a single NSFDbGetNotes call per
+ * batch, which needs far fewer server round trips than opening them one by one.<br>
+ * <br>
+ * Batches can be read on a background thread while the caller processes the current
+ * one. This requires cross thread access to be enabled for the {@link JNADominoClient}
+ * of the database, otherwise batches are read synchronously. {@link #close()} waits
+ * for the background thread to finish.<br>
+ * <br>
+ * Each returned document is closed when the next one is requested or when the iterator
+ * gets closed. Documents that do not exist or have been deleted are skipped.
+ * 
+ * @since 1.44.0
+ */
+public class DocumentBatchIterator implements Iterator<Document>, AutoCloseable {
+	private final JNADatabase m_db;
+	private final int[] m_noteIds;
+	private int m_noteIdIdx;
+	private final Set<OpenDocumentMode> m_openFlags;
+	private final int m_batchSize;
+
+	private List<Document> m_currentBatch;
+	private int m_currentBatchIdx;
+	private Document m_currentDoc;
+	private boolean m_done;
+
+	/** reads batches on a background thread, null if batches are read synchronously */
+	private BackgroundPrefetcher<List<Document>> m_prefetcher;
+	private volatile boolean m_closed;
+
+	/**
+	 * Creates a new iterator
+	 * 
+	 * @param db database
+	 * @param noteIds note ids of the documents to open
+	 * @param openFlags flags to open the documents
+	 * @param batchSize number of documents to open per NSFDbGetNotes call
+	 * @param prefetchBatches number of batches to read ahead on a background thread, 0 to read synchronously
+	 */
+	public DocumentBatchIterator(JNADatabase db, Collection<Integer> noteIds, Set<OpenDocumentMode> openFlags,
+			int batchSize, int prefetchBatches) {
+		if (batchSize<1) {
+			throw new IllegalArgumentException("Batch size must be greater than 0");
+		}
+
+		m_db = db;
+		m_noteIds = noteIds.stream().mapToInt(Integer::intValue).toArray();
+		m_openFlags = openFlags==null ? EnumSet.noneOf(OpenDocumentMode.class) : EnumSet.copyOf(openFlags);
+		m_batchSize = batchSize;
+
+		JNADominoClient client = db.getParentDominoClient();
+		if (prefetchBatches > 0 && client.isAllowCrossThreadAccess()) {
+			m_prefetcher = new BackgroundPrefetcher<>(client, "JNX document prefetch " + db.getRelativeFilePath(), //$NON-NLS-1$
+					prefetchBatches, this::prefetchBatches, DocumentBatchIterator::closeBatch, "Error reading documents");
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (m_currentBatch==null || m_currentBatchIdx >= m_currentBatch.size()) {
+			if (m_done || m_closed) {
+				return false;
+			}
+			m_currentBatch = m_prefetcher!=null ? takePrefetchedBatch() : readNextBatch();
+			m_currentBatchIdx = 0;
+			if (m_currentBatch==null) {
+				m_done = true;
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Document next() {
+		closeCurrentDocument();
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		m_currentDoc = m_currentBatch.get(m_currentBatchIdx);
+		//the iterator no longer references the document once the consumer moves on
+		m_currentBatch.set(m_currentBatchIdx++, null);
+		return m_currentDoc;
+	}
+
+	private void closeCurrentDocument() {
+		if (m_currentDoc!=null) {
+			m_currentDoc.autoClosable().close();
+			m_currentDoc = null;
+		}
+	}
+
+	/**
+	 * Closes the current document and all documents that have been read but not
+	 * returned yet and stops the background thread, waiting until it has finished
+	 */
+	@Override
+	public void close() {
+		m_closed = true;
+		if (m_prefetcher!=null) {
+			m_prefetcher.close();
+		}
+		closeCurrentDocument();
+		closeBatch(m_currentBatch);
+		m_currentBatch = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void closeBatch(Object batch) {
+		if (batch instanceof List) {
+			for (Document currDoc : (List<Document>) batch) {
+				if (currDoc!=null) {
+					currDoc.autoClosable().close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs on the background thread and reads batches while the consumer is active
+	 * 
+	 * @param prefetcher prefetcher to hand the batches to
+	 * @throws InterruptedException if the background thread is interrupted
+	 */
+	private void prefetchBatches(BackgroundPrefetcher<List<Document>> prefetcher) throws InterruptedException {
+		while (!prefetcher.isClosed()) {
+			List<Document> batch = readNextBatch();
+			if (batch==null || !prefetcher.offer(batch)) {
+				return;
+			}
+		}
+	}
+
+	private List<Document> takePrefetchedBatch() {
+		try {
+			return m_prefetcher.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DominoException("Interrupted while waiting for the next batch of documents", e);
+		}
+	}
+
+	/**
+	 * Opens the documents of the next batch of note ids
+	 * 
+	 * @return documents in note id order or null if there are no more note ids
+	 */
+	private List<Document> readNextBatch() {
+		List<Document> batch = new ArrayList<>();
+
+		//read until we found documents, since all of a batch may have been deleted
+		while (batch.isEmpty() && !m_closed) {
+			int[] noteIds = nextNoteIds();
+			if (noteIds.length==0) {
+				return null;
+			}
+
+			@SuppressWarnings({ "rawtypes", "unchecked" })
+			Set<OpenDocumentMode>[] docOpenFlags = new Set[noteIds.length];
+			for (int i=0; i<noteIds.length; i++) {
+				docOpenFlags[i] = m_openFlags;
+			}
+			int[] sinceSeqNum = new int[noteIds.length];
+
+			try {
+				m_db.getParentDominoClient().getReplication().getDocuments(m_db, noteIds, docOpenFlags, sinceSeqNum,
+						EnumSet.noneOf(GetDocumentsMode.class), null, null, (doc, noteId, status) -> {
+							if (status.isPresent()) {
+								DominoException ex = status.get();
+								if (ex instanceof DocumentDeletedException
+										|| (ex.getId() & NotesConstants.ERR_MASK)==INotesErrorConstants.ERR_NOT_FOUND) {
+									return Replication.Action.CONTINUE;
+								}
+								throw ex;
+							}
+							if (doc!=null) {
+								batch.add(copyDocument(doc));
+							}
+							return Replication.Action.CONTINUE;
+						}, null, null, null, null);
+			}
+			catch (RuntimeException | Error e) {
+				closeBatch(batch);
+				throw e;
+			}
+		}
+
+		return batch;
+	}
+
+	private int[] nextNoteIds() {
+		int end = Math.min(m_noteIds.length, m_noteIdIdx + m_batchSize);
+		int[] noteIds = Arrays.copyOfRange(m_noteIds, m_noteIdIdx, end);
+		m_noteIdIdx = end;
+		return noteIds;
+	}
+
+	/**
+	 * The note handles passed to the NSFDbGetNotes callback are owned by the C API
+	 * (see {@link JNADocumentAllocations#setNoRecycle(boolean)}), so we hand out an in-memory
+	 * copy of the note instead
+	 * 
+	 * @param doc document received in the callback
+	 * @return copy
+	 */
+	private JNADocument copyDocument(Document doc) {
+		JNADocumentAllocations docAllocations = (JNADocumentAllocations) doc.getAdapter(APIObjectAllocations.class);
+
+		DHANDLE.ByReference rethCopy = DHANDLE.newInstanceByReference();
+		short result = LockUtil.lockHandle(docAllocations.getNoteHandle(), (hNoteByVal) -> {
+			return NotesCAPI.get().NSFNoteCopy(hNoteByVal, rethCopy);
+		});
+		NotesErrorUtils.checkResult(result);
+		doc.autoClosable().close();
+
+		return new JNADocument(m_db, rethCopy);
+	}
+}
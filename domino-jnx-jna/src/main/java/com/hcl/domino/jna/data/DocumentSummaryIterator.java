@@ -27,11 +27,14 @@ import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeMap;
 
+import com.hcl.domino.DominoException;
 import com.hcl.domino.data.Database.Action;
 import com.hcl.domino.commons.data.AbstractTypedAccess;
 import com.hcl.domino.commons.views.IItemTableData;
 import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.dbdirectory.DirectorySearchQuery.SearchFlag;
+import com.hcl.domino.jna.JNADominoClient;
+import com.hcl.domino.jna.internal.BackgroundPrefetcher;
 import com.hcl.domino.jna.internal.search.NotesSearch;
 import com.hcl.domino.jna.internal.search.NotesSearch.JNASearchMatch;
 
@@ -41,13 +44,21 @@ import com.hcl.domino.jna.internal.search.NotesSearch.JNASearchMatch;
  * <br>
  * The method leverages NSFSearchExtended3, which supports both specifying the documents
  * to process as an IDTable (so it does not run on the whole database) and passing
- * "column formulas" that we want to be computed.
+ * "column formulas" that we want to be computed.<br>
+ * <br>
+ * Optionally, the next pages can be read on a background thread while the caller
+ * processes the current one. Read-ahead is skipped and pages are read synchronously
+ * if the {@link JNADominoClient} of the database does not allow cross thread access.
+ * Call {@link #close()} when stopping before the end; it waits until the background
+ * thread has stopped using the database.
  * 
  * @author Karsten Lehmann
  */
-public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator.DocumentData> {
+public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator.DocumentData>, AutoCloseable {
 	private PagedDocumentSummaryIterator m_pagedIterator;
-	private List<DocumentSummaryIterator.DocumentData> m_nextPage;
+	private List<DocumentSummaryIterator.DocumentData> m_currentPage;
+	private int m_currentPageIdx;
+	private boolean m_closed;
 
 	public DocumentSummaryIterator(JNADatabase db, int pageSize, Iterator<Integer> noteIdIt,
 			int skip, int count, Map<String,String> columnFormulas) {
@@ -57,9 +68,28 @@ public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator
 	public DocumentSummaryIterator(JNADatabase db, int pageSize, Iterator<Integer> noteIdIt,
 			int skip, int count,
 			Map<String,String> columnFormulas, Set<DocumentClass> documentClasses) {
+		this(db, pageSize, noteIdIt, skip, count, columnFormulas, documentClasses, 0);
+	}
+	
+	/**
+	 * Creates a new iterator
+	 * 
+	 * @param db database
+	 * @param pageSize number of note ids to read per search
+	 * @param noteIdIt note ids to read
+	 * @param skip number of note ids to skip
+	 * @param count max number of note ids to read
+	 * @param columnFormulas column formulas to compute, empty to read all summary items
+	 * @param documentClasses document classes to read
+	 * @param prefetchPages number of pages to read ahead on a background thread, 0 to read synchronously
+	 * @since 1.44.0
+	 */
+	public DocumentSummaryIterator(JNADatabase db, int pageSize, Iterator<Integer> noteIdIt,
+			int skip, int count,
+			Map<String,String> columnFormulas, Set<DocumentClass> documentClasses, int prefetchPages) {
 		
-		m_pagedIterator = new PagedDocumentSummaryIterator(db, pageSize, noteIdIt, skip, count, columnFormulas, documentClasses);
-		m_nextPage = fetchNextPage();
+		m_pagedIterator = new PagedDocumentSummaryIterator(db, pageSize, noteIdIt, skip, count, columnFormulas,
+				documentClasses, prefetchPages);
 	}
 	
 	private List<DocumentSummaryIterator.DocumentData> fetchNextPage() {
@@ -73,19 +103,36 @@ public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator
 	
 	@Override
 	public boolean hasNext() {
-		return m_nextPage!=null;
+		if (m_closed) {
+			return false;
+		}
+		if (m_currentPage==null || m_currentPageIdx >= m_currentPage.size()) {
+			m_currentPage = fetchNextPage();
+			m_currentPageIdx = 0;
+		}
+		return m_currentPage!=null;
 	}
 	
 	@Override
 	public DocumentData next() {
-		if (m_nextPage==null) {
+		if (!hasNext()) {
 			throw new NoSuchElementException();
 		}
-		DocumentData data = m_nextPage.remove(0);
-		if (m_nextPage.isEmpty()) {
-			m_nextPage = fetchNextPage();
-		}
-		return data;
+		return m_currentPage.get(m_currentPageIdx++);
+	}
+	
+	/**
+	 * Stops reading pages in the background and waits for the background thread to
+	 * finish its current page. Entries that have not been returned yet are discarded and
+	 * {@link #hasNext()} returns false afterwards.
+	 * 
+	 * @since 1.44.0
+	 */
+	@Override
+	public void close() {
+		m_closed = true;
+		m_currentPage = null;
+		m_pagedIterator.close();
 	}
 	
 	public static class DocumentData extends AbstractTypedAccess {
@@ -121,7 +168,8 @@ public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator
 		}
 	}
 
-	private class PagedDocumentSummaryIterator implements Iterator<List<DocumentSummaryIterator.DocumentData>> {
+	private static class PagedDocumentSummaryIterator implements Iterator<List<DocumentSummaryIterator.DocumentData>> {
+
 		private JNADatabase m_db;
 		private int m_pageSize;
 		private Iterator<Integer> m_noteIdIt;
@@ -134,10 +182,14 @@ public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator
 		private Set<DocumentClass> m_documentClasses;
 		
 		private List<DocumentData> m_nextPage;
+		private boolean m_nextPageRead;
+		
+		/** reads pages on a background thread, null if pages are read synchronously */
+		private BackgroundPrefetcher<List<DocumentData>> m_prefetcher;
 		
 		public PagedDocumentSummaryIterator(JNADatabase db, int pageSize, Iterator<Integer> noteIdIt,
 				int skip, int count,
-				Map<String,String> columnFormulas, Set<DocumentClass> documentClasses) {
+				Map<String,String> columnFormulas, Set<DocumentClass> documentClasses, int prefetchPages) {
 			
 			m_db = db;
 			m_pageSize = pageSize;
@@ -147,25 +199,69 @@ public class DocumentSummaryIterator implements Iterator<DocumentSummaryIterator
 			m_columnFormulas = columnFormulas;
 			m_documentClasses = documentClasses;
 			
-			m_nextPage = produceNextPage();
+			JNADominoClient client = db.getParentDominoClient();
+			if (prefetchPages > 0 && client.isAllowCrossThreadAccess()) {
+				m_prefetcher = new BackgroundPrefetcher<>(client, "JNX summary prefetch " + db.getRelativeFilePath(), //$NON-NLS-1$
+						prefetchPages, this::prefetchPages, null, "Error reading summary data");
+			}
 		}
 		
 		@Override
 		public boolean hasNext() {
+			readNextPage();
 			return m_nextPage!=null;
 		}
 		
 		@Override
 		public List<DocumentSummaryIterator.DocumentData> next() {
+			readNextPage();
 			if (m_nextPage==null) {
 				throw new NoSuchElementException();
 			}
 			
 			List<DocumentSummaryIterator.DocumentData> page = m_nextPage;
-			m_nextPage = produceNextPage();
+			m_nextPage = null;
+			m_nextPageRead = false;
 			return page;
 		}
 		
+		private void readNextPage() {
+			if (!m_nextPageRead) {
+				m_nextPage = m_prefetcher!=null ? takePrefetchedPage() : produceNextPage();
+				m_nextPageRead = true;
+			}
+		}
+		
+		void close() {
+			if (m_prefetcher!=null) {
+				m_prefetcher.close();
+			}
+		}
+		
+		/**
+		 * Runs on the background thread and reads pages while the consumer is active
+		 * 
+		 * @param prefetcher prefetcher to hand the pages to
+		 * @throws InterruptedException if the background thread is interrupted
+		 */
+		private void prefetchPages(BackgroundPrefetcher<List<DocumentData>> prefetcher) throws InterruptedException {
+			while (!prefetcher.isClosed()) {
+				List<DocumentData> page = produceNextPage();
+				if (page==null || !prefetcher.offer(page)) {
+					return;
+				}
+			}
+		}
+		
+		private List<DocumentData> takePrefetchedPage() {
+			try {
+				return m_prefetcher.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DominoException("Interrupted while waiting for the next page of summary data", e);
+			}
+		}
+		
 		private List<DocumentSummaryIterator.DocumentData> produceNextPage() {
 			if (!m_noteIdIt.hasNext() || m_done) {
 				return null;
@@ -21,6 +21,9 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -43,6 +46,7 @@ import com.hcl.domino.data.Attachment.IDataCallback;
 import com.hcl.domino.data.Attachment.IDataCallback.Action;
 import com.hcl.domino.data.Document;
 import com.hcl.domino.data.DominoDateTime;
+import com.hcl.domino.jna.JNADominoClient;
 import com.hcl.domino.jna.internal.Mem;
 import com.hcl.domino.jna.internal.callbacks.NotesCallbacks;
 import com.hcl.domino.jna.internal.callbacks.Win32NotesCallbacks;
@@ -61,6 +65,11 @@ import com.sun.jna.Pointer;
  * @author Karsten Lehmann
  */
 public class JNAAttachment implements Attachment {
+	/** number of bytes read per NSFDbReadObject call by {@link AttachmentByteChannel} */
+	private static final int CHANNEL_READAHEAD_SIZE = 256 * 1024;
+	/** number of extracted data chunks buffered by {@link AttachmentExtractInputStream} */
+	private static final int EXTRACT_QUEUE_SIZE = 4;
+	
 	private String m_fileName;
 	private Compression m_compression;
 	private short m_fileFlags;
@@ -323,11 +332,144 @@ public class JNAAttachment implements Attachment {
 
 	@Override
 	public InputStream getInputStream() throws IOException {
+		if (isRandomAccessSupported()) {
+			return Channels.newInputStream(newByteChannel());
+		}
+		return openExtractStream();
+	}
+	
+	@Override
+	public InputStream getInputStream(long offset, long length) throws IOException {
+		if (offset < 0) {
+			throw new IllegalArgumentException("Offset cannot be negative");
+		}
+		if (length < 0) {
+			throw new IllegalArgumentException("Length cannot be negative");
+		}
+		
+		SeekableByteChannel channel = newByteChannel();
+		channel.position(offset);
+		return new RangeInputStream(channel, length);
+	}
+	
+	@Override
+	public SeekableByteChannel newByteChannel() throws IOException {
+		return new AttachmentByteChannel(this, CHANNEL_READAHEAD_SIZE);
+	}
+	
+	/**
+	 * Checks whether the attachment data can be read at any offset directly from the
+	 * database object, which is the case for uncompressed attachments in unencrypted
+	 * documents
+	 * 
+	 * @return true if random access is supported
+	 */
+	boolean isRandomAccessSupported() {
+		return getCompression() == Compression.NONE && !m_parentDoc.isEncrypted();
+	}
+	
+	/**
+	 * Reads a range of the database object of an uncompressed attachment
+	 * 
+	 * @param offset offset in the object
+	 * @param length number of bytes to read
+	 * @param target buffer to write the data to
+	 */
+	void readObject(long offset, int length, ByteBuffer target) {
+		JNADocumentAllocations docAllocations = (JNADocumentAllocations) m_parentDoc.getAdapter(APIObjectAllocations.class);
+		docAllocations.checkDisposed();
+
+		JNADatabaseAllocations dbAllocations = (JNADatabaseAllocations) m_parentDoc.getParent().getAdapter(APIObjectAllocations.class);
+		dbAllocations.checkDisposed();
+		
+		DHANDLE.ByReference rethBuffer = DHANDLE.newInstanceByReference();
+		
+		short result = LockUtil.lockHandle(dbAllocations.getDBHandle(), (dbHandleByVal) -> {
+			return NotesCAPI.get().NSFDbReadObject(dbHandleByVal, m_rrv, (int) (offset & 0xffffffffL), length, rethBuffer);
+		});
+		NotesErrorUtils.checkResult(result);
+		
+		LockUtil.lockHandle(rethBuffer, (hBufferByVal) -> {
+			Pointer ptr = Mem.OSLockObject(hBufferByVal);
+			try {
+				target.put(ptr.getByteBuffer(0, length));
+				return 0;
+			}
+			finally {
+				Mem.OSUnlockObject(hBufferByVal);
+				Mem.OSMemFree(hBufferByVal);
+			}
+		});
+	}
+	
+	/**
+	 * Opens a stream that extracts and decompresses the attachment from the start. With
+	 * cross thread access enabled, the data is extracted on a background thread while it
+	 * is read, otherwise the attachment is extracted to a temporary file first.
+	 * 
+	 * @return stream
+	 * @throws IOException in case of I/O errors
+	 */
+	InputStream openExtractStream() throws IOException {
+		JNADominoClient client = ((JNADatabase) m_parentDoc.getParentDatabase()).getParentDominoClient();
+		if (client.isAllowCrossThreadAccess()) {
+			return new AttachmentExtractInputStream(this, client, EXTRACT_QUEUE_SIZE);
+		}
+		
 		Path tmpFile = Files.createTempFile("jnxtmp_", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
 		extract(tmpFile);
 		return new BufferedInputStream(new TempFileInputStream(tmpFile));
 	}
 	
+	/**
+	 * InputStream that reads a limited number of bytes from a channel and closes
+	 * the channel when closed
+	 */
+	private static class RangeInputStream extends InputStream {
+		private final SeekableByteChannel m_channel;
+		private long m_remaining;
+		
+		RangeInputStream(SeekableByteChannel channel, long length) {
+			m_channel = channel;
+			m_remaining = length;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			int bytesRead = read(b, 0, 1);
+			return bytesRead == -1 ? -1 : b[0] & 0xff;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len==0) {
+				return 0;
+			}
+			if (m_remaining <= 0) {
+				return -1;
+			}
+			int bytesRead = m_channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, m_remaining)));
+			if (bytesRead > 0) {
+				m_remaining -= bytesRead;
+			}
+			return bytesRead;
+		}
+		
+		@Override
+		public long skip(long n) throws IOException {
+			long bytesToSkip = Math.max(0, Math.min(n, Math.min(m_remaining, m_channel.size() - m_channel.position())));
+			m_channel.position(m_channel.position() + bytesToSkip);
+			m_remaining -= bytesToSkip;
+			return bytesToSkip;
+		}
+		
+		@Override
+		public void close() throws IOException {
+			m_channel.close();
+		}
+	}
+	
 	/**
 	 * InputStream of a temporary file that automatically delete the
 	 * file when the data is read.
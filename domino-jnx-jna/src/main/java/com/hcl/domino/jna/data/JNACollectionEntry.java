@@ -49,6 +49,7 @@ import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.jna.internal.LMBCSString;
 import com.hcl.domino.jna.internal.NotesStringUtils;
+import com.hcl.domino.jna.internal.views.LazyItemValueTable;
 import com.hcl.domino.misc.DominoEnumUtil;
 import com.hcl.domino.misc.JNXServiceFinder;
 import com.hcl.domino.misc.NotesConstants;
@@ -74,6 +75,7 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 	private Integer m_ftScore;
 	private Boolean m_isUnread;
 	private Object[] m_columnValues;
+	private LazyItemValueTable m_lazyColumnValues;
 	private int[] m_columnValueSizes;
 	private Map<String, Object> m_summaryData;
 	private SoftReference<Map<String, Object>> m_convertedDataRef;
@@ -111,7 +113,8 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 			
 			@Override
 			public int getIndexedValueCount() {
-				return m_columnValues == null ? 0 : m_columnValues.length;
+				int count = getColumnValueCount();
+				return count == -1 ? 0 : count;
 			}
 			
 			@Override
@@ -130,10 +133,10 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 			
 			@Override
 			protected List<?> getItemValue(int index) {
-				if(m_columnValues == null) {
+				if(getColumnValueCount() == -1) {
 					return null;
 				} else {
-					return cleanValue(m_columnValues[index]);
+					return cleanValue(getColumnValue(index));
 				}
 			}
 			
@@ -221,6 +224,9 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 	 * @return data
 	 */
 	CacheableViewEntryData getCacheableData() {
+		//lazily decoded values reference native memory and cannot be serialized
+		getColumnValues();
+		
 		CacheableViewEntryData data = new CacheableViewEntryData();
 		data.m_pos = m_pos;
 		data.m_posStr = m_posStr;
@@ -267,6 +273,7 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 		m_ftScore = data.m_ftScore;
 		m_isUnread = data.m_isUnread;
 		m_columnValues = data.m_columnValues;
+		m_lazyColumnValues = null;
 		m_columnValueSizes = data.m_columnValueSizes;
 		m_summaryData = data.m_summaryData;
 		m_convertedDataRef = data.m_convertedDataRef;
@@ -291,17 +298,18 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 	public boolean isConflict() {
 		//C API documentation regarding conflict flags in views
 		//VIEW_TABLE_FLAG_CONFLICT	  -  Replication conflicts will be flagged. If TRUE, the '$Conflict' item must be SECOND-TO-LAST in the list of summary items for this view.
-		if (m_columnValues!=null) {
+		int columnCount = getColumnValueCount();
+		if (columnCount!=-1) {
 			if (!m_parentCollection.isConflict()) {
 				return false;
 			}
 			else if (m_parentCollection.isHierarchical()) {
-				return m_columnValues.length>=2 && m_columnValues[m_columnValues.length-2] != null;
+				return columnCount>=2 && hasColumnValue(columnCount-2);
 			}
 			else {
 				//special case for views which have "show response hierarchy" = false:
 				//here the response column value is missing
-				return m_columnValues.length>=1 && m_columnValues[m_columnValues.length-1] != null;
+				return columnCount>=1 && hasColumnValue(columnCount-1);
 			}
 		}
 		else if (m_summaryData!=null) {
@@ -319,9 +327,10 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 	public boolean isResponse() {
 		//C API documentation regarding response flags in views
 		//VIEW_TABLE_FLAG_FLATINDEX	  -  Do not index hierarchically If FALSE, the '$REF' item must be LAST in the list of summary items for this view.
-		if (m_columnValues!=null) {
+		int columnCount = getColumnValueCount();
+		if (columnCount!=-1) {
 			if (m_parentCollection.isHierarchical()) {
-				return m_columnValues.length>=1 && m_columnValues[m_columnValues.length-1] != null;
+				return columnCount>=1 && hasColumnValue(columnCount-1);
 			}
 			else {
 				//fallback to isConflict as this is the only info we have
@@ -717,12 +726,72 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 	 */
 	public void setColumnValues(Object[] itemValues) {
 		m_columnValues = itemValues;
+		m_lazyColumnValues = null;
 	}
 	
+	/**
+	 * Sets collection entry column values that get decoded on first access
+	 * 
+	 * @param itemValues lazily decoded values
+	 * @since 1.44.0
+	 */
+	public void setLazyColumnValues(LazyItemValueTable itemValues) {
+		m_lazyColumnValues = itemValues;
+		m_columnValues = null;
+	}
+	
+	/**
+	 * Returns the collection entry column values. Column values that have been
+	 * read lazily are all decoded by this call.
+	 * 
+	 * @return values or null if not read
+	 */
 	public Object[] getColumnValues() {
+		if (m_lazyColumnValues!=null) {
+			m_columnValues = m_lazyColumnValues.toArray();
+			if (m_columnValueSizes==null) {
+				m_columnValueSizes = m_lazyColumnValues.getItemValueLengthsInBytes();
+			}
+			m_lazyColumnValues = null;
+		}
 		return m_columnValues;
 	}
 	
+	/**
+	 * Returns the number of column values
+	 * 
+	 * @return number or -1 if no column values have been read
+	 */
+	private int getColumnValueCount() {
+		if (m_lazyColumnValues!=null) {
+			return m_lazyColumnValues.getItemsCount();
+		}
+		else if (m_columnValues!=null) {
+			return m_columnValues.length;
+		}
+		else {
+			return -1;
+		}
+	}
+	
+	private Object getColumnValue(int index) {
+		if (m_lazyColumnValues!=null) {
+			return m_lazyColumnValues.get(index);
+		}
+		else {
+			return m_columnValues[index];
+		}
+	}
+	
+	private boolean hasColumnValue(int index) {
+		if (m_lazyColumnValues!=null) {
+			return m_lazyColumnValues.hasValue(index);
+		}
+		else {
+			return m_columnValues[index] != null;
+		}
+	}
+	
 	/**
 	 * Returns an iterator of all available columns for which we can read column values
 	 * (e.g. does not return static column names).
@@ -837,13 +906,13 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 		if (m_summaryData!=null) {
 			return m_summaryData.containsKey(columnName);
 		}
-		else if (m_columnValues!=null) {
+		else if (getColumnValueCount()!=-1) {
 			int colIdx = m_parentCollection.getColumnValuesIndex(columnName);
 			if (colIdx==-1) {
 				return false;
 			}
 			else {
-				return m_columnValues[colIdx] != null;
+				return hasColumnValue(colIdx);
 			}
 		}
 		else {
@@ -887,11 +956,11 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 				
 			}
 		}
-		else if (m_columnValues!=null) {
+		else if (getColumnValueCount()!=-1) {
 			int colIdx = m_parentCollection.getColumnValuesIndex(columnNameOrTitle);
 			if (colIdx!=-1 && colIdx!=65535) {
-				if (colIdx < m_columnValues.length) {
-					val = m_columnValues[colIdx];
+				if (colIdx < getColumnValueCount()) {
+					val = getColumnValue(colIdx);
 				}
 				else {
 					val = null;
@@ -937,11 +1006,10 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 				return true;
 			}
 		}
-		if (m_columnValues!=null) {
-			for (int i=0; i<m_columnValues.length; i++) {
-				if (m_columnValues[i]!=null) {
-					return true;
-				}
+		int columnCount = getColumnValueCount();
+		for (int i=0; i<columnCount; i++) {
+			if (hasColumnValue(i)) {
+				return true;
 			}
 		}
 		return false;
@@ -964,6 +1032,9 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 	 * @return sizes or null
 	 */
 	public int[] getColumnValueSizesInBytes() {
+		if (m_columnValueSizes==null && m_lazyColumnValues!=null) {
+			m_columnValueSizes = m_lazyColumnValues.getItemValueLengthsInBytes();
+		}
 		return m_columnValueSizes;
 	}
 	
@@ -1049,13 +1120,14 @@ public class JNACollectionEntry extends AbstractCollectionEntry {
 			sb.append(",summary="+m_summaryData.toString()); //$NON-NLS-1$
 		}
 		
-		if (m_columnValues!=null) {
+		int columnCount = getColumnValueCount();
+		if (columnCount!=-1) {
 			sb.append(",columns=["); //$NON-NLS-1$
-			for (int i=0; i<m_columnValues.length; i++) {
+			for (int i=0; i<columnCount; i++) {
 				if (i>0) {
 					sb.append(","); //$NON-NLS-1$
 				}
-				sb.append(colValueToString(m_columnValues[i]));
+				sb.append(colValueToString(getColumnValue(i)));
 			}
 			sb.append("]"); //$NON-NLS-1$
 		}
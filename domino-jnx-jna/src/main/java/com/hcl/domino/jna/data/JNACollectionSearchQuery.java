@@ -19,6 +19,7 @@ package com.hcl.domino.jna.data;
 import java.lang.ref.ReferenceQueue;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
@@ -44,6 +45,7 @@ import com.hcl.domino.data.Database.Action;
 import com.hcl.domino.data.Document;
 import com.hcl.domino.data.FTQuery;
 import com.hcl.domino.data.Navigate;
+import com.hcl.domino.data.NoteIdList;
 import com.hcl.domino.dql.DQL.DQLTerm;
 import com.hcl.domino.exception.ObjectDisposedException;
 import com.hcl.domino.jna.BaseJNAAPIObject;
@@ -689,6 +691,16 @@ public class JNACollectionSearchQuery extends BaseJNAAPIObject<JNACollectionSear
 			ShortByReference updateFiltersFlags = new ShortByReference();
 			Navigate directionToUse = prepareCollectionReadRestrictions(collectionAllocations, updateFiltersFlags);
 			
+			//reuse the count of an earlier query with the same settings until the collection index changes
+			CollectionCountCache countCache = collection.getCountCache();
+			CollectionCountCache.Key countCacheKey = createCountCacheKey(collectionAllocations, directionToUse);
+			int indexModifiedSeqNoStart = collection.getIndexModifiedSequenceNo();
+			Integer cachedTotal = countCache.get(countCacheKey, indexModifiedSeqNoStart);
+			if (cachedTotal!=null) {
+				m_total = cachedTotal;
+				return m_total;
+			}
+			
 			final short fUpdateFiltersFlagsVal = updateFiltersFlags.getValue();
 			final Navigate fDirectionToUse = directionToUse;
 			
@@ -785,9 +797,43 @@ public class JNACollectionSearchQuery extends BaseJNAAPIObject<JNACollectionSear
 					return skipResult.getSkipCount();
 				}
 			});
+			
+			int indexModifiedSeqNoEnd = collection.getIndexModifiedSequenceNo();
+			if (indexModifiedSeqNoStart == indexModifiedSeqNoEnd) {
+				countCache.put(countCacheKey, indexModifiedSeqNoEnd, m_total);
+			}
 		}
 		return m_total;
 	}
+	
+	/**
+	 * Collects the query settings that determine the result of {@link #size()}. Must be called
+	 * after {@link #prepareCollectionReadRestrictions(JNADominoCollectionAllocations, ShortByReference)}
+	 * so that the selected and collapsed lists of the collection are up to date.
+	 * 
+	 * @param collectionAllocations collection allocations
+	 * @param directionToUse navigation direction for the collection lookup
+	 * @return key for the count cache
+	 */
+	private CollectionCountCache.Key createCountCacheKey(JNADominoCollectionAllocations collectionAllocations,
+			Navigate directionToUse) {
+		
+		List<Object> startAtCategoryLevels;
+		if (m_startAtCategory!=null) {
+			startAtCategoryLevels = Arrays.asList(m_startAtCategory);
+		}
+		else if (m_startAtCategoryLevels!=null) {
+			startAtCategoryLevels = new ArrayList<>(m_startAtCategoryLevels);
+		}
+		else {
+			startAtCategoryLevels = null;
+		}
+		
+		return new CollectionCountCache.Key(directionToUse,
+				isDirectionWithSelection(directionToUse) ? collectionAllocations.getSelectedList() : null,
+				isDirectionWithExpandCollapse(directionToUse) ? collectionAllocations.getCollapsedList() : null,
+				m_startAtLastEntry, m_startAtEntryId, startAtCategoryLevels);
+	}
 
 	/**
 	 * 
@@ -998,11 +1044,17 @@ public class JNACollectionSearchQuery extends BaseJNAAPIObject<JNACollectionSear
 						if (!currKey.isExact()) {
 							findFlags.add(FindFlag.PARTIAL);
 						}
-						LinkedHashSet<Integer> idsForKey = collection.getAllEntriesByKey(findFlags, EnumSet.of(ReadMask.NOTEID),
-								new JNADominoCollection.NoteIdsAsOrderedSetCallback(Integer.MAX_VALUE), currKey.getKey());
+						NoteIdList idsForKey = collection.getAllEntriesByKey(findFlags, EnumSet.of(ReadMask.NOTEID),
+								new JNADominoCollection.NoteIdsAsListCallback(Integer.MAX_VALUE), currKey.getKey());
 						
 						if (subtractMode) {
-							idTable.removeAll(idsForKey);
+							JNAIDTable idsForKeyTable = new JNAIDTable(getParentDominoClient(), idsForKey);
+							try {
+								idTable.removeAll(idsForKeyTable);
+							}
+							finally {
+								idsForKeyTable.dispose();
+							}
 						}
 						else {
 							idTable.addAll(idsForKey);
@@ -1014,11 +1066,17 @@ public class JNACollectionSearchQuery extends BaseJNAAPIObject<JNACollectionSear
 						if (!currKey.isExact()) {
 							findFlags.add(FindFlag.PARTIAL);
 						}
-						LinkedHashSet<Integer> idsForKey = collection.getAllEntriesByKey(findFlags, EnumSet.of(ReadMask.NOTEID),
-								new JNADominoCollection.NoteIdsAsOrderedSetCallback(Integer.MAX_VALUE), currKey.getKey().toArray(new Object[currKey.getKey().size()]));
+						NoteIdList idsForKey = collection.getAllEntriesByKey(findFlags, EnumSet.of(ReadMask.NOTEID),
+								new JNADominoCollection.NoteIdsAsListCallback(Integer.MAX_VALUE), currKey.getKey().toArray(new Object[currKey.getKey().size()]));
 						
 						if (subtractMode) {
-							idTable.removeAll(idsForKey);
+							JNAIDTable idsForKeyTable = new JNAIDTable(getParentDominoClient(), idsForKey);
+							try {
+								idTable.removeAll(idsForKeyTable);
+							}
+							finally {
+								idsForKeyTable.dispose();
+							}
 						}
 						else {
 							idTable.addAll(idsForKey);
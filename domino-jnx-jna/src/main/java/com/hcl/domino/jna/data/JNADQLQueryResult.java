@@ -32,6 +32,8 @@ import com.hcl.domino.data.Database;
 import com.hcl.domino.data.Document;
 import com.hcl.domino.data.DominoCollection;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
+import com.hcl.domino.data.SortSpec;
 import com.hcl.domino.misc.Loop;
 
 /**
@@ -128,6 +130,11 @@ public class JNADQLQueryResult extends DQLQueryResult {
 		this.m_queryUtil.collectIds(skip, count, idTable);
 	}
 
+	@Override
+	public NoteIdList collectNoteIds(int skip, int count) {
+		return this.m_queryUtil.collectNoteIds(skip, count);
+	}
+
 	@Override
 	public List<CollectionEntry> collectEntries(int skip, int count) {
 		return this.m_queryUtil.collectEntries(skip, count);
@@ -170,5 +177,11 @@ public class JNADQLQueryResult extends DQLQueryResult {
 		m_queryUtil.sort(collection);
 		return this;
 	}
+
+	@Override
+	public DQLQueryResult sortBy(List<SortSpec> sortSpecs) {
+		m_queryUtil.sortBy(sortSpecs);
+		return this;
+	}
 	
 }
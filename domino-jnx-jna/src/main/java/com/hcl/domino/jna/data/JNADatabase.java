@@ -37,10 +37,16 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.hcl.domino.BuildVersionInfo;
 import com.hcl.domino.DominoClient.Encryption;
@@ -91,6 +97,7 @@ import com.hcl.domino.data.FormulaQueryResult;
 import com.hcl.domino.data.IAdaptable;
 import com.hcl.domino.data.IDTable;
 import com.hcl.domino.data.ItemDataType;
+import com.hcl.domino.data.NoteIdList;
 import com.hcl.domino.data.NoteIdWithScore;
 import com.hcl.domino.dbdirectory.DirectorySearchQuery.SearchFlag;
 import com.hcl.domino.design.RichTextBuilder;
@@ -110,6 +117,8 @@ import com.hcl.domino.jna.internal.Mem.LockedMemory;
 import com.hcl.domino.jna.internal.NotesNamingUtils;
 import com.hcl.domino.jna.internal.NotesNamingUtils.Privileges;
 import com.hcl.domino.jna.internal.NotesStringUtils;
+import com.hcl.domino.jna.internal.UnidNoteIdCache;
+import com.hcl.domino.jna.internal.UserNamesListCache;
 import com.hcl.domino.jna.internal.callbacks.NotesCallbacks;
 import com.hcl.domino.jna.internal.callbacks.Win32NotesCallbacks;
 import com.hcl.domino.jna.internal.capi.INotesCAPI;
@@ -149,6 +158,8 @@ import com.sun.jna.ptr.ShortByReference;
 
 public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implements Database {
 	static final String NAMEDNOTES_APPLICATION_PREFIX = "$app_"; //$NON-NLS-1$
+	/** number of batches {@link #streamDocuments(Collection, Set, int)} reads ahead */
+	private static final int STREAM_DOCUMENTS_PREFETCH_BATCHES = 2;
 
 	private static class LoopImpl extends Loop {
 		
@@ -174,6 +185,7 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 	private DbMode m_dbMode;
 	private JNAAcl m_acl;
 	private Boolean m_hasLargeItemSupport;
+	private UnidNoteIdCache m_unidCache;
 	
 	public JNADatabase(IGCDominoClient<?> parent, String server, String filePath, Set<OpenDatabase> options) {
 		this(parent, server, filePath, options, (JNAUserNamesList) null);
@@ -840,6 +852,15 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 		return Optional.of(new JNADocument(this, rethNote));
 	}
 
+	@Override
+	public Stream<Document> streamDocuments(Collection<Integer> noteIds, Set<OpenDocumentMode> flags, int batchSize) {
+		checkDisposed();
+
+		DocumentBatchIterator it = new DocumentBatchIterator(this, noteIds, flags, batchSize, STREAM_DOCUMENTS_PREFETCH_BATCHES);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(it::close);
+	}
+
 	@Override
 	public Optional<Document> getSoftDeletedDocumentById(int noteId) {
 		checkDisposed();
@@ -912,6 +933,10 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 			return NotesCAPI.get().NSFNoteDeleteExtended(dbHandleByVal, noteId, flagsAsInt);
 		});
 		NotesErrorUtils.checkResult(result);
+		
+		if (m_unidCache!=null) {
+			m_unidCache.remove(noteId);
+		}
 	}
 	
 	@Override
@@ -955,6 +980,12 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 					});
 
 			NotesErrorUtils.checkResult(result);
+			
+			if (m_unidCache!=null) {
+				for (int currNoteId : idTable.toIntArray()) {
+					m_unidCache.remove(currNoteId);
+				}
+			}
 		}
 		finally {
 			if (disposeIDTable) {
@@ -963,6 +994,21 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 		}
 	}
 
+	@Override
+	public void deleteDocuments(NoteIdList noteIds) {
+		if (noteIds.isEmpty()) {
+			return;
+		}
+		
+		JNAIDTable idTable = new JNAIDTable(getParentDominoClient(), noteIds);
+		try {
+			deleteDocuments(idTable);
+		}
+		finally {
+			idTable.dispose();
+		}
+	}
+
 	@Override
 	public void deleteDocumentsByUNID(Collection<String> unids) {
 		Map<String,Integer> resolvedNoteIDsByUNID = new HashMap<>();
@@ -1222,11 +1268,10 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 			noteIDsArr[idx++] = currNoteId;
 		}
 		
-		DocInfo[] infoArr = getMultiDocumentInfo(noteIDsArr);
+		String[] unids = resolveUNIDs(noteIDsArr);
 		for (int i=0; i<noteIDsArr.length; i++) {
-			DocInfo currInfo = infoArr[i];
-			if (currInfo.exists()) {
-				resolvedUNIDsByNoteId.put(noteIDsArr[i], currInfo.getUnid());
+			if (unids[i]!=null) {
+				resolvedUNIDsByNoteId.put(noteIDsArr[i], unids[i]);
 			}
 			else {
 				unresolvedNoteIds.add(noteIDsArr[i]);
@@ -1234,6 +1279,11 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 		}
 	}
 
+	@Override
+	public String[] toUNIDs(NoteIdList noteIds) {
+		return resolveUNIDs(noteIds.toIntArray());
+	}
+
 	@Override
 	public void toNoteIds(Collection<String> unids, Map<String, Integer> resolvedNoteIDsByUNID,
 			Set<String> unresolvedUNIDs) {
@@ -1244,11 +1294,10 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 			unidsArr[idx++] = currUnids;
 		}
 		
-		DocInfo[] infoArr = getMultiDocumentInfo(unidsArr);
+		int[] noteIds = resolveNoteIds(unidsArr);
 		for (int i=0; i<unidsArr.length; i++) {
-			DocInfo currInfo = infoArr[i];
-			if (currInfo.exists()) {
-				resolvedNoteIDsByUNID.put(unidsArr[i], currInfo.getNoteId());
+			if (noteIds[i]!=0) {
+				resolvedNoteIDsByUNID.put(unidsArr[i], noteIds[i]);
 			}
 			else {
 				if (unresolvedUNIDs!=null) {
@@ -1258,6 +1307,119 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 		}
 	}
 
+	/**
+	 * Converts note ids to UNIDs, reading only the note ids from the database that
+	 * are not in the {@link UnidNoteIdCache}
+	 * 
+	 * @param noteIds note ids
+	 * @return UNIDs in the same order, null for note ids that could not be resolved
+	 */
+	private String[] resolveUNIDs(int[] noteIds) {
+		checkDisposed();
+		
+		String[] unids = new String[noteIds.length];
+		
+		UnidNoteIdCache cache = getUnidCache();
+		int[] missingNoteIds = noteIds;
+		int[] missingIdx = null;
+		
+		if (cache!=null) {
+			cache.refresh(this);
+			
+			missingIdx = new int[noteIds.length];
+			int missingCount = 0;
+			for (int i=0; i<noteIds.length; i++) {
+				unids[i] = cache.getUnid(noteIds[i]);
+				if (unids[i]==null) {
+					missingIdx[missingCount++] = i;
+				}
+			}
+			missingNoteIds = new int[missingCount];
+			for (int i=0; i<missingCount; i++) {
+				missingNoteIds[i] = noteIds[missingIdx[i]];
+			}
+		}
+		
+		DocInfo[] infoArr = getMultiDocumentInfo(missingNoteIds);
+		for (int i=0; i<missingNoteIds.length; i++) {
+			DocInfo currInfo = infoArr[i];
+			if (currInfo.exists()) {
+				int targetIdx = missingIdx==null ? i : missingIdx[i];
+				unids[targetIdx] = currInfo.getUnid();
+				if (cache!=null) {
+					cache.put(missingNoteIds[i], currInfo.getUnid());
+				}
+			}
+		}
+		return unids;
+	}
+
+	/**
+	 * Converts UNIDs to note ids, reading only the UNIDs from the database that
+	 * are not in the {@link UnidNoteIdCache}
+	 * 
+	 * @param unids UNIDs
+	 * @return note ids in the same order, 0 for UNIDs that could not be resolved
+	 */
+	private int[] resolveNoteIds(String[] unids) {
+		checkDisposed();
+		
+		int[] noteIds = new int[unids.length];
+		
+		UnidNoteIdCache cache = getUnidCache();
+		String[] missingUnids = unids;
+		int[] missingIdx = null;
+		
+		if (cache!=null) {
+			cache.refresh(this);
+			
+			missingIdx = new int[unids.length];
+			int missingCount = 0;
+			for (int i=0; i<unids.length; i++) {
+				noteIds[i] = cache.getNoteId(unids[i]);
+				if (noteIds[i]==0) {
+					missingIdx[missingCount++] = i;
+				}
+			}
+			missingUnids = new String[missingCount];
+			for (int i=0; i<missingCount; i++) {
+				missingUnids[i] = unids[missingIdx[i]];
+			}
+		}
+		
+		DocInfo[] infoArr = getMultiDocumentInfo(missingUnids);
+		for (int i=0; i<missingUnids.length; i++) {
+			DocInfo currInfo = infoArr[i];
+			if (currInfo.exists()) {
+				int targetIdx = missingIdx==null ? i : missingIdx[i];
+				noteIds[targetIdx] = currInfo.getNoteId();
+				if (cache!=null) {
+					cache.put(currInfo.getNoteId(), currInfo.getUnid());
+				}
+			}
+		}
+		return noteIds;
+	}
+
+	/**
+	 * Returns the cache of UNID/note id pairs, shared by all instances of this
+	 * database file that have been opened with the same names list
+	 * 
+	 * @return cache or null if disabled
+	 */
+	private UnidNoteIdCache getUnidCache() {
+		if (!UnidNoteIdCache.isEnabled()) {
+			return null;
+		}
+		if (m_unidCache==null) {
+			int[] dbInstanceId = getCreated().getAdapter(int[].class);
+			String key = MessageFormat.format("{0}/{1}/{2}", getReplicaID(), //$NON-NLS-1$
+					String.format("%08X%08X", dbInstanceId[0], dbInstanceId[1]), m_namesStringList); //$NON-NLS-1$
+			m_unidCache = UnidNoteIdCache.get(key);
+		}
+		return m_unidCache;
+	}
+
 	@Override
 	public boolean isDocumentLockingEnabled() {
 		return getOption(DatabaseOption.IS_LOCK_DB);
@@ -3191,6 +3353,130 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 		});
 	}
 	
+	@Override
+	public void parallelScan(String selectionFormula, Set<DocumentClass> docClass, Map<String, String> computeValues,
+			int parallelism, FormulaQueryCallback callback) {
+		checkDisposed();
+		
+		int[] noteIds = getAllNoteIds(docClass, false).toIntArray();
+		if (noteIds.length==0) {
+			return;
+		}
+		
+		JNADominoClient client = getParentDominoClient();
+		int threadCount = parallelism>0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		threadCount = Math.min(threadCount, noteIds.length);
+		//use more ranges than threads so that threads finishing early can pick up remaining work
+		int rangeCount = Math.min(threadCount * 4, noteIds.length);
+		AtomicInteger nextRange = new AtomicInteger();
+		AtomicBoolean stopped = new AtomicBoolean();
+		
+		if (threadCount==1 || !client.isAllowCrossThreadAccess()) {
+			scanRanges(this, selectionFormula, docClass, computeValues, callback, noteIds, rangeCount, nextRange, stopped);
+			return;
+		}
+		
+		String filePath = getRelativeFilePath();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		
+		//reopen on this thread so that all workers keep the open options and names list of this database
+		List<JNADatabase> threadDbs = new ArrayList<>(threadCount);
+		List<Thread> threads = new ArrayList<>(threadCount);
+		boolean interrupted = false;
+		try {
+			for (int i=0; i<threadCount; i++) {
+				threadDbs.add((JNADatabase) reopen());
+			}
+			
+			for (int i=0; i<threadCount; i++) {
+				JNADatabase threadDb = threadDbs.get(i);
+				Thread thread = client.getThreadFactory().newThread(() -> {
+					try {
+						scanRanges(threadDb, selectionFormula, docClass, computeValues, callback, noteIds, rangeCount, nextRange, stopped);
+					}
+					catch (Throwable t) {
+						error.compareAndSet(null, t);
+						stopped.set(true);
+					}
+				});
+				thread.setName(MessageFormat.format("JNX parallel scan {0} #{1}", filePath, i)); //$NON-NLS-1$
+				threads.add(thread);
+				thread.start();
+			}
+		}
+		finally {
+			//keep waiting when interrupted, the workers use the database handles and call the callback
+			for (Thread thread : threads) {
+				while (thread.isAlive()) {
+					try {
+						thread.join();
+					} catch (InterruptedException e) {
+						interrupted = true;
+						stopped.set(true);
+					}
+				}
+			}
+			for (JNADatabase threadDb : threadDbs) {
+				threadDb.close();
+			}
+		}
+		
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+			throw new DominoException("Interrupted while waiting for the parallel scan to complete");
+		}
+		
+		Throwable t = error.get();
+		if (t instanceof RuntimeException) {
+			throw (RuntimeException) t;
+		}
+		else if (t instanceof Error) {
+			throw (Error) t;
+		}
+		else if (t!=null) {
+			throw new DominoException("Error during parallel scan", t);
+		}
+	}
+	
+	/**
+	 * Searches note id ranges until all ranges have been processed or the
+	 * scan has been stopped
+	 */
+	private static void scanRanges(JNADatabase db, String selectionFormula, Set<DocumentClass> docClass,
+			Map<String, String> computeValues, FormulaQueryCallback callback, int[] noteIds, int rangeCount,
+			AtomicInteger nextRange, AtomicBoolean stopped) {
+		
+		int range;
+		while (!stopped.get() && (range = nextRange.getAndIncrement()) < rangeCount) {
+			int from = (int) ((long) noteIds.length * range / rangeCount);
+			int to = (int) ((long) noteIds.length * (range+1) / rangeCount);
+			
+			JNAIDTable rangeIdTable = new JNAIDTable(db.getParentDominoClient(),
+					NoteIdList.of(Arrays.copyOfRange(noteIds, from, to)));
+			try {
+				NotesSearch.search(db, rangeIdTable, selectionFormula, computeValues, "-", //$NON-NLS-1$
+						EnumSet.of(SearchFlag.SUMMARY), docClass, null, new NotesSearch.SearchCallback() {
+					
+					@Override
+					public Action noteFound(JNADatabase parentDb, JNASearchMatch searchMatch, IItemTableData summaryBufferData) {
+						if (stopped.get()) {
+							return Action.Stop;
+						}
+						Action action = callback.matchFound(db, searchMatch, summaryBufferData);
+						if (action==Action.Stop) {
+							stopped.set(true);
+						}
+						return action;
+					}
+					
+				});
+			}
+			finally {
+				rangeIdTable.dispose();
+			}
+		}
+	}
+	
 	@Override
 	public int findCollectionId(String name, CollectionType type) {
 		checkDisposed();
@@ -3736,7 +4022,7 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 	public List<String> queryAccessRoles(String userName) {
 		JNAUserNamesList namesList = null;
 		try {
-			namesList = NotesNamingUtils.buildNamesList(getParentDominoClient(), getServer(), userName);
+			namesList = UserNamesListCache.getNamesList(getParentDominoClient(), getServer(), userName);
 			List<String> roles = getACL().lookupAccess(namesList).getRoles();
 			return roles;
 		}
@@ -3844,6 +4130,11 @@ public class JNADatabase extends BaseJNAAPIObject<JNADatabaseAllocations> implem
 		return new JNADocumentSummaryQueryResult(this, noteIds);
 	}
 
+	@Override
+	public DocumentSummaryQueryResult queryDocuments(NoteIdList noteIds) {
+		return new JNADocumentSummaryQueryResult(this, noteIds);
+	}
+
 	@Override
 	public NavigableMap<String,ItemDataType> getItemDefinitionTable() {
 		checkDisposed();
@@ -2413,7 +2413,8 @@ public class JNADocument extends BaseJNAAPIObject<JNADocumentAllocations> implem
 
 		//currently we do not support compression, because we could not find a Java OutputStream
 		//implementation for Huffman that produced compatible result and no implementation at all
-		//for LZ1 (tried LZW, but that did not work either)
+		//for LZ1 (tried LZW, but that did not work either); the Notes formats are not documented,
+		//so a Java encoder cannot be verified without sample objects from the runtime
 		final Compression compression = Compression.NONE;
 		
 		//make sure that the unique filename is really unique, since it will be used to return the NotesAttachment object
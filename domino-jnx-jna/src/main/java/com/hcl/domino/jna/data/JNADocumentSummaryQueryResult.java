@@ -32,12 +32,20 @@ import com.hcl.domino.data.DocumentSummaryQueryResult;
 import com.hcl.domino.data.DominoCollection;
 import com.hcl.domino.data.FormulaQueryResult;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
+import com.hcl.domino.data.SortSpec;
 import com.hcl.domino.misc.Loop;
 
 public class JNADocumentSummaryQueryResult implements DocumentSummaryQueryResult {
 	private JNADatabase m_parentDb;
 	private DbQueryResultUtil<FormulaQueryResult> m_queryUtil;
 	private Collection<Integer> m_noteIds;
+	private NoteIdList m_noteIdList;
+	
+	public JNADocumentSummaryQueryResult(JNADatabase parentDb, NoteIdList noteIds) {
+		this(parentDb, (Collection<Integer>) null);
+		m_noteIdList = noteIds;
+	}
 	
 	public JNADocumentSummaryQueryResult(JNADatabase parentDb, Collection<Integer> noteIds) {
 		m_parentDb = parentDb;
@@ -82,6 +90,11 @@ public class JNADocumentSummaryQueryResult implements DocumentSummaryQueryResult
 		this.m_queryUtil.collectIds(skip, count, idTable);
 	}
 
+	@Override
+	public NoteIdList collectNoteIds(int skip, int count) {
+		return this.m_queryUtil.collectNoteIds(skip, count);
+	}
+
 	@Override
 	public JNADocumentSummaryQueryResult computeValues(String... itemsAndFormulas) {
 		m_queryUtil.computeValues(itemsAndFormulas);
@@ -100,6 +113,12 @@ public class JNADocumentSummaryQueryResult implements DocumentSummaryQueryResult
 		return this;
 	}
 
+	@Override
+	public JNADocumentSummaryQueryResult sortBy(List<SortSpec> sortSpecs) {
+		m_queryUtil.sortBy(sortSpecs);
+		return this;
+	}
+
 	@Override
 	public List<CollectionEntry> collectEntries(int skip, int count) {
 		return this.m_queryUtil.collectEntries(skip, count);
@@ -122,6 +141,9 @@ public class JNADocumentSummaryQueryResult implements DocumentSummaryQueryResult
 
 	@Override
 	public Optional<IDTable> getNoteIds() {
+		if (m_noteIdList!=null) {
+			return Optional.of(new JNAIDTable(m_parentDb.getParentDominoClient(), m_noteIdList));
+		}
 		return Optional.of(new JNAIDTable(m_parentDb.getParentDominoClient(), m_noteIds));
 	}
 
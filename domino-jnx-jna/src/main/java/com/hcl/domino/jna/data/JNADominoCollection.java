@@ -68,6 +68,7 @@ import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.data.Find;
 import com.hcl.domino.data.IDTable;
 import com.hcl.domino.data.Navigate;
+import com.hcl.domino.data.NoteIdList;
 import com.hcl.domino.design.DesignConstants;
 import com.hcl.domino.exception.ObjectDisposedException;
 import com.hcl.domino.jna.BaseJNAAPIObject;
@@ -91,6 +92,7 @@ import com.hcl.domino.jna.internal.views.NotesSearchKeyEncoder;
 import com.hcl.domino.jna.internal.views.NotesViewLookupResultData;
 import com.hcl.domino.misc.Loop;
 import com.hcl.domino.misc.NotesConstants;
+import com.hcl.domino.runtime.CacheStatistics;
 import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
@@ -243,6 +245,7 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 	private Map<Integer, String> m_columnTitlesByIndex;
 	private DominoViewFormat m_viewFormat;
 	private boolean m_autoUpdate = true;
+	private CollectionCountCache m_countCache;
 
 	JNADominoCollection(JNADatabase parentDbView, JNADatabase parentDbData, ByReference rethCollection, int viewNoteId,
 			String viewUNID,
@@ -506,6 +509,23 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 		return retDocCount.getValue();
 	}
 
+	/**
+	 * Returns the cache for the entry counts computed by {@link JNACollectionSearchQuery#size()}
+	 * 
+	 * @return cache
+	 */
+	CollectionCountCache getCountCache() {
+		if (m_countCache==null) {
+			m_countCache = new CollectionCountCache(MessageFormat.format("CollectionCounts {0}", m_viewUnid)); //$NON-NLS-1$
+		}
+		return m_countCache;
+	}
+	
+	@Override
+	public CacheStatistics getCountCacheStatistics() {
+		return getCountCache().getStatistics();
+	}
+	
 	@Override
 	public void resetViewSortingToDefault() {
 		setCollation((short) 0);
@@ -524,6 +544,9 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 			return NotesCAPI.get().NIFSetCollation(handleByVal, collation);
 		});
 		NotesErrorUtils.checkResult(result);
+		
+		//counts of queries starting at a category depend on the sorting
+		getCountCache().clear();
 	}
 	
 	@Override
@@ -1771,23 +1794,34 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 			return new LinkedHashSet<>();
 		}
 		
-		Navigate nav;
+		return getAllEntries("0", 1, toAllIdsNavigator(withDocuments, withCategories), //$NON-NLS-1$
+				Integer.MAX_VALUE, EnumSet.of(ReadMask.NOTEID), 
+				new NoteIdsAsOrderedSetCallback(Integer.MAX_VALUE));
+	}
+	
+	@Override
+	public NoteIdList getAllIdsAsNoteIdList(boolean withDocuments, boolean withCategories) {
+		if (!withDocuments && !withCategories) {
+			return new NoteIdList(0);
+		}
+		
+		return getAllEntries("0", 1, toAllIdsNavigator(withDocuments, withCategories), //$NON-NLS-1$
+				Integer.MAX_VALUE, EnumSet.of(ReadMask.NOTEID), 
+				new NoteIdsAsListCallback(Integer.MAX_VALUE));
+	}
+	
+	private static Navigate toAllIdsNavigator(boolean withDocuments, boolean withCategories) {
 		if (withDocuments) {
 			if (withCategories) {
-				nav = Navigate.NEXT_ENTRY;
+				return Navigate.NEXT_ENTRY;
 			}
 			else {
-				nav = Navigate.NEXT_DOCUMENT;
+				return Navigate.NEXT_DOCUMENT;
 			}
-			
 		}
 		else {
-			nav = Navigate.NEXT_CATEGORY;
+			return Navigate.NEXT_CATEGORY;
 		}
-		
-		return getAllEntries("0", 1, nav, //$NON-NLS-1$
-				Integer.MAX_VALUE, EnumSet.of(ReadMask.NOTEID), 
-				new NoteIdsAsOrderedSetCallback(Integer.MAX_VALUE));
 	}
 	
 	
@@ -1811,6 +1845,26 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 				new NoteIdsAsOrderedSetCallback(Integer.MAX_VALUE), keysArr);
 	}
 	
+	@Override
+	public NoteIdList getAllIdsByKeyAsNoteIdList(Set<Find> findFlags, Object key) {
+		Objects.requireNonNull(key, "Key cannot be null");
+		return getAllIdsByKeyAsNoteIdList(findFlags, Arrays.asList(key));
+	}
+
+	@Override
+	public NoteIdList getAllIdsByKeyAsNoteIdList(Set<Find> findFlags, Collection<Object> key) {
+		Objects.requireNonNull(key, "Key cannot be null");
+		if (key.isEmpty()) {
+			throw new IllegalArgumentException("Key cannot be empty");
+		}
+		
+		Object[] keysArr = key.toArray(new Object[key.size()]);
+		Set<FindFlag> jnaFindFlags = toJNAFind(findFlags);
+		
+		return getAllEntriesByKey(jnaFindFlags, EnumSet.of(ReadMask.NOTEID),
+				new NoteIdsAsListCallback(Integer.MAX_VALUE), keysArr);
+	}
+	
 	/**
 	 * Maps publicly available find flags to the full list
 	 * 
@@ -2404,6 +2458,20 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 				new NoteIdsAsOrderedSetCallback(Integer.MAX_VALUE));
 	}
 	
+	/**
+	 * Convenience method that reads all note ids located under a category
+	 * without boxing them
+	 * 
+	 * @param category category
+	 * @param returnNav navigator to be used to scan for collection entries
+	 * @return ids in view order
+	 * @since 1.44.0
+	 */
+	public NoteIdList getAllIdsInCategoryAsNoteIdList(String category, Navigate returnNav) {
+		return getAllEntriesInCategory(category, 0, returnNav, Integer.MAX_VALUE, EnumSet.of(ReadMask.NOTEID),
+				new NoteIdsAsListCallback(Integer.MAX_VALUE));
+	}
+	
 	/**
 	 * Locates a note in the collection
 	 * 
@@ -2749,6 +2817,64 @@ public class JNADominoCollection extends BaseJNAAPIObject<JNADominoCollectionAll
 		}
 	}
 
+	/**
+	 * Subclass of {@link JNACollectionEntryProcessor} that stores the the note ids of read collection entries
+	 * in a {@link NoteIdList}, keeping the insertion order without boxing the ids.
+	 * 
+	 * @since 1.44.0
+	 */
+	public static class NoteIdsAsListCallback extends JNACollectionEntryProcessor<NoteIdList> {
+		private int m_maxEntries;
+
+		public NoteIdsAsListCallback(int maxEntries) {
+			m_maxEntries = maxEntries;
+		}
+
+		@Override
+		public NoteIdList start() {
+			return new NoteIdList();
+		}
+
+		@Override
+		public Action entryRead(NoteIdList result, CollectionEntry entryData) {
+			if (m_maxEntries==0) {
+				return Action.Stop;
+			}
+
+			int noteId = entryData.getNoteID();
+			if (noteId != 0) {
+				if (!isAccepted(noteId)) {
+					//ignore this note id
+					return Action.Continue;
+				}
+
+				//add note id to result list
+				result.add(noteId);
+				
+				if (result.size() >= m_maxEntries) {
+					//stop the lookup, we have enough data
+					return Action.Stop;
+				}
+			}
+			return Action.Continue;
+		}
+
+		/**
+		 * Override this method to filter note ids
+		 * 
+		 * @param noteId current note id
+		 * @return true if note id should be added to the result
+		 */
+		protected boolean isAccepted(int noteId) {
+			return true;
+		}
+		
+		@Override
+		public NoteIdList end(NoteIdList result) {
+			return result;
+		}
+	}
+
 	@Override
 	public String toStringLocal() {
 		if (isDisposed()) {
@@ -33,7 +33,9 @@ import com.hcl.domino.data.Document;
 import com.hcl.domino.data.DominoCollection;
 import com.hcl.domino.data.FTQueryResult;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
 import com.hcl.domino.data.NoteIdWithScore;
+import com.hcl.domino.data.SortSpec;
 import com.hcl.domino.misc.Loop;
 
 /**
@@ -134,6 +136,11 @@ public class JNAFTQueryResult implements FTQueryResult {
 		m_queryUtil.collectIds(skip, count, idTable);
 	}
 
+	@Override
+	public NoteIdList collectNoteIds(int skip, int count) {
+		return m_queryUtil.collectNoteIds(skip, count);
+	}
+
 	@Override
 	public List<CollectionEntry> collectEntries(int skip, int count) {
 		return m_queryUtil.collectEntries(skip, count);
@@ -177,5 +184,11 @@ public class JNAFTQueryResult implements FTQueryResult {
 		m_queryUtil.sort(collection);
 		return this;
 	}
+
+	@Override
+	public FTQueryResult sortBy(List<SortSpec> sortSpecs) {
+		m_queryUtil.sortBy(sortSpecs);
+		return this;
+	}
 	
 }
\ No newline at end of file
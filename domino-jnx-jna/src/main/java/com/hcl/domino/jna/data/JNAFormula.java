@@ -21,8 +21,10 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.hcl.domino.DominoException;
@@ -32,13 +34,19 @@ import com.hcl.domino.commons.gc.IAPIObject;
 import com.hcl.domino.commons.gc.IGCDominoClient;
 import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.util.StringUtil;
+import com.hcl.domino.commons.views.IItemTableData;
+import com.hcl.domino.data.Database;
+import com.hcl.domino.data.Database.Action;
 import com.hcl.domino.data.Document;
+import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.data.Formula;
 import com.hcl.domino.data.FormulaAnalyzeResult;
 import com.hcl.domino.data.FormulaAnalyzeResult.FormulaAttributes;
 import com.hcl.domino.data.IAdaptable;
 import com.hcl.domino.data.ItemDataType;
+import com.hcl.domino.data.NoteIdList;
+import com.hcl.domino.dbdirectory.DirectorySearchQuery.SearchFlag;
 import com.hcl.domino.exception.FormulaCompilationException;
 import com.hcl.domino.exception.IncompatibleImplementationException;
 import com.hcl.domino.exception.ObjectDisposedException;
@@ -50,6 +58,8 @@ import com.hcl.domino.jna.internal.gc.allocations.JNADocumentAllocations;
 import com.hcl.domino.jna.internal.gc.allocations.JNAFormulaAllocations;
 import com.hcl.domino.jna.internal.gc.handles.DHANDLE;
 import com.hcl.domino.jna.internal.gc.handles.LockUtil;
+import com.hcl.domino.jna.internal.search.NotesSearch;
+import com.hcl.domino.jna.internal.search.NotesSearch.JNASearchMatch;
 import com.hcl.domino.misc.DominoEnumUtil;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
@@ -61,6 +71,9 @@ import com.sun.jna.ptr.ShortByReference;
  * @author Karsten Lehmann
  */
 public class JNAFormula extends BaseJNAAPIObject<JNAFormulaAllocations> implements IAdaptable, Formula {
+	/** name of the computed summary value used by the batch evaluation */
+	private static final String BATCH_RESULT_ITEMNAME = "$JNXFormulaResult"; //$NON-NLS-1$
+	
 	private String m_formula;
 	private Set<Disallow> m_disallowedActions;
 	
@@ -288,6 +301,74 @@ public class JNAFormula extends BaseJNAAPIObject<JNAFormulaAllocations> implemen
 				);
 	}
 	
+	@Override
+	public void evaluate(Database db, Collection<Integer> noteIds, BatchEvaluationCallback callback) {
+		checkDisposed();
+		
+		if (!(db instanceof JNADatabase)) {
+			throw new IncompatibleImplementationException(db, JNADatabase.class);
+		}
+		if (noteIds.isEmpty()) {
+			return;
+		}
+		
+		if (noteIds instanceof JNAIDTable) {
+			evaluate((JNADatabase) db, (JNAIDTable) noteIds, callback);
+		}
+		else {
+			JNAIDTable idTable = new JNAIDTable(getParentDominoClient(), noteIds);
+			try {
+				evaluate((JNADatabase) db, idTable, callback);
+			}
+			finally {
+				idTable.dispose();
+			}
+		}
+	}
+	
+	@Override
+	public void evaluate(Database db, int[] noteIds, BatchEvaluationCallback callback) {
+		checkDisposed();
+		
+		if (!(db instanceof JNADatabase)) {
+			throw new IncompatibleImplementationException(db, JNADatabase.class);
+		}
+		if (noteIds.length==0) {
+			return;
+		}
+		
+		JNAIDTable idTable = new JNAIDTable(getParentDominoClient(), NoteIdList.of(noteIds));
+		try {
+			evaluate((JNADatabase) db, idTable, callback);
+		}
+		finally {
+			idTable.dispose();
+		}
+	}
+	
+	/**
+	 * Computes the formula as summary value of a search restricted to the specified
+	 * note ids, so that we do not need to open the documents
+	 * 
+	 * @param db database
+	 * @param idTable note ids
+	 * @param callback callback to receive the results
+	 */
+	private void evaluate(JNADatabase db, JNAIDTable idTable, BatchEvaluationCallback callback) {
+		Map<String,String> computeValues = Collections.singletonMap(BATCH_RESULT_ITEMNAME, m_formula);
+		
+		NotesSearch.search(db, idTable, "@All", computeValues, "-", //$NON-NLS-1$ //$NON-NLS-2$
+				EnumSet.of(SearchFlag.SUMMARY, SearchFlag.NOITEMNAMES), EnumSet.of(DocumentClass.ALL), null, new NotesSearch.SearchCallback() {
+			
+			@Override
+			public Action noteFound(JNADatabase parentDb, JNASearchMatch searchMatch, IItemTableData summaryBufferData) {
+				List<Object> value = summaryBufferData==null ? null : summaryBufferData.getAsList(BATCH_RESULT_ITEMNAME, Object.class, null);
+				return callback.resultComputed(searchMatch.getNoteID(), value==null ? Collections.emptyList() : value);
+			}
+			
+		});
+	}
+	
 	private static class FormulaExecutionResultImpl implements FormulaExecutionResult {
 		private List<Object> m_result;
 		private boolean m_matchesFormula;
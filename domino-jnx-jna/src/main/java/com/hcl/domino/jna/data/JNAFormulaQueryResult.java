@@ -33,6 +33,8 @@ import com.hcl.domino.data.DominoCollection;
 import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.data.FormulaQueryResult;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
+import com.hcl.domino.data.SortSpec;
 import com.hcl.domino.misc.Loop;
 
 public class JNAFormulaQueryResult implements FormulaQueryResult {
@@ -91,6 +93,11 @@ public class JNAFormulaQueryResult implements FormulaQueryResult {
 		this.m_queryUtil.collectIds(skip, count, idTable);
 	}
 
+	@Override
+	public NoteIdList collectNoteIds(int skip, int count) {
+		return this.m_queryUtil.collectNoteIds(skip, count);
+	}
+
 	@Override
 	public FormulaQueryResult computeValues(String... itemsAndFormulas) {
 		m_queryUtil.computeValues(itemsAndFormulas);
@@ -109,6 +116,12 @@ public class JNAFormulaQueryResult implements FormulaQueryResult {
 		return this;
 	}
 
+	@Override
+	public FormulaQueryResult sortBy(List<SortSpec> sortSpecs) {
+		m_queryUtil.sortBy(sortSpecs);
+		return this;
+	}
+
 	@Override
 	public List<CollectionEntry> collectEntries(int skip, int count) {
 		return this.m_queryUtil.collectEntries(skip, count);
@@ -27,13 +27,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.SortedSet;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import com.hcl.domino.DominoException;
@@ -45,11 +45,13 @@ import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.util.PlatformUtils;
 import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
 import com.hcl.domino.jna.BaseJNAAPIObject;
 import com.hcl.domino.jna.JNADominoClient;
 import com.hcl.domino.jna.internal.Mem;
 import com.hcl.domino.jna.internal.callbacks.NotesCallbacks;
 import com.hcl.domino.jna.internal.callbacks.Win32NotesCallbacks;
+import com.hcl.domino.jna.internal.capi.INotesCAPI;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
 import com.hcl.domino.jna.internal.gc.allocations.JNAIDTableAllocations;
 import com.hcl.domino.jna.internal.gc.handles.DHANDLE;
@@ -77,6 +79,25 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 		setInitialized();
 	}
 
+	/**
+	 * Creates a new ID table with the note ids of a {@link NoteIdList}
+	 * 
+	 * @param parent parent client
+	 * @param noteIds note ids
+	 * @since 1.44.0
+	 */
+	public JNAIDTable(IGCDominoClient<?> parent, NoteIdList noteIds) {
+		super(parent);
+		
+		init();
+		
+		if (!noteIds.isEmpty()) {
+			addAll(noteIds.toIntArray(), true);
+		}
+		
+		setInitialized();
+	}
+
 	public JNAIDTable(IGCDominoClient<?> parent, DHANDLE handle, boolean noDispose) {
 		super(parent);
 		
@@ -159,12 +180,12 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 	}
 
 	@Override
-	public Iterator<Integer> iterator() {
+	public PrimitiveIterator.OfInt iterator() {
 		return new NoteIdIterator(this, false);
 	}
 
 	@Override
-	public Iterator<Integer> reverseIterator() {
+	public PrimitiveIterator.OfInt reverseIterator() {
 		return new NoteIdIterator(this, true);
 	}
 
@@ -399,22 +420,32 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 		return addAll(c, addToEnd);
 	}
 
-	private final Comparator<Integer> unsignedIntComparator = new Comparator<Integer>() {
-	  @Override
-	  public int compare(Integer o1, Integer o2) {
-	    long l1 = o1.longValue() & 0xFFFFFFFFL;
-	    long l2 = o2.longValue() & 0xFFFFFFFFL;
-	    return Long.compare(l1, l2);
-	  }
-	};
+	@Override
+	public boolean addAll(int[] noteIds) {
+		if (noteIds.length == 0) {
+			return false;
+		}
+		
+		//copy the array, because it gets sorted in place
+		return addAll(noteIds.clone(), isEmpty());
+	}
+
+	@Override
+	public boolean addAll(NoteIdList noteIds) {
+		if (noteIds.isEmpty()) {
+			return false;
+		}
+		
+		return addAll(noteIds.toIntArray(), isEmpty());
+	}
 
 	private boolean addAll(Collection<? extends Integer> c, boolean addToEnd) {
 		checkDisposed();
 		JNAIDTableAllocations allocations = getAllocations();
 		
-		int oldSize = size();
-		
 		if (c instanceof JNAIDTable) {
+			int oldSize = size();
+			
 			JNAIDTable otherIDTable = (JNAIDTable) c;
 			otherIDTable.checkDisposed();
 			
@@ -431,83 +462,82 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 			});
 			
 			NotesErrorUtils.checkResult(result);
+			
+			return oldSize != size();
 		}
 		else {
-		  Integer[] noteIdsArr = c.toArray(new Integer[c.size()]);
-		  //sorts category note ids to the end of the list (with NOTEID_CATEGORY bit set)
-		  Arrays.sort(noteIdsArr, unsignedIntComparator);
-			
-	    LinkedList<Long> currIdRange = new LinkedList<>();
+			int[] noteIdsArr = new int[c.size()];
+			int idx = 0;
+			for (Integer currNoteId : c) {
+				noteIdsArr[idx++] = currNoteId;
+			}
 			
-			LockUtil.lockHandle(
-					allocations.getIdTableHandle(),
-					(ourIDTableHandleByVal) -> {
-						//find consecutive id ranges to reduce number of insert operations (insert ranges)
-						for (int i=0; i<noteIdsArr.length; i++) {
-							int currNoteId = noteIdsArr[i];
-							long currNoteIdUnsigned = Integer.toUnsignedLong(currNoteId);
-
-							if (currIdRange.isEmpty()) {
-								currIdRange.add(currNoteIdUnsigned);
-							}
-							else {
-								Long highestRangeId = currIdRange.getLast();
-								if (currNoteIdUnsigned == (highestRangeId.intValue() + 4)) {
-									currIdRange.add(currNoteIdUnsigned);
-								}
-								else {
-	                long first = currIdRange.getFirst();
-	                //convert to signed int
-	                int firstAsInt = (int) first;
-								  
-									if (currIdRange.size()==1) {
-										add(firstAsInt);
-									}
-									else {
-									  long last = currIdRange.getLast();
-				            //convert to signed int
-				            int lastAsInt = (int) last;
-
-										short result = NotesCAPI.get().IDInsertRange(ourIDTableHandleByVal,
-										    firstAsInt,
-										    lastAsInt, addToEnd);
-										NotesErrorUtils.checkResult(result);
-									}
-									//flush range list
-									currIdRange.clear();
-									currIdRange.add(currNoteIdUnsigned);
-								}
-							}
+			return addAll(noteIdsArr, addToEnd);
+		}
+	}
+
+	/**
+	 * Inserts note ids, using range inserts for consecutive ids
+	 * 
+	 * @param noteIdsArr note ids, will be sorted in place
+	 * @param addToEnd true if all ids are known to be greater than the current table content
+	 * @return true if the table has been changed
+	 */
+	private boolean addAll(int[] noteIdsArr, boolean addToEnd) {
+		checkDisposed();
+		JNAIDTableAllocations allocations = getAllocations();
+		
+		int oldSize = size();
+		
+		//sorts category note ids to the end of the list (with NOTEID_CATEGORY bit set)
+		sortUnsigned(noteIdsArr);
+		
+		LockUtil.lockHandle(
+				allocations.getIdTableHandle(),
+				(ourIDTableHandleByVal) -> {
+					IntByReference retInserted = new IntByReference();
+					
+					//find consecutive id ranges to reduce number of insert operations (insert ranges)
+					int i = 0;
+					while (i < noteIdsArr.length) {
+						int first = noteIdsArr[i];
+						int last = first;
+						i++;
+						while (i < noteIdsArr.length && (noteIdsArr[i] == last + 4 || noteIdsArr[i] == last)) {
+							last = noteIdsArr[i];
+							i++;
 						}
 						
-						if (!currIdRange.isEmpty()) {
-				      long first = currIdRange.getFirst();
-				      //convert to signed int
-				      int firstAsInt = (int) first;
-				      
-							if (currIdRange.size()==1) {
-								add(firstAsInt);
-							}
-							else {
-							  long last = currIdRange.getLast();
-
-							  //convert to signed int
-				        int lastAsInt = (int) last;
-
-								short result = NotesCAPI.get().IDInsertRange(ourIDTableHandleByVal,
-								    firstAsInt,
-								    lastAsInt, addToEnd);
-								NotesErrorUtils.checkResult(result);
-							}
+						short result;
+						if (first == last) {
+							result = NotesCAPI.get().IDInsert(ourIDTableHandleByVal, first, retInserted);
 						}
-						
-						return 0;
-					});
+						else {
+							result = NotesCAPI.get().IDInsertRange(ourIDTableHandleByVal, first, last, addToEnd);
+						}
+						NotesErrorUtils.checkResult(result);
+					}
+					
+					return 0;
+				});
 		
-		}
-
 		return oldSize != size();
 	}
+	
+	/**
+	 * Sorts note ids in ascending order of their unsigned values
+	 * 
+	 * @param noteIds note ids to sort in place
+	 */
+	private static void sortUnsigned(int[] noteIds) {
+		for (int i=0; i<noteIds.length; i++) {
+			noteIds[i] ^= Integer.MIN_VALUE;
+		}
+		Arrays.sort(noteIds);
+		for (int i=0; i<noteIds.length; i++) {
+			noteIds[i] ^= Integer.MIN_VALUE;
+		}
+	}
 
 	@Override
 	public boolean retainAll(Collection<?> c) {
@@ -795,79 +825,112 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 		});
 	}
 	
-	private static class NoteIdIterator implements Iterator<Integer> {
+	/**
+	 * Iterator that reads the note ids in chunks via {@link #scan(boolean, boolean, int, int[])},
+	 * so that the ID table handle is locked once per chunk instead of once per id.<br>
+	 * <br>
+	 * Each chunk is read from the start of the table up to the last returned id, because
+	 * the IDScan position is shared by all readers of the table. The chunk size grows
+	 * so that the number of restarts stays small for large tables.
+	 */
+	private static class NoteIdIterator implements PrimitiveIterator.OfInt {
+		private static final int MIN_CHUNK_SIZE = 64;
+		private static final int MAX_CHUNK_SIZE = 65536;
+		
 		private JNAIDTable m_idTable;
-		private IntByReference m_nextIdRef;
-		private Integer m_nextId;
 		private boolean m_scanBackward;
+		private int[] m_chunk;
+		private int m_chunkLength;
+		private int m_chunkPos;
+		private boolean m_eof;
 		
 		private NoteIdIterator(JNAIDTable idTable, boolean scanBackward) {
 			m_idTable = idTable;
 			m_scanBackward = scanBackward;
+			//start small in case the caller only needs the first ids
+			m_chunk = new int[MIN_CHUNK_SIZE];
 			
-			fetchNext();
+			fetchNext(true);
 		}
 		
-		private void fetchNext() {
-			JNAIDTableAllocations allocations = m_idTable.getAllocations();
-			allocations.checkDisposed();
-			
-			boolean isFirstVal;
-			
-			if (m_nextIdRef==null) {
-				//first id
-				isFirstVal = true;
-				m_nextIdRef = new IntByReference();
+		private void fetchNext(boolean first) {
+			int lastId = first ? 0 : m_chunk[m_chunkLength-1];
+			if (!first && m_chunk.length < MAX_CHUNK_SIZE) {
+				m_chunk = new int[Math.min(MAX_CHUNK_SIZE, m_chunk.length * 4)];
 			}
-			else if (m_nextId==null) {
-				//no more data
-				return;
-			}
-			else {
-				isFirstVal = false;
-				m_nextIdRef.setValue(m_nextId);
-			}
-			
-			LockUtil.lockHandle(allocations.getIdTableHandle(), (handleByVal) -> {
-				if (m_scanBackward) {
-					if (NotesCAPI.get().IDScanBack(handleByVal, isFirstVal, m_nextIdRef)) {
-						m_nextId = m_nextIdRef.getValue();
-					}
-					else {
-						m_nextId = null;
-					}
-				}
-				else {
-					if (NotesCAPI.get().IDScan(handleByVal, isFirstVal, m_nextIdRef)) {
-						m_nextId = m_nextIdRef.getValue();
-					}
-					else {
-						m_nextId = null;
-					}
-				}
-				return 0;
-			});
+			m_chunkLength = m_idTable.scan(m_scanBackward, !first, lastId, m_chunk);
+			m_chunkPos = 0;
+			m_eof = m_chunkLength < m_chunk.length;
 		}
 		
 		@Override
 		public boolean hasNext() {
-			return m_nextId!=null;
+			if (m_chunkPos < m_chunkLength) {
+				return true;
+			}
+			if (m_eof) {
+				return false;
+			}
+			fetchNext(false);
+			return m_chunkPos < m_chunkLength;
 		}
 
 		@Override
-		public Integer next() {
-			if (m_nextId==null) {
+		public int nextInt() {
+			if (!hasNext()) {
 				throw new NoSuchElementException("No more elements");
 			}
 			
-			Integer nextId = m_nextId;
-			fetchNext();
-			
-			return nextId;
+			return m_chunk[m_chunkPos++];
 		}
 		
 	}
 
+	/**
+	 * Reads ids via IDScan/IDScanBack into a buffer while holding the
+	 * handle lock. The scan always starts at the beginning (or end if <code>backward</code>
+	 * is true) of the table, so it does not depend on the IDScan position left by
+	 * other readers.
+	 * 
+	 * @param backward true to read the ids in descending order
+	 * @param resume true to skip all ids up to and including <code>lastId</code>
+	 * @param lastId last id returned by the previous call if <code>resume</code> is true
+	 * @param buf buffer to fill
+	 * @return number of ids written to <code>buf</code>, less than its length if the end of the table has been reached
+	 */
+	private int scan(boolean backward, boolean resume, int lastId, int[] buf) {
+		checkDisposed();
+		JNAIDTableAllocations allocations = getAllocations();
+		
+		return LockUtil.lockHandle(allocations.getIdTableHandle(), (handleByVal) -> {
+			INotesCAPI api = NotesCAPI.get();
+			IntByReference retID = new IntByReference();
+			
+			int len = 0;
+			boolean scanFirst = true;
+			boolean skip = resume;
+			while (len < buf.length) {
+				boolean found = backward ? api.IDScanBack(handleByVal, scanFirst, retID) : api.IDScan(handleByVal, scanFirst, retID);
+				if (!found) {
+					break;
+				}
+				scanFirst = false;
+				
+				int id = retID.getValue();
+				if (skip) {
+					//IDScan returns the ids in unsigned order, so category ids come last
+					int cmp = Integer.compareUnsigned(id, lastId);
+					if (backward ? cmp >= 0 : cmp <= 0) {
+						continue;
+					}
+					skip = false;
+				}
+				buf[len++] = id;
+			}
+			return len;
+		});
+	}
+
 	/**
 	 * Returns the first ID in the table
 	 * 
@@ -917,14 +980,32 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 		checkDisposed();
 		
 		int size = size();
-		int[] result = new int[size];
-		int[] i = new int[] { 0 };
-		enumerate(noteId -> {
-			result[i[0]++] = noteId;
-			return IEnumerateCallback.Action.Continue;
-		});
+		if (size == 0) {
+			return new int[0];
+		}
 		
-		return result;
+		//read one more id than expected to verify that we reached the end
+		int[] buf = new int[size + 1];
+		int len = scan(false, false, 0, buf);
+		if (len == size) {
+			return Arrays.copyOf(buf, size);
+		}
+		else {
+			//IDEntries does not match the scan result, e.g. for ID tables with category ids
+			//inserted in the wrong order; fall back to IDEnumerate
+			List<Integer> ids = toList(Integer.MAX_VALUE);
+			return ids.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	@Override
+	public void forEachId(IntConsumer action) {
+		Objects.requireNonNull(action, "action cannot be null");
+		
+		NoteIdIterator it = new NoteIdIterator(this, false);
+		while (it.hasNext()) {
+			action.accept(it.nextInt());
+		}
 	}
 	
 	/**
@@ -934,14 +1015,15 @@ public class JNAIDTable extends BaseJNAAPIObject<JNAIDTableAllocations> implemen
 	 * @return ID table
 	 */
 	public JNAIDTable withHighOrderBit() {
-		List<Integer> ids = toList(Integer.MAX_VALUE);
+		int[] ids = toIntArray();
 		
-		for (int i=0; i<ids.size(); i++) {
-			long currId = ids.get(i) | NotesConstants.NOTEID_RESERVED;
-			ids.set(i, (int) (currId & 0xffffffffL));
+		for (int i=0; i<ids.length; i++) {
+			ids[i] |= (int) NotesConstants.NOTEID_RESERVED;
 		}
 		
-		return new JNAIDTable(getParentDominoClient(), ids);
+		JNAIDTable result = new JNAIDTable(getParentDominoClient());
+		result.addAll(ids);
+		return result;
 	}
 
 	@Override
@@ -0,0 +1,299 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.data;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.hcl.domino.commons.util.DominoUtils;
+import com.hcl.domino.data.DocumentClass;
+import com.hcl.domino.data.DominoDateRange;
+import com.hcl.domino.data.DominoDateTime;
+import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.SortSpec;
+import com.hcl.domino.jna.data.DocumentSummaryIterator.DocumentData;
+
+/**
+ * Sorts the note ids of a query result by summary values in Java, so that
+ * query results can be ordered and paged without selecting them in a view.<br>
+ * <br>
+ * Only the sort values are read from the summary buffer and only note id and sort
+ * values are kept in memory. If just the first entries are requested, we use a
+ * bounded heap instead of sorting the whole result. Otherwise one entry per document
+ * is held until the sort is done, so memory grows with the result size and the
+ * length of the text sort values (their collation keys).<br>
+ * <br>
+ * Date/time values are converted to {@link DominoDateTime} before they are compared,
+ * no matter if the summary data returned them as {@link DominoDateTime}, {@link Calendar}
+ * or {@link TemporalAccessor}. Multiple values are compared value by value, so a list
+ * sorts like its first value and ties are broken by the following values.
+ */
+class SummaryValueSorter {
+	/** number of documents to read the sort values for in one search */
+	private static final int SORT_VALUES_PAGE_SIZE = 20000;
+	
+	private final List<SortSpec> m_sortSpecs;
+	private final LinkedHashMap<String,String> m_sortFormulas;
+	private final Collator m_collator;
+	
+	/**
+	 * Creates a new instance
+	 * 
+	 * @param sortSpecs sort criteria
+	 * @param computeValues computed values of the query result, used to look up the formulas of the sort items
+	 */
+	SummaryValueSorter(List<SortSpec> sortSpecs, Map<String,String> computeValues) {
+		m_sortSpecs = sortSpecs;
+		m_sortFormulas = new LinkedHashMap<>();
+		for (SortSpec currSpec : sortSpecs) {
+			String itemName = currSpec.getItemName();
+			String formula = computeValues.get(itemName);
+			//an empty formula reads the item from the document summary
+			m_sortFormulas.put(itemName, formula==null ? "" : formula); //$NON-NLS-1$
+		}
+		
+		m_collator = Collator.getInstance();
+		m_collator.setStrength(Collator.SECONDARY);
+	}
+	
+	/**
+	 * Reads the sort values of the documents and returns the first note ids in sort order
+	 * 
+	 * @param db database
+	 * @param ids note ids to sort
+	 * @param limit max number of note ids to return
+	 * @return sorted note ids
+	 */
+	int[] sort(JNADatabase db, IDTable ids, int limit) {
+		if (limit<=0 || ids.isEmpty()) {
+			return new int[0];
+		}
+		
+		Comparator<SortEntry> comparator = this::compare;
+		//bounded heap with the entry to be dropped next (the last in sort order) at its head
+		boolean topK = limit < ids.size();
+		PriorityQueue<SortEntry> heap = topK ? new PriorityQueue<>(limit+1, comparator.reversed()) : null;
+		List<SortEntry> allEntries = topK ? null : new ArrayList<>(ids.size());
+		
+		try (DocumentSummaryIterator summaryIterator = new DocumentSummaryIterator(db,
+				SORT_VALUES_PAGE_SIZE, ids.iterator(), 0, Integer.MAX_VALUE, m_sortFormulas, EnumSet.of(DocumentClass.DATA),
+				DominoUtils.getDocumentSummaryPrefetchPages())) {
+			
+			while (summaryIterator.hasNext()) {
+				SortEntry entry = toSortEntry(summaryIterator.next());
+				
+				if (!topK) {
+					allEntries.add(entry);
+				}
+				else if (heap.size() < limit) {
+					heap.add(entry);
+				}
+				else if (compare(entry, heap.peek()) < 0) {
+					heap.poll();
+					heap.add(entry);
+				}
+			}
+		}
+		
+		List<SortEntry> sortedEntries;
+		if (topK) {
+			sortedEntries = new ArrayList<>(heap);
+		}
+		else {
+			sortedEntries = allEntries;
+		}
+		Collections.sort(sortedEntries, comparator);
+		
+		int resultSize = Math.min(limit, sortedEntries.size());
+		int[] sortedIds = new int[resultSize];
+		for (int i=0; i<resultSize; i++) {
+			sortedIds[i] = sortedEntries.get(i).m_noteId;
+		}
+		return sortedIds;
+	}
+	
+	private SortEntry toSortEntry(DocumentData docData) {
+		Object[] values = new Object[m_sortSpecs.size()];
+		for (int i=0; i<values.length; i++) {
+			List<?> itemValue = docData.getItemValue(m_sortSpecs.get(i).getItemName());
+			values[i] = toSortValue(itemValue);
+		}
+		return new SortEntry(docData.getSearchMatch().getNoteID(), values);
+	}
+	
+	/**
+	 * Converts a summary value to the value we compare: a {@link Number}, a {@link DominoDateTime},
+	 * a {@link CollationKey}, an array of these for multiple values or <code>null</code>
+	 * if there is no value
+	 */
+	private Object toSortValue(Object value) {
+		if (value instanceof List) {
+			List<Object> sortValues = new ArrayList<>();
+			addSortValues((List<?>) value, sortValues);
+			if (sortValues.isEmpty()) {
+				return null;
+			}
+			else if (sortValues.size()==1) {
+				return sortValues.get(0);
+			}
+			else {
+				return sortValues.toArray();
+			}
+		}
+		else if (value instanceof String) {
+			String strValue = (String) value;
+			//compare precomputed collation keys instead of running the collator for each comparison
+			return strValue.isEmpty() ? null : m_collator.getCollationKey(strValue);
+		}
+		else if (value instanceof DominoDateRange) {
+			return ((DominoDateRange) value).getStartDateTime();
+		}
+		else if (value instanceof DominoDateTime) {
+			return value;
+		}
+		else if (value instanceof Calendar) {
+			return new JNADominoDateTime(((Calendar) value).getTimeInMillis());
+		}
+		else if (value instanceof Date) {
+			return new JNADominoDateTime(((Date) value).getTime());
+		}
+		else if (value instanceof LocalDateTime) {
+			return JNADominoDateTime.from(((LocalDateTime) value).atZone(ZoneId.systemDefault()));
+		}
+		else if (value instanceof TemporalAccessor) {
+			return JNADominoDateTime.from((TemporalAccessor) value);
+		}
+		else {
+			return value;
+		}
+	}
+	
+	private void addSortValues(List<?> values, List<Object> sortValues) {
+		for (Object currValue : values) {
+			if (currValue instanceof List) {
+				addSortValues((List<?>) currValue, sortValues);
+			}
+			else {
+				Object sortValue = toSortValue(currValue);
+				if (sortValue!=null) {
+					sortValues.add(sortValue);
+				}
+			}
+		}
+	}
+	
+	private int compare(SortEntry entry1, SortEntry entry2) {
+		for (int i=0; i<m_sortSpecs.size(); i++) {
+			int result = compareValues(entry1.m_values[i], entry2.m_values[i]);
+			if (result!=0) {
+				return m_sortSpecs.get(i).isDescending() ? -result : result;
+			}
+		}
+		//keep the order stable across pages
+		return Integer.compare(entry1.m_noteId, entry2.m_noteId);
+	}
+	
+	private static int compareValues(Object value1, Object value2) {
+		if (value1==value2) {
+			return 0;
+		}
+		else if (value1==null) {
+			return -1;
+		}
+		else if (value2==null) {
+			return 1;
+		}
+		else if (value1 instanceof Object[] || value2 instanceof Object[]) {
+			return compareMultipleValues(toArray(value1), toArray(value2));
+		}
+		
+		int rank1 = getTypeRank(value1);
+		int rank2 = getTypeRank(value2);
+		if (rank1!=rank2) {
+			return Integer.compare(rank1, rank2);
+		}
+		
+		if (value1 instanceof Number) {
+			return Double.compare(((Number) value1).doubleValue(), ((Number) value2).doubleValue());
+		}
+		else if (value1 instanceof DominoDateTime) {
+			return ((DominoDateTime) value1).compareTo((DominoDateTime) value2);
+		}
+		else if (value1 instanceof CollationKey) {
+			return ((CollationKey) value1).compareTo((CollationKey) value2);
+		}
+		else {
+			return value1.toString().compareTo(value2.toString());
+		}
+	}
+	
+	private static int compareMultipleValues(Object[] values1, Object[] values2) {
+		int len = Math.min(values1.length, values2.length);
+		for (int i=0; i<len; i++) {
+			int result = compareValues(values1[i], values2[i]);
+			if (result!=0) {
+				return result;
+			}
+		}
+		return Integer.compare(values1.length, values2.length);
+	}
+	
+	private static Object[] toArray(Object value) {
+		return value instanceof Object[] ? (Object[]) value : new Object[] {value};
+	}
+	
+	/**
+	 * Returns the position of a value type in the sort order: numbers, date/times, text, other values
+	 */
+	private static int getTypeRank(Object value) {
+		if (value instanceof Number) {
+			return 0;
+		}
+		else if (value instanceof DominoDateTime) {
+			return 1;
+		}
+		else if (value instanceof CollationKey) {
+			return 2;
+		}
+		else {
+			return 3;
+		}
+	}
+	
+	private static class SortEntry {
+		private final int m_noteId;
+		private final Object[] m_values;
+		
+		SortEntry(int noteId, Object[] values) {
+			m_noteId = noteId;
+			m_values = values;
+		}
+	}
+}
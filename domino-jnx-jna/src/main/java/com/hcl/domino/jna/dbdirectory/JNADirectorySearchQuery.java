@@ -24,11 +24,17 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.hcl.domino.DominoException;
 import com.hcl.domino.commons.gc.APIObjectAllocations;
@@ -48,9 +54,12 @@ import com.hcl.domino.exception.InvalidRemotePathnameException;
 import com.hcl.domino.jna.BaseJNAAPIObject;
 import com.hcl.domino.jna.data.JNADatabase;
 import com.hcl.domino.jna.data.JNADominoDateTime;
+import com.hcl.domino.jna.internal.BackgroundPrefetcher;
+import com.hcl.domino.jna.internal.LMBCSString;
 import com.hcl.domino.jna.internal.gc.allocations.JNADirectorySearchQueryAllocations;
 import com.hcl.domino.jna.internal.search.NotesSearch;
 import com.hcl.domino.jna.internal.search.NotesSearch.JNASearchMatch;
+import com.hcl.domino.jna.internal.views.NotesLookupResultBufferDecoder;
 import com.hcl.domino.misc.Loop;
 
 /**
@@ -60,6 +69,9 @@ import com.hcl.domino.misc.Loop;
  */
 public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearchQueryAllocations>
     implements DirectorySearchQuery {
+  /** max number of entries read ahead by {@link #stream()} */
+  private static final int STREAM_QUEUE_SIZE = 500;
+
   private String m_server;
   private String m_directory;
   private String m_formula;
@@ -180,38 +192,68 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
     }
   }
 
+  /**
+   * {@inheritDoc}<br>
+   * <br>
+   * If cross-thread access is enabled for the client, the search runs on a separate thread
+   * and pauses when {@value #STREAM_QUEUE_SIZE} entries are waiting to be consumed. The search is
+   * stopped when the stream is closed or no longer referenced; closing waits for the search
+   * thread to finish. Otherwise all entries are read
+   * before the stream is returned.
+   */
   @Override
   public Stream<DirEntry> stream() throws DominoException {
-    // TODO consider whether it might be worthwhile to implement a custom stream
-    // without reading (and hence decoding) all entries to a list first
-    final ArrayList<DirEntry> foundEntries = new ArrayList<>();
+    IGCDominoClient<?> client = getParentDominoClient();
+    if (!client.isAllowCrossThreadAccess()) {
+      final ArrayList<DirEntry> foundEntries = new ArrayList<>();
 
-    forEach(0, -1, (t, u) -> foundEntries.add(t));
+      forEach(0, -1, (t, u) -> foundEntries.add(t));
+
+      return foundEntries.stream();
+    }
 
-    return foundEntries.stream();
+    BackgroundPrefetcher<DirEntry> prefetcher = new BackgroundPrefetcher<>(client,
+        "JNX directory search " + m_server + "!!" + m_directory, STREAM_QUEUE_SIZE, //$NON-NLS-1$ //$NON-NLS-2$
+        p -> forEach(0, -1, (entry, loop) -> {
+          try {
+            if (!p.offer(entry)) {
+              loop.stop();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            loop.stop();
+          }
+        }),
+        null, "Error searching the directory");
+    DirEntryIterator it = new DirEntryIterator(prefetcher);
+    //an abandoned stream stops the search
+    prefetcher.setConsumer(it);
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(prefetcher::close);
   }
 
   /**
-   * Parses the summary-buffer to different subclasses of FileEntry.
+   * Parses the summary-buffer to different subclasses of FileEntry.<br>
+   * <br>
+   * The summary buffer is copied once and only the items needed for the entry type
+   * are decoded. The other items are decoded from the copy when
+   * {@link DirEntry#getProperties()} is called.
    * 
    * @param summaryBufferData the summary data
    * @return the parsed entry or null
    */
   private JNADirEntry toEntry(IItemTableData summaryBufferData) {
-	  Map<String, Object> dataAsMap = summaryBufferData.asMap(true);
-
+	  IItemTableData itemValues = NotesLookupResultBufferDecoder.copyItemTable(summaryBufferData);
+	  String[] itemNames = itemValues.getItemNames().toArray(new String[0]);
 
 	  JNADirEntry retEntry;
 
-	  String typeStr;
-	  Object typeObj = dataAsMap.get("$type"); //$NON-NLS-1$
-	  if (!(typeObj instanceof String)) {
+	  String typeStr = getStringValue(itemNames, itemValues, "$type"); //$NON-NLS-1$
+	  if (typeStr==null) {
 		  //$type is missing for any non-Domino files like .tmp
 		  typeStr = ""; //$NON-NLS-1$
 	  }
-	  else {
-		  typeStr = (String) typeObj;
-	  }
 	  
 	  if ("$DIR".equals(typeStr)) { //$NON-NLS-1$
 		  retEntry = new JNAFolderData();
@@ -222,14 +264,14 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
 		  String dbTemplateName = ""; //$NON-NLS-1$
 		  String dbInheritTemplateName = ""; //$NON-NLS-1$
 
-		  Object infoObj = dataAsMap.get("$Info"); //$NON-NLS-1$
-		  if (infoObj instanceof String) {
+		  String infoStr = getStringValue(itemNames, itemValues, "$Info"); //$NON-NLS-1$
+		  if (infoStr!=null) {
 			  // parse weird $Info format:
 			  // $info=Database title\n
 			  // Database category\n
 			  // #1Database template\n
 			  // #2Database inherit template
-			  String infoStr = ((String) infoObj).replace("\r", ""); //$NON-NLS-1$ //$NON-NLS-2$
+			  infoStr = infoStr.replace("\r", ""); //$NON-NLS-1$ //$NON-NLS-2$
 			  StringTokenizerExt st = new StringTokenizerExt(infoStr, "\n"); //$NON-NLS-1$
 			  if (st.hasMoreTokens()) {
 				  dbTitle = st.nextToken();
@@ -256,11 +298,11 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
 			  }
 		  }
 
-		  DominoDateTime dbCreated = getDateValue(dataAsMap, "$DBCREATED"); //$NON-NLS-1$
-		  DominoDateTime lastFixup = getDateValue(dataAsMap, "$lastfixup"); //$NON-NLS-1$
-		  DominoDateTime lastCompact = getDateValue(dataAsMap, "$lastcompact"); //$NON-NLS-1$
-		  DominoDateTime nonDataMod = getDateValue(dataAsMap, "$nondatamod"); //$NON-NLS-1$
-		  DominoDateTime dataMod = getDateValue(dataAsMap, "$datamod"); //$NON-NLS-1$
+		  DominoDateTime dbCreated = getDateValue(itemNames, itemValues, "$DBCREATED"); //$NON-NLS-1$
+		  DominoDateTime lastFixup = getDateValue(itemNames, itemValues, "$lastfixup"); //$NON-NLS-1$
+		  DominoDateTime lastCompact = getDateValue(itemNames, itemValues, "$lastcompact"); //$NON-NLS-1$
+		  DominoDateTime nonDataMod = getDateValue(itemNames, itemValues, "$nondatamod"); //$NON-NLS-1$
+		  DominoDateTime dataMod = getDateValue(itemNames, itemValues, "$datamod"); //$NON-NLS-1$
 
 		  JNADatabaseData dbData = new JNADatabaseData();
 		  dbData.setTitle(dbTitle);
@@ -280,31 +322,17 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
 	  }
 	  
 	  //read common attributes
-	  retEntry.setProperties(dataAsMap);
+	  retEntry.setRawProperties(itemNames, itemValues);
 
-	  DominoDateTime fileModified = getDateValue(dataAsMap, "$Modified"); //$NON-NLS-1$
+	  DominoDateTime fileModified = getDateValue(itemNames, itemValues, "$Modified"); //$NON-NLS-1$
 	  retEntry.setModified(fileModified);
 
-	  String fileName = null;
-	  Object fileNameObj = dataAsMap.get("$TITLE"); //$NON-NLS-1$
-	  if (fileNameObj instanceof String) {
-		  fileName = (String) fileNameObj;
-	  }
-	  
-	  String filePath = null;
-	  Object filePathObj = dataAsMap.get("$path"); //$NON-NLS-1$
-	  if (filePathObj instanceof String) {
-		  filePath = (String) filePathObj;
-	  }
-
-	  String physicalFilePath = null;
-	  Object physicalFilePathObj = dataAsMap.get("$PHYSICALPATH"); //$NON-NLS-1$
-	  if (physicalFilePathObj instanceof String) {
-		  physicalFilePath = (String) physicalFilePathObj;
-	  }
+	  String fileName = getStringValue(itemNames, itemValues, "$TITLE"); //$NON-NLS-1$
+	  String filePath = getStringValue(itemNames, itemValues, "$path"); //$NON-NLS-1$
+	  String physicalFilePath = getStringValue(itemNames, itemValues, "$PHYSICALPATH"); //$NON-NLS-1$
 	  
 	  long fileLength = 0;
-	  Object fileLengthObj = dataAsMap.get("$Length"); //$NON-NLS-1$
+	  Object fileLengthObj = getRawValue(itemNames, itemValues, "$Length"); //$NON-NLS-1$
 	  if (fileLengthObj instanceof Number) {
 		  fileLength = ((Number)fileLengthObj).longValue();
 	  }
@@ -323,8 +351,27 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
 	  }
   }
 
-  private DominoDateTime getDateValue(Map<String, Object> data, String key) {
-    Object valueObj = data.get(key);
+  private static Object getRawValue(String[] itemNames, IItemTableData itemValues, String itemName) {
+    for (int i=0; i<itemNames.length; i++) {
+      if (itemNames[i].equalsIgnoreCase(itemName)) {
+        return itemValues.getItemValue(i);
+      }
+    }
+    return null;
+  }
+
+  private static String getStringValue(String[] itemNames, IItemTableData itemValues, String itemName) {
+    Object valueObj = getRawValue(itemNames, itemValues, itemName);
+    if (valueObj instanceof LMBCSString) {
+      return ((LMBCSString) valueObj).getValue();
+    } else if (valueObj instanceof String) {
+      return (String) valueObj;
+    }
+    return null;
+  }
+
+  private static DominoDateTime getDateValue(String[] itemNames, IItemTableData itemValues, String itemName) {
+    Object valueObj = getRawValue(itemNames, itemValues, itemName);
     if (valueObj instanceof DominoDateTime) {
       return (DominoDateTime) valueObj;
     } else if (valueObj instanceof Calendar) {
@@ -333,6 +380,38 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
     return null;
   }
 
+  private static class DirEntryIterator implements Iterator<DirEntry> {
+    private final BackgroundPrefetcher<DirEntry> m_prefetcher;
+    private DirEntry m_next;
+
+    DirEntryIterator(BackgroundPrefetcher<DirEntry> prefetcher) {
+      m_prefetcher = prefetcher;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (m_next==null) {
+        try {
+          m_next = m_prefetcher.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new DominoException("Interrupted while waiting for the next directory entry", e);
+        }
+      }
+      return m_next!=null;
+    }
+
+    @Override
+    public DirEntry next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      DirEntry entry = m_next;
+      m_next = null;
+      return entry;
+    }
+  }
+
   private static class LoopImpl extends Loop {
 
     public void next() {
@@ -352,6 +431,8 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
    */
   public static class JNADirEntry implements DirEntry {
     private Map<String, Object> m_properties;
+    private String[] m_rawItemNames;
+    private IItemTableData m_rawItemValues;
     private String m_server;
     private String m_fileName;
     private String m_filePath;
@@ -361,16 +442,43 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
     
     @Override
     public Map<String, Object> getProperties() {
+      if (m_properties==null && m_rawItemNames!=null) {
+        Map<String, Object> properties = new HashMap<>();
+        for (int i=0; i<m_rawItemNames.length; i++) {
+          properties.put(m_rawItemNames[i], decodeLMBCS(m_rawItemValues.getItemValue(i)));
+        }
+        m_properties = properties;
+        m_rawItemNames = null;
+        m_rawItemValues = null;
+      }
       return m_properties;
     }
 
     /**
-     * Sets the raw data of the search result entry
+     * Sets the raw data of the search result entry. The values get decoded
+     * on the first call to {@link #getProperties()}.
      * 
-     * @param rawData data
+     * @param itemNames item names
+     * @param itemValues item table backed by a copy of the summary buffer, in the same order as {@code itemNames}
      */
-    void setProperties(Map<String, Object> rawData) {
-      this.m_properties = new HashMap<>(rawData);
+    void setRawProperties(String[] itemNames, IItemTableData itemValues) {
+      this.m_rawItemNames = itemNames;
+      this.m_rawItemValues = itemValues;
+      this.m_properties = null;
+    }
+
+    private static Object decodeLMBCS(Object value) {
+      if (value instanceof LMBCSString) {
+        return ((LMBCSString) value).getValue();
+      } else if (value instanceof List) {
+        List<?> valueAsList = (List<?>) value;
+        List<Object> decodedList = new ArrayList<>(valueAsList.size());
+        for (Object currValue : valueAsList) {
+          decodedList.add(currValue instanceof LMBCSString ? ((LMBCSString) currValue).getValue() : currValue);
+        }
+        return decodedList;
+      }
+      return value;
     }
 
     @Override
@@ -464,7 +572,7 @@ public class JNADirectorySearchQuery extends BaseJNAAPIObject<JNADirectorySearch
     
     @Override
     public String toString() {
-      return MessageFormat.format("JNADirEntry [properties={0}, server={1}]", m_properties, m_server); //$NON-NLS-1$
+      return MessageFormat.format("JNADirEntry [properties={0}, server={1}]", getProperties(), m_server); //$NON-NLS-1$
     }
 
   }
@@ -43,17 +43,32 @@ import static com.hcl.domino.commons.dxl.DxlExportProperty.RestrictToItemNames;
 import static com.hcl.domino.commons.dxl.DxlExportProperty.UncompressAttachments;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -61,6 +76,7 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
+import com.hcl.domino.DominoException;
 import com.hcl.domino.commons.dxl.DxlExportProperty;
 import com.hcl.domino.commons.dxl.DxlExporterLogImpl;
 import com.hcl.domino.commons.gc.APIObjectAllocations;
@@ -70,11 +86,15 @@ import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.util.PlatformUtils;
 import com.hcl.domino.data.Database;
 import com.hcl.domino.data.Document;
+import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
+import com.hcl.domino.dxl.DxlExportPartition;
 import com.hcl.domino.dxl.DxlExporter;
 import com.hcl.domino.dxl.DxlExporterLog;
 import com.hcl.domino.exception.DxlExportException;
 import com.hcl.domino.jna.JNADominoClient;
+import com.hcl.domino.jna.data.JNAIDTable;
 import com.hcl.domino.jna.internal.callbacks.NotesCallbacks;
 import com.hcl.domino.jna.internal.callbacks.Win32NotesCallbacks;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
@@ -102,37 +122,34 @@ public class JNADxlExporter extends AbstractDxlProcessor<JNADxlExporterAllocatio
 		Objects.requireNonNull(doc, "Document cannot be null");
 		Objects.requireNonNull(out, "Writer cannot be null");
 		
+		exportDocument(doc, new WriterSink(out, getJDKExportCharset().get()));
+	}
+	
+	@Override
+	public void exportDocument(Document doc, OutputStream out) throws IOException {
+		Objects.requireNonNull(doc, "Document cannot be null");
+		Objects.requireNonNull(out, "OutputStream cannot be null");
+		
+		exportDocument(doc, createUTF8Sink(out));
+	}
+	
+	@Override
+	public void exportDocument(Document doc, WritableByteChannel out) throws IOException {
+		Objects.requireNonNull(doc, "Document cannot be null");
+		Objects.requireNonNull(out, "WritableByteChannel cannot be null");
+		
+		exportDocument(doc, createUTF8Sink(out));
+	}
+	
+	private void exportDocument(Document doc, DxlSink sink) throws IOException {
 		checkDisposed();
 		
+		DxlWriteCallback callback = new DxlWriteCallback(sink);
+		
 		LockUtil.lockHandle(doc.getAdapter(DHANDLE.class), handle -> {
-			NotesCallbacks.XML_WRITE_FUNCTION func;
-			
-			if (PlatformUtils.isWin32()) {
-				func = (Win32NotesCallbacks.XML_WRITE_FUNCTIONWin32)(pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
-				}; 
-			}
-			else {
-				func = (pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}	
-				};
-			}
-
 			int exporterHandler = getAllocations().getDxlExporterHandle();
 			short result = AccessController.doPrivileged((PrivilegedAction<Short>) ()-> {
-				return NotesCAPI.get().DXLExportNote(exporterHandler, func, handle, (Pointer) null);
+				return NotesCAPI.get().DXLExportNote(exporterHandler, callback.getFunction(), handle, (Pointer) null);
 			});
 
 			NotesErrorUtils.checkResult(result);
@@ -140,7 +157,8 @@ public class JNADxlExporter extends AbstractDxlProcessor<JNADxlExporterAllocatio
 			
 			return null;
 		});
-
+		
+		callback.finish();
 	}
 
 	@Override
@@ -148,6 +166,26 @@ public class JNADxlExporter extends AbstractDxlProcessor<JNADxlExporterAllocatio
 		Objects.requireNonNull(ids, "Ids cannot be null");
 		Objects.requireNonNull(out, "Writer cannot be null");
 
+		exportIDs(db, ids, new WriterSink(out, getJDKExportCharset().get()));
+	}
+	
+	@Override
+	public void exportIDs(Database db, Collection<Integer> ids, OutputStream out) throws IOException {
+		Objects.requireNonNull(ids, "Ids cannot be null");
+		Objects.requireNonNull(out, "OutputStream cannot be null");
+
+		exportIDs(db, ids, createUTF8Sink(out));
+	}
+	
+	@Override
+	public void exportIDs(Database db, Collection<Integer> ids, WritableByteChannel out) throws IOException {
+		Objects.requireNonNull(ids, "Ids cannot be null");
+		Objects.requireNonNull(out, "WritableByteChannel cannot be null");
+
+		exportIDs(db, ids, createUTF8Sink(out));
+	}
+	
+	private void exportIDs(Database db, Collection<Integer> ids, DxlSink sink) throws IOException {
 		checkDisposed();
 		
 		IDTable idTable;
@@ -158,38 +196,17 @@ public class JNADxlExporter extends AbstractDxlProcessor<JNADxlExporterAllocatio
 			idTable.addAll(ids);
 		}
 		
+		DxlWriteCallback callback = new DxlWriteCallback(sink);
+		
 		LockUtil.lockHandles(db.getAdapter(HANDLE.class), idTable.getAdapter(DHANDLE.class), (hDB, hTable) -> {
-			NotesCallbacks.XML_WRITE_FUNCTION func;
-			
-			if (PlatformUtils.isWin32()) {
-				func = (Win32NotesCallbacks.XML_WRITE_FUNCTIONWin32) (pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
-				};
-			}
-			else {
-				func = (pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
-				};
-			}
-			
-			short result = NotesCAPI.get().DXLExportIDTable(getAllocations().getDxlExporterHandle(), func, hDB, hTable, null);
+			short result = NotesCAPI.get().DXLExportIDTable(getAllocations().getDxlExporterHandle(), callback.getFunction(), hDB, hTable, null);
 			NotesErrorUtils.checkResult(result);
 			checkError();
 			
 			return null;
 		});
+		
+		callback.finish();
 	}
 
 	@Override
@@ -197,39 +214,39 @@ public class JNADxlExporter extends AbstractDxlProcessor<JNADxlExporterAllocatio
 		Objects.requireNonNull(db, "Database cannot be null");
 		Objects.requireNonNull(out, "Writer cannot be null");
 
+		exportDatabase(db, new WriterSink(out, getJDKExportCharset().get()));
+	}
+	
+	@Override
+	public void exportDatabase(Database db, OutputStream out) throws IOException {
+		Objects.requireNonNull(db, "Database cannot be null");
+		Objects.requireNonNull(out, "OutputStream cannot be null");
+
+		exportDatabase(db, createUTF8Sink(out));
+	}
+	
+	@Override
+	public void exportDatabase(Database db, WritableByteChannel out) throws IOException {
+		Objects.requireNonNull(db, "Database cannot be null");
+		Objects.requireNonNull(out, "WritableByteChannel cannot be null");
+
+		exportDatabase(db, createUTF8Sink(out));
+	}
+	
+	private void exportDatabase(Database db, DxlSink sink) throws IOException {
 		checkDisposed();
+		
+		DxlWriteCallback callback = new DxlWriteCallback(sink);
+		
 		LockUtil.lockHandle(db.getAdapter(HANDLE.class), handle -> {
-			NotesCallbacks.XML_WRITE_FUNCTION func;
-			
-			if (PlatformUtils.isWin32()) {
-				func = (Win32NotesCallbacks.XML_WRITE_FUNCTIONWin32) (pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
-				};
-			}
-			else {
-				func = (pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
-				};
-			}
-			
-			short result = NotesCAPI.get().DXLExportDatabase(getAllocations().getDxlExporterHandle(), func, handle, null);
+			short result = NotesCAPI.get().DXLExportDatabase(getAllocations().getDxlExporterHandle(), callback.getFunction(), handle, null);
 			NotesErrorUtils.checkResult(result);
 			checkError();
 			
 			return null;
 		});
+		
+		callback.finish();
 	}
 
 	@Override
@@ -237,38 +254,446 @@ public class JNADxlExporter extends AbstractDxlProcessor<JNADxlExporterAllocatio
 		Objects.requireNonNull(db, "Database cannot be null");
 		Objects.requireNonNull(out, "Writer cannot be null");
 
+		exportACL(db, new WriterSink(out, getJDKExportCharset().get()));
+	}
+	
+	@Override
+	public void exportACL(Database db, OutputStream out) throws IOException {
+		Objects.requireNonNull(db, "Database cannot be null");
+		Objects.requireNonNull(out, "OutputStream cannot be null");
+
+		exportACL(db, createUTF8Sink(out));
+	}
+	
+	@Override
+	public void exportACL(Database db, WritableByteChannel out) throws IOException {
+		Objects.requireNonNull(db, "Database cannot be null");
+		Objects.requireNonNull(out, "WritableByteChannel cannot be null");
+
+		exportACL(db, createUTF8Sink(out));
+	}
+	
+	private void exportACL(Database db, DxlSink sink) throws IOException {
 		checkDisposed();
+		
+		DxlWriteCallback callback = new DxlWriteCallback(sink);
+		
 		LockUtil.lockHandle(db.getAdapter(HANDLE.class), handle -> {
-			NotesCallbacks.XML_WRITE_FUNCTION func;
+			short result = NotesCAPI.get().DXLExportACL(getAllocations().getDxlExporterHandle(), callback.getFunction(), handle, null);
+			NotesErrorUtils.checkResult(result);
+			checkError();
+			return null;
+		});
+		
+		callback.finish();
+	}
+	
+	@Override
+	public List<DxlExportPartition> exportDatabase(Database db, Set<DocumentClass> docClasses, int notesPerPartition,
+			int parallelism, PartitionOutputFactory outputFactory) throws IOException {
+		Objects.requireNonNull(db, "Database cannot be null");
+		Objects.requireNonNull(outputFactory, "PartitionOutputFactory cannot be null");
+		if (notesPerPartition < 1) {
+			throw new IllegalArgumentException(MessageFormat.format("Invalid number of notes per partition: {0}", notesPerPartition));
+		}
+
+		checkDisposed();
+		
+		int[] noteIds = db.getAllNoteIds(docClasses, false).toIntArray();
+		List<DxlExportPartition> partitions = new ArrayList<>();
+		for (int offset=0; offset<noteIds.length; offset+=notesPerPartition) {
+			int count = Math.min(notesPerPartition, noteIds.length - offset);
+			NoteIdList partitionIds = new NoteIdList(count);
+			partitionIds.addAll(noteIds, offset, count);
+			partitions.add(new DxlExportPartition(partitions.size(), partitionIds));
+		}
+		if (partitions.isEmpty()) {
+			return partitions;
+		}
+		
+		IGCDominoClient<?> client = getParentDominoClient();
+		int threadCount = parallelism>0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		threadCount = Math.min(threadCount, partitions.size());
+		AtomicInteger nextPartition = new AtomicInteger();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		
+		if (threadCount==1 || !client.isAllowCrossThreadAccess()) {
+			exportPartitions(this, db, partitions, nextPartition, error, outputFactory);
+		}
+		else {
+			Consumer<DxlExporter> settings = captureSettings();
+			String filePath = db.getRelativeFilePath();
 			
-			if (PlatformUtils.isWin32()) {
-				func = (Win32NotesCallbacks.XML_WRITE_FUNCTIONWin32)(pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
+			//reopen on this thread so that all workers keep the open options and names list of the database
+			List<Database> threadDbs = new ArrayList<>(threadCount);
+			List<Thread> threads = new ArrayList<>(threadCount);
+			boolean interrupted = false;
+			try {
+				for (int i=0; i<threadCount; i++) {
+					threadDbs.add(db.reopen());
+				}
+				
+				for (int i=0; i<threadCount; i++) {
+					Database threadDb = threadDbs.get(i);
+					Thread thread = client.getThreadFactory().newThread(() -> {
+						try {
+							JNADxlExporter threadExporter = (JNADxlExporter) client.createDxlExporter();
+							try {
+								settings.accept(threadExporter);
+								exportPartitions(threadExporter, threadDb, partitions, nextPartition, error, outputFactory);
+							}
+							finally {
+								threadExporter.dispose();
+							}
+						}
+						catch (Throwable t) {
+							error.compareAndSet(null, t);
+						}
+					});
+					thread.setName(MessageFormat.format("JNX DXL export {0} #{1}", filePath, i)); //$NON-NLS-1$
+					threads.add(thread);
+					thread.start();
+				}
+			}
+			finally {
+				//keep waiting when interrupted, the workers use the database handles and the output streams
+				for (Thread thread : threads) {
+					while (thread.isAlive()) {
+						try {
+							thread.join();
+						} catch (InterruptedException e) {
+							interrupted = true;
+							//stops the workers after their current partition
+							error.compareAndSet(null, new DominoException("Interrupted while waiting for the DXL export to complete", e));
+						}
 					}
+				}
+				for (Database threadDb : threadDbs) {
+					threadDb.close();
+				}
+			}
+			
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+				throw new DominoException("Interrupted while waiting for the DXL export to complete");
+			}
+		}
+		
+		Throwable t = error.get();
+		if (t instanceof IOException) {
+			throw (IOException) t;
+		}
+		else if (t instanceof RuntimeException) {
+			throw (RuntimeException) t;
+		}
+		else if (t instanceof Error) {
+			throw (Error) t;
+		}
+		else if (t!=null) {
+			throw new DominoException("Error during DXL export", t);
+		}
+		
+		return partitions;
+	}
+	
+	/**
+	 * Exports partitions until all partitions have been processed or an error
+	 * has occurred
+	 */
+	private static void exportPartitions(JNADxlExporter exporter, Database db, List<DxlExportPartition> partitions,
+			AtomicInteger nextPartition, AtomicReference<Throwable> error, PartitionOutputFactory outputFactory) {
+		
+		int index;
+		while (error.get()==null && (index = nextPartition.getAndIncrement()) < partitions.size()) {
+			DxlExportPartition partition = partitions.get(index);
+			
+			try (OutputStream out = outputFactory.openPartition(partition)) {
+				JNAIDTable idTable = new JNAIDTable(exporter.getParentDominoClient(), partition.getNoteIds());
+				try {
+					exporter.exportIDs(db, idTable, out);
+				}
+				finally {
+					idTable.dispose();
+				}
+			}
+			catch (Throwable t) {
+				error.compareAndSet(null, t);
+			}
+		}
+	}
+	
+	/**
+	 * Reads the settings of this exporter that differ from a new exporter, so that
+	 * they can be applied to the exporters of other threads
+	 * 
+	 * @return function to apply the settings
+	 */
+	private Consumer<DxlExporter> captureSettings() {
+		List<Consumer<DxlExporter>> settings = new ArrayList<>();
+		JNADxlExporter defaults = (JNADxlExporter) getParentDominoClient().createDxlExporter();
+		try {
+			captureSetting(settings, defaults, DxlExporter::getAttachmentOmittedText, DxlExporter::setAttachmentOmittedText);
+			captureSetting(settings, defaults, DxlExporter::isConvertNotesbitmapsToGIF, DxlExporter::setConvertNotesbitmapsToGIF);
+			captureSetting(settings, defaults, DxlExporter::getDoctypeSYSTEM, DxlExporter::setDoctypeSYSTEM);
+			captureSetting(settings, defaults, DxlExporter::getDXLBannerComments, DxlExporter::setDXLBannerComments);
+			captureSetting(settings, defaults, DxlExporter::getDxlExportResultLogComment, DxlExporter::setDxlExportResultLogComment);
+			captureSetting(settings, defaults, DxlExporter::getDxlSchemaLocation, DxlExporter::setDxlSchemaLocation);
+			captureSetting(settings, defaults, DxlExporter::getExportCharset, DxlExporter::setExportCharset);
+			captureSetting(settings, defaults, DxlExporter::isForceNoteFormat, DxlExporter::setForceNoteFormat);
+			captureSetting(settings, defaults, DxlExporter::getMIMEOption, DxlExporter::setMIMEOption);
+			captureSetting(settings, defaults, DxlExporter::getOLEObjectOmittedText, DxlExporter::setOLEObjectOmittedText);
+			captureSetting(settings, defaults, DxlExporter::getOmitItemNames, DxlExporter::setOmitItemNames);
+			captureSetting(settings, defaults, DxlExporter::isOmitMiscFileObjects, DxlExporter::setOmitMiscFileObjects);
+			captureSetting(settings, defaults, DxlExporter::isOmitOLEObjects, DxlExporter::setOmitOLEObjects);
+			captureSetting(settings, defaults, DxlExporter::isOmitPictures, DxlExporter::setOmitPictures);
+			captureSetting(settings, defaults, DxlExporter::isOmitRichTextAttachments, DxlExporter::setOmitRichTextAttachments);
+			captureSetting(settings, defaults, DxlExporter::isOutputDoctype, DxlExporter::setOutputDoctype);
+			captureSetting(settings, defaults, DxlExporter::isOutputXmlDecl, DxlExporter::setOutputXmlDecl);
+			captureSetting(settings, defaults, DxlExporter::getPictureOmittedText, DxlExporter::setPictureOmittedText);
+			captureSetting(settings, defaults, DxlExporter::getRestrictToItemNames, DxlExporter::setRestrictToItemNames);
+			captureSetting(settings, defaults, DxlExporter::getRichTextOption, DxlExporter::setRichTextOption);
+			captureSetting(settings, defaults, DxlExporter::isUncompressAttachments, DxlExporter::setUncompressAttachments);
+			captureSetting(settings, defaults, DxlExporter::getValidationStyle, DxlExporter::setValidationStyle);
+		}
+		finally {
+			defaults.dispose();
+		}
+		
+		return exporter -> settings.forEach(setting -> setting.accept(exporter));
+	}
+	
+	private <T> void captureSetting(List<Consumer<DxlExporter>> settings, DxlExporter defaults,
+			Function<DxlExporter, T> getter, BiConsumer<DxlExporter, T> setter) {
+		T value = getter.apply(this);
+		if (!Objects.equals(value, getter.apply(defaults))) {
+			settings.add(exporter -> setter.accept(exporter, value));
+		}
+	}
+	
+	/**
+	 * Creates a sink that writes UTF-8 data to a stream. The native data is copied
+	 * as-is if the export charset is UTF-8 and transcoded otherwise.
+	 * 
+	 * @param out stream
+	 * @return sink
+	 */
+	private DxlSink createUTF8Sink(OutputStream out) {
+		Charset exportCharset = getJDKExportCharset().get();
+		if (StandardCharsets.UTF_8.equals(exportCharset)) {
+			return new OutputStreamSink(out);
+		}
+		else {
+			return new WriterSink(new OutputStreamWriter(out, StandardCharsets.UTF_8), exportCharset);
+		}
+	}
+	
+	/**
+	 * Creates a sink that writes UTF-8 data to a channel. The native data is written
+	 * without copying if the export charset is UTF-8 and transcoded otherwise.
+	 * 
+	 * @param out channel
+	 * @return sink
+	 */
+	private DxlSink createUTF8Sink(WritableByteChannel out) {
+		Charset exportCharset = getJDKExportCharset().get();
+		if (StandardCharsets.UTF_8.equals(exportCharset)) {
+			return new ChannelSink(out);
+		}
+		else {
+			return new WriterSink(Channels.newWriter(out, StandardCharsets.UTF_8.newEncoder(), -1), exportCharset);
+		}
+	}
+	
+	/**
+	 * Receives the DXL chunks produced by the C API export functions
+	 */
+	private interface DxlSink {
+		
+		/**
+		 * Writes a chunk of DXL. The buffer is only valid during the call.
+		 * 
+		 * @param buffer native buffer
+		 * @param length number of bytes in the buffer
+		 * @throws IOException in case of I/O errors
+		 */
+		void write(Pointer buffer, int length) throws IOException;
+		
+		/**
+		 * Called after the last chunk has been written
+		 * 
+		 * @throws IOException in case of I/O errors
+		 */
+		void finish() throws IOException;
+		
+	}
+	
+	/**
+	 * Adapts a {@link DxlSink} to the platform specific XML_WRITE_FUNCTION. Since the
+	 * C API cannot be told to stop the export, the first {@link IOException} is kept,
+	 * further chunks are ignored and the exception is thrown by {@link #finish()}.
+	 */
+	private static class DxlWriteCallback {
+		private final DxlSink m_sink;
+		private final NotesCallbacks.XML_WRITE_FUNCTION m_function;
+		private IOException m_error;
+		
+		DxlWriteCallback(DxlSink sink) {
+			m_sink = sink;
+			
+			if (PlatformUtils.isWin32()) {
+				m_function = (Win32NotesCallbacks.XML_WRITE_FUNCTIONWin32) (pBuffer, length, pAction) -> {
+					write(pBuffer, length);
 				};
 			}
 			else {
-				func = (pBuffer, length, pAction) -> {
-					byte[] bytes = pBuffer.getByteArray(0, length);
-					String chunk = new String(bytes, getJDKExportCharset().get());
-					try {
-						out.write(chunk);
-					} catch (IOException e) {
-						throw new RuntimeException(e);
-					}
+				m_function = (pBuffer, length, pAction) -> {
+					write(pBuffer, length);
 				};
 			}
+		}
+		
+		NotesCallbacks.XML_WRITE_FUNCTION getFunction() {
+			return m_function;
+		}
+		
+		private void write(Pointer pBuffer, int length) {
+			if (m_error!=null || length<=0) {
+				return;
+			}
+			try {
+				m_sink.write(pBuffer, length);
+			} catch (IOException e) {
+				m_error = e;
+			}
+		}
+		
+		void finish() throws IOException {
+			if (m_error!=null) {
+				throw m_error;
+			}
+			m_sink.finish();
+		}
+	}
+	
+	/**
+	 * Copies the native data to an {@link OutputStream} through a reused buffer
+	 */
+	private static class OutputStreamSink implements DxlSink {
+		private final OutputStream m_out;
+		private byte[] m_buffer;
+		
+		OutputStreamSink(OutputStream out) {
+			m_out = out;
+		}
+		
+		@Override
+		public void write(Pointer buffer, int length) throws IOException {
+			if (m_buffer==null) {
+				m_buffer = new byte[Math.min(Math.max(length, 4096), 65536)];
+			}
+			int offset = 0;
+			while (offset < length) {
+				int chunkLength = Math.min(m_buffer.length, length - offset);
+				buffer.read(offset, m_buffer, 0, chunkLength);
+				m_out.write(m_buffer, 0, chunkLength);
+				offset += chunkLength;
+			}
+		}
+		
+		@Override
+		public void finish() throws IOException {
+			m_out.flush();
+		}
+	}
+	
+	/**
+	 * Writes the native data to a {@link WritableByteChannel} via a direct
+	 * {@link ByteBuffer} view without copying it to the heap
+	 */
+	private static class ChannelSink implements DxlSink {
+		private final WritableByteChannel m_out;
+		
+		ChannelSink(WritableByteChannel out) {
+			m_out = out;
+		}
+		
+		@Override
+		public void write(Pointer buffer, int length) throws IOException {
+			ByteBuffer data = buffer.getByteBuffer(0, length);
+			while (data.hasRemaining()) {
+				m_out.write(data);
+			}
+		}
+		
+		@Override
+		public void finish() throws IOException {
+		}
+	}
+	
+	/**
+	 * Decodes the native data with a stateful {@link CharsetDecoder}, so that multi-byte
+	 * sequences split across chunks are decoded correctly, and writes the characters to
+	 * a {@link Writer}
+	 */
+	private static class WriterSink implements DxlSink {
+		private final Writer m_out;
+		private final CharsetDecoder m_decoder;
+		private final CharBuffer m_chars = CharBuffer.allocate(8192);
+		/** bytes of an incomplete sequence at the end of the previous chunk */
+		private final ByteBuffer m_pending = ByteBuffer.allocate(16);
+		
+		WriterSink(Writer out, Charset charset) {
+			m_out = out;
+			m_decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		
+		@Override
+		public void write(Pointer buffer, int length) throws IOException {
+			ByteBuffer data = buffer.getByteBuffer(0, length);
 			
-			short result = NotesCAPI.get().DXLExportACL(getAllocations().getDxlExporterHandle(), func, handle, null);
-			NotesErrorUtils.checkResult(result);
-			checkError();
-			return null;
-		});
+			//complete the sequence left over from the previous chunk
+			while (m_pending.position()>0 && data.hasRemaining()) {
+				m_pending.put(data.get());
+				m_pending.flip();
+				decode(m_pending, false);
+				m_pending.compact();
+			}
+			
+			decode(data, false);
+			
+			if (data.hasRemaining()) {
+				//the native buffer is only valid during the callback
+				m_pending.put(data);
+			}
+			writeChars();
+		}
+		
+		private void decode(ByteBuffer in, boolean endOfInput) throws IOException {
+			while (m_decoder.decode(in, m_chars, endOfInput).isOverflow()) {
+				writeChars();
+			}
+		}
+		
+		private void writeChars() throws IOException {
+			m_chars.flip();
+			if (m_chars.hasRemaining()) {
+				m_out.write(m_chars.array(), m_chars.arrayOffset() + m_chars.position(), m_chars.remaining());
+			}
+			m_chars.clear();
+		}
+		
+		@Override
+		public void finish() throws IOException {
+			m_pending.flip();
+			decode(m_pending, true);
+			while (m_decoder.flush(m_chars).isOverflow()) {
+				writeChars();
+			}
+			writeChars();
+			m_out.flush();
+		}
 	}
 
 	@Override
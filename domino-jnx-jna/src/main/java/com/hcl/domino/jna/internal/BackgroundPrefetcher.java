@@ -0,0 +1,236 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.hcl.domino.DominoClient;
+import com.hcl.domino.DominoException;
+
+/**
+ * Produces values on a background thread and hands them to the consuming thread
+ * through a bounded queue.<br>
+ * <br>
+ * The thread is created with the thread factory of the {@link DominoClient}, so
+ * callers must only use this class when the client allows cross thread access.
+ * Errors thrown by the producer are rethrown to the consumer by {@link #take()}.<br>
+ * <br>
+ * {@link #close()} waits for the background thread to finish, so that it no longer
+ * uses native handles once the caller goes on to close the database or document
+ * they belong to.
+ *
+ * @param <T> type of produced values
+ * @since 1.44.0
+ */
+public class BackgroundPrefetcher<T> implements AutoCloseable {
+	/** queue marker for the end of the data */
+	private static final Object END_OF_DATA = new Object();
+
+	/**
+	 * Code running on the background thread
+	 *
+	 * @param <T> type of produced values
+	 */
+	@FunctionalInterface
+	public interface Producer<T> {
+		/**
+		 * Produces all values by calling {@link BackgroundPrefetcher#offer(Object)} and
+		 * should return early when it returns false
+		 *
+		 * @param prefetcher prefetcher to hand the values to
+		 * @throws Exception in case of errors, rethrown to the consumer
+		 */
+		void produce(BackgroundPrefetcher<T> prefetcher) throws Exception;
+	}
+
+	private final BlockingQueue<Object> m_queue;
+	private final Consumer<T> m_discard;
+	private final String m_errorMessage;
+	private final Thread m_thread;
+	private volatile boolean m_closed;
+	private volatile WeakReference<Object> m_consumerRef;
+	private boolean m_done;
+
+	/**
+	 * Starts the background thread
+	 *
+	 * @param client client to create the background thread
+	 * @param threadName name of the background thread
+	 * @param capacity number of values to read ahead
+	 * @param producer code running on the background thread
+	 * @param discard called for values that have been produced but are never taken, e.g. to free their resources; may be null
+	 * @param errorMessage message of the {@link DominoException} thrown for checked producer exceptions
+	 */
+	public BackgroundPrefetcher(DominoClient client, String threadName, int capacity, Producer<T> producer,
+			Consumer<T> discard, String errorMessage) {
+		m_queue = new ArrayBlockingQueue<>(capacity);
+		m_discard = discard;
+		m_errorMessage = errorMessage;
+
+		m_thread = client.getThreadFactory().newThread(() -> run(producer));
+		m_thread.setName(threadName);
+		m_thread.setDaemon(true);
+		m_thread.start();
+	}
+
+	private void run(Producer<T> producer) {
+		try {
+			producer.produce(this);
+			offerInternal(END_OF_DATA);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Throwable t) {
+			try {
+				offerInternal(t);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Queues a value, waiting for free space while the consumer is active.
+	 * Only called from the background thread.
+	 *
+	 * @param value value
+	 * @return false if the prefetcher has been closed; the value has then been discarded
+	 * @throws InterruptedException if the background thread has been interrupted
+	 */
+	public boolean offer(T value) throws InterruptedException {
+		if (offerInternal(value)) {
+			return true;
+		}
+		discard(value);
+		return false;
+	}
+
+	private boolean offerInternal(Object value) throws InterruptedException {
+		while (!m_closed && !isConsumerCollected()) {
+			if (m_queue.offer(value, 100, TimeUnit.MILLISECONDS)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Lets the background thread stop when the consumer is no longer referenced,
+	 * e.g. a stream that has been abandoned without being closed. The producer must
+	 * not keep the consumer reachable.
+	 *
+	 * @param consumer object reading the values
+	 */
+	public void setConsumer(Object consumer) {
+		m_consumerRef = new WeakReference<>(consumer);
+	}
+
+	private boolean isConsumerCollected() {
+		WeakReference<Object> consumerRef = m_consumerRef;
+		return consumerRef!=null && consumerRef.get()==null;
+	}
+
+	/**
+	 * Returns whether {@link #close()} has been called, so that the producer can
+	 * stop early
+	 *
+	 * @return true if closed
+	 */
+	public boolean isClosed() {
+		return m_closed;
+	}
+
+	/**
+	 * Waits for the next value. Only called from the consuming thread.
+	 *
+	 * @return value or null if all values have been read or the prefetcher is closed
+	 * @throws InterruptedException if the consuming thread is interrupted while waiting
+	 */
+	@SuppressWarnings("unchecked")
+	public T take() throws InterruptedException {
+		if (m_done || m_closed) {
+			return null;
+		}
+
+		Object value = m_queue.take();
+		if (value == END_OF_DATA) {
+			m_done = true;
+			return null;
+		}
+		else if (value instanceof Throwable) {
+			m_done = true;
+			if (value instanceof RuntimeException) {
+				throw (RuntimeException) value;
+			}
+			else if (value instanceof Error) {
+				throw (Error) value;
+			}
+			else {
+				throw new DominoException(m_errorMessage, (Throwable) value);
+			}
+		}
+		else {
+			return (T) value;
+		}
+	}
+
+	/**
+	 * Stops the background thread, waits until it has finished and discards the
+	 * values that have not been taken. If the calling thread gets interrupted while
+	 * waiting, it keeps waiting and restores the interrupt flag afterwards.
+	 */
+	@Override
+	public void close() {
+		m_closed = true;
+
+		boolean interrupted = false;
+		while (m_thread.isAlive() && m_thread != Thread.currentThread()) {
+			try {
+				m_thread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		List<Object> pending = new ArrayList<>();
+		m_queue.drainTo(pending);
+		for (Object currValue : pending) {
+			if (currValue != END_OF_DATA && !(currValue instanceof Throwable)) {
+				@SuppressWarnings("unchecked")
+				T value = (T) currValue;
+				discard(value);
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void discard(T value) {
+		if (m_discard != null && value != null) {
+			m_discard.accept(value);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import com.hcl.domino.commons.util.DominoUtils;
+import com.hcl.domino.runtime.CacheStatistics;
+
+/**
+ * Process-wide cache of compiled formulas, keyed by the formula text and the way it
+ * has been converted for compilation.<br>
+ * <br>
+ * Compiling a formula with NSFFormulaCompile is comparatively expensive, while many
+ * applications evaluate or search with the same small set of formulas over and over
+ * again. The compiled formula is position independent, so we keep a copy of its bytes
+ * and hand them out instead of compiling the same text again. Formulas that fail to
+ * compile are never cached.<br>
+ * <br>
+ * Size and availability of the cache are configured via the {@code jnx.formulacache.*}
+ * properties in {@link DominoUtils}.
+ *
+ * @since 1.44.0
+ */
+public class CompiledFormulaCache {
+	private static final boolean USE_FORMULA_CACHE = !DominoUtils.isFormulaCacheDisabled();
+	
+	private static final SizeLimitedLRUCache<FormulaKey,byte[]> FORMULACACHE = new SizeLimitedLRUCache<FormulaKey,byte[]>(
+			"CompiledFormulas", DominoUtils.getFormulaCacheSize(), DominoUtils.getLMBCSCacheStripes(), false) { //$NON-NLS-1$
+		@Override
+		protected int computeSize(FormulaKey key, byte[] value) {
+			return key.size() + value.length;
+		}
+	};
+	
+	/**
+	 * Ways to convert the formula text to LMBCS before compiling it, which produce
+	 * different compiled formulas for texts with line breaks
+	 */
+	public enum Variant {
+		/** line breaks are kept as LF, used for formulas evaluated via the Formula API */
+		KEEP_LINEBREAKS,
+		/** line breaks are converted to null characters, used for view and selection formulas */
+		NULL_LINEBREAKS
+	}
+	
+	/**
+	 * Checks whether compiled formulas are cached
+	 * 
+	 * @return true if cache is enabled
+	 */
+	public static boolean isEnabled() {
+		return USE_FORMULA_CACHE;
+	}
+	
+	/**
+	 * Returns the usage counters of the cache
+	 * 
+	 * @return statistics
+	 */
+	public static CacheStatistics getStatistics() {
+		return FORMULACACHE.getStatistics();
+	}
+	
+	/**
+	 * Resets the usage counters of the cache
+	 */
+	public static void resetStatistics() {
+		FORMULACACHE.resetStatistics();
+	}
+	
+	/**
+	 * Removes all compiled formulas from the cache
+	 */
+	public static void clear() {
+		FORMULACACHE.clear();
+	}
+	
+	/**
+	 * Looks up a compiled formula. The returned array is shared and must not be modified.
+	 * 
+	 * @param variant how the formula text has been converted for compilation
+	 * @param formula formula text
+	 * @param columnItemNamesAndFormulas optional column names and formulas that have been merged into the formula, see {@link com.hcl.domino.jna.internal.views.ViewFormulaCompiler}
+	 * @return compiled formula or null if not cached
+	 */
+	public static byte[] get(Variant variant, String formula, LinkedHashMap<String,String> columnItemNamesAndFormulas) {
+		if (!USE_FORMULA_CACHE || formula==null) {
+			return null;
+		}
+		return FORMULACACHE.get(new FormulaKey(variant, formula, columnItemNamesAndFormulas));
+	}
+	
+	/**
+	 * Adds a compiled formula to the cache
+	 * 
+	 * @param variant how the formula text has been converted for compilation
+	 * @param formula formula text
+	 * @param columnItemNamesAndFormulas optional column names and formulas that have been merged into the formula
+	 * @param compiledFormula compiled formula with its exact length (see NSFFormulaGetSize), must not be modified afterwards
+	 */
+	public static void put(Variant variant, String formula, LinkedHashMap<String,String> columnItemNamesAndFormulas, byte[] compiledFormula) {
+		if (!USE_FORMULA_CACHE || formula==null || compiledFormula==null) {
+			return;
+		}
+		FORMULACACHE.put(new FormulaKey(variant, formula, columnItemNamesAndFormulas), compiledFormula);
+	}
+	
+	/**
+	 * Cache key consisting of the compile variant, the formula text and the names and
+	 * formulas of merged columns in their processing order
+	 */
+	private static class FormulaKey {
+		private final Variant m_variant;
+		private final String[] m_parts;
+		private final int m_hashCode;
+		
+		FormulaKey(Variant variant, String formula, LinkedHashMap<String,String> columnItemNamesAndFormulas) {
+			m_variant = variant;
+			int columnCount = columnItemNamesAndFormulas==null ? 0 : columnItemNamesAndFormulas.size();
+			String[] parts = new String[1 + 2*columnCount];
+			parts[0] = formula;
+			if (columnItemNamesAndFormulas!=null) {
+				int idx = 1;
+				for (Entry<String,String> currEntry : columnItemNamesAndFormulas.entrySet()) {
+					parts[idx++] = currEntry.getKey();
+					parts[idx++] = currEntry.getValue();
+				}
+			}
+			m_parts = parts;
+			m_hashCode = 31 * variant.hashCode() + Arrays.hashCode(parts);
+		}
+		
+		int size() {
+			int size = 0;
+			for (String currPart : m_parts) {
+				if (currPart!=null) {
+					size += currPart.length()*2;
+				}
+			}
+			return size;
+		}
+		
+		@Override
+		public int hashCode() {
+			return m_hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof FormulaKey)) {
+				return false;
+			}
+			FormulaKey other = (FormulaKey) obj;
+			return m_hashCode == other.m_hashCode && m_variant == other.m_variant && Arrays.equals(m_parts, other.m_parts);
+		}
+	}
+}
@@ -16,20 +16,32 @@
  */
 package com.hcl.domino.jna.internal;
 
+import com.hcl.domino.commons.util.DominoUtils;
+import com.hcl.domino.runtime.CacheStatistics;
+
 /**
- * Cache to optimize performance of LMBCS String conversion to Java Strings.
+ * Cache to optimize performance of LMBCS String conversion to Java Strings.<br>
+ * <br>
+ * Size, segmentation and per-thread use of the cache as well as string interning are configured
+ * via the {@code jnx.lmbcscache.*} properties in {@link DominoUtils}.
  * 
  * @author Karsten Lehmann
  */
 public class LMBCSStringConversionCache {
 	//use simple cache for lmbcs-string conversion of short string
-	private static final boolean USE_LMBCS2STRING_CACHE = true;
+	private static final boolean USE_LMBCS2STRING_CACHE = !DominoUtils.isLMBCSCacheDisabled();
 	//max length of each lmbcs-string cache entry in bytes
 	private static final int MAX_LMBCS2STRING_KEY_LENGTH = 1000;
 
-	private static final int MAX_LMBCS2STRING_SIZE_BYTES = 1000000;
+	private static final int MAX_LMBCS2STRING_SIZE_BYTES = DominoUtils.getLMBCSCacheSize();
+	
+	//intern short strings like form names and categories
+	private static final boolean INTERN_STRINGS = DominoUtils.isLMBCSCacheIntern();
+	//max length of interned strings in characters
+	private static final int MAX_INTERN_LENGTH = 100;
 
-	private static SizeLimitedLRUCache<LMBCSString,String> LMBCS2STRINGCACHE = new SizeLimitedLRUCache<LMBCSString,String>(MAX_LMBCS2STRING_SIZE_BYTES) {
+	private static SizeLimitedLRUCache<LMBCSString,String> LMBCS2STRINGCACHE = new SizeLimitedLRUCache<LMBCSString,String>(
+			"LMBCS2String", MAX_LMBCS2STRING_SIZE_BYTES, DominoUtils.getLMBCSCacheStripes(), DominoUtils.isLMBCSCachePerThread()) { //$NON-NLS-1$
 		@Override
 		protected int computeSize(LMBCSString key, String value) {
 			return key.size() + value.length()*2;
@@ -39,6 +51,25 @@ public class LMBCSStringConversionCache {
 	public static long getCacheSize() {
 		return LMBCS2STRINGCACHE.getCurrentCacheSizeInUnits();
 	}
+	
+	/**
+	 * Returns the usage counters of the cache
+	 * 
+	 * @return statistics
+	 * @since 1.44.0
+	 */
+	public static CacheStatistics getStatistics() {
+		return LMBCS2STRINGCACHE.getStatistics();
+	}
+	
+	/**
+	 * Resets the usage counters of the cache
+	 * 
+	 * @since 1.44.0
+	 */
+	public static void resetStatistics() {
+		LMBCS2STRINGCACHE.resetStatistics();
+	}
 
 	/**
 	 * Converts an LMBCS string to a Java String. If already cached, no native call is made.
@@ -47,13 +78,16 @@ public class LMBCSStringConversionCache {
 	 * @return converted string
 	 */
 	public static String get(LMBCSString lmbcsString) {
-		String stringFromCache = LMBCS2STRINGCACHE.get(lmbcsString);
+		String stringFromCache = USE_LMBCS2STRING_CACHE ? LMBCS2STRINGCACHE.get(lmbcsString) : null;
 		String convertedString;
 		
 		if (stringFromCache==null) {
 			byte[] dataArr = lmbcsString.getData();
 			
 			convertedString = NotesStringUtils.fromLMBCS(dataArr);
+			if (INTERN_STRINGS && convertedString.length()<=MAX_INTERN_LENGTH) {
+				convertedString = convertedString.intern();
+			}
 			if (USE_LMBCS2STRING_CACHE && lmbcsString.size()<=MAX_LMBCS2STRING_KEY_LENGTH) {
 				LMBCS2STRINGCACHE.put(lmbcsString, convertedString);
 			}
@@ -21,19 +21,16 @@ import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 import com.hcl.domino.DominoException;
 import com.hcl.domino.commons.gc.IAPIObject;
 import com.hcl.domino.commons.util.NotesErrorUtils;
+import com.hcl.domino.commons.util.NotesNameParser;
 import com.hcl.domino.commons.util.PlatformUtils;
 import com.hcl.domino.commons.util.ReverseStringTokenizer;
-import com.hcl.domino.commons.util.StringTokenizerExt;
 import com.hcl.domino.commons.util.StringUtil;
 import com.hcl.domino.jna.data.JNAUserNamesList;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
@@ -57,36 +54,30 @@ public class NotesNamingUtils {
 	
 	/**
 	 * Names-list-building functions appear to be extrmely thread-sensitive, so this lock is used
-	 * around each related C call.
+	 * around each related C call. As a consequence, names lists are built one at a time across
+	 * the whole JVM.
 	 */
 	private static final Object BUILDNAMESLIST_LOCK = new Object();
 	
-	private static Map<String, String> m_nameAbbrCache = Collections.synchronizedMap(new LinkedHashMap<String, String>(16,0.75f, true) {
-		private static final long serialVersionUID = -5818239831757810895L;
-
-		@Override
-		protected boolean removeEldestEntry (Map.Entry<String,String> eldest) {
-			if (size() > MAX_STRINGCACHE_SIZE) {
-				return true;
-			}
-			else {
-				return false;
-			}
+	/**
+	 * Results of DNAbbreviate and DNCanonicalize for names that {@link NotesNameParser} does not handle
+	 */
+	private static SizeLimitedLRUCache<String, String> m_nameAbbrCache = new NameCache("AbbreviatedNames"); //$NON-NLS-1$
+	private static SizeLimitedLRUCache<String, String> m_nameCanonicalCache = new NameCache("CanonicalNames"); //$NON-NLS-1$
+	
+	private static class NameCache extends SizeLimitedLRUCache<String, String> {
+		/** the caches are small, so we do not split them into segments */
+		private static final int STRIPES = 1;
+		
+		NameCache(String name) {
+			super(name, MAX_STRINGCACHE_SIZE, STRIPES, false);
 		}
-	});
-	private static Map<String, String> m_nameCanonicalCache = Collections.synchronizedMap(new LinkedHashMap<String, String>(16,0.75f, true) {
-		private static final long serialVersionUID = -5818239831757810895L;
-
+		
 		@Override
-		protected boolean removeEldestEntry (Map.Entry<String,String> eldest) {
-			if (size() > MAX_STRINGCACHE_SIZE) {
-				return true;
-			}
-			else {
-				return false;
-			}
+		protected int computeSize(String key, String value) {
+			return 1;
 		}
-	});
+	}
 	
 	/**
 	 * This function converts a distinguished name in abbreviated format to canonical format.
@@ -136,13 +127,36 @@ public class NotesNamingUtils {
 		if (name.length()==0) {
 			return name;
 		}
-
-		String cacheKey = name + ((templateName!=null && templateName.length()>0) ? ("|" + templateName) : ""); //$NON-NLS-1$ //$NON-NLS-2$
-		String abbrName = m_nameCanonicalCache.get(cacheKey);
-		if (abbrName!=null) {
-			return abbrName;
+		
+		boolean hasTemplate = templateName!=null && templateName.length()>0;
+		if (!hasTemplate) {
+			String canonicalName = NotesNameParser.toCanonical(name);
+			if (canonicalName!=null) {
+				return canonicalName;
+			}
 		}
 
+		String cacheKey = name + (hasTemplate ? ("|" + templateName) : ""); //$NON-NLS-1$ //$NON-NLS-2$
+		String canonicalName = m_nameCanonicalCache.get(cacheKey);
+		if (canonicalName!=null) {
+			return canonicalName;
+		}
+		
+		canonicalName = toCanonicalNameNative(name, templateName);
+		m_nameCanonicalCache.put(cacheKey, canonicalName);
+		return canonicalName;
+	}
+	
+	/**
+	 * Converts a name to canonical format via DNCanonicalize, without using
+	 * {@link NotesNameParser} or the cache
+	 * 
+	 * @param name name to convert
+	 * @param templateName name to be used when the input name is in common name format
+	 * @return canonical name
+	 * @since 1.44.0
+	 */
+	public static String toCanonicalNameNative(String name, String templateName) {
 		Memory templateNameMem = templateName==null ? null : NotesStringUtils.toLMBCS(templateName, true); //used when abbrName is only a common name
 		Memory inNameMem = NotesStringUtils.toLMBCS(name, true);
 		try(DisposableMemory outNameMem = new DisposableMemory(NotesConstants.MAXUSERNAME)) {
@@ -151,11 +165,7 @@ public class NotesNamingUtils {
   		short result = NotesCAPI.get().DNCanonicalize(0, templateNameMem, inNameMem, outNameMem, NotesConstants.MAXUSERNAME, outLength);
   		NotesErrorUtils.checkResult(result);
   		
-  		String sOutName = NotesStringUtils.fromLMBCS(outNameMem, outLength.getValue() & 0xffff);
-      
-      m_nameCanonicalCache.put(cacheKey, sOutName);
-      
-      return sOutName;
+  		return NotesStringUtils.fromLMBCS(outNameMem, outLength.getValue() & 0xffff);
 		}
 	}
 	
@@ -168,39 +178,7 @@ public class NotesNamingUtils {
 	 * @return abbreviated name
 	 */
 	public static String toAbbreviatedName(String name) {
-		if (name==null) {
-			return null;
-		}
-		if (name.length()==0) {
-			return name;
-		}
-		
-		final String cacheKey = name;
-		String abbrName = m_nameAbbrCache.get(cacheKey);
-		
-		if (abbrName==null) {
-			StringTokenizerExt st=new StringTokenizerExt(name, "/"); //$NON-NLS-1$
-			StringBuilder sb=new StringBuilder(name.length());
-			while (st.hasMoreTokens()) {
-				String currToken=st.nextToken();
-				int iPos = currToken.indexOf("="); //$NON-NLS-1$
-				if (sb.length()>0) {
-					sb.append("/"); //$NON-NLS-1$
-				}
-				
-				if (iPos!=-1) {
-					sb.append(currToken.substring(iPos+1));
-				}
-				else {
-					sb.append(currToken);
-				}
-			}
-			
-			abbrName = sb.toString();
-			m_nameAbbrCache.put(cacheKey, abbrName);
-		}
-
-		return abbrName;
+		return NotesNameParser.toAbbreviated(name);
 	}
 
 	/**
@@ -338,12 +316,35 @@ public class NotesNamingUtils {
 			return name;
 		}
 		
-		String cacheKey = name + ((templateName!=null && templateName.length()>0) ? ("|" + templateName) : ""); //$NON-NLS-1$ //$NON-NLS-2$
+		boolean hasTemplate = templateName!=null && templateName.length()>0;
+		if (!hasTemplate) {
+			String canonicalName = NotesNameParser.toCanonical(name);
+			if (canonicalName!=null) {
+				return NotesNameParser.toAbbreviated(canonicalName);
+			}
+		}
+		
+		String cacheKey = name + (hasTemplate ? ("|" + templateName) : ""); //$NON-NLS-1$ //$NON-NLS-2$
 		String abbrName = m_nameAbbrCache.get(cacheKey);
 		if (abbrName!=null) {
 			return abbrName;
 		}
 		
+		abbrName = toAbbreviatedNameNative(name, templateName);
+		m_nameAbbrCache.put(cacheKey, abbrName);
+		return abbrName;
+	}
+	
+	/**
+	 * Converts a name to abbreviated format via DNAbbreviate, without using
+	 * {@link NotesNameParser} or the cache
+	 * 
+	 * @param name name to convert
+	 * @param templateName name to be used when the input name is in common name format
+	 * @return abbreviated name
+	 * @since 1.44.0
+	 */
+	public static String toAbbreviatedNameNative(String name, String templateName) {
 		Memory templateNameMem = templateName==null || templateName.length()==0 ? null : NotesStringUtils.toLMBCS(templateName, true); //used when abbrName is only a common name
 		Memory inNameMem = NotesStringUtils.toLMBCS(name, true);
 		try(DisposableMemory outNameMem = new DisposableMemory(NotesConstants.MAXUSERNAME)) {
@@ -352,11 +353,7 @@ public class NotesNamingUtils {
   		short result = NotesCAPI.get().DNAbbreviate(0, templateNameMem, inNameMem, outNameMem, NotesConstants.MAXUSERNAME, outLength);
   		NotesErrorUtils.checkResult(result);
   		
-  		String sOutName = NotesStringUtils.fromLMBCS(outNameMem, outLength.getValue() & 0xffff);
-  		
-  		m_nameAbbrCache.put(cacheKey, sOutName);
-  		
-  		return sOutName;
+  		return NotesStringUtils.fromLMBCS(outNameMem, outLength.getValue() & 0xffff);
 		}
 	}
 
@@ -517,14 +514,15 @@ public class NotesNamingUtils {
 	
 	/**
 	 * Computes a {@link JNAUserNamesList} structure with all name variants, wildcards and groups for
-	 * the specified user
+	 * the specified user. The C call runs under a JVM-wide lock, so concurrent callers wait for
+	 * each other; {@link UserNamesListCache} avoids computing the same names repeatedly.
 	 * 
 	 * @param parent API parent object for memory management
 	 * @param server name of server, either abbreviated or canonical or null/empty string for local
 	 * @param userName username, either abbreviated or canonical
 	 * @return names list
 	 */
-	public static synchronized JNAUserNamesList buildNamesList(IAPIObject<?> parent, String server, String userName) {
+	public static JNAUserNamesList buildNamesList(IAPIObject<?> parent, String server, String userName) {
 		Objects.requireNonNull(userName, "Name cannot be null");
 		
 		if (server==null || "".equals(server)) { //$NON-NLS-1$
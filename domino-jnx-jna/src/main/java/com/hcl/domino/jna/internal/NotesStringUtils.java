@@ -31,12 +31,15 @@ import java.util.Formatter;
 import java.util.List;
 
 import com.hcl.domino.DominoException;
+import com.hcl.domino.commons.util.DominoUtils;
+import com.hcl.domino.commons.util.LMBCSCodec;
 import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.util.PlatformUtils;
 import com.hcl.domino.commons.util.StringUtil;
 import com.hcl.domino.jna.internal.capi.INotesCAPI;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
 import com.hcl.domino.misc.NotesConstants;
+import com.hcl.domino.runtime.CacheStatistics;
 import com.sun.jna.Memory;
 import com.sun.jna.Native;
 import com.sun.jna.Pointer;
@@ -51,30 +54,36 @@ public class NotesStringUtils {
 	private static final String PREF_USEOSLINEBREAK = "NotesStringUtils.useOSLineDelimiter"; //$NON-NLS-1$
 	
 	//use simple cache for string-lmbcs conversion of short string
-	private static final boolean USE_STRING2LMBCS_CACHE = true;
+	private static final boolean USE_STRING2LMBCS_CACHE = !DominoUtils.isLMBCSCacheDisabled();
 	//max length of each string-lmbcs cache entry in characters
 	private static final int MAX_STRING2LMBCS_KEY_LENGTH = 500;
 	
-	private static final int MAX_STRING2LMBCS_SIZE_BYTES = 1000000;
+	private static final int MAX_STRING2LMBCS_SIZE_BYTES = DominoUtils.getLMBCSCacheSize();
 	
-	private static LRUStringLMBCSCache m_string2LMBCSCache_NullTerminated_LinefeedLinebreaks = new LRUStringLMBCSCache(MAX_STRING2LMBCS_SIZE_BYTES);
-	private static LRUStringLMBCSCache m_string2LMBCSCache_NotNullTerminated_LinefeedLinebreaks = new LRUStringLMBCSCache(MAX_STRING2LMBCS_SIZE_BYTES);
+	private static LRUStringLMBCSCache m_string2LMBCSCache_NullTerminated_LinefeedLinebreaks = new LRUStringLMBCSCache("String2LMBCS.NullTerminated.LinefeedLinebreaks"); //$NON-NLS-1$
+	private static LRUStringLMBCSCache m_string2LMBCSCache_NotNullTerminated_LinefeedLinebreaks = new LRUStringLMBCSCache("String2LMBCS.NotNullTerminated.LinefeedLinebreaks"); //$NON-NLS-1$
 	
-	private static LRUStringLMBCSCache m_string2LMBCSCache_NullTerminated_NullLinebreaks = new LRUStringLMBCSCache(MAX_STRING2LMBCS_SIZE_BYTES);
-	private static LRUStringLMBCSCache m_string2LMBCSCache_NotNullTerminated_NullLinebreaks = new LRUStringLMBCSCache(MAX_STRING2LMBCS_SIZE_BYTES);
+	private static LRUStringLMBCSCache m_string2LMBCSCache_NullTerminated_NullLinebreaks = new LRUStringLMBCSCache("String2LMBCS.NullTerminated.NullLinebreaks"); //$NON-NLS-1$
+	private static LRUStringLMBCSCache m_string2LMBCSCache_NotNullTerminated_NullLinebreaks = new LRUStringLMBCSCache("String2LMBCS.NotNullTerminated.NullLinebreaks"); //$NON-NLS-1$
 
-	private static LRUStringLMBCSCache m_string2LMBCSCache_NullTerminated_OriginalLinebreaks = new LRUStringLMBCSCache(MAX_STRING2LMBCS_SIZE_BYTES);
-	private static LRUStringLMBCSCache m_string2LMBCSCache_NotNullTerminated_OriginalLinebreaks = new LRUStringLMBCSCache(MAX_STRING2LMBCS_SIZE_BYTES);
+	private static LRUStringLMBCSCache m_string2LMBCSCache_NullTerminated_OriginalLinebreaks = new LRUStringLMBCSCache("String2LMBCS.NullTerminated.OriginalLinebreaks"); //$NON-NLS-1$
+	private static LRUStringLMBCSCache m_string2LMBCSCache_NotNullTerminated_OriginalLinebreaks = new LRUStringLMBCSCache("String2LMBCS.NotNullTerminated.OriginalLinebreaks"); //$NON-NLS-1$
+	
+	private static final LRUStringLMBCSCache[] m_string2LMBCSCaches = {
+			m_string2LMBCSCache_NullTerminated_LinefeedLinebreaks,
+			m_string2LMBCSCache_NotNullTerminated_LinefeedLinebreaks,
+			m_string2LMBCSCache_NullTerminated_NullLinebreaks,
+			m_string2LMBCSCache_NotNullTerminated_NullLinebreaks,
+			m_string2LMBCSCache_NullTerminated_OriginalLinebreaks,
+			m_string2LMBCSCache_NotNullTerminated_OriginalLinebreaks
+	};
 	
 	private static final Charset charsetUTF8 = StandardCharsets.UTF_8;
 
 	public static void flushCache() {
-		m_string2LMBCSCache_NullTerminated_LinefeedLinebreaks.clear();
-		m_string2LMBCSCache_NotNullTerminated_LinefeedLinebreaks.clear();
-		m_string2LMBCSCache_NullTerminated_NullLinebreaks.clear();
-		m_string2LMBCSCache_NotNullTerminated_NullLinebreaks.clear();
-		m_string2LMBCSCache_NullTerminated_OriginalLinebreaks.clear();
-		m_string2LMBCSCache_NotNullTerminated_OriginalLinebreaks.clear();
+		for (LRUStringLMBCSCache currCache : m_string2LMBCSCaches) {
+			currCache.clear();
+		}
 	}
 	
 	/**
@@ -88,6 +97,12 @@ public class NotesStringUtils {
 		if (isUseOSLineDelimiter() != b) {
 //			NotesGC.setCustomValue(PREF_USEOSLINEBREAK, Boolean.valueOf(b));
 			
+			if (USE_STRING2LMBCS_CACHE && m_string2LMBCSCache_NullTerminated_LinefeedLinebreaks.isPerThread()) {
+				//we cannot reach the caches of other threads, so start over
+				flushCache();
+				return;
+			}
+			
 			//remove all cached values that contain newlines
 			List<String> keysWithNull = m_string2LMBCSCache_NullTerminated_LinefeedLinebreaks.getKeys();
 			for (String currKey : keysWithNull) {
@@ -272,140 +287,111 @@ public class NotesStringUtils {
 		
 		List<String> lines = new ArrayList<>();
 		
+		for (int i=0; i<data.length; i++) {
+			if (data[i] == 0) { // code for line break
+				lines.add(fromLMBCSLine(data, startOffset, i-startOffset));
+				startOffset = i+1;
+				
+				if (i==(data.length-1)) {
+					lines.add(""); //$NON-NLS-1$
+				}
+			}
+		}
+
+		if (startOffset<data.length) {
+			//convert remaining data
+			lines.add(fromLMBCSLine(data, startOffset, data.length-startOffset));
+		}
+		
+		if (lines.size()==1) {
+			return lines.get(0);
+		}
+		
+		boolean useOSLineBreak = isUseOSLineDelimiter();
+		if (PlatformUtils.isWindows() && useOSLineBreak) {
+			return StringUtil.join(lines, "\r\n"); //$NON-NLS-1$
+		}
+		else {
+			return StringUtil.join(lines, "\n"); //$NON-NLS-1$
+		}
+	}
+	
+	/**
+	 * Converts a single line of LMBCS data (without \0 bytes) to a Java String.
+	 * Lines that only use character groups supported by {@link LMBCSCodec} are decoded
+	 * in Java, all others are passed to OSTranslate.
+	 * 
+	 * @param data data array
+	 * @param offset start offset of the line
+	 * @param len length of the line in bytes
+	 * @return decoded String
+	 */
+	private static String fromLMBCSLine(byte[] data, int offset, int len) {
+		if (len==0) {
+			return ""; //$NON-NLS-1$
+		}
+		
+		String lineAsStr = LMBCSCodec.decode(data, offset, len);
+		if (lineAsStr!=null) {
+			return lineAsStr;
+		}
+		
+		return fromLMBCSLineNative(data, offset, len);
+	}
+	
+	/**
+	 * Converts a single line of LMBCS data (without \0 bytes) to a Java String
+	 * via OSTranslate, bypassing the Java conversion in {@link LMBCSCodec}
+	 * 
+	 * @param data data array
+	 * @param offset start offset of the line
+	 * @param len length of the line in bytes
+	 * @return decoded String
+	 */
+	public static String fromLMBCSLineNative(byte[] data, int offset, int len) {
+		if (len==0) {
+			return ""; //$NON-NLS-1$
+		}
+		
 		INotesCAPI api = NotesCAPI.get();
 		
-		//output buffer shared across loop runs for each line
-		DisposableMemory outBufUTF8 = null;
-		try {
-			for (int i=0; i<data.length; i++) {
-				if (data[i] == 0) { // code for line break
-					int lengthOfLineDataToConvert = i-startOffset;
+		int worstCaseLengthOfConvertedData = 3*len;
+		
+		try(DisposableMemory inDataMem = new DisposableMemory(len)) {
+			inDataMem.write(0, data, offset, len);
+			
+			DisposableMemory outBufUTF8 = new DisposableMemory(worstCaseLengthOfConvertedData);
+			try {
+				do {
+					int retOutBufLength =
+							api.OSTranslate32(NotesConstants.OS_TRANSLATE_LMBCS_TO_UTF8,
+									inDataMem, len,
+									outBufUTF8, (int) outBufUTF8.size());
 					
-					if (lengthOfLineDataToConvert==0) {
-						lines.add(""); //$NON-NLS-1$
-						startOffset = i+1;
-						
-						if (i==(data.length-1)) {
-							lines.add(""); //$NON-NLS-1$
-						}
+					if (retOutBufLength==outBufUTF8.size()) {
+						// output buffer not large enough, increase it and retry (not expected to happen because of
+						// our worst case computation)
+						long oldOutBufSize = outBufUTF8.size();
+						long newOutBufSize = (long) (((double) oldOutBufSize)*2);
+						outBufUTF8.close();
+						outBufUTF8 = new DisposableMemory(newOutBufSize);
 						
 						continue;
 					}
-					
-					int worstCaseLengthOfConvertedData = 3*lengthOfLineDataToConvert;
-					
-					try(DisposableMemory inDataMem = new DisposableMemory(lengthOfLineDataToConvert)) {
-						inDataMem.write(0, data, startOffset, lengthOfLineDataToConvert);
-						
-						do {
-							if (outBufUTF8!=null && outBufUTF8.size() < (worstCaseLengthOfConvertedData)) {
-								outBufUTF8 = new DisposableMemory(worstCaseLengthOfConvertedData);
-							}
-							
-							if (outBufUTF8==null) {
-								outBufUTF8 = new DisposableMemory(worstCaseLengthOfConvertedData);
-							}
-							
-							int retOutBufLength =
-									api.OSTranslate32(NotesConstants.OS_TRANSLATE_LMBCS_TO_UTF8,
-											inDataMem, lengthOfLineDataToConvert,
-											outBufUTF8, (int) outBufUTF8.size());
-							
-							if (retOutBufLength==outBufUTF8.size()) {
-								// output buffer not large enough, increase it and retry (not expected to happen because of
-								// our worst case computation)
-								long oldOutBufSize = outBufUTF8.size();
-								long newOutBufSize = (long) (((double) oldOutBufSize)*2);
-								outBufUTF8.close();
-								outBufUTF8 = new DisposableMemory(newOutBufSize);
-								
-								continue;
-							}
-							else if (retOutBufLength==0) {
-								lines.add(""); //$NON-NLS-1$
-								startOffset = i+1;
-								
-								break;
-							}
-							else {
-								//success
-								String lineAsStr = new String(outBufUTF8.getByteArray(0, retOutBufLength), 0, retOutBufLength, charsetUTF8);
-								lines.add(lineAsStr);
-								startOffset = i+1;
-								
-								if (i==(data.length-1)) {
-									lines.add(""); //$NON-NLS-1$
-								}
-								
-								break;
-							}
-						}
-						while (true);
+					else if (retOutBufLength==0) {
+						return ""; //$NON-NLS-1$
 					}
-				}
-			}
-
-			if (startOffset<data.length) {
-				//convert remaining data
-				int lengthOfLineDataToConvert = data.length-startOffset;
-				int worstCaseLengthOfConvertedData = 3*lengthOfLineDataToConvert;
-
-				try(DisposableMemory inDataMem = new DisposableMemory(lengthOfLineDataToConvert)) {
-					inDataMem.write(0, data, startOffset, lengthOfLineDataToConvert);
-					
-					do {
-						if (outBufUTF8!=null && outBufUTF8.size() < (worstCaseLengthOfConvertedData)) {
-							outBufUTF8 = new DisposableMemory(worstCaseLengthOfConvertedData);
-						}
-						
-						if (outBufUTF8==null) {
-							outBufUTF8 = new DisposableMemory(worstCaseLengthOfConvertedData);
-						}
-						
-						int retOutBufLength =
-								api.OSTranslate32(NotesConstants.OS_TRANSLATE_LMBCS_TO_UTF8,
-										inDataMem, lengthOfLineDataToConvert,
-										outBufUTF8, (int) outBufUTF8.size());
-						
-						if (retOutBufLength==outBufUTF8.size()) {
-							// output buffer not large enough, increase it and retry (not expected to happen because of
-							// our worst case computation)
-							long oldOutBufSize = outBufUTF8.size();
-							long newOutBufSize = (long) (((double) oldOutBufSize)*2);
-							outBufUTF8.close();
-							outBufUTF8 = new DisposableMemory(newOutBufSize);
-							
-							continue;
-						}
-						else if (retOutBufLength==0) {
-							lines.add(""); //$NON-NLS-1$
-							
-							break;
-						}
-						else {
-							//success
-							String lineAsStr = new String(outBufUTF8.getByteArray(0, retOutBufLength), 0, retOutBufLength, charsetUTF8);
-							lines.add(lineAsStr);
-							
-							break;
-						}
+					else {
+						//success
+						return new String(outBufUTF8.getByteArray(0, retOutBufLength), 0, retOutBufLength, charsetUTF8);
 					}
-					while (true);
 				}
+				while (true);
 			}
-		}
-		finally {
-			if (outBufUTF8!=null) {
+			finally {
 				outBufUTF8.close();
 			}
 		}
-		boolean useOSLineBreak = isUseOSLineDelimiter();
-		if (PlatformUtils.isWindows() && useOSLineBreak) {
-			return StringUtil.join(lines, "\r\n"); //$NON-NLS-1$
-		}
-		else {
-			return StringUtil.join(lines, "\n"); //$NON-NLS-1$
-		}
 	}
 	
 	/**
@@ -586,140 +572,22 @@ public class NotesStringUtils {
 				}
 			}
 			
-			cachedMem = cacheToUse.get(inStr);
-			
-			if (cachedMem!=null) {
-				return cachedMem;
+			if (USE_STRING2LMBCS_CACHE && inStr.length()<=MAX_STRING2LMBCS_KEY_LENGTH) {
+				cachedMem = cacheToUse.get(inStr);
+				
+				if (cachedMem!=null) {
+					return cachedMem;
+				}
 			}
 		}
 		else {
 			cacheToUse = null;
 		}
 
-		boolean inStrHasLinebreaks;
-		String[] lines;
-		if (inStr.contains("\n") && lineBreakConversion != LineBreakConversion.ORIGINAL) { //$NON-NLS-1$
-			lines = inStr.split("\\r?\\n", -1); //$NON-NLS-1$
-			inStrHasLinebreaks = true;
-		}
-		else {
-			lines = new String[1];
-			lines[0] = inStr;
-			inStrHasLinebreaks = false;
-		}
-		
-		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
-		
-		INotesCAPI api = NotesCAPI.get();
-		
-		DisposableMemory inputBufUTF8 = null;
-		DisposableMemory outputBufLMBCS = null;
-		try {
-			for (int i=0; i<lines.length; i++) {
-				if (inStrHasLinebreaks && i>0) {
-					if (lineBreakConversion == LineBreakConversion.NULL) {
-						//replace line breaks with null characters
-						bOut.write(0);
-					}
-					else if (lineBreakConversion == LineBreakConversion.LINEFEED) {
-						//replace line breaks (e.g. \r\n on Windows) with \n
-						bOut.write('\n');
-					}
-					else {
-						//should not happen
-						throw new IllegalArgumentException(format("Unexpected line break conversion: {0}", lineBreakConversion));
-					}
-				}
-				
-				if (lines[i].length() == 0) {
-					continue;
-				}
-				
-				//check if string only contains ascii characters that map 1:1 to LMBCS;
-				//in this case we can skip the OSTranslate call
-				boolean isPureAscii = true;
-				for (int x=0; x<lines[i].length(); x++) {
-					char c = lines[i].charAt(x);
-					if (c <= 0x1f || c >= 0x80) {
-						isPureAscii = false;
-						break;
-					}
-				}
-				
-				byte[] lineDataAsUTF8 = lines[i].getBytes(charsetUTF8);
-				
-				if (isPureAscii) {
-					try {
-						bOut.write(lineDataAsUTF8);
-					} catch (IOException e) {
-						throw new DominoException(0, "Error writing to temporary byte stream", e);
-					}
-				}
-				else {
-					int worstCaseLMBCSLength = 3 * lines[i].length();
-					
-					if (inputBufUTF8!=null && inputBufUTF8.size() < lineDataAsUTF8.length) {
-						inputBufUTF8.close();
-						inputBufUTF8 = null;
-					}
-					
-					if (inputBufUTF8==null) {
-						inputBufUTF8 = new DisposableMemory(lineDataAsUTF8.length);
-					}
-					inputBufUTF8.write(0, lineDataAsUTF8, 0, lineDataAsUTF8.length);
-					
-					if (outputBufLMBCS!=null && outputBufLMBCS.size() < worstCaseLMBCSLength) {
-						outputBufLMBCS.close();
-						outputBufLMBCS = null;
-					}
-					
-					if (outputBufLMBCS==null) {
-						outputBufLMBCS = new DisposableMemory(worstCaseLMBCSLength);
-					}
-					
-					do {
-						int retOutBufLength = api.OSTranslate32(
-								NotesConstants.OS_TRANSLATE_UTF8_TO_LMBCS,
-								inputBufUTF8, lineDataAsUTF8.length,
-								outputBufLMBCS, (int) outputBufLMBCS.size());
-						
-						if (retOutBufLength==outputBufLMBCS.size()) {
-							// output buffer not large enough, increase it and retry (not expected to happen because of
-							// our worst case computation)
-							long oldOutBufSize = outputBufLMBCS.size();
-							long newOutBufSize = (long) (((double) oldOutBufSize)*2);
-							outputBufLMBCS.close();
-							outputBufLMBCS = new DisposableMemory(newOutBufSize);
-
-							continue;
-						}
-						else if (retOutBufLength>0) {
-							//success
-							byte[] data = outputBufLMBCS.getByteArray(0, retOutBufLength);
-							try {
-								bOut.write(data);
-							} catch (IOException e) {
-								throw new DominoException(0, "Error writing to temporary byte stream", e);
-							}
-							break;
-						}
-					}
-					while (true);
-				}
-			}
-		}
-		finally {
-			if (inputBufUTF8!=null) {
-				inputBufUTF8.close();
-			}
-			
-			if (outputBufLMBCS!=null) {
-				outputBufLMBCS.close();
-			}
-		}
+		byte[] data = toLMBCSBytes(inStr, lineBreakConversion);
 		
 		if (addNull) {
-			int limit = bOut.size();
+			int limit = data.length;
 			
 			Memory m;
 			if (noCache) {
@@ -729,7 +597,6 @@ public class NotesStringUtils {
 				m = new ReadOnlyMemory(limit + 1);
 			}
 			
-			byte[] data = bOut.toByteArray();
 			m.write(0, data, 0, data.length);
 			m.setByte(limit, (byte) 0);
 			
@@ -748,13 +615,12 @@ public class NotesStringUtils {
 		else {
 			Memory m;
 			if (noCache) {
-				m = new DisposableMemory(bOut.size());
+				m = new DisposableMemory(data.length);
 			}
 			else {
-				m = new ReadOnlyMemory(bOut.size());
+				m = new ReadOnlyMemory(data.length);
 			}
 
-			byte[] data = bOut.toByteArray();
 			m.write(0, data, 0, data.length);
 			
 			if (!noCache) {
@@ -771,6 +637,111 @@ public class NotesStringUtils {
 		}
 	}
 	
+	/**
+	 * Converts a string to LMBCS format without null terminator and returns the
+	 * result as a byte array. Line breaks are converted according to
+	 * {@code lineBreakConversion}; lines that only contain characters supported by
+	 * {@link LMBCSCodec} are converted in Java, all others via OSTranslate.
+	 * 
+	 * @param inStr string
+	 * @param lineBreakConversion how to convert linebreaks in the string
+	 * @return encoded string
+	 */
+	public static byte[] toLMBCSBytes(String inStr, LineBreakConversion lineBreakConversion) {
+		if (lineBreakConversion == LineBreakConversion.ORIGINAL || inStr.indexOf('\n') == -1) {
+			//fast path for the common single line case
+			byte[] data = LMBCSCodec.encode(inStr);
+			return data!=null ? data : toLMBCSLineNative(inStr);
+		}
+		
+		String[] lines = inStr.split("\\r?\\n", -1); //$NON-NLS-1$
+		
+		ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+		
+		try {
+			for (int i=0; i<lines.length; i++) {
+				if (i>0) {
+					if (lineBreakConversion == LineBreakConversion.NULL) {
+						//replace line breaks with null characters
+						bOut.write(0);
+					}
+					else if (lineBreakConversion == LineBreakConversion.LINEFEED) {
+						//replace line breaks (e.g. \r\n on Windows) with \n
+						bOut.write('\n');
+					}
+					else {
+						//should not happen
+						throw new IllegalArgumentException(format("Unexpected line break conversion: {0}", lineBreakConversion));
+					}
+				}
+				
+				if (lines[i].length() == 0) {
+					continue;
+				}
+				
+				//check if string only contains ASCII / Latin-1 characters that we can convert
+				//in Java; in this case we can skip the OSTranslate call
+				byte[] lineDataAsLMBCS = LMBCSCodec.encode(lines[i]);
+				if (lineDataAsLMBCS==null) {
+					lineDataAsLMBCS = toLMBCSLineNative(lines[i]);
+				}
+				bOut.write(lineDataAsLMBCS);
+			}
+		} catch (IOException e) {
+			throw new DominoException(0, "Error writing to temporary byte stream", e);
+		}
+		
+		return bOut.toByteArray();
+	}
+	
+	/**
+	 * Converts a single line of text (without line breaks) to LMBCS via OSTranslate,
+	 * bypassing the Java conversion in {@link LMBCSCodec}
+	 * 
+	 * @param line text to convert
+	 * @return LMBCS data without null terminator
+	 */
+	public static byte[] toLMBCSLineNative(String line) {
+		if (line.length()==0) {
+			return new byte[0];
+		}
+		
+		byte[] lineDataAsUTF8 = line.getBytes(charsetUTF8);
+		int worstCaseLMBCSLength = 3 * line.length();
+		
+		try(DisposableMemory inputBufUTF8 = new DisposableMemory(lineDataAsUTF8.length)) {
+			inputBufUTF8.write(0, lineDataAsUTF8, 0, lineDataAsUTF8.length);
+			
+			DisposableMemory outputBufLMBCS = new DisposableMemory(worstCaseLMBCSLength);
+			try {
+				do {
+					int retOutBufLength = NotesCAPI.get().OSTranslate32(
+							NotesConstants.OS_TRANSLATE_UTF8_TO_LMBCS,
+							inputBufUTF8, lineDataAsUTF8.length,
+							outputBufLMBCS, (int) outputBufLMBCS.size());
+					
+					if (retOutBufLength==outputBufLMBCS.size()) {
+						// output buffer not large enough, increase it and retry (not expected to happen because of
+						// our worst case computation)
+						long oldOutBufSize = outputBufLMBCS.size();
+						long newOutBufSize = (long) (((double) oldOutBufSize)*2);
+						outputBufLMBCS.close();
+						outputBufLMBCS = new DisposableMemory(newOutBufSize);
+						
+						continue;
+					}
+					else {
+						return outputBufLMBCS.getByteArray(0, retOutBufLength);
+					}
+				}
+				while (true);
+			}
+			finally {
+				outputBufLMBCS.close();
+			}
+		}
+	}
+	
 	/**
 	 * Converts the provided string collection into an adjacent series of null-terminated
 	 * LMBCS strings in memory.
@@ -953,10 +924,35 @@ public class NotesStringUtils {
 		return innards;
 	}
 	
+	/**
+	 * Returns the usage counters of the String to LMBCS conversion caches
+	 * 
+	 * @return statistics, one entry per cache
+	 * @since 1.44.0
+	 */
+	public static List<CacheStatistics> getCacheStatistics() {
+		List<CacheStatistics> stats = new ArrayList<>(m_string2LMBCSCaches.length);
+		for (LRUStringLMBCSCache currCache : m_string2LMBCSCaches) {
+			stats.add(currCache.getStatistics());
+		}
+		return stats;
+	}
+	
+	/**
+	 * Resets the usage counters of the String to LMBCS conversion caches
+	 * 
+	 * @since 1.44.0
+	 */
+	public static void resetCacheStatistics() {
+		for (LRUStringLMBCSCache currCache : m_string2LMBCSCaches) {
+			currCache.resetStatistics();
+		}
+	}
+	
 	private static class LRUStringLMBCSCache extends SizeLimitedLRUCache<String, Memory> {
 
-		public LRUStringLMBCSCache(int maxSizeUnits) {
-			super(maxSizeUnits);
+		public LRUStringLMBCSCache(String name) {
+			super(name, MAX_STRING2LMBCS_SIZE_BYTES, DominoUtils.getLMBCSCacheStripes(), DominoUtils.isLMBCSCachePerThread());
 		}
 
 		@Override
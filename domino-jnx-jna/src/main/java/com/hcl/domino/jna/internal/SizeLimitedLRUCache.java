@@ -17,14 +17,25 @@
 package com.hcl.domino.jna.internal;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
+import com.hcl.domino.runtime.CacheStatistics;
 
 /**
- * Abstract cache class that implements an LRU algorithm. Uses RW lock
- * internally to support concurrent access across threads.
+ * Abstract cache class that implements an LRU algorithm.<br>
+ * <br>
+ * By default, the cache is shared across threads and split into segments
+ * that are selected by the key hash, each with its own LRU order and an equal
+ * part of the size limit, so that concurrent readers do not all contend for the
+ * same LRU buffers. Alternatively, each thread can get its own, unsynchronized
+ * cache.
  * 
  * @author Karsten Lehmann
  *
@@ -32,26 +43,157 @@ import com.googlecode.concurrentlinkedhashmap.EntryWeigher;
  * @param <V> value type
  */
 public abstract class SizeLimitedLRUCache<K,V> {
-	private ConcurrentLinkedHashMap<K, V> m_cache;
+	private final String m_name;
+	private final int m_maxSizeUnits;
+	private final ConcurrentLinkedHashMap<K, V>[] m_stripes;
+	private final ThreadLocal<ThreadCache> m_threadCache;
+	/** incremented by {@link #clear()} to invalidate the caches of all threads */
+	private final AtomicInteger m_generation = new AtomicInteger();
 	
+	private final LongAdder m_hits = new LongAdder();
+	private final LongAdder m_misses = new LongAdder();
+	private final LongAdder m_evictions = new LongAdder();
+	
+	/**
+	 * Creates a new cache shared across threads
+	 * 
+	 * @param maxSizeUnits maximum size in units computed via {@link #computeSize(Object, Object)}
+	 */
 	public SizeLimitedLRUCache(int maxSizeUnits) {
-		EntryWeigher<K, V> customWeigher = (key, value) -> computeSize(key, value);
-		m_cache = new ConcurrentLinkedHashMap.Builder<K, V>()
-			    .maximumWeightedCapacity(maxSizeUnits)
-			    .weigher(customWeigher)
-			    .build();
+		this(null, maxSizeUnits, 1, false);
+	}
+	
+	/**
+	 * Creates a new cache
+	 * 
+	 * @param name name of the cache for {@link #getStatistics()}
+	 * @param maxSizeUnits maximum size in units computed via {@link #computeSize(Object, Object)}
+	 * @param stripes number of segments of a shared cache
+	 * @param perThread true to use a separate cache of {@code maxSizeUnits} for each thread
+	 * @since 1.44.0
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public SizeLimitedLRUCache(String name, int maxSizeUnits, int stripes, boolean perThread) {
+		m_name = name==null ? getClass().getName() : name;
+		m_maxSizeUnits = maxSizeUnits;
+		
+		if (perThread) {
+			m_stripes = null;
+			m_threadCache = ThreadLocal.withInitial(ThreadCache::new);
+		}
+		else {
+			m_threadCache = null;
+			
+			EntryWeigher<K, V> customWeigher = (key, value) -> computeSize(key, value);
+			int stripeCount = Math.max(1, stripes);
+			m_stripes = new ConcurrentLinkedHashMap[stripeCount];
+			for (int i=0; i<stripeCount; i++) {
+				m_stripes[i] = new ConcurrentLinkedHashMap.Builder<K, V>()
+						.maximumWeightedCapacity(Math.max(1, maxSizeUnits / stripeCount))
+						.weigher(customWeigher)
+						.listener((key, value) -> m_evictions.increment())
+						.build();
+			}
+		}
 	}
 	
+	private ConcurrentLinkedHashMap<K, V> getStripe(Object key) {
+		if (m_stripes.length==1) {
+			return m_stripes[0];
+		}
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return m_stripes[(h & 0x7fffffff) % m_stripes.length];
+	}
+	
+	private ThreadCache getThreadCache() {
+		ThreadCache cache = m_threadCache.get();
+		int generation = m_generation.get();
+		if (cache.m_generation != generation) {
+			cache.clear();
+			cache.m_generation = generation;
+		}
+		return cache;
+	}
+	
+	/**
+	 * Checks whether each thread uses its own cache
+	 * 
+	 * @return true if per-thread
+	 * @since 1.44.0
+	 */
+	public boolean isPerThread() {
+		return m_threadCache!=null;
+	}
+	
+	/**
+	 * Returns the cache keys. For per-thread caches, only the keys of the
+	 * current thread are returned.
+	 * 
+	 * @return keys
+	 */
 	public List<K> getKeys() {
-		return new ArrayList<>(m_cache.keySet());
+		if (m_threadCache!=null) {
+			return new ArrayList<>(getThreadCache().keySet());
+		}
+		List<K> keys = new ArrayList<>();
+		for (ConcurrentLinkedHashMap<K, V> currStripe : m_stripes) {
+			keys.addAll(currStripe.keySet());
+		}
+		return keys;
 	}
 	
+	/**
+	 * Removes all entries. Per-thread caches of other threads are cleared on their next access.
+	 */
 	public void clear() {
-		m_cache.clear();
+		if (m_threadCache!=null) {
+			m_generation.incrementAndGet();
+		}
+		else {
+			for (ConcurrentLinkedHashMap<K, V> currStripe : m_stripes) {
+				currStripe.clear();
+			}
+		}
 	}
 	
+	/**
+	 * Returns the current size. For per-thread caches, only the size of the
+	 * cache of the current thread is returned.
+	 * 
+	 * @return size in units
+	 */
 	public final long getCurrentCacheSizeInUnits() {
-		return m_cache.weightedSize();
+		if (m_threadCache!=null) {
+			return getThreadCache().m_weightedSize;
+		}
+		long size = 0;
+		for (ConcurrentLinkedHashMap<K, V> currStripe : m_stripes) {
+			size += currStripe.weightedSize();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns a snapshot of the cache usage counters
+	 * 
+	 * @return statistics
+	 * @since 1.44.0
+	 */
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(m_name, m_hits.sum(), m_misses.sum(), m_evictions.sum(),
+				getCurrentCacheSizeInUnits(), m_maxSizeUnits);
+	}
+	
+	/**
+	 * Resets the hit, miss and eviction counters
+	 * 
+	 * @since 1.44.0
+	 */
+	public void resetStatistics() {
+		m_hits.reset();
+		m_misses.reset();
+		m_evictions.reset();
 	}
 
 	/**
@@ -70,7 +212,14 @@ public abstract class SizeLimitedLRUCache<K,V> {
 	 * @return value or null if not found
 	 */
 	public V get(K key) {
-		return m_cache.get(key);
+		V value = m_threadCache!=null ? getThreadCache().get(key) : getStripe(key).get(key);
+		if (value==null) {
+			m_misses.increment();
+		}
+		else {
+			m_hits.increment();
+		}
+		return value;
 	}
 	
 	/**
@@ -80,7 +229,10 @@ public abstract class SizeLimitedLRUCache<K,V> {
 	 * @return true if value exists
 	 */
 	public boolean containsKey(K key) {
-		return m_cache.containsKey(key);
+		if (m_threadCache!=null) {
+			return getThreadCache().containsKey(key);
+		}
+		return getStripe(key).containsKey(key);
 	}
 	
 	/**
@@ -90,7 +242,10 @@ public abstract class SizeLimitedLRUCache<K,V> {
 	 * @return previously stored value or null
 	 */
 	public V remove(K key) {
-		return m_cache.remove(key);
+		if (m_threadCache!=null) {
+			return getThreadCache().removeEntry(key);
+		}
+		return getStripe(key).remove(key);
 	}
 	
 	/**
@@ -104,9 +259,59 @@ public abstract class SizeLimitedLRUCache<K,V> {
 		if (newValue==null) {
 			return remove(key);
 		}
+		else if (m_threadCache!=null) {
+			return getThreadCache().putEntry(key, newValue);
+		}
 		else {
-			return m_cache.put(key, newValue);
+			return getStripe(key).put(key, newValue);
 		}
 	}
 	
+	/**
+	 * Unsynchronized LRU cache of a single thread
+	 */
+	private class ThreadCache extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 2439218796525386532L;
+		
+		private long m_weightedSize;
+		private int m_generation = SizeLimitedLRUCache.this.m_generation.get();
+		
+		ThreadCache() {
+			super(16, 0.75f, true);
+		}
+		
+		V putEntry(K key, V value) {
+			V oldValue = put(key, value);
+			if (oldValue!=null) {
+				m_weightedSize -= computeSize(key, oldValue);
+			}
+			m_weightedSize += computeSize(key, value);
+			
+			//remove the least recently used entries, but keep the new one
+			Iterator<Map.Entry<K, V>> it = entrySet().iterator();
+			while (m_weightedSize > m_maxSizeUnits && size() > 1 && it.hasNext()) {
+				Map.Entry<K, V> eldest = it.next();
+				m_weightedSize -= computeSize(eldest.getKey(), eldest.getValue());
+				it.remove();
+				m_evictions.increment();
+			}
+			return oldValue;
+		}
+		
+		V removeEntry(Object key) {
+			V oldValue = remove(key);
+			if (oldValue!=null) {
+				@SuppressWarnings("unchecked")
+				K k = (K) key;
+				m_weightedSize -= computeSize(k, oldValue);
+			}
+			return oldValue;
+		}
+		
+		@Override
+		public void clear() {
+			super.clear();
+			m_weightedSize = 0;
+		}
+	}
 }
@@ -0,0 +1,476 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.hcl.domino.commons.util.DominoUtils;
+import com.hcl.domino.data.Database;
+import com.hcl.domino.data.DocumentClass;
+import com.hcl.domino.data.DominoDateTime;
+import com.hcl.domino.data.IDTable;
+import com.hcl.domino.jna.data.JNADominoDateTime;
+import com.hcl.domino.jna.data.JNAIDTable;
+import com.hcl.domino.misc.NotesConstants;
+import com.hcl.domino.misc.Ref;
+import com.hcl.domino.runtime.CacheStatistics;
+
+/**
+ * Cache of UNID/note id pairs of one database, so that repeated conversions between
+ * UNIDs and note ids become local lookups instead of NSFDbGetMultNoteInfo calls.<br>
+ * <br>
+ * Caches are shared by all open instances of the same database file and user, see
+ * {@link #get(String)}. Only the caches of the most recently used databases are kept,
+ * see {@link DominoUtils#getUnidCacheDatabases()}. Pairs are stored in primitive arrays with two open addressing
+ * indexes, one by note id and one by UNID, so that millions of pairs do not create
+ * millions of objects.<br>
+ * <br>
+ * Before a lookup, {@link #refresh(Database)} reads the note ids of documents that have
+ * been modified or deleted since the last check and drops their pairs. To save server round
+ * trips, this is done at most once per {@link DominoUtils#getUnidCacheRefreshInterval()},
+ * so documents deleted by others may still be resolved during that time. Documents deleted
+ * via this database instance are dropped right away, see {@link #remove(int)}. Only documents
+ * that could be resolved are cached, so new documents are found on the next lookup.<br>
+ * <br>
+ * Size, refresh interval and availability of the cache are configured via the
+ * {@code jnx.unidcache.*} properties in {@link DominoUtils}.
+ *
+ * @since 1.44.0
+ */
+public class UnidNoteIdCache {
+	private static final boolean USE_UNID_CACHE = !DominoUtils.isUnidCacheDisabled();
+	private static final int MAX_ENTRIES = Math.max(16, DominoUtils.getUnidCacheSize());
+	private static final long REFRESH_INTERVAL = Math.max(0, DominoUtils.getUnidCacheRefreshInterval());
+	private static final int MAX_DATABASES = Math.max(1, DominoUtils.getUnidCacheDatabases());
+
+	private static final AtomicLong HITS = new AtomicLong();
+	private static final AtomicLong MISSES = new AtomicLong();
+	private static final AtomicLong EVICTIONS = new AtomicLong();
+
+	/** caches by database, in access order; access synchronized on the map */
+	private static final Map<String,UnidNoteIdCache> CACHES = new LinkedHashMap<String,UnidNoteIdCache>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String,UnidNoteIdCache> eldest) {
+			if (size() > MAX_DATABASES) {
+				EVICTIONS.addAndGet(eldest.getValue().size());
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray(); //$NON-NLS-1$
+
+	/** number of cached pairs */
+	private int m_size;
+	private int[] m_noteIds = new int[16];
+	private long[] m_unidsHigh = new long[16];
+	private long[] m_unidsLow = new long[16];
+	/** open addressing index by note id, contains entry index + 1, 0 for free slots */
+	private int[] m_noteIdIndex = new int[32];
+	/** open addressing index by UNID, contains entry index + 1, 0 for free slots */
+	private int[] m_unidIndex = new int[32];
+
+	/** modification time to read changes from, null before the first refresh */
+	private DominoDateTime m_since;
+	private long m_lastRefresh;
+
+	/**
+	 * Checks whether UNID/note id pairs are cached
+	 *
+	 * @return true if cache is enabled
+	 */
+	public static boolean isEnabled() {
+		return USE_UNID_CACHE;
+	}
+
+	/**
+	 * Returns the cache for a database
+	 *
+	 * @param key identifies the database file and user, e.g. replica id, database instance id and names list
+	 * @return cache
+	 */
+	public static UnidNoteIdCache get(String key) {
+		synchronized (CACHES) {
+			return CACHES.computeIfAbsent(key, k -> new UnidNoteIdCache());
+		}
+	}
+
+	/**
+	 * Returns the usage counters of the caches of all databases
+	 *
+	 * @return statistics
+	 */
+	public static CacheStatistics getStatistics() {
+		UnidNoteIdCache[] caches;
+		synchronized (CACHES) {
+			caches = CACHES.values().toArray(new UnidNoteIdCache[CACHES.size()]);
+		}
+		long size = 0;
+		for (UnidNoteIdCache currCache : caches) {
+			size += currCache.size();
+		}
+		return new CacheStatistics("UnidNoteIds", HITS.get(), MISSES.get(), EVICTIONS.get(), size, //$NON-NLS-1$
+				(long) MAX_ENTRIES * MAX_DATABASES);
+	}
+
+	/**
+	 * Resets the usage counters of the caches
+	 */
+	public static void resetStatistics() {
+		HITS.set(0);
+		MISSES.set(0);
+		EVICTIONS.set(0);
+	}
+
+	/**
+	 * Removes the caches of all databases
+	 */
+	public static void clear() {
+		synchronized (CACHES) {
+			CACHES.clear();
+		}
+	}
+
+	private UnidNoteIdCache() {
+	}
+
+	/**
+	 * Drops the pairs of documents that have been modified or deleted since the last call.
+	 * Does nothing if the last check is less than {@link DominoUtils#getUnidCacheRefreshInterval()}
+	 * milliseconds ago.
+	 *
+	 * @param db database to read the changes from
+	 */
+	public synchronized void refresh(Database db) {
+		long now = System.currentTimeMillis();
+		if (m_since!=null && now - m_lastRefresh < REFRESH_INTERVAL) {
+			return;
+		}
+
+		if (m_since==null) {
+			//the cache is still empty, so we only need the time to read changes from on the next call
+			Ref<DominoDateTime> retDataModified = new Ref<>();
+			Ref<DominoDateTime> retNonDataModified = new Ref<>();
+			db.getModifiedTime(retDataModified, retNonDataModified);
+			m_since = later(retDataModified.get(), retNonDataModified.get());
+		}
+		else {
+			IDTable changedIds = db.getModifiedNoteIds(EnumSet.of(DocumentClass.ALL), m_since, true);
+			try {
+				for (int currNoteId : changedIds.toIntArray()) {
+					if (removeEntry(currNoteId & ~(int) NotesConstants.RRV_DELETED)) {
+						EVICTIONS.incrementAndGet();
+					}
+				}
+				changedIds.getDateTime().ifPresent(until -> m_since = until);
+			}
+			finally {
+				if (changedIds instanceof JNAIDTable) {
+					((JNAIDTable) changedIds).dispose();
+				}
+			}
+		}
+		m_lastRefresh = now;
+	}
+
+	private static DominoDateTime later(DominoDateTime dt1, DominoDateTime dt2) {
+		if (dt1==null || !dt1.isValid()) {
+			return dt2==null || !dt2.isValid() ? JNADominoDateTime.createMinimumDateTime() : dt2;
+		}
+		else if (dt2==null || !dt2.isValid()) {
+			return dt1;
+		}
+		return dt1.compareTo(dt2) > 0 ? dt1 : dt2;
+	}
+
+	/**
+	 * Looks up the UNID for a note id
+	 *
+	 * @param noteId note id
+	 * @return UNID or null if not cached
+	 */
+	public synchronized String getUnid(int noteId) {
+		int entry = findByNoteId(noteId);
+		if (entry<0) {
+			MISSES.incrementAndGet();
+			return null;
+		}
+		HITS.incrementAndGet();
+		return toUnid(m_unidsHigh[entry], m_unidsLow[entry]);
+	}
+
+	/**
+	 * Looks up the note id for a UNID
+	 *
+	 * @param unid UNID
+	 * @return note id or 0 if not cached
+	 */
+	public synchronized int getNoteId(String unid) {
+		if (!isUnid(unid)) {
+			MISSES.incrementAndGet();
+			return 0;
+		}
+		int entry = findByUnid(parseHigh(unid), parseLow(unid));
+		if (entry<0) {
+			MISSES.incrementAndGet();
+			return 0;
+		}
+		HITS.incrementAndGet();
+		return m_noteIds[entry];
+	}
+
+	/**
+	 * Adds a pair, replacing previous pairs of the same note id or UNID
+	 *
+	 * @param noteId note id
+	 * @param unid UNID
+	 */
+	public synchronized void put(int noteId, String unid) {
+		if (noteId==0 || !isUnid(unid)) {
+			return;
+		}
+		long high = parseHigh(unid);
+		long low = parseLow(unid);
+
+		int existing = findByNoteId(noteId);
+		if (existing>=0 && m_unidsHigh[existing]==high && m_unidsLow[existing]==low) {
+			return;
+		}
+		removeEntry(noteId);
+		int existingUnid = findByUnid(high, low);
+		if (existingUnid>=0) {
+			removeEntry(m_noteIds[existingUnid]);
+		}
+
+		if (m_size >= MAX_ENTRIES) {
+			//start over instead of tracking the usage of each pair
+			EVICTIONS.addAndGet(m_size);
+			clearEntries();
+		}
+		if (m_size == m_noteIds.length) {
+			grow();
+		}
+
+		int entry = m_size++;
+		m_noteIds[entry] = noteId;
+		m_unidsHigh[entry] = high;
+		m_unidsLow[entry] = low;
+		insert(m_noteIdIndex, hashNoteId(noteId), entry);
+		insert(m_unidIndex, hashUnid(high, low), entry);
+	}
+
+	/**
+	 * Drops the pair of a note id, e.g. after the document has been deleted
+	 *
+	 * @param noteId note id
+	 */
+	public synchronized void remove(int noteId) {
+		if (removeEntry(noteId)) {
+			EVICTIONS.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of cached pairs
+	 *
+	 * @return size
+	 */
+	public synchronized int size() {
+		return m_size;
+	}
+
+	private void clearEntries() {
+		m_size = 0;
+		m_noteIds = new int[16];
+		m_unidsHigh = new long[16];
+		m_unidsLow = new long[16];
+		m_noteIdIndex = new int[32];
+		m_unidIndex = new int[32];
+	}
+
+	private void grow() {
+		int newCapacity = m_noteIds.length * 2;
+		int[] noteIds = new int[newCapacity];
+		long[] unidsHigh = new long[newCapacity];
+		long[] unidsLow = new long[newCapacity];
+		System.arraycopy(m_noteIds, 0, noteIds, 0, m_size);
+		System.arraycopy(m_unidsHigh, 0, unidsHigh, 0, m_size);
+		System.arraycopy(m_unidsLow, 0, unidsLow, 0, m_size);
+		m_noteIds = noteIds;
+		m_unidsHigh = unidsHigh;
+		m_unidsLow = unidsLow;
+
+		//keep the load factor of the indexes at 0.5 or below
+		m_noteIdIndex = new int[newCapacity * 2];
+		m_unidIndex = new int[newCapacity * 2];
+		for (int i=0; i<m_size; i++) {
+			insert(m_noteIdIndex, hashNoteId(m_noteIds[i]), i);
+			insert(m_unidIndex, hashUnid(m_unidsHigh[i], m_unidsLow[i]), i);
+		}
+	}
+
+	private static void insert(int[] index, int hash, int entry) {
+		int mask = index.length - 1;
+		int slot = hash & mask;
+		while (index[slot]!=0) {
+			slot = (slot + 1) & mask;
+		}
+		index[slot] = entry + 1;
+	}
+
+	private int findSlotByNoteId(int noteId) {
+		int mask = m_noteIdIndex.length - 1;
+		int slot = hashNoteId(noteId) & mask;
+		while (m_noteIdIndex[slot]!=0) {
+			if (m_noteIds[m_noteIdIndex[slot] - 1]==noteId) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int findSlotByUnid(long high, long low) {
+		int mask = m_unidIndex.length - 1;
+		int slot = hashUnid(high, low) & mask;
+		while (m_unidIndex[slot]!=0) {
+			int entry = m_unidIndex[slot] - 1;
+			if (m_unidsHigh[entry]==high && m_unidsLow[entry]==low) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int findByNoteId(int noteId) {
+		int slot = findSlotByNoteId(noteId);
+		return slot<0 ? -1 : m_noteIdIndex[slot] - 1;
+	}
+
+	private int findByUnid(long high, long low) {
+		int slot = findSlotByUnid(high, low);
+		return slot<0 ? -1 : m_unidIndex[slot] - 1;
+	}
+
+	/**
+	 * Removes the pair of a note id
+	 *
+	 * @param noteId note id
+	 * @return true if a pair has been removed
+	 */
+	private boolean removeEntry(int noteId) {
+		int noteIdSlot = findSlotByNoteId(noteId);
+		if (noteIdSlot<0) {
+			return false;
+		}
+		int entry = m_noteIdIndex[noteIdSlot] - 1;
+		removeSlot(m_noteIdIndex, noteIdSlot, true);
+		removeSlot(m_unidIndex, findSlotByUnid(m_unidsHigh[entry], m_unidsLow[entry]), false);
+
+		//move the last entry into the gap
+		int last = m_size - 1;
+		if (entry != last) {
+			m_noteIdIndex[findSlotByNoteId(m_noteIds[last])] = entry + 1;
+			m_unidIndex[findSlotByUnid(m_unidsHigh[last], m_unidsLow[last])] = entry + 1;
+			m_noteIds[entry] = m_noteIds[last];
+			m_unidsHigh[entry] = m_unidsHigh[last];
+			m_unidsLow[entry] = m_unidsLow[last];
+		}
+		m_size--;
+		return true;
+	}
+
+	/**
+	 * Frees an index slot and moves the following entries of the probe sequence
+	 * back, so that lookups do not stop early at the free slot
+	 *
+	 * @param index index
+	 * @param slot slot to free
+	 * @param byNoteId true for the note id index, false for the UNID index
+	 */
+	private void removeSlot(int[] index, int slot, boolean byNoteId) {
+		int mask = index.length - 1;
+		int hole = slot;
+		int i = slot;
+		while (true) {
+			i = (i + 1) & mask;
+			int value = index[i];
+			if (value==0) {
+				break;
+			}
+			int entry = value - 1;
+			int home = (byNoteId ? hashNoteId(m_noteIds[entry]) : hashUnid(m_unidsHigh[entry], m_unidsLow[entry])) & mask;
+			//the entry can move into the hole if its home slot is not between the hole and its current slot
+			boolean canMove = hole <= i ? (home <= hole || home > i) : (home <= hole && home > i);
+			if (canMove) {
+				index[hole] = value;
+				hole = i;
+			}
+		}
+		index[hole] = 0;
+	}
+
+	private static int hashNoteId(int noteId) {
+		int h = noteId * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static int hashUnid(long high, long low) {
+		long h = high * 0x9E3779B97F4A7C15L + low;
+		h ^= h >>> 32;
+		int hash = (int) h * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean isUnid(String unid) {
+		if (unid==null || unid.length()!=32) {
+			return false;
+		}
+		for (int i=0; i<32; i++) {
+			if (Character.digit(unid.charAt(i), 16) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long parseHigh(String unid) {
+		return Long.parseUnsignedLong(unid.substring(0, 16), 16);
+	}
+
+	private static long parseLow(String unid) {
+		return Long.parseUnsignedLong(unid.substring(16), 16);
+	}
+
+	private static String toUnid(long high, long low) {
+		char[] chars = new char[32];
+		for (int i=15; i>=0; i--) {
+			chars[i] = HEX_CHARS[(int) (high & 0xf)];
+			high >>>= 4;
+			chars[16 + i] = HEX_CHARS[(int) (low & 0xf)];
+			low >>>= 4;
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.hcl.domino.DominoException;
+import com.hcl.domino.commons.gc.IAPIObject;
+import com.hcl.domino.commons.util.DominoUtils;
+import com.hcl.domino.jna.data.JNAUserNamesList;
+import com.hcl.domino.runtime.CacheStatistics;
+
+/**
+ * Process-wide cache of computed user names lists, keyed by server and user name.<br>
+ * <br>
+ * Expanding the groups of a user with NSFBuildNamesList or CreateNamesListFromSingleName
+ * is expensive, while applications often open databases for the same users over and over
+ * again. These C calls are guarded by one JVM-wide lock in {@link NotesNamingUtils}, so
+ * cache misses for different users are still loaded one after another; the cache saves
+ * repeated loads, it does not run loads in parallel. We keep the expanded names for a configurable
+ * time and write a new NAMES_LIST from them for each caller, so callers can still set
+ * privileges and dispose their list independently. When several threads request the names
+ * of the same user at the same time, only one of them expands the groups and the others
+ * wait for its result.<br>
+ * <br>
+ * Size, time to live and availability of the cache are configured via the
+ * {@code jnx.nameslistcache.*} properties in {@link DominoUtils}.
+ *
+ * @since 1.44.0
+ */
+public class UserNamesListCache {
+	private static final boolean USE_NAMESLIST_CACHE = !DominoUtils.isNamesListCacheDisabled();
+	private static final long TTL_NANOS = DominoUtils.getNamesListCacheTTL() * 1000000L;
+	
+	/** single segment, since each miss is far more expensive than the shared LRU bookkeeping */
+	private static final SizeLimitedLRUCache<NamesListKey,CachedNames> NAMESLISTCACHE = new SizeLimitedLRUCache<NamesListKey,CachedNames>(
+			"UserNamesLists", DominoUtils.getNamesListCacheSize(), 1, false) { //$NON-NLS-1$
+		@Override
+		protected int computeSize(NamesListKey key, CachedNames value) {
+			return 1;
+		}
+	};
+	
+	/** names lists currently being computed, used to let concurrent callers share one computation */
+	private static final ConcurrentHashMap<NamesListKey,CompletableFuture<CachedNames>> PENDING = new ConcurrentHashMap<>();
+	
+	/**
+	 * Checks whether names lists are cached
+	 * 
+	 * @return true if cache is enabled
+	 */
+	public static boolean isEnabled() {
+		return USE_NAMESLIST_CACHE;
+	}
+	
+	/**
+	 * Returns the usage counters of the cache
+	 * 
+	 * @return statistics
+	 */
+	public static CacheStatistics getStatistics() {
+		return NAMESLISTCACHE.getStatistics();
+	}
+	
+	/**
+	 * Resets the usage counters of the cache
+	 */
+	public static void resetStatistics() {
+		NAMESLISTCACHE.resetStatistics();
+	}
+	
+	/**
+	 * Removes all names lists from the cache, e.g. after groups have been changed
+	 * in the directory
+	 */
+	public static void clear() {
+		NAMESLISTCACHE.clear();
+	}
+	
+	/**
+	 * Removes the cached names lists of a user for all servers
+	 * 
+	 * @param userName username, either abbreviated or canonical
+	 */
+	public static void invalidate(String userName) {
+		Objects.requireNonNull(userName, "Name cannot be null");
+		String userNameKey = toKey(userName);
+		
+		for (NamesListKey currKey : NAMESLISTCACHE.getKeys()) {
+			if (currKey.m_userName.equals(userNameKey)) {
+				NAMESLISTCACHE.remove(currKey);
+			}
+		}
+	}
+	
+	/**
+	 * Returns a names list with all name variants, wildcards and groups for the specified user.
+	 * Uses the cached names if available and computes them via
+	 * {@link NotesNamingUtils#buildNamesList(IAPIObject, String, String)} otherwise.
+	 * 
+	 * @param parent API parent object for memory management
+	 * @param server name of server, either abbreviated or canonical or null/empty string for local
+	 * @param userName username, either abbreviated or canonical
+	 * @return new names list owned by the caller
+	 */
+	public static JNAUserNamesList getNamesList(IAPIObject<?> parent, String server, String userName) {
+		Objects.requireNonNull(userName, "Name cannot be null");
+		
+		if (!USE_NAMESLIST_CACHE) {
+			return NotesNamingUtils.buildNamesList(parent, server, userName);
+		}
+		
+		NamesListKey key = new NamesListKey(server, userName);
+		CachedNames cachedNames = NAMESLISTCACHE.get(key);
+		if (cachedNames!=null && !cachedNames.isExpired()) {
+			return NotesNamingUtils.writeNewNamesList(parent, cachedNames.m_names);
+		}
+		
+		CompletableFuture<CachedNames> future = new CompletableFuture<>();
+		CompletableFuture<CachedNames> pendingFuture = PENDING.putIfAbsent(key, future);
+		if (pendingFuture!=null) {
+			//another thread is already expanding the groups of this user
+			return NotesNamingUtils.writeNewNamesList(parent, await(pendingFuture).m_names);
+		}
+		
+		try {
+			JNAUserNamesList namesList = NotesNamingUtils.buildNamesList(parent, server, userName);
+			CachedNames newCachedNames = new CachedNames(namesList.toList());
+			NAMESLISTCACHE.put(key, newCachedNames);
+			future.complete(newCachedNames);
+			return namesList;
+		}
+		catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			PENDING.remove(key, future);
+		}
+	}
+	
+	private static CachedNames await(CompletableFuture<CachedNames> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DominoException("Interrupted while waiting for names list", e);
+		}
+		catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException) t;
+			}
+			else if (t instanceof Error) {
+				throw (Error) t;
+			}
+			else {
+				throw new DominoException("Error computing names list", t);
+			}
+		}
+	}
+	
+	private static String toKey(String name) {
+		return NotesNamingUtils.toCanonicalName(name).toLowerCase(Locale.ENGLISH);
+	}
+	
+	/**
+	 * Expanded names of a user and the time they have been computed
+	 */
+	private static class CachedNames {
+		private final List<String> m_names;
+		private final long m_createdNanos;
+		
+		CachedNames(List<String> names) {
+			m_names = Collections.unmodifiableList(names);
+			m_createdNanos = System.nanoTime();
+		}
+		
+		boolean isExpired() {
+			return System.nanoTime() - m_createdNanos > TTL_NANOS;
+		}
+	}
+	
+	/**
+	 * Cache key consisting of the canonical server and user name, compared case-insensitively
+	 */
+	private static class NamesListKey {
+		private final String m_server;
+		private final String m_userName;
+		
+		NamesListKey(String server, String userName) {
+			m_server = server==null || server.isEmpty() ? "" : toKey(server); //$NON-NLS-1$
+			m_userName = toKey(userName);
+		}
+		
+		@Override
+		public int hashCode() {
+			return 31 * m_server.hashCode() + m_userName.hashCode();
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof NamesListKey)) {
+				return false;
+			}
+			NamesListKey other = (NamesListKey) obj;
+			return m_server.equals(other.m_server) && m_userName.equals(other.m_userName);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal.gc;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.hcl.domino.jna.JNADominoProcess;
+import com.hcl.domino.jna.internal.capi.NotesCAPI;
+
+/**
+ * Registry of handle access locks, keyed by the native handle value.<br>
+ * <br>
+ * Lookups are lock-free. The registry only holds weak references to the locks:
+ * a lock stays registered while a thread holds or waits for it, and stale
+ * entries are removed on later lookups once the lock has been garbage collected.
+ *
+ * @since 1.44.0
+ */
+class HandleLockRegistry {
+	private final ConcurrentHashMap<Long, LockRef> m_locks = new ConcurrentHashMap<>();
+	private final ReferenceQueue<HandleLock> m_queue = new ReferenceQueue<>();
+
+	private final LongAdder m_lockCount = new LongAdder();
+	private final LongAdder m_contendedCount = new LongAdder();
+	private final LongAdder m_waitNanos = new LongAdder();
+	private final LongAdder m_skippedThreadInitCount = new LongAdder();
+	private final boolean m_skipThreadInit;
+
+	/**
+	 * Creates a new registry
+	 *
+	 * @param skipThreadInit true to skip NotesInitThread/NotesTermThread around locked handle
+	 *        access for threads that have been initialized natively; fixed for the lifetime of the
+	 *        registry so that init and term calls stay balanced
+	 */
+	HandleLockRegistry(boolean skipThreadInit) {
+		m_skipThreadInit = skipThreadInit;
+	}
+
+	/**
+	 * Returns the lock for a handle value, creating it if necessary
+	 *
+	 * @param handleValue native handle value
+	 * @return lock
+	 */
+	ReentrantLock getLock(long handleValue) {
+		expungeStaleEntries();
+
+		Long key = handleValue;
+		LockRef ref = m_locks.get(key);
+		HandleLock lock = ref==null ? null : ref.get();
+		if (lock!=null) {
+			return lock;
+		}
+
+		HandleLock newLock = new HandleLock();
+		LockRef newRef = new LockRef(key, newLock, m_queue);
+		while (true) {
+			LockRef existingRef = m_locks.putIfAbsent(key, newRef);
+			if (existingRef==null) {
+				return newLock;
+			}
+			HandleLock existingLock = existingRef.get();
+			if (existingLock!=null) {
+				return existingLock;
+			}
+			//the existing lock has been collected but not expunged yet
+			if (m_locks.replace(key, existingRef, newRef)) {
+				return newLock;
+			}
+		}
+	}
+
+	private void expungeStaleEntries() {
+		LockRef ref;
+		while ((ref = (LockRef) m_queue.poll()) != null) {
+			m_locks.remove(ref.m_key, ref);
+		}
+	}
+
+	HandleLockStatistics getStatistics() {
+		expungeStaleEntries();
+		return new HandleLockStatistics(m_locks.size(), m_lockCount.sum(), m_contendedCount.sum(),
+				m_waitNanos.sum(), m_skippedThreadInitCount.sum());
+	}
+
+	void resetStatistics() {
+		m_lockCount.reset();
+		m_contendedCount.reset();
+		m_waitNanos.reset();
+		m_skippedThreadInitCount.reset();
+	}
+
+	private static class LockRef extends WeakReference<HandleLock> {
+		private final Long m_key;
+
+		LockRef(Long key, HandleLock lock, ReferenceQueue<HandleLock> queue) {
+			super(lock, queue);
+			m_key = key;
+		}
+	}
+
+	/**
+	 * Reentrant lock that initializes the current thread for Domino while it
+	 * is held, unless thread init is skipped for threads that have already been
+	 * initialized natively via {@link com.hcl.domino.DominoProcess#initializeThread()}.<br>
+	 * <br>
+	 * The decision is recorded per hold count, so that {@link #unlock()} calls
+	 * NotesTermThread exactly when the matching {@link #lock()} called NotesInitThread,
+	 * even if the native init state of the thread changes in between.
+	 */
+	private class HandleLock extends ReentrantLock {
+		private static final long serialVersionUID = -3961990800361518284L;
+		
+		/** bit n is set if the acquisition with hold count n+1 called NotesInitThread; only used by the owner thread */
+		private final BitSet m_initThreadByHoldCount = new BitSet();
+
+		private boolean isInitThread() {
+			return !(m_skipThreadInit && JNADominoProcess.isThreadNativelyInitialized());
+		}
+		
+		@Override
+		public void lock() {
+			boolean initThread = isInitThread();
+			if (initThread) {
+				NotesCAPI.get().NotesInitThread();
+			}
+			else {
+				m_skippedThreadInitCount.increment();
+			}
+
+			if (!tryLock()) {
+				m_contendedCount.increment();
+				long t0 = System.nanoTime();
+				super.lock();
+				m_waitNanos.add(System.nanoTime() - t0);
+			}
+			m_lockCount.increment();
+			m_initThreadByHoldCount.set(getHoldCount()-1, initThread);
+		}
+
+		@Override
+		public void unlock() {
+			boolean initThread = false;
+			int holdCount = getHoldCount();
+			if (holdCount>0) {
+				initThread = m_initThreadByHoldCount.get(holdCount-1);
+				m_initThreadByHoldCount.clear(holdCount-1);
+			}
+			super.unlock();
+			if (initThread) {
+				NotesCAPI.get().NotesTermThread();
+			}
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal.gc;
+
+import java.text.MessageFormat;
+
+/**
+ * Snapshot of the handle lock counters collected by {@link JNAGCUtil}
+ *
+ * @since 1.44.0
+ */
+public final class HandleLockStatistics {
+	private final int m_registeredLocks;
+	private final long m_lockCount;
+	private final long m_contendedCount;
+	private final long m_waitNanos;
+	private final long m_skippedThreadInitCount;
+
+	HandleLockStatistics(int registeredLocks, long lockCount, long contendedCount, long waitNanos,
+			long skippedThreadInitCount) {
+		m_registeredLocks = registeredLocks;
+		m_lockCount = lockCount;
+		m_contendedCount = contendedCount;
+		m_waitNanos = waitNanos;
+		m_skippedThreadInitCount = skippedThreadInitCount;
+	}
+
+	/**
+	 * Returns the number of handle locks currently registered
+	 *
+	 * @return number of locks
+	 */
+	public int getRegisteredLocks() {
+		return m_registeredLocks;
+	}
+
+	/**
+	 * Returns how often a handle lock has been acquired
+	 *
+	 * @return number of lock operations
+	 */
+	public long getLockCount() {
+		return m_lockCount;
+	}
+
+	/**
+	 * Returns how often a thread had to wait for a handle lock held by another thread
+	 *
+	 * @return number of contended lock operations
+	 */
+	public long getContendedCount() {
+		return m_contendedCount;
+	}
+
+	/**
+	 * Returns the total time threads spent waiting for contended handle locks
+	 *
+	 * @return wait time in nanoseconds
+	 */
+	public long getWaitNanos() {
+		return m_waitNanos;
+	}
+
+	/**
+	 * Returns how often the NotesInitThread/NotesTermThread calls have been skipped
+	 * because the thread had already been initialized
+	 *
+	 * @return number of skipped thread inits
+	 */
+	public long getSkippedThreadInitCount() {
+		return m_skippedThreadInitCount;
+	}
+
+	@Override
+	public String toString() {
+		return MessageFormat.format(
+			"HandleLockStatistics [registeredLocks={0}, lockCount={1}, contendedCount={2}, waitMs={3}, skippedThreadInitCount={4}]", //$NON-NLS-1$
+			m_registeredLocks, m_lockCount, m_contendedCount, m_waitNanos / 1000000, m_skippedThreadInitCount
+		);
+	}
+}
@@ -16,19 +16,22 @@
  */
 package com.hcl.domino.jna.internal.gc;
 
-import java.util.Map;
-import java.util.WeakHashMap;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
-import com.hcl.domino.jna.internal.capi.NotesCAPI;
+import com.hcl.domino.commons.util.DominoUtils;
 import com.hcl.domino.jna.internal.gc.handles.DHANDLE;
+import com.hcl.domino.jna.internal.gc.handles.DHANDLE32;
+import com.hcl.domino.jna.internal.gc.handles.DHANDLE64;
 import com.hcl.domino.jna.internal.gc.handles.HANDLE;
+import com.hcl.domino.jna.internal.gc.handles.HANDLE32;
+import com.hcl.domino.jna.internal.gc.handles.HANDLE64;
 
 public enum JNAGCUtil {
 	;
-	private static Map<HANDLE, Lock> handleLocks = new WeakHashMap<>();
-	private static Map<DHANDLE, Lock> dhandleLocks = new WeakHashMap<>();
+	private static final boolean skipThreadInit = DominoUtils.isSkipHandleLockThreadInit();
+	private static final HandleLockRegistry handleLocks = new HandleLockRegistry(skipThreadInit);
+	private static final HandleLockRegistry dhandleLocks = new HandleLockRegistry(skipThreadInit);
+	
 	/**
 	 * Returns an access lock to ensure exclusive handle access
 	 * across threads
@@ -37,14 +40,14 @@ public enum JNAGCUtil {
 	 * @return lock
 	 */
 	public static Lock getHandleLock(HANDLE handle) {
-		synchronized (handleLocks) {
-			Lock lock = handleLocks.get(handle);
-			if (lock==null) {
-				lock = new NotesEnabledReentrantLock();
-				handleLocks.put(handle, lock);
-			}
-			return lock;
+		long hdl;
+		if (handle instanceof HANDLE64) {
+			hdl = ((HANDLE64) handle).hdl;
+		}
+		else {
+			hdl = Integer.toUnsignedLong(((HANDLE32) handle).hdl);
 		}
+		return handleLocks.getLock(hdl);
 	}
 	
 	/**
@@ -55,29 +58,43 @@ public enum JNAGCUtil {
 	 * @return lock
 	 */
 	public static Lock getHandleLock(DHANDLE handle) {
-		synchronized (dhandleLocks) {
-			Lock lock = dhandleLocks.get(handle);
-			if (lock==null) {
-				lock = new NotesEnabledReentrantLock();
-				dhandleLocks.put(handle, lock);
-			}
-			return lock;
+		long hdl;
+		if (handle instanceof DHANDLE64) {
+			hdl = ((DHANDLE64) handle).hdl;
+		}
+		else {
+			hdl = Integer.toUnsignedLong(((DHANDLE32) handle).hdl);
 		}
+		return dhandleLocks.getLock(hdl);
 	}
 	
-	private static class NotesEnabledReentrantLock extends ReentrantLock {
-		private static final long serialVersionUID = -3961990800361518284L;
-		
-		@Override
-		public void lock() {
-			NotesCAPI.get().NotesInitThread();
-			super.lock();
-		}
-		
-		@Override
-		public void unlock() {
-			super.unlock();
-			NotesCAPI.get().NotesTermThread();
-		}
+	/**
+	 * Returns the counters of the locks for {@link HANDLE}s
+	 * 
+	 * @return statistics
+	 * @since 1.44.0
+	 */
+	public static HandleLockStatistics getHandleLockStatistics() {
+		return handleLocks.getStatistics();
+	}
+	
+	/**
+	 * Returns the counters of the locks for {@link DHANDLE}s
+	 * 
+	 * @return statistics
+	 * @since 1.44.0
+	 */
+	public static HandleLockStatistics getDHandleLockStatistics() {
+		return dhandleLocks.getStatistics();
+	}
+	
+	/**
+	 * Resets the lock counters for both handle types
+	 * 
+	 * @since 1.44.0
+	 */
+	public static void resetHandleLockStatistics() {
+		handleLocks.resetStatistics();
+		dhandleLocks.resetStatistics();
 	}
 }
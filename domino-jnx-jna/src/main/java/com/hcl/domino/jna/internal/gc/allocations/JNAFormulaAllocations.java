@@ -26,6 +26,8 @@ import com.hcl.domino.commons.gc.IGCDominoClient;
 import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.exception.FormulaCompilationException;
 import com.hcl.domino.jna.data.JNAFormula;
+import com.hcl.domino.jna.internal.CompiledFormulaCache;
+import com.hcl.domino.jna.internal.CompiledFormulaCache.Variant;
 import com.hcl.domino.jna.internal.Mem;
 import com.hcl.domino.jna.internal.NotesStringUtils;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
@@ -71,17 +73,39 @@ public class JNAFormulaAllocations extends APIObjectAllocations<JNAFormula> {
 	}
 	
 	public void initWithFormula(String formula) {
-		if (m_hFormula!=null) {
+		if (m_hFormula!=null || m_hCompute!=null) {
 			dispose();
 		}
 		
+		short computeFlags = 0;
+		
+		byte[] cachedFormula = CompiledFormulaCache.get(Variant.KEEP_LINEBREAKS, formula, null);
+		if (cachedFormula!=null) {
+			//copy the compiled formula into handle memory, since other calls like NSFFormulaAnalyze need the formula handle
+			DHANDLE.ByReference rethFormula = DHANDLE.newInstanceByReference();
+			short result = Mem.OSMemAlloc((short) 0, cachedFormula.length, rethFormula);
+			NotesErrorUtils.checkResult(result);
+			m_hFormula = rethFormula;
+			m_compiledFormulaLength = cachedFormula.length;
+			
+			m_ptrCompiledFormula = LockUtil.lockHandle(m_hFormula, (handleByVal) -> {
+				return Mem.OSLockObject(handleByVal);
+			});
+			m_ptrCompiledFormula.write(0, cachedFormula, 0, cachedFormula.length);
+			
+			DHANDLE.ByReference rethCompute = DHANDLE.newInstanceByReference();
+			result = NotesCAPI.get().NSFComputeStart(computeFlags, m_ptrCompiledFormula, rethCompute);
+			NotesErrorUtils.checkResult(result);
+			
+			m_hCompute = rethCompute;
+			return;
+		}
+		
 		Memory formulaName = null;
 		short formulaNameLength = 0;
 		Memory formulaText = NotesStringUtils.toLMBCS(formula, false, false);
 		short formulaTextLength = (short) formulaText.size();
 
-		short computeFlags = 0;
-
 		DHANDLE.ByReference rethFormula = DHANDLE.newInstanceByReference();
 		ShortByReference retFormulaLength = new ShortByReference();
 		ShortByReference retCompileError = new ShortByReference();
@@ -117,6 +141,10 @@ public class JNAFormulaAllocations extends APIObjectAllocations<JNAFormula> {
 			return Mem.OSLockObject(handleByVal);
 		});
 		
+		if (CompiledFormulaCache.isEnabled()) {
+			CompiledFormulaCache.put(Variant.KEEP_LINEBREAKS, formula, null, m_ptrCompiledFormula.getByteArray(0, m_compiledFormulaLength));
+		}
+		
 		result = NotesCAPI.get().NSFComputeStart(computeFlags, m_ptrCompiledFormula, rethCompute);
 		NotesErrorUtils.checkResult(result);
 		
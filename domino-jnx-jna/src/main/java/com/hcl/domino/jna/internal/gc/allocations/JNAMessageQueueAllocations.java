@@ -17,6 +17,8 @@
 package com.hcl.domino.jna.internal.gc.allocations;
 
 import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.hcl.domino.commons.gc.APIObjectAllocations;
 import com.hcl.domino.commons.gc.IAPIObject;
@@ -27,6 +29,8 @@ import com.hcl.domino.jna.mq.JNAMessageQueue;
 
 public class JNAMessageQueueAllocations extends APIObjectAllocations<JNAMessageQueue> {
 	private int m_queueHandle;
+	/** stops the consumer threads of active subscriptions and waits for them to finish */
+	private final Set<Runnable> m_subscriptionStoppers = ConcurrentHashMap.newKeySet();
 	
 	@SuppressWarnings("rawtypes")
 	public JNAMessageQueueAllocations(IGCDominoClient parentDominoClient, APIObjectAllocations parentAllocations,
@@ -44,6 +48,12 @@ public class JNAMessageQueueAllocations extends APIObjectAllocations<JNAMessageQ
 	@Override
 	public void dispose() {
 		if (!isDisposed()) {
+			//stop the consumer threads before the queue handle gets closed, also when
+			//the queue is disposed together with its client
+			for (Runnable currStopper : m_subscriptionStoppers) {
+				currStopper.run();
+			}
+			
 			short result = NotesCAPI.get().MQClose(m_queueHandle, 0);
 			NotesErrorUtils.checkResult(result);
 			
@@ -59,4 +69,22 @@ public class JNAMessageQueueAllocations extends APIObjectAllocations<JNAMessageQ
 		return m_queueHandle;
 	}
 	
+	/**
+	 * Registers the code to stop a subscription before the queue gets closed
+	 * 
+	 * @param stopper stops the consumer thread and waits for it to finish
+	 */
+	public void addSubscriptionStopper(Runnable stopper) {
+		m_subscriptionStoppers.add(stopper);
+	}
+	
+	/**
+	 * Removes the code to stop a subscription that has ended
+	 * 
+	 * @param stopper stopper passed to {@link #addSubscriptionStopper(Runnable)}
+	 */
+	public void removeSubscriptionStopper(Runnable stopper) {
+		m_subscriptionStoppers.remove(stopper);
+	}
+	
 }
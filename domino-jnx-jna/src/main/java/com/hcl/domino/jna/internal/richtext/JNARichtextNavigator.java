@@ -19,7 +19,9 @@ package com.hcl.domino.jna.internal.richtext;
 import java.lang.ref.ReferenceQueue;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import com.hcl.domino.commons.gc.APIObjectAllocations;
 import com.hcl.domino.commons.gc.IAPIObject;
@@ -43,7 +45,7 @@ public class JNARichtextNavigator extends BaseJNAAPIObject<JNARichtextNavigatorA
 	private LinkedList<JNAItem> m_items;
 	private int m_currentItemIndex = -1;
 	
-	private LinkedList<RichTextRecord<?>> m_currentItemRecords;
+	private List<RichTextRecord<?>> m_currentItemRecords;
 	private int m_currentItemRecordsIndex = -1;
 
 	public JNARichtextNavigator(JNADocument doc, String richTextItemName) {
@@ -198,8 +200,8 @@ public class JNARichtextNavigator extends BaseJNAAPIObject<JNARichtextNavigatorA
 	 * @param item item
 	 * @return list with CD record data
 	 */
-	private LinkedList<RichTextRecord<?>> readCDRecords(JNAItem item) {
-		final LinkedList<RichTextRecord<?>> itemRecords = new LinkedList<>();
+	private List<RichTextRecord<?>> readCDRecords(JNAItem item) {
+		final List<RichTextRecord<?>> itemRecords = new ArrayList<>();
 
 		item.enumerateCDRecords((signature, cdRecordPtr, cdRecordLength) -> {
 			byte[] cdRecordDataArr = cdRecordPtr.getByteArray(0, cdRecordLength);
@@ -0,0 +1,203 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.internal.views;
+
+import com.hcl.domino.data.ItemDataType;
+import com.hcl.domino.jna.internal.JNANotesConstants;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+/**
+ * Column values of a collection entry that are decoded on first access.<br>
+ * <br>
+ * Instead of decoding the ITEM_VALUE_TABLE of a collection entry while reading
+ * the lookup buffer, we only remember its offset in a copy of the buffer that is
+ * shared by all entries of the same NIFReadEntries call. The item lengths are parsed
+ * on the first column access and each column value is decoded when it is read
+ * for the first time.<br>
+ * <br>
+ * Instances are not thread-safe.
+ *
+ * @since 1.44.0
+ */
+public class LazyItemValueTable {
+	private final SharedBuffer m_buffer;
+	private final int m_tableOffset;
+	private final int m_itemsCount;
+	private final boolean m_convertStringsLazily;
+	private final boolean m_convertDominoDateTimeToCalendar;
+
+	/** item value lengths including the data type WORD, 0 for empty items */
+	private int[] m_itemValueLengths;
+	/** offsets of the item data types in the buffer */
+	private int[] m_itemOffsets;
+	private Object[] m_decodedValues;
+	private boolean[] m_decoded;
+
+	LazyItemValueTable(SharedBuffer buffer, int tableOffset, int itemsCount, boolean convertStringsLazily,
+			boolean convertDominoDateTimeToCalendar) {
+		m_buffer = buffer;
+		m_tableOffset = tableOffset;
+		m_itemsCount = itemsCount;
+		m_convertStringsLazily = convertStringsLazily;
+		m_convertDominoDateTimeToCalendar = convertDominoDateTimeToCalendar;
+	}
+
+	/**
+	 * Returns the number of items in the table
+	 *
+	 * @return number of items
+	 */
+	public int getItemsCount() {
+		return m_itemsCount;
+	}
+
+	private Pointer getBuffer() {
+		if (m_buffer.m_memory==null) {
+			throw new IllegalStateException("Lookup buffer has not been copied yet");
+		}
+		return m_buffer.m_memory;
+	}
+
+	private void readItemLengths() {
+		if (m_itemOffsets!=null) {
+			return;
+		}
+
+		Pointer buffer = getBuffer();
+		int[] itemValueLengths = new int[m_itemsCount];
+		int[] itemOffsets = new int[m_itemsCount];
+
+		int bufferPos = m_tableOffset + JNANotesConstants.itemValueTableSize;
+		for (int j=0; j<m_itemsCount; j++) {
+			itemValueLengths[j] = buffer.getShort(bufferPos) & 0xffff;
+			bufferPos += 2;
+		}
+		for (int j=0; j<m_itemsCount; j++) {
+			itemOffsets[j] = bufferPos;
+			bufferPos += itemValueLengths[j];
+		}
+
+		m_itemValueLengths = itemValueLengths;
+		m_itemOffsets = itemOffsets;
+	}
+
+	/**
+	 * Returns the item value lengths in bytes
+	 *
+	 * @return lengths including the data type WORD
+	 */
+	public int[] getItemValueLengthsInBytes() {
+		readItemLengths();
+		return m_itemValueLengths.clone();
+	}
+
+	private int getItemDataType(int index) {
+		return getBuffer().getShort(m_itemOffsets[index]) & 0xffff;
+	}
+
+	/**
+	 * Checks if the item has a value that {@link #get(int)} returns as non-null without
+	 * decoding it
+	 *
+	 * @param index item index
+	 * @return true if value exists
+	 */
+	public boolean hasValue(int index) {
+		if (m_decoded!=null && m_decoded[index]) {
+			return m_decodedValues[index] != null;
+		}
+		readItemLengths();
+		if (m_itemValueLengths[index] == 0) {
+			return false;
+		}
+		int dataType = getItemDataType(index);
+		return dataType == ItemDataType.TYPE_TEXT.getValue()
+				|| dataType == ItemDataType.TYPE_TEXT_LIST.getValue()
+				|| dataType == ItemDataType.TYPE_NUMBER.getValue()
+				|| dataType == ItemDataType.TYPE_TIME.getValue()
+				|| dataType == ItemDataType.TYPE_NUMBER_RANGE.getValue()
+				|| dataType == ItemDataType.TYPE_TIME_RANGE.getValue();
+	}
+
+	/**
+	 * Returns an item value, decoding it on first access. Decoded values are
+	 * cached, so callers converting list values in place see their changes on
+	 * the next call.
+	 *
+	 * @param index item index
+	 * @return value or null
+	 */
+	public Object get(int index) {
+		if (index<0 || index>=m_itemsCount) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		if (m_decoded==null) {
+			m_decoded = new boolean[m_itemsCount];
+			m_decodedValues = new Object[m_itemsCount];
+		}
+		if (!m_decoded[index]) {
+			readItemLengths();
+			Object value = null;
+			if (m_itemValueLengths[index] != 0) {
+				int dataType = getItemDataType(index);
+				Pointer valuePtr = getBuffer().share(m_itemOffsets[index] + 2);
+				value = NotesLookupResultBufferDecoder.decodeItemValue(valuePtr, dataType, m_itemValueLengths[index] - 2,
+						m_convertStringsLazily, m_convertDominoDateTimeToCalendar);
+			}
+			m_decodedValues[index] = value;
+			m_decoded[index] = true;
+		}
+		return m_decodedValues[index];
+	}
+
+	/**
+	 * Decodes all item values
+	 *
+	 * @return values
+	 */
+	public Object[] toArray() {
+		Object[] values = new Object[m_itemsCount];
+		for (int i=0; i<m_itemsCount; i++) {
+			values[i] = get(i);
+		}
+		return values;
+	}
+
+	/**
+	 * Copy of a lookup buffer shared by all {@link LazyItemValueTable}s of one read operation.
+	 * The copy is made once the whole buffer has been parsed and is released when the last
+	 * entry referencing it has been garbage collected.
+	 */
+	static class SharedBuffer {
+		private Memory m_memory;
+
+		/**
+		 * Copies the first bytes of the native lookup buffer
+		 *
+		 * @param bufferPtr lookup buffer
+		 * @param length number of bytes to copy
+		 */
+		void copyFrom(Pointer bufferPtr, int length) {
+			Memory memory = new Memory(Math.max(1, length));
+			if (length>0) {
+				memory.write(0, bufferPtr.getByteArray(0, length), 0, length);
+			}
+			m_memory = memory;
+		}
+	}
+}
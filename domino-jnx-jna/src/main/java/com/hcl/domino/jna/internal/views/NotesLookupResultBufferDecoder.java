@@ -31,6 +31,7 @@ import java.util.TreeMap;
 import com.hcl.domino.DominoException;
 import com.hcl.domino.commons.data.AbstractTypedAccess;
 import com.hcl.domino.commons.data.DefaultDominoDateRange;
+import com.hcl.domino.commons.util.DominoUtils;
 import com.hcl.domino.commons.util.NotesDateTimeUtils;
 import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.views.IItemTableData;
@@ -59,6 +60,7 @@ import com.hcl.domino.jna.internal.search.ItemTableDataDocAdapter;
 import com.hcl.domino.jna.internal.structs.NotesCollectionStatsStruct;
 import com.hcl.domino.jna.internal.structs.NotesItemTableLargeStruct;
 import com.hcl.domino.jna.internal.structs.NotesItemTableStruct;
+import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 
 /**
@@ -144,6 +146,9 @@ public class NotesLookupResultBufferDecoder {
 		List<JNACollectionEntry> viewEntries = new ArrayList<>();
 		
 		final boolean decodeAllValues = true;
+		//with lazy decoding, entries only keep the offsets of their summary values in a copy of the buffer
+		LazyItemValueTable.SharedBuffer lazyBuffer = DominoUtils.isLazyCollectionEntryDecoding() ? new LazyItemValueTable.SharedBuffer() : null;
+		boolean hasLazyValues = false;
 
 		if (returnMask.size()==1 && returnMask.contains(ReadMask.NOTEID)) {
 			//special optimized case for reading only note ids
@@ -250,20 +255,32 @@ public class NotesLookupResultBufferDecoder {
 
 					int startBufferPosOfSummaryValues = bufferPos;
 
-					Pointer itemValueTablePtr = bufferPtr.share(bufferPos);
-					ItemValueTableDataImpl itemTableData = (ItemValueTableDataImpl) decodeItemValueTable(itemValueTablePtr,
-							convertStringsLazily, convertDominoDateTimeToCalendar, decodeAllValues);
+					if (lazyBuffer!=null) {
+						int totalBufferLength = bufferPtr.getShort(bufferPos) & 0xffff;
+						int itemsCount = bufferPtr.getShort(bufferPos + 2) & 0xffff;
+						newData.setLazyColumnValues(new LazyItemValueTable(lazyBuffer, bufferPos, itemsCount,
+								convertStringsLazily, convertDominoDateTimeToCalendar));
+						hasLazyValues = true;
 
-					//move to the end of the buffer
-					bufferPos = startBufferPosOfSummaryValues + itemTableData.getTotalBufferLength();
+						//move to the end of the buffer
+						bufferPos = startBufferPosOfSummaryValues + totalBufferLength;
+					}
+					else {
+						Pointer itemValueTablePtr = bufferPtr.share(bufferPos);
+						ItemValueTableDataImpl itemTableData = (ItemValueTableDataImpl) decodeItemValueTable(itemValueTablePtr,
+								convertStringsLazily, convertDominoDateTimeToCalendar, decodeAllValues);
+
+						//move to the end of the buffer
+						bufferPos = startBufferPosOfSummaryValues + itemTableData.getTotalBufferLength();
 
-					Object[] decodedItemValues = new Object[itemTableData.getItemsCount()];
-					for (int c=0; c<itemTableData.getItemsCount(); c++) {
-						decodedItemValues[c] = itemTableData.getItemValue(c);
+						Object[] decodedItemValues = new Object[itemTableData.getItemsCount()];
+						for (int c=0; c<itemTableData.getItemsCount(); c++) {
+							decodedItemValues[c] = itemTableData.getItemValue(c);
+						}
+						newData.setColumnValues(decodedItemValues);
+						//add some statistical information to the data object to be able to see which columns "pollute" the summary buffer
+						newData.setColumnValueSizesInBytes(itemTableData.getItemValueLengthsInBytes());
 					}
-					newData.setColumnValues(decodedItemValues);
-					//add some statistical information to the data object to be able to see which columns "pollute" the summary buffer
-					newData.setColumnValueSizesInBytes(itemTableData.getItemValueLengthsInBytes());
 				}
 				if (returnMask.contains(ReadMask.SUMMARY)) {
 					int startBufferPosOfSummaryValues = bufferPos;
@@ -282,6 +299,11 @@ public class NotesLookupResultBufferDecoder {
 					newData.setSingleColumnLookupName(singleColumnLookupName);
 				}
 			}
+			
+			if (hasLazyValues) {
+				//the native buffer gets freed after decoding, so keep a copy of the part we have read
+				lazyBuffer.copyFrom(bufferPtr, bufferPos);
+			}
 		}
 		
 		return new NotesViewLookupResultData(collectionStats, viewEntries, numEntriesSkipped, numEntriesReturned, signalFlags, pos, indexModifiedSequenceNo, retDiffTime);
@@ -460,7 +482,6 @@ public class NotesLookupResultBufferDecoder {
 	 * @param convertJNADominoDateTimeToCalendar true to convert {@link JNADominoDateTime} values to {@link Calendar}
 	 * @param decodeAllValues true to decode all values in the buffer
 	 */
-	@SuppressWarnings("deprecation")
 	private static void populateItemValueTableData(Pointer bufferPtr, int itemsCount,
 			int[] itemNameLengths, int[] itemValueLengths, ItemValueTableDataImpl retData, boolean convertStringsLazily,
 			boolean convertJNADominoDateTimeToCalendar, boolean decodeAllValues) {
@@ -500,45 +521,8 @@ public class NotesLookupResultBufferDecoder {
 				bufferPos += (itemValueLengths[j] - 2);
 
 				if (decodeAllValues) {
-					int itemValueBufferSizeAsInt = (int) (itemValueBufferSizes[j] & 0xffffffff);
-
-					if (itemDataTypes[j] == ItemDataType.TYPE_TEXT.getValue()) {
-						Object strVal = ItemDecoder.decodeTextValue(itemValueBufferPointers[j], itemValueBufferSizeAsInt, convertStringsLazily);
-						decodedItemValues[j] = strVal;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_TEXT_LIST.getValue()) {
-						//read a text list item value
-						List<Object> listValues = itemValueBufferSizeAsInt==0 ? Collections.emptyList() : ItemDecoder.decodeTextListValue(itemValueBufferPointers[j], convertStringsLazily);
-						decodedItemValues[j]  = listValues;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_NUMBER.getValue()) {
-						double numVal = ItemDecoder.decodeNumber(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-						decodedItemValues[j] = numVal;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_TIME.getValue()) {
-						if (convertJNADominoDateTimeToCalendar) {
-							Calendar cal = ItemDecoder.decodeTimeDate(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-							decodedItemValues[j]  = cal;
-						}
-						else {
-							DominoDateTime td = ItemDecoder.decodeTimeDateAsNotesTimeDate(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-							decodedItemValues[j]  = td;
-						}
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_NUMBER_RANGE.getValue()) {
-						List<Object> numberList = ItemDecoder.decodeNumberList(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-						decodedItemValues[j]  = numberList;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_TIME_RANGE.getValue()) {
-						List<Object> calendarValues;
-						if (convertJNADominoDateTimeToCalendar) {
-							calendarValues = ItemDecoder.decodeTimeDateList(itemValueBufferPointers[j]);
-						}
-						else {
-							calendarValues = ItemDecoder.decodeTimeDateListAsNotesTimeDate(itemValueBufferPointers[j]);
-						}
-						decodedItemValues[j] = calendarValues;
-					}
+					decodedItemValues[j] = decodeItemValue(itemValueBufferPointers[j], itemDataTypes[j], itemValueBufferSizes[j],
+							convertStringsLazily, convertJNADominoDateTimeToCalendar);
 				}
 			}
 		}
@@ -565,7 +549,6 @@ public class NotesLookupResultBufferDecoder {
 	 * @param convertJNADominoDateTimeToCalendar true to convert {@link JNADominoDateTime} values to {@link Calendar}
 	 * @param decodeAllValues true to decode all values in the buffer
 	 */
-	@SuppressWarnings("deprecation")
 	private static void populateItemValueTableLargeData(Pointer bufferPtr, int itemsCount,
 			int[] itemNameLengths, int[] itemValueLengths, ItemValueTableDataImpl retData, boolean convertStringsLazily,
 			boolean convertJNADominoDateTimeToCalendar, boolean decodeAllValues) {
@@ -605,48 +588,8 @@ public class NotesLookupResultBufferDecoder {
 				bufferPos += (itemValueLengths[j] - 2);
 
 				if (decodeAllValues) {
-					if (itemValueBufferSizes[j] > Integer.MAX_VALUE) {
-						throw new IllegalArgumentException("Item value lengths exceeds MAXDWORD: "+itemValueBufferSizes[j]);
-					}
-					int itemValueBufferSizeAsInt = (int) (itemValueBufferSizes[j] & 0xffffffff);
-					
-					if (itemDataTypes[j] == ItemDataType.TYPE_TEXT.getValue()) {
-						Object strVal = ItemDecoder.decodeTextValue(itemValueBufferPointers[j], itemValueBufferSizeAsInt, convertStringsLazily);
-						decodedItemValues[j] = strVal;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_TEXT_LIST.getValue()) {
-						//read a text list item value
-						List<Object> listValues = itemValueBufferSizeAsInt==0 ? Collections.emptyList() : ItemDecoder.decodeTextListValue(itemValueBufferPointers[j], convertStringsLazily);
-						decodedItemValues[j]  = listValues;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_NUMBER.getValue()) {
-						double numVal = ItemDecoder.decodeNumber(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-						decodedItemValues[j] = numVal;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_TIME.getValue()) {
-						if (convertJNADominoDateTimeToCalendar) {
-							Calendar cal = ItemDecoder.decodeTimeDate(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-							decodedItemValues[j]  = cal;
-						}
-						else {
-							DominoDateTime td = ItemDecoder.decodeTimeDateAsNotesTimeDate(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-							decodedItemValues[j]  = td;
-						}
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_NUMBER_RANGE.getValue()) {
-						List<Object> numberList = ItemDecoder.decodeNumberList(itemValueBufferPointers[j], itemValueBufferSizeAsInt);
-						decodedItemValues[j]  = numberList;
-					}
-					else if (itemDataTypes[j] == ItemDataType.TYPE_TIME_RANGE.getValue()) {
-						List<Object> calendarValues;
-						if (convertJNADominoDateTimeToCalendar) {
-							calendarValues = ItemDecoder.decodeTimeDateList(itemValueBufferPointers[j]);
-						}
-						else {
-							calendarValues = ItemDecoder.decodeTimeDateListAsNotesTimeDate(itemValueBufferPointers[j]);
-						}
-						decodedItemValues[j] = calendarValues;
-					}
+					decodedItemValues[j] = decodeItemValue(itemValueBufferPointers[j], itemDataTypes[j], itemValueBufferSizes[j],
+							convertStringsLazily, convertJNADominoDateTimeToCalendar);
 				}
 			}
 		}
@@ -661,7 +604,54 @@ public class NotesLookupResultBufferDecoder {
 			((ItemTableDataImpl)retData).m_itemNames = itemNames;
 		}
 	}
-	
+
+	/**
+	 * Decodes a single summary item value
+	 *
+	 * @param valuePtr pointer to the item value (after the data type WORD)
+	 * @param dataType item data type
+	 * @param valueSize size of the item value in bytes
+	 * @param convertStringsLazily true to delay string conversion until the first use
+	 * @param convertJNADominoDateTimeToCalendar true to convert {@link JNADominoDateTime} values to {@link Calendar}
+	 * @return decoded value or null for unsupported data types
+	 */
+	@SuppressWarnings("deprecation")
+	static Object decodeItemValue(Pointer valuePtr, int dataType, int valueSize, boolean convertStringsLazily,
+			boolean convertJNADominoDateTimeToCalendar) {
+		if (dataType == ItemDataType.TYPE_TEXT.getValue()) {
+			return ItemDecoder.decodeTextValue(valuePtr, valueSize, convertStringsLazily);
+		}
+		else if (dataType == ItemDataType.TYPE_TEXT_LIST.getValue()) {
+			//read a text list item value
+			return valueSize==0 ? Collections.emptyList() : ItemDecoder.decodeTextListValue(valuePtr, convertStringsLazily);
+		}
+		else if (dataType == ItemDataType.TYPE_NUMBER.getValue()) {
+			return ItemDecoder.decodeNumber(valuePtr, valueSize);
+		}
+		else if (dataType == ItemDataType.TYPE_TIME.getValue()) {
+			if (convertJNADominoDateTimeToCalendar) {
+				return ItemDecoder.decodeTimeDate(valuePtr, valueSize);
+			}
+			else {
+				return ItemDecoder.decodeTimeDateAsNotesTimeDate(valuePtr, valueSize);
+			}
+		}
+		else if (dataType == ItemDataType.TYPE_NUMBER_RANGE.getValue()) {
+			return ItemDecoder.decodeNumberList(valuePtr, valueSize);
+		}
+		else if (dataType == ItemDataType.TYPE_TIME_RANGE.getValue()) {
+			if (convertJNADominoDateTimeToCalendar) {
+				return ItemDecoder.decodeTimeDateList(valuePtr);
+			}
+			else {
+				return ItemDecoder.decodeTimeDateListAsNotesTimeDate(valuePtr);
+			}
+		}
+		else {
+			return null;
+		}
+	}
+
 	/**
 	 * Decodes an ITEM_TABLE_LARGE structure with item names and item values
 	 * 
@@ -746,6 +736,7 @@ public class NotesLookupResultBufferDecoder {
 		
 		ItemTableDataImpl data = new ItemTableDataImpl(convertStringsLazily);
 		data.setPreferNotesTimeDates(!convertJNADominoDateTimeToCalendar);
+		data.m_bufferPtr = bufferPtr;
 		data.m_totalBufferLength = itemTable.getLengthAsInt();
 		data.m_itemsCount = itemsCount;
 		
@@ -756,12 +747,40 @@ public class NotesLookupResultBufferDecoder {
 		return data;
 	}
 	
+	/**
+	 * Copies the buffer of an item table returned by {@link #decodeItemTable(Pointer, boolean, boolean, boolean)},
+	 * so that its values can be decoded on first access after the native buffer has been freed.
+	 * Item tables of other formats get all their values decoded instead.
+	 * 
+	 * @param data item table
+	 * @return item table backed by a copy of the buffer or {@code data} with all values decoded
+	 * @since 1.44.0
+	 */
+	public static IItemTableData copyItemTable(IItemTableData data) {
+		if (data instanceof ItemTableDataImpl && ((ItemTableDataImpl) data).m_bufferPtr!=null) {
+			ItemTableDataImpl dataImpl = (ItemTableDataImpl) data;
+			int length = dataImpl.getTotalBufferLength();
+			Memory bufferCopy = new Memory(Math.max(1, length));
+			bufferCopy.write(0, dataImpl.m_bufferPtr.getByteArray(0, length), 0, length);
+			
+			return decodeItemTable(bufferCopy, dataImpl.m_convertStringsLazily, !dataImpl.isPreferNotesTimeDates(), false);
+		}
+		else {
+			for (int i=0; i<data.getItemsCount(); i++) {
+				data.getItemValue(i);
+			}
+			return data;
+		}
+	}
+	
 	/**
 	 * Container class for the data parsed from an ITEM_VALUE_TABLE structure
 	 * 
 	 * @author Karsten Lehmann
 	 */
 	private static class ItemValueTableDataImpl implements IItemValueTableData {
+		/** start of the ITEM_TABLE buffer, only set by {@link NotesLookupResultBufferDecoder#decodeItemTable(Pointer, boolean, boolean, boolean)} */
+		protected Pointer m_bufferPtr;
 		protected Pointer[] m_itemValueBufferPointers;
 		protected int[] m_itemValueBufferSizes;
 		protected Object[] m_itemValues;
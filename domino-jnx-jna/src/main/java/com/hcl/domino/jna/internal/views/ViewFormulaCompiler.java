@@ -26,12 +26,15 @@ import com.hcl.domino.commons.errors.INotesErrorConstants;
 import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.util.StringUtil;
 import com.hcl.domino.exception.FormulaCompilationException;
+import com.hcl.domino.jna.internal.CompiledFormulaCache;
+import com.hcl.domino.jna.internal.CompiledFormulaCache.Variant;
 import com.hcl.domino.jna.internal.Mem;
 import com.hcl.domino.jna.internal.NotesStringUtils;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
 import com.hcl.domino.jna.internal.gc.handles.DHANDLE;
 import com.hcl.domino.jna.internal.gc.handles.LockUtil;
 import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
 import com.sun.jna.ptr.ShortByReference;
 
 /**
@@ -47,9 +50,69 @@ public class ViewFormulaCompiler {
 	 * 
 	 * @param selectionFormula selection formula
 	 * @param columnItemNamesAndFormulas map with programmatic column names as keys and their formula as values, will be processed in key order; if null, we simply compile the selection formula
-	 * @return handle to combined formula
+	 * @return handle to combined formula, either freshly compiled or a copy from the {@link CompiledFormulaCache}
 	 */
 	public static DHANDLE.ByReference compile(String selectionFormula, LinkedHashMap<String,String> columnItemNamesAndFormulas) {
+		byte[] cachedFormula = CompiledFormulaCache.get(Variant.NULL_LINEBREAKS, selectionFormula, columnItemNamesAndFormulas);
+		if (cachedFormula!=null) {
+			return toHandle(cachedFormula);
+		}
+		
+		DHANDLE.ByReference rethFormula = compileFormula(selectionFormula, columnItemNamesAndFormulas);
+		if (CompiledFormulaCache.isEnabled()) {
+			CompiledFormulaCache.put(Variant.NULL_LINEBREAKS, selectionFormula, columnItemNamesAndFormulas, toByteArray(rethFormula));
+		}
+		return rethFormula;
+	}
+	
+	/**
+	 * Copies a compiled formula into newly allocated handle memory
+	 * 
+	 * @param compiledFormula compiled formula
+	 * @return handle to formula
+	 */
+	private static DHANDLE.ByReference toHandle(byte[] compiledFormula) {
+		DHANDLE.ByReference rethFormula = DHANDLE.newInstanceByReference();
+		short result = Mem.OSMemAlloc((short) 0, compiledFormula.length, rethFormula);
+		NotesErrorUtils.checkResult(result);
+		
+		LockUtil.lockHandle(rethFormula, (hFormulaByVal) -> {
+			Pointer ptr = Mem.OSLockObject(hFormulaByVal);
+			try {
+				ptr.write(0, compiledFormula, 0, compiledFormula.length);
+			}
+			finally {
+				Mem.OSUnlockObject(hFormulaByVal);
+			}
+			return 0;
+		});
+		return rethFormula;
+	}
+	
+	/**
+	 * Reads the content of a compiled formula handle. The handle memory may be larger
+	 * than the formula, so we read the formula size from the formula itself.
+	 * 
+	 * @param hFormula handle to formula
+	 * @return compiled formula
+	 */
+	private static byte[] toByteArray(DHANDLE.ByReference hFormula) {
+		return LockUtil.lockHandle(hFormula, (hFormulaByVal) -> {
+			Pointer ptr = Mem.OSLockObject(hFormulaByVal);
+			try {
+				ShortByReference retFormulaLength = new ShortByReference();
+				short result = NotesCAPI.get().NSFFormulaGetSizeP(ptr, retFormulaLength);
+				NotesErrorUtils.checkResult(result);
+				
+				return ptr.getByteArray(0, retFormulaLength.getValue() & 0xffff);
+			}
+			finally {
+				Mem.OSUnlockObject(hFormulaByVal);
+			}
+		});
+	}
+	
+	private static DHANDLE.ByReference compileFormula(String selectionFormula, LinkedHashMap<String,String> columnItemNamesAndFormulas) {
 		Memory formulaName = null;
 		short formulaNameLength = 0;
 		Memory selectionFormulaMem = NotesStringUtils.toLMBCS(selectionFormula, false);
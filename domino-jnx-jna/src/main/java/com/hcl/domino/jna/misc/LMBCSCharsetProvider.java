@@ -29,7 +29,6 @@ import java.util.List;
 
 import com.hcl.domino.jna.internal.NotesStringUtils;
 import com.hcl.domino.jna.internal.NotesStringUtils.LineBreakConversion;
-import com.sun.jna.Memory;
 
 public class LMBCSCharsetProvider extends CharsetProvider {
   public static final String NAME = "LMBCS"; //$NON-NLS-1$
@@ -92,14 +91,20 @@ public class LMBCSCharsetProvider extends CharsetProvider {
 					if(!in.hasRemaining()) {
 						return CoderResult.UNDERFLOW;
 					}
+					int pos = in.position();
 					char[] chars = new char[in.remaining()];
 					in.get(chars);
 					
-					Memory encoded = NotesStringUtils.toLMBCS(new String(chars), addNull, lineBreakConv, false);
-					if(out.remaining() < encoded.size()) {
+					byte[] encoded = NotesStringUtils.toLMBCSBytes(new String(chars), lineBreakConv);
+					int encodedLen = addNull ? encoded.length+1 : encoded.length;
+					if(out.remaining() < encodedLen) {
+						in.position(pos);
 						return CoderResult.OVERFLOW;
 					}
-					out.put(encoded.getByteBuffer(0, encoded.size()));
+					out.put(encoded);
+					if(addNull) {
+						out.put((byte)0);
+					}
 					return CoderResult.UNDERFLOW;
 				}
 				
@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.UnsupportedEncodingException;
 import java.lang.ref.ReferenceQueue;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -30,12 +31,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 import com.hcl.domino.DominoException;
@@ -65,6 +68,9 @@ import com.sun.jna.ptr.ShortByReference;
  * @author Tammo Riedinger
  */
 public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations> implements MessageQueue {
+	/** milliseconds a subscription thread waits in MQGet before checking if it has been closed */
+	private static final int SUBSCRIPTION_POLL_INTERVAL = 100;
+
 	private String m_queueName;
 	private BlockingQueue<String> m_blockingQueue=new BlockingMessageQueue();
 
@@ -162,6 +168,23 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
 					NotesConstants.MQ_MAX_MSGSIZE, length));
 		}
 
+		final ShortByReference retMsgLength = new ShortByReference();
+		short result = scan(buffer, length, callback, retMsgLength);
+		NotesErrorUtils.checkResult(result);
+
+		return retMsgLength.getValue() & 0xffff;
+	}
+
+	/**
+	 * Calls MQScan without checking the result code
+	 * 
+	 * @param buffer buffer to be used to read messages or null
+	 * @param length length of the buffer
+	 * @param callback callback to be called for each message
+	 * @param retMsgLength returns the number of bytes written to the buffer
+	 * @return MQScan result code
+	 */
+	private short scan(final Memory buffer, final long length, final IMQCallback callback, final ShortByReference retMsgLength) {
 		final NotesCallbacks.MQScanCallback cCallback;
 		if (PlatformUtils.isWin32()) {
 			cCallback = (Win32NotesCallbacks.MQScanCallbackWin32) (pBuffer, length1, priority, ctx) -> {
@@ -214,7 +237,6 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
 			};
 		}
 
-		final ShortByReference retMsgLength = new ShortByReference();
 		short result;
 		try {
 			//AccessController call required to prevent SecurityException when running in XPages
@@ -226,9 +248,8 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
 				throw new DominoException(0, "Error scanning message queue", e);
 			}
 		}
-		NotesErrorUtils.checkResult(result);
 
-		return retMsgLength.getValue() & 0xffff;
+		return result;
 	}
 
 	@Override
@@ -247,6 +268,45 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
 		}
 	}
 
+	@Override
+	public int putAll(Collection<String> messages, int priority) {
+		checkDisposed();
+
+		if (priority<0 || priority>65535) {
+			throw new IllegalArgumentException("Priority must be between 0 and 65535 (WORD datatype in C API)");
+		}
+
+		List<byte[]> encodedMessages = new ArrayList<>(messages.size());
+		int maxLength = 1;
+		for (String currMessage : messages) {
+			byte[] data = currMessage.getBytes(StandardCharsets.UTF_8);
+			if (data.length > NotesConstants.MQ_MAX_MSGSIZE) {
+				throw new IllegalArgumentException(MessageFormat.format("Max size for the buffer is {0} bytes. You specified one with {1} bytes.",
+						NotesConstants.MQ_MAX_MSGSIZE, data.length));
+			}
+			encodedMessages.add(data);
+			maxLength = Math.max(maxLength, data.length);
+		}
+
+		int hQueue = getAllocations().getMessageQueueHandle();
+		int count = 0;
+
+		try(DisposableMemory mem = new DisposableMemory(maxLength)) {
+			for (byte[] currData : encodedMessages) {
+				mem.write(0, currData, 0, currData.length);
+
+				short result = NotesCAPI.get().MQPut(hQueue, (short) (priority & 0xffff), mem, (short) (currData.length & 0xffff), 0);
+				if (result==INotesErrorConstants.ERR_MQ_EXCEEDED_QUOTA) {
+					break;
+				}
+				NotesErrorUtils.checkResult(result);
+				count++;
+			}
+		}
+
+		return count;
+	}
+
 	/**
 	 * This function adds a message to the message queue.<br>
 	 * The message will be placed in the queue according to the value of its priority argument -
@@ -338,6 +398,30 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
       }
     }
 
+	@Override
+	public Subscription subscribe(int maxBatchSize, IMQBatchCallback callback) {
+		checkDisposed();
+		Objects.requireNonNull(callback, "Callback cannot be null");
+		if (maxBatchSize<1) {
+			throw new IllegalArgumentException(MessageFormat.format("Invalid batch size: {0}", maxBatchSize));
+		}
+
+		IGCDominoClient<?> client = getParentDominoClient();
+		if (!client.isAllowCrossThreadAccess()) {
+			throw new IllegalStateException("Subscribing to a message queue requires cross-thread access to be enabled for the client");
+		}
+
+		MQSubscription subscription = new MQSubscription(maxBatchSize, callback);
+		Thread consumerThread = client.getThreadFactory().newThread(subscription::run);
+		consumerThread.setName("JNX message queue consumer " + m_queueName); //$NON-NLS-1$
+		consumerThread.setDaemon(true);
+		subscription.m_thread = consumerThread;
+		getAllocations().addSubscriptionStopper(subscription.m_stopper);
+		consumerThread.start();
+
+		return subscription;
+	}
+
 	@Override
 	public void putQuitMsg() {
 		checkDisposed();
@@ -355,7 +439,8 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
 
 	@Override
 	public void close() {
-	  getAllocations().dispose();
+		//stops the consumer threads before the queue handle gets closed
+		getAllocations().dispose();
 	}
 	
 	@Override
@@ -487,6 +572,130 @@ public class JNAMessageQueue extends BaseJNAAPIObject<JNAMessageQueueAllocations
 		m_blockingQueue.clear();
 	}
 
+	/**
+	 * Consumer of the message queue running on a dedicated thread. The thread reuses one
+	 * receive buffer, blocks in MQGet until a message arrives and then removes the other waiting
+	 * messages with a single MQScan call, so that the callback receives them as one batch.
+	 */
+	private class MQSubscription implements Subscription {
+		private final int m_maxBatchSize;
+		private final IMQBatchCallback m_callback;
+		private final AtomicReference<Throwable> m_error = new AtomicReference<>();
+		private volatile boolean m_closed;
+		private volatile boolean m_active = true;
+		private Thread m_thread;
+		private final Runnable m_stopper = this::stop;
+
+		private MQSubscription(int maxBatchSize, IMQBatchCallback callback) {
+			m_maxBatchSize = maxBatchSize;
+			m_callback = callback;
+		}
+
+		private void run() {
+			try {
+				int hQueue = getAllocations().getMessageQueueHandle();
+				byte[] data = new byte[NotesConstants.MQ_MAX_MSGSIZE];
+				ShortByReference retMsgLength = new ShortByReference();
+				List<String> batch = new ArrayList<>();
+
+				IMQCallback drainCallback = (buffer, priority) -> {
+					if (batch.size() >= m_maxBatchSize) {
+						//leave the message in the queue for the next batch
+						return Action.Abort;
+					}
+					int length = buffer.remaining();
+					buffer.get(data, 0, length);
+					batch.add(new String(data, 0, length, StandardCharsets.UTF_8));
+					return Action.Delete;
+				};
+
+				try(DisposableMemory buffer = new DisposableMemory(NotesConstants.MQ_MAX_MSGSIZE)) {
+					while (!m_closed) {
+						short result = NotesCAPI.get().MQGet(hQueue, buffer, (short) (NotesConstants.MQ_MAX_MSGSIZE & 0xffff),
+								NotesConstants.MQ_WAIT_FOR_MSG, SUBSCRIPTION_POLL_INTERVAL, retMsgLength);
+						if (result==INotesErrorConstants.ERR_MQ_EMPTY || result==INotesErrorConstants.ERR_MQ_TIMEOUT) {
+							continue;
+						}
+						else if (result==INotesErrorConstants.ERR_MQ_QUITTING) {
+							break;
+						}
+						NotesErrorUtils.checkResult(result);
+
+						int length = Short.toUnsignedInt(retMsgLength.getValue());
+						buffer.read(0, data, 0, length);
+						batch.add(new String(data, 0, length, StandardCharsets.UTF_8));
+
+						if (m_maxBatchSize > 1) {
+							result = scan(null, 0, drainCallback, retMsgLength);
+							if (result!=INotesErrorConstants.ERR_MQ_EMPTY && result!=INotesErrorConstants.ERR_MQSCAN_ABORT) {
+								NotesErrorUtils.checkResult(result);
+							}
+						}
+
+						List<String> messages = new ArrayList<>(batch);
+						batch.clear();
+						m_callback.messagesReceived(messages);
+					}
+				}
+			}
+			catch (Throwable t) {
+				m_error.compareAndSet(null, t);
+			}
+			finally {
+				m_active = false;
+				getAllocations().removeSubscriptionStopper(m_stopper);
+			}
+		}
+
+		@Override
+		public boolean isActive() {
+			return m_active && !m_closed;
+		}
+
+		/**
+		 * Stops the consumer thread and waits until it has finished, unless called
+		 * from the callback
+		 */
+		private void stop() {
+			m_closed = true;
+			getAllocations().removeSubscriptionStopper(m_stopper);
+
+			Thread thread = m_thread;
+			if (thread!=null && thread!=Thread.currentThread()) {
+				//the queue handle may only be closed after the thread has left MQGet,
+				//so keep waiting when interrupted and restore the flag afterwards
+				boolean interrupted = false;
+				while (thread.isAlive()) {
+					try {
+						thread.join();
+					}
+					catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		@Override
+		public void close() {
+			stop();
+
+			Throwable t = m_error.getAndSet(null);
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException) t;
+			}
+			else if (t instanceof Error) {
+				throw (Error) t;
+			}
+			else if (t!=null) {
+				throw new DominoException("Error consuming message queue", t);
+			}
+		}
+	}
+
 	/**
 	 * Implementation of a blocking messages that uses only {@link JNAMessageQueue#put(byte[], int, int, int)}
 	 * and {@link JNAMessageQueue#scan(Memory, com.hcl.domino.mq.MessageQueue.IMQCallback)} to store and retrieve
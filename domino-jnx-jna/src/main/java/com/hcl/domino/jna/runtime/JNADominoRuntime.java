@@ -18,17 +18,24 @@ package com.hcl.domino.jna.runtime;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.hcl.domino.commons.util.NotesErrorUtils;
 import com.hcl.domino.commons.util.StringUtil;
 import com.hcl.domino.jna.JNADominoClient;
+import com.hcl.domino.jna.internal.CompiledFormulaCache;
 import com.hcl.domino.jna.internal.DisposableMemory;
+import com.hcl.domino.jna.internal.LMBCSStringConversionCache;
 import com.hcl.domino.jna.internal.NotesStringUtils;
+import com.hcl.domino.jna.internal.UnidNoteIdCache;
+import com.hcl.domino.jna.internal.UserNamesListCache;
 import com.hcl.domino.jna.internal.capi.NotesCAPI;
 import com.hcl.domino.misc.DominoEnumUtil;
 import com.hcl.domino.misc.NotesConstants;
+import com.hcl.domino.runtime.CacheStatistics;
 import com.hcl.domino.runtime.DominoRuntime;
 import com.hcl.domino.runtime.NSDMode;
 import com.sun.jna.Memory;
@@ -168,4 +175,34 @@ public class JNADominoRuntime implements DominoRuntime {
 		NotesErrorUtils.checkResult(result);
 	}
 	
+	@Override
+	public List<CacheStatistics> getCacheStatistics() {
+		List<CacheStatistics> stats = new ArrayList<>();
+		stats.add(LMBCSStringConversionCache.getStatistics());
+		stats.addAll(NotesStringUtils.getCacheStatistics());
+		stats.add(CompiledFormulaCache.getStatistics());
+		stats.add(UnidNoteIdCache.getStatistics());
+		stats.add(UserNamesListCache.getStatistics());
+		return stats;
+	}
+	
+	@Override
+	public void resetCacheStatistics() {
+		LMBCSStringConversionCache.resetStatistics();
+		NotesStringUtils.resetCacheStatistics();
+		CompiledFormulaCache.resetStatistics();
+		UnidNoteIdCache.resetStatistics();
+		UserNamesListCache.resetStatistics();
+	}
+	
+	@Override
+	public void invalidateUserNamesLists(String userName) {
+		if (userName==null) {
+			UserNamesListCache.clear();
+		}
+		else {
+			UserNamesListCache.invalidate(userName);
+		}
+	}
+	
 }
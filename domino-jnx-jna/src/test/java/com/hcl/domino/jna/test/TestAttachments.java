@@ -20,6 +20,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -31,9 +35,11 @@ import org.junit.jupiter.api.Test;
 
 import com.hcl.domino.DominoClient;
 import com.hcl.domino.data.Attachment;
+import com.hcl.domino.data.Attachment.Compression;
 import com.hcl.domino.data.Database;
 import com.hcl.domino.data.Document;
 import com.hcl.domino.data.Document.IAttachmentProducer;
+import com.hcl.domino.jna.JNADominoClient;
 import com.hcl.domino.jna.data.JNADominoDateTime;
 
 @SuppressWarnings("nls")
@@ -120,4 +126,120 @@ public class TestAttachments extends AbstractJNARuntimeTest {
     final Attachment attAfterDeletion = doc.getAttachment(att.getFileName()).orElse(null);
     Assertions.assertNull(attAfterDeletion, "Attachment has been deleted");
   }
+
+  @Test
+  public void testAttachmentRanges() throws IOException {
+    final DominoClient client = this.getClient();
+
+    final Database dbTest = client.openDatabase("", "log.nsf");
+    final Document doc = dbTest.createDocument();
+
+    final int testDataSize = 1000000;
+    final byte[] data = this.produceTestData(testDataSize);
+    for (int i = 0; i < data.length; i += 7) {
+      data[i] = (byte) (i >> 8);
+    }
+
+    final Attachment att = doc.attachFile("ranges.bin", Instant.now(), Instant.now(), new IAttachmentProducer() {
+
+      @Override
+      public long getSizeEstimation() {
+        return testDataSize;
+      }
+
+      @Override
+      public void produceAttachment(final OutputStream out) throws IOException {
+        out.write(data);
+      }
+
+    });
+
+    try (SeekableByteChannel channel = att.newByteChannel()) {
+      Assertions.assertEquals(testDataSize, channel.size());
+
+      // random positions, including backward seeks and reads across the read-ahead buffer
+      for (final int offset : new int[] { 500000, 10, 262140, 999990, 0, 700000 }) {
+        final ByteBuffer buf = ByteBuffer.allocate(100);
+        channel.position(offset);
+        while (buf.hasRemaining()) {
+          if (channel.read(buf) == -1) {
+            break;
+          }
+        }
+        buf.flip();
+        final byte[] expected = Arrays.copyOfRange(data, offset, Math.min(testDataSize, offset + 100));
+        final byte[] actual = new byte[buf.remaining()];
+        buf.get(actual);
+        Assertions.assertArrayEquals(expected, actual, "Data at offset " + offset);
+      }
+
+      channel.position(testDataSize);
+      Assertions.assertEquals(-1, channel.read(ByteBuffer.allocate(10)));
+    }
+
+    final ByteArrayOutputStream bOut = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[4096];
+    int len;
+    try (InputStream in = att.getInputStream(300000, 400000)) {
+      while ((len = in.read(buffer)) > 0) {
+        bOut.write(buffer, 0, len);
+      }
+    }
+    Assertions.assertArrayEquals(Arrays.copyOfRange(data, 300000, 700000), bOut.toByteArray());
+
+    att.deleteFromDocument();
+  }
+
+  @Test
+  public void testCompressedAttachmentChannel() throws IOException {
+    final JNADominoClient client = (JNADominoClient) this.getClient();
+    final boolean allowCrossThread = client.isAllowCrossThreadAccess();
+    client.setAllowCrossThreadAccess(true);
+    final Path tmpFile = Files.createTempFile("jnxtest_", ".txt");
+    try {
+      final int testDataSize = 1000000;
+      final byte[] data = this.produceTestData(testDataSize);
+      for (int i = 0; i < data.length; i += 11) {
+        data[i] = (byte) (i >> 8);
+      }
+      Files.write(tmpFile, data);
+
+      final Database dbTest = client.openDatabase("", "log.nsf");
+      final Document doc = dbTest.createDocument();
+      final Attachment att = doc.attachFile(tmpFile.toString(), "channel.txt", Compression.LZ1);
+      Assertions.assertNotEquals(Compression.NONE, att.getCompression());
+
+      try (SeekableByteChannel channel = att.newByteChannel()) {
+        // moving backwards restarts the extraction
+        for (final int offset : new int[] { 600000, 20, 999950, 300000 }) {
+          final ByteBuffer buf = ByteBuffer.allocate(100);
+          channel.position(offset);
+          while (buf.hasRemaining()) {
+            if (channel.read(buf) == -1) {
+              break;
+            }
+          }
+          buf.flip();
+          final byte[] expected = Arrays.copyOfRange(data, offset, Math.min(testDataSize, offset + 100));
+          final byte[] actual = new byte[buf.remaining()];
+          buf.get(actual);
+          Assertions.assertArrayEquals(expected, actual, "Data at offset " + offset);
+        }
+      }
+
+      // closing a partially read stream waits for the extraction thread
+      try (InputStream in = att.getInputStream()) {
+        Assertions.assertEquals(data[0] & 0xff, in.read());
+      }
+      Assertions.assertFalse(Thread.getAllStackTraces()
+          .keySet()
+          .stream()
+          .anyMatch(t -> t.isAlive() && t.getName().startsWith("JNX attachment extraction")));
+
+      att.deleteFromDocument();
+    } finally {
+      Files.deleteIfExists(tmpFile);
+      client.setAllowCrossThreadAccess(allowCrossThread);
+    }
+  }
 }
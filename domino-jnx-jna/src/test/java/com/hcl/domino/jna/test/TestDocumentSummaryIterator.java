@@ -0,0 +1,138 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hcl.domino.data.Database;
+import com.hcl.domino.data.Document;
+import com.hcl.domino.data.DocumentClass;
+import com.hcl.domino.jna.JNADominoClient;
+import com.hcl.domino.jna.data.DocumentSummaryIterator;
+import com.hcl.domino.jna.data.DocumentSummaryIterator.DocumentData;
+import com.hcl.domino.jna.data.JNADatabase;
+
+@SuppressWarnings("nls")
+public class TestDocumentSummaryIterator extends AbstractJNARuntimeTest {
+  private static final int DOC_COUNT = 250;
+  private static final int PAGE_SIZE = 20;
+  private static final Map<String, String> FORMULAS = Collections.singletonMap("num", "num");
+
+  private List<Integer> createDocuments(final Database database) {
+    final List<Integer> noteIds = new ArrayList<>();
+    for (int i = 0; i < DOC_COUNT; i++) {
+      final Document doc = database.createDocument();
+      doc.replaceItemValue("num", i);
+      doc.save();
+      noteIds.add(doc.getNoteID());
+    }
+    return noteIds;
+  }
+
+  private DocumentSummaryIterator createIterator(final Database database, final List<Integer> noteIds,
+      final int prefetchPages) {
+    return new DocumentSummaryIterator((JNADatabase) database, PAGE_SIZE, noteIds.iterator(), 0, Integer.MAX_VALUE,
+        FORMULAS, EnumSet.of(DocumentClass.DATA), prefetchPages);
+  }
+
+  private static boolean isPrefetchThreadAlive() {
+    return Thread.getAllStackTraces()
+        .keySet()
+        .stream()
+        .anyMatch(t -> t.isAlive() && t.getName().startsWith("JNX summary prefetch"));
+  }
+
+  private void assertReadsAll(final Database database, final List<Integer> noteIds, final int prefetchPages) {
+    try (DocumentSummaryIterator it = this.createIterator(database, noteIds, prefetchPages)) {
+      int i = 0;
+      while (it.hasNext()) {
+        final DocumentData data = it.next();
+        Assertions.assertEquals(noteIds.get(i).intValue(), data.getSearchMatch().getNoteID());
+        Assertions.assertEquals(i, ((Number) data.getItemValue("num").get(0)).intValue());
+        i++;
+      }
+      Assertions.assertEquals(DOC_COUNT, i);
+    }
+  }
+
+  @Test
+  public void testPrefetchAllPages() throws Exception {
+    final JNADominoClient client = (JNADominoClient) this.getClient();
+    final boolean allowCrossThread = client.isAllowCrossThreadAccess();
+    client.setAllowCrossThreadAccess(true);
+    try {
+      this.withTempDb(database -> {
+        final List<Integer> noteIds = this.createDocuments(database);
+        // more pages than the queue can hold, so that the background thread has to wait
+        this.assertReadsAll(database, noteIds, 2);
+        Assertions.assertFalse(isPrefetchThreadAlive(), "Prefetch thread should have stopped");
+      });
+    } finally {
+      client.setAllowCrossThreadAccess(allowCrossThread);
+    }
+  }
+
+  @Test
+  public void testPrefetchEarlyClose() throws Exception {
+    final JNADominoClient client = (JNADominoClient) this.getClient();
+    final boolean allowCrossThread = client.isAllowCrossThreadAccess();
+    client.setAllowCrossThreadAccess(true);
+    try {
+      this.withTempDb(database -> {
+        final List<Integer> noteIds = this.createDocuments(database);
+        final DocumentSummaryIterator it = this.createIterator(database, noteIds, 2);
+        for (int i = 0; i < PAGE_SIZE + 5; i++) {
+          Assertions.assertTrue(it.hasNext());
+          it.next();
+        }
+        Assertions.assertTrue(isPrefetchThreadAlive(), "Prefetch thread should be waiting for free space");
+
+        // close() returns once the background thread no longer uses the database
+        it.close();
+        Assertions.assertFalse(isPrefetchThreadAlive(), "Prefetch thread should have stopped");
+        Assertions.assertFalse(it.hasNext());
+      });
+    } finally {
+      client.setAllowCrossThreadAccess(allowCrossThread);
+    }
+  }
+
+  @Test
+  public void testPrefetchWithoutCrossThreadAccess() throws Exception {
+    final JNADominoClient client = (JNADominoClient) this.getClient();
+    final boolean allowCrossThread = client.isAllowCrossThreadAccess();
+    client.setAllowCrossThreadAccess(false);
+    try {
+      this.withTempDb(database -> {
+        final List<Integer> noteIds = this.createDocuments(database);
+        try (DocumentSummaryIterator it = this.createIterator(database, noteIds, 2)) {
+          Assertions.assertFalse(isPrefetchThreadAlive(), "Pages should be read synchronously");
+        }
+        this.assertReadsAll(database, noteIds, 2);
+      });
+    } finally {
+      client.setAllowCrossThreadAccess(allowCrossThread);
+    }
+  }
+}
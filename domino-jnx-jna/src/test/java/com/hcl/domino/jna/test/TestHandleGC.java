@@ -169,4 +169,34 @@ public class TestHandleGC extends AbstractJNARuntimeTest {
       e.printStackTrace();
     }
   }
+
+  @Test
+  public void testDisposeStatistics() throws Exception {
+    this.withTempDb(database -> {
+      final JNADominoClient client = (JNADominoClient) this.getClient();
+
+      final AtomicInteger disposedCount = new AtomicInteger();
+      final CAPIGarbageCollectorListenerAdapter listener = new CAPIGarbageCollectorListenerAdapter() {
+        @Override
+        public void treeDisposed(final DominoClient client, final APIObjectAllocations apiObjectAllocations, final int count,
+            final long durationNanos) {
+          disposedCount.addAndGet(count);
+          Assertions.assertTrue(durationNanos >= 0);
+        }
+      };
+      CAPIGarbageCollector.addListener(client, listener);
+      try {
+        final Document doc = database.createDocument();
+        final int countBefore = CAPIGarbageCollector.getAllocationCount(client);
+        Assertions.assertTrue(countBefore > 0);
+
+        disposedCount.set(0);
+        CAPIGarbageCollector.dispose((IAPIObject) doc);
+        Assertions.assertEquals(1, disposedCount.get());
+        Assertions.assertEquals(countBefore - 1, CAPIGarbageCollector.getAllocationCount(client));
+      } finally {
+        CAPIGarbageCollector.removeListener(client, listener);
+      }
+    });
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hcl.domino.DominoProcess;
+import com.hcl.domino.DominoProcess.DominoThreadContext;
+import com.hcl.domino.commons.util.PlatformUtils;
+import com.hcl.domino.jna.internal.gc.HandleLockStatistics;
+import com.hcl.domino.jna.internal.gc.JNAGCUtil;
+import com.hcl.domino.jna.internal.gc.handles.DHANDLE;
+import com.hcl.domino.jna.internal.gc.handles.DHANDLE32;
+import com.hcl.domino.jna.internal.gc.handles.DHANDLE64;
+
+@SuppressWarnings("nls")
+public class TestHandleLocks extends AbstractJNARuntimeTest {
+
+  private static DHANDLE newHandle(final int value) {
+    if (PlatformUtils.is64Bit()) {
+      return DHANDLE64.newInstance(value);
+    } else {
+      return DHANDLE32.newInstance(value);
+    }
+  }
+
+  @Test
+  public void testLockSharedByHandleValue() {
+    final DHANDLE handle1 = TestHandleLocks.newHandle(0x7ff00010);
+    final DHANDLE handle2 = TestHandleLocks.newHandle(0x7ff00010);
+    final DHANDLE handle3 = TestHandleLocks.newHandle(0x7ff00020);
+
+    final Lock lock1 = JNAGCUtil.getHandleLock(handle1);
+    Assertions.assertSame(lock1, JNAGCUtil.getHandleLock(handle2));
+    Assertions.assertNotSame(lock1, JNAGCUtil.getHandleLock(handle3));
+  }
+
+  @Test
+  public void testContentionStatistics() throws Exception {
+    final DHANDLE handle = TestHandleLocks.newHandle(0x7ff00030);
+    JNAGCUtil.resetHandleLockStatistics();
+
+    final Lock lock = JNAGCUtil.getHandleLock(handle);
+    final CountDownLatch otherThreadStarted = new CountDownLatch(1);
+    final CountDownLatch otherThreadDone = new CountDownLatch(1);
+
+    lock.lock();
+    try {
+      final Thread t = new Thread(() -> {
+        try (DominoThreadContext ctx = DominoProcess.get().initializeThread()) {
+          otherThreadStarted.countDown();
+          final Lock otherLock = JNAGCUtil.getHandleLock(TestHandleLocks.newHandle(0x7ff00030));
+          otherLock.lock();
+          otherLock.unlock();
+        } finally {
+          otherThreadDone.countDown();
+        }
+      });
+      t.start();
+      Assertions.assertTrue(otherThreadStarted.await(10, TimeUnit.SECONDS));
+      // give the other thread time to block on the lock
+      Thread.sleep(200);
+    } finally {
+      lock.unlock();
+    }
+    Assertions.assertTrue(otherThreadDone.await(10, TimeUnit.SECONDS));
+
+    final HandleLockStatistics stats = JNAGCUtil.getDHandleLockStatistics();
+    Assertions.assertTrue(stats.getLockCount() >= 2);
+    Assertions.assertTrue(stats.getContendedCount() >= 1);
+    Assertions.assertTrue(stats.getWaitNanos() > 0);
+  }
+}
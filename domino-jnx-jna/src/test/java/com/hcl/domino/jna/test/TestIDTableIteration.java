@@ -0,0 +1,138 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.test;
+
+import java.util.PrimitiveIterator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hcl.domino.data.IDTable;
+import com.hcl.domino.jna.data.JNAIDTable;
+
+@SuppressWarnings("nls")
+public class TestIDTableIteration extends AbstractJNARuntimeTest {
+  private static final int ENTRIES = 500000;
+
+  /**
+   * Builds an ID table with a mix of ranges, gaps and category ids
+   */
+  private int[] createNoteIds() {
+    int[] noteIds = new int[ENTRIES];
+    int noteId = 4;
+    for (int i = 0; i < ENTRIES - 10; i++) {
+      noteIds[i] = noteId;
+      noteId += i % 7 == 0 ? 12 : 4;
+    }
+    for (int i = ENTRIES - 10; i < ENTRIES; i++) {
+      noteIds[i] = (int) (0x80000000L | (4 * (i + 1)));
+    }
+    return noteIds;
+  }
+
+  @Test
+  public void testChunkedIteration() {
+    int[] noteIds = createNoteIds();
+
+    IDTable idTable = this.getClient().createIDTable();
+    try {
+      Assertions.assertTrue(idTable.addAll(noteIds));
+      Assertions.assertEquals(ENTRIES, idTable.size());
+      Assertions.assertFalse(idTable.addAll(noteIds));
+
+      Assertions.assertArrayEquals(noteIds, idTable.toIntArray());
+
+      int[] pos = new int[1];
+      idTable.forEachId(noteId -> {
+        Assertions.assertEquals(noteIds[pos[0]++], noteId);
+      });
+      Assertions.assertEquals(ENTRIES, pos[0]);
+
+      int i = 0;
+      PrimitiveIterator.OfInt it = ((JNAIDTable) idTable).iterator();
+      while (it.hasNext()) {
+        Assertions.assertEquals(noteIds[i++], it.nextInt());
+      }
+      Assertions.assertEquals(ENTRIES, i);
+
+      PrimitiveIterator.OfInt reverseIt = ((JNAIDTable) idTable).reverseIterator();
+      while (reverseIt.hasNext()) {
+        Assertions.assertEquals(noteIds[--i], reverseIt.nextInt());
+      }
+      Assertions.assertEquals(0, i);
+
+      // toArray() uses IDEnumerate, so this cross-checks the IDScan based reads
+      Object[] idsViaEnumerate = idTable.toArray();
+      for (int j = 0; j < ENTRIES; j++) {
+        Assertions.assertEquals(noteIds[j], idsViaEnumerate[j]);
+      }
+    } finally {
+      ((JNAIDTable) idTable).dispose();
+    }
+  }
+
+  /**
+   * Checks that iterators on the same table do not affect each other's position,
+   * also when other reads of the table happen between the chunks
+   */
+  @Test
+  public void testInterleavedIteration() {
+    int[] noteIds = createNoteIds();
+
+    JNAIDTable idTable = (JNAIDTable) this.getClient().createIDTable();
+    try {
+      idTable.addAll(noteIds);
+
+      PrimitiveIterator.OfInt it1 = idTable.iterator();
+      PrimitiveIterator.OfInt it2 = idTable.iterator();
+      PrimitiveIterator.OfInt reverseIt = idTable.reverseIterator();
+      int i1 = 0;
+      int i2 = 0;
+      int i3 = ENTRIES;
+      while (it1.hasNext()) {
+        Assertions.assertEquals(noteIds[i1++], it1.nextInt());
+
+        if (i1 % 2 == 0) {
+          Assertions.assertTrue(it2.hasNext());
+          Assertions.assertEquals(noteIds[i2++], it2.nextInt());
+        }
+        if (i1 % 3 == 0) {
+          Assertions.assertTrue(reverseIt.hasNext());
+          Assertions.assertEquals(noteIds[--i3], reverseIt.nextInt());
+        }
+        if (i1 % 1000 == 0) {
+          Assertions.assertEquals(noteIds[0], idTable.getFirstId());
+          Assertions.assertFalse(idTable.isEmpty());
+          Assertions.assertTrue(idTable.contains(noteIds[i1 - 1]));
+        }
+      }
+      Assertions.assertEquals(ENTRIES, i1);
+
+      while (it2.hasNext()) {
+        Assertions.assertEquals(noteIds[i2++], it2.nextInt());
+      }
+      Assertions.assertEquals(ENTRIES, i2);
+
+      while (reverseIt.hasNext()) {
+        Assertions.assertEquals(noteIds[--i3], reverseIt.nextInt());
+      }
+      Assertions.assertEquals(0, i3);
+    } finally {
+      idTable.dispose();
+    }
+  }
+}
@@ -22,8 +22,11 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.hcl.domino.Name;
+import com.hcl.domino.jna.internal.NotesNamingUtils;
 import com.hcl.domino.naming.Names;
 
 @SuppressWarnings("nls")
@@ -83,4 +86,62 @@ public class TestNames extends AbstractJNARuntimeTest {
 
   }
 
+  /**
+   * Verifies that the name conversions match DNCanonicalize and DNAbbreviate,
+   * both for names handled by the Java parser and for names that fall back
+   * to the native calls.
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "John B Goode",
+      "John B Goode/Acme",
+      "John B Goode/Acme/US",
+      "John B Goode/East/Acme",
+      "John B Goode/East/Acme/US",
+      "John B Goode/Sales/East/Acme/US",
+      "John B Goode/Music/Sales/East/Acme/US",
+      "John B Goode/Guitars/Music/Sales/East/Acme/US",
+      "John B Goode/Guitars/Music/Sales/East/Acme",
+      "John B Goode/Acme/de",
+      "John B Goode/Acme/U1",
+      "John B Goode/US",
+      "CN=John B Goode/O=Acme",
+      "CN=John B Goode/O=Acme/C=US",
+      "CN=John B Goode/OU=East/O=Acme/C=US",
+      "CN=John B Goode/OU=Guitars/OU=Music/OU=Sales/OU=East/O=Acme/C=US",
+      "cn=John B Goode/ou=East/o=Acme/c=US",
+      "CN=John B Goode/OU=East/Acme",
+      "John B Goode/OU=East/O=Acme",
+      "O=Acme",
+      "OU=East/O=Acme",
+      "CN=John B Goode",
+      "CN=John B Goode/O=Acme/C=USA",
+      "John B Goode / Acme",
+      " John B Goode/Acme",
+      "John B Goode/Acme ",
+      "*/Acme",
+      "*/East/Acme/US",
+      "John B Goode/Acme@AcmeDomain",
+      "[Admin]",
+      "LocalDomainServers",
+      "Server01/Acme",
+      "Jürgen Müller/Vertrieb/Acme/DE",
+      "Fran\u00e7ois/Acme",
+      "Anonymous",
+      "John.Goode@acme.com",
+      "a/b"
+  })
+  public void testNamesMatchNative(final String name) {
+    Assertions.assertEquals(NotesNamingUtils.toCanonicalNameNative(name, null), NotesNamingUtils.toCanonicalName(name),
+        "toCanonicalName(\"" + name + "\")");
+    Assertions.assertEquals(NotesNamingUtils.toAbbreviatedNameNative(name, null), NotesNamingUtils.toAbbreviatedName(name, null),
+        "toAbbreviatedName(\"" + name + "\", null)");
+
+    final String canonical = NotesNamingUtils.toCanonicalNameNative(name, null);
+    if (canonical.startsWith("CN=")) {
+      Assertions.assertEquals(NotesNamingUtils.toAbbreviatedNameNative(canonical, null), NotesNamingUtils.toAbbreviatedName(canonical),
+          "toAbbreviatedName(\"" + canonical + "\")");
+    }
+  }
+
 }
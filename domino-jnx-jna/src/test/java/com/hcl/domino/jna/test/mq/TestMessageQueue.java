@@ -18,12 +18,15 @@ package com.hcl.domino.jna.test.mq;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Assertions;
@@ -32,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import com.hcl.domino.DominoClient;
 import com.hcl.domino.jna.test.AbstractJNARuntimeTest;
 import com.hcl.domino.mq.MessageQueue;
+import com.hcl.domino.mq.MessageQueue.Subscription;
 
 /**
  * Tests for the Domino message-queue, that run in process, but partially
@@ -461,4 +465,55 @@ public class TestMessageQueue extends AbstractJNARuntimeTest {
       }
     }
   }
+
+  @Test
+  public void testSubscribeBatches() throws Exception {
+    final DominoClient client = this.getClient();
+
+    final String queueName = UUID.randomUUID().toString();
+    final MessageQueue queue = client.getMessageQueues().open(queueName, true);
+
+    try {
+      final List<String> messages = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        messages.add("msg_" + i);
+      }
+      Assertions.assertEquals(messages.size(), queue.putAll(messages, 0));
+      Assertions.assertEquals(messages.size(), queue.size());
+
+      final int maxBatchSize = 64;
+      final List<String> receivedMessages = Collections.synchronizedList(new ArrayList<>());
+      final AtomicInteger largestBatch = new AtomicInteger();
+      final CountDownLatch allReceived = new CountDownLatch(messages.size());
+
+      try (Subscription subscription = queue.subscribe(maxBatchSize, batch -> {
+        largestBatch.accumulateAndGet(batch.size(), Math::max);
+        receivedMessages.addAll(batch);
+        batch.forEach(msg -> allReceived.countDown());
+      })) {
+        Assertions.assertTrue(allReceived.await(10, TimeUnit.SECONDS), "Not all messages have been received");
+        Assertions.assertTrue(subscription.isActive());
+
+        // messages put while subscribed are delivered as well
+        queue.offer("late message");
+        final long start = System.currentTimeMillis();
+        while (receivedMessages.size() == messages.size() && System.currentTimeMillis() - start < 10000) {
+          Thread.sleep(10);
+        }
+
+        queue.putQuitMsg();
+        while (subscription.isActive() && System.currentTimeMillis() - start < 10000) {
+          Thread.sleep(10);
+        }
+        Assertions.assertFalse(subscription.isActive(), "Subscription should end when the queue quits");
+      }
+
+      messages.add("late message");
+      Assertions.assertEquals(messages, receivedMessages);
+      Assertions.assertTrue(largestBatch.get() > 1, "Messages should have been delivered in batches");
+      Assertions.assertTrue(largestBatch.get() <= maxBatchSize, "Batch size limit exceeded");
+    } finally {
+      queue.close();
+    }
+  }
 }
@@ -21,8 +21,12 @@ import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import com.hcl.domino.commons.util.LMBCSCodec;
 import com.hcl.domino.jna.internal.NotesStringUtils;
+import com.hcl.domino.jna.internal.NotesStringUtils.LineBreakConversion;
 import com.hcl.domino.jna.test.AbstractJNARuntimeTest;
 import com.sun.jna.Memory;
 
@@ -37,4 +41,45 @@ public class TestNotesStringUtils extends AbstractJNARuntimeTest {
     Assertions.assertEquals(strings, out);
   }
 
+  /**
+   * Verifies that the Java LMBCS conversion produces exactly the same bytes and
+   * strings as OSTranslate for all characters it claims to support.
+   */
+  @Test
+  public void testJavaCodecMatchesNativeForAllSupportedChars() {
+    for (char c = 0; c < 0x100; c++) {
+      final String value = "a" + c + "b";
+      final byte[] javaEncoded = LMBCSCodec.encode(value);
+      if (javaEncoded == null) {
+        continue;
+      }
+      final byte[] nativeEncoded = NotesStringUtils.toLMBCSLineNative(value);
+      Assertions.assertArrayEquals(nativeEncoded, javaEncoded, "Encoding differs for U+" + Integer.toHexString(c));
+
+      final String javaDecoded = LMBCSCodec.decode(nativeEncoded, 0, nativeEncoded.length);
+      final String nativeDecoded = NotesStringUtils.fromLMBCSLineNative(nativeEncoded, 0, nativeEncoded.length);
+      Assertions.assertEquals(nativeDecoded, javaDecoded, "Decoding differs for U+" + Integer.toHexString(c));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Hello", "Grüße aus Köln", "Ça coûte 5 £", "EkranAlıntısı1.JPG", "Привет мир", "日本語のテキスト", "€ 100", "mixed ü and ı" })
+  public void testJavaCodecMatchesNative(final String value) {
+    final byte[] nativeEncoded = NotesStringUtils.toLMBCSLineNative(value);
+    Assertions.assertArrayEquals(nativeEncoded, NotesStringUtils.toLMBCSBytes(value, LineBreakConversion.ORIGINAL));
+
+    final String javaDecoded = LMBCSCodec.decode(nativeEncoded, 0, nativeEncoded.length);
+    if (javaDecoded != null) {
+      Assertions.assertEquals(value, javaDecoded);
+    }
+    Assertions.assertEquals(value, NotesStringUtils.fromLMBCS(nativeEncoded));
+  }
+
+  @Test
+  public void testMultiLineRoundTrip() {
+    final String value = "first line\nzweite Zeile äöü\nтретья строка\n";
+    final byte[] encoded = NotesStringUtils.toLMBCSBytes(value, LineBreakConversion.NULL);
+    Assertions.assertEquals(value.replace("\n", System.lineSeparator()), NotesStringUtils.fromLMBCS(encoded));
+  }
+
 }
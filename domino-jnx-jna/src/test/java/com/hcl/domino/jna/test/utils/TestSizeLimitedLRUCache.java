@@ -0,0 +1,96 @@
+/*
+ * ==========================================================================
+ * Copyright (C) 2019-2022 HCL America, Inc. ( http://www.hcl.com/ )
+ *                            All rights reserved.
+ * ==========================================================================
+ * Licensed under the  Apache License, Version 2.0  (the "License").  You may
+ * not use this file except in compliance with the License.  You may obtain a
+ * copy of the License at <http://www.apache.org/licenses/LICENSE-2.0>.
+ *
+ * Unless  required  by applicable  law or  agreed  to  in writing,  software
+ * distributed under the License is distributed on an  "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR  CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the  specific language  governing permissions  and limitations
+ * under the License.
+ * ==========================================================================
+ */
+package com.hcl.domino.jna.test.utils;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hcl.domino.jna.internal.SizeLimitedLRUCache;
+import com.hcl.domino.runtime.CacheStatistics;
+
+@SuppressWarnings("nls")
+public class TestSizeLimitedLRUCache {
+
+  private static SizeLimitedLRUCache<String, String> newCache(final int maxSize, final int stripes, final boolean perThread) {
+    return new SizeLimitedLRUCache<String, String>("test", maxSize, stripes, perThread) {
+      @Override
+      protected int computeSize(final String key, final String value) {
+        return key.length() + value.length();
+      }
+    };
+  }
+
+  @Test
+  public void testStripedStatistics() {
+    final SizeLimitedLRUCache<String, String> cache = TestSizeLimitedLRUCache.newCache(10000, 4, false);
+    for (int i = 0; i < 100; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+    for (int i = 0; i < 100; i++) {
+      Assertions.assertEquals("value" + i, cache.get("key" + i));
+    }
+    Assertions.assertNull(cache.get("other"));
+    Assertions.assertEquals(100, cache.getKeys().size());
+
+    final CacheStatistics stats = cache.getStatistics();
+    Assertions.assertEquals("test", stats.getName());
+    Assertions.assertEquals(100, stats.getHits());
+    Assertions.assertEquals(1, stats.getMisses());
+    Assertions.assertEquals(10000, stats.getMaxSize());
+    Assertions.assertTrue(stats.getSize() > 0);
+
+    cache.resetStatistics();
+    Assertions.assertEquals(0, cache.getStatistics().getHits());
+
+    cache.clear();
+    Assertions.assertNull(cache.get("key1"));
+    Assertions.assertEquals(0, cache.getCurrentCacheSizeInUnits());
+  }
+
+  @Test
+  public void testPerThreadEviction() throws Exception {
+    // each entry has a size of 2
+    final SizeLimitedLRUCache<String, String> cache = TestSizeLimitedLRUCache.newCache(6, 1, true);
+    Assertions.assertTrue(cache.isPerThread());
+
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+    // access "a", so that "b" is the least recently used entry
+    Assertions.assertEquals("1", cache.get("a"));
+    cache.put("d", "4");
+
+    Assertions.assertNull(cache.get("b"));
+    Assertions.assertEquals("1", cache.get("a"));
+    Assertions.assertEquals("4", cache.get("d"));
+    Assertions.assertEquals(6, cache.getCurrentCacheSizeInUnits());
+    Assertions.assertEquals(1, cache.getStatistics().getEvictions());
+
+    // other threads have their own cache
+    final AtomicReference<String> otherValue = new AtomicReference<>("unset");
+    final Thread t = new Thread(() -> otherValue.set(cache.get("a")));
+    t.start();
+    t.join();
+    Assertions.assertNull(otherValue.get());
+
+    cache.clear();
+    Assertions.assertNull(cache.get("a"));
+    Assertions.assertEquals(0, cache.getCurrentCacheSizeInUnits());
+  }
+}
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -42,6 +43,8 @@ import com.hcl.domino.data.Database;
 import com.hcl.domino.data.DocumentClass;
 import com.hcl.domino.data.ModificationTimePair;
 import com.hcl.domino.exception.ServerNotFoundException;
+import com.hcl.domino.runtime.CacheStatistics;
+import com.hcl.domino.runtime.DominoRuntime;
 import com.hcl.domino.server.ServerPingInfo;
 import com.ibm.commons.util.StringUtil;
 
@@ -93,6 +96,43 @@ public class TestClientBasics extends AbstractNotesRuntimeTest {
 
   }
 
+  @Test
+  public void testCachedUserNamesList() throws Exception {
+    final String userName = "CN=Foo Cached/O=Baz";
+    final DominoRuntime runtime = this.getClient().getDominoRuntime();
+    runtime.invalidateUserNamesLists(null);
+
+    try (DominoClient fooClient = DominoClientBuilder.newDominoClient()
+        .asUser(userName)
+        .build()) {
+      final List<String> expected = fooClient.getEffectiveUserNamesList(null).toList();
+      Assertions.assertEquals(userName, expected.get(0));
+
+      // a second client for the same user reuses the expanded names
+      final CacheStatistics before = this.getNamesListCacheStatistics();
+      try (DominoClient fooClient2 = DominoClientBuilder.newDominoClient()
+          .asUser(userName)
+          .build()) {
+        Assertions.assertEquals(expected, fooClient2.getEffectiveUserNamesList(null).toList());
+      }
+      Assertions.assertTrue(this.getNamesListCacheStatistics().getHits() > before.getHits());
+
+      // after invalidation, the names are expanded again
+      runtime.invalidateUserNamesLists("Foo Cached/Baz");
+      final CacheStatistics beforeInvalidated = this.getNamesListCacheStatistics();
+      Assertions.assertEquals(expected, fooClient.getEffectiveUserNamesList(null).toList());
+      Assertions.assertTrue(this.getNamesListCacheStatistics().getMisses() > beforeInvalidated.getMisses());
+    }
+  }
+
+  private CacheStatistics getNamesListCacheStatistics() {
+    return this.getClient().getDominoRuntime().getCacheStatistics()
+        .stream()
+        .filter(stats -> "UserNamesLists".equals(stats.getName()))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Missing names list cache statistics"));
+  }
+
   @Test
   public void testBaseUsernameEquality() {
     final DominoClient client = this.getClient();
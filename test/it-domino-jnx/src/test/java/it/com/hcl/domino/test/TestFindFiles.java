@@ -18,11 +18,14 @@ package it.com.hcl.domino.test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -135,6 +138,55 @@ public class TestFindFiles extends AbstractNotesRuntimeTest {
     }
   }
 
+  private static boolean isSearchThreadAlive() {
+    return Thread.getAllStackTraces()
+        .keySet()
+        .stream()
+        .anyMatch(t -> t.isAlive() && t.getName().startsWith("JNX directory search"));
+  }
+
+  @Test
+  public void testStreamFiles() throws Exception {
+    final DominoClient client = this.getClient();
+    final DirectorySearchQuery query = client.openDbDirectory().query()
+        .withServer("")
+        .withDirectory("")
+        .withFileTypes(EnumSet.of(FileType.DIRS));
+
+    final List<String> expectedPaths = new ArrayList<>();
+    query.forEach(0, -1, (entry, loop) -> expectedPaths.add(entry.getFilePath()));
+    Assertions.assertFalse(expectedPaths.isEmpty(), "Read no files in data directory");
+
+    // full iteration returns the same entries as forEach
+    final List<DirEntry> entries;
+    try (Stream<DirEntry> stream = query.stream()) {
+      entries = stream.collect(Collectors.toList());
+    }
+    Assertions.assertEquals(expectedPaths, entries.stream().map(DirEntry::getFilePath).collect(Collectors.toList()));
+    Assertions.assertTrue(
+        entries.stream()
+            .anyMatch(entry -> entry instanceof DatabaseData
+                && "names.nsf".equalsIgnoreCase((String) entry.getProperties().get("$TITLE"))),
+        "names.nsf not found in data directory");
+
+    // closing the stream early stops the search and waits for the search thread
+    try (Stream<DirEntry> stream = query.stream()) {
+      Assertions.assertTrue(stream.findFirst().isPresent());
+    }
+    Assertions.assertFalse(isSearchThreadAlive(), "Search thread should have stopped");
+
+    // search errors are passed to the consumer
+    final DirectorySearchQuery invalidQuery = client.openDbDirectory().query()
+        .withServer("")
+        .withDirectory("")
+        .withFormula("@If(");
+    Assertions.assertThrows(DominoException.class, () -> {
+      try (Stream<DirEntry> stream = invalidQuery.stream()) {
+        stream.count();
+      }
+    });
+  }
+
   // @Test
   public void testRecursiveDirectoryScan() {
     final DominoClient client = this.getClient();
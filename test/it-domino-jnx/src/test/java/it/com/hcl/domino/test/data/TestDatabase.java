@@ -25,8 +25,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -54,11 +58,13 @@ import com.hcl.domino.exception.CompactionRequiredException;
 import com.hcl.domino.data.DominoCollectionInfo;
 import com.hcl.domino.data.DominoDateTime;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.NoteIdList;
 import com.hcl.domino.html.HtmlConversionResult;
 import com.hcl.domino.html.HtmlConvertOption;
 import com.hcl.domino.mime.MimeWriter;
 import com.hcl.domino.mime.RichTextMimeConversionSettings.MessageContentEncoding;
 import com.hcl.domino.misc.Ref;
+import com.hcl.domino.runtime.CacheStatistics;
 import com.hcl.domino.security.Acl;
 import com.ibm.commons.util.StringUtil;
 
@@ -430,4 +436,48 @@ public class TestDatabase extends AbstractNotesRuntimeTest {
       }
     });
   }
+
+  @Test
+  public void testCachedUnidResolution() throws Exception {
+    withTempDb(database -> {
+      final Map<Integer, String> expected = new HashMap<>();
+      for (int i = 0; i < 10; i++) {
+        final Document doc = database.createDocument();
+        doc.save();
+        expected.put(doc.getNoteID(), doc.getUNID());
+      }
+
+      final Map<Integer, String> resolved = new HashMap<>();
+      database.toUNIDs(expected.keySet(), resolved, new HashSet<>());
+      assertEquals(expected, resolved);
+
+      // the second lookup is served from the cache
+      final long hitsBefore = this.getUnidCacheHits();
+      final Map<String, Integer> resolvedNoteIds = new HashMap<>();
+      database.toNoteIds(expected.values(), resolvedNoteIds, new HashSet<>());
+      assertEquals(expected.size(), resolvedNoteIds.size());
+      expected.forEach((noteId, unid) -> assertEquals(noteId, resolvedNoteIds.get(unid)));
+      Assertions.assertTrue(this.getUnidCacheHits() >= hitsBefore + expected.size());
+
+      // deleted documents are no longer resolved
+      final int deletedNoteId = expected.keySet().iterator().next();
+      final String deletedUnid = expected.remove(deletedNoteId);
+      database.getDocumentById(deletedNoteId).get().delete();
+
+      final Set<String> unresolvedUnids = new HashSet<>();
+      resolvedNoteIds.clear();
+      database.toNoteIds(Arrays.asList(deletedUnid), resolvedNoteIds, unresolvedUnids);
+      Assertions.assertTrue(resolvedNoteIds.isEmpty());
+      assertEquals(Collections.singleton(deletedUnid), unresolvedUnids);
+      Assertions.assertNull(database.toUNIDs(NoteIdList.of(deletedNoteId))[0]);
+    });
+  }
+
+  private long getUnidCacheHits() {
+    return this.getClient().getDominoRuntime().getCacheStatistics()
+        .stream()
+        .filter(stats -> "UnidNoteIds".equals(stats.getName()))
+        .mapToLong(CacheStatistics::getHits)
+        .sum();
+  }
 }
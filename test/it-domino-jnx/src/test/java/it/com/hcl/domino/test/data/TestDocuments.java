@@ -39,6 +39,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import com.hcl.domino.DominoClient;
 import com.hcl.domino.DominoClientBuilder;
 import com.hcl.domino.data.CollectionEntry;
@@ -651,4 +652,53 @@ public class TestDocuments extends AbstractNotesRuntimeTest {
       }
     });
   }
+
+  @Test
+  public void testStreamDocuments() throws Exception {
+    withTempDb(database -> {
+      final List<Integer> noteIds = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        final Document doc = database.createDocument();
+        doc.replaceItemValue("Form", "StreamTest");
+        doc.replaceItemValue("Index", i);
+        doc.save();
+        noteIds.add(doc.getNoteID());
+      }
+
+      final Document deletedDoc = database.createDocument();
+      deletedDoc.replaceItemValue("Form", "StreamTest");
+      deletedDoc.save();
+      final int deletedNoteId = deletedDoc.getNoteID();
+      deletedDoc.delete();
+
+      final List<Integer> requestedIds = new ArrayList<>(noteIds);
+      requestedIds.add(10, deletedNoteId);
+      Collections.reverse(requestedIds);
+
+      final List<Integer> expectedIds = new ArrayList<>(noteIds);
+      Collections.reverse(expectedIds);
+
+      final List<Integer> streamedIds = new ArrayList<>();
+      final List<Integer> indexValues = new ArrayList<>();
+      database.streamDocuments(requestedIds, EnumSet.noneOf(OpenDocumentMode.class), 4).forEach(doc -> {
+        streamedIds.add(doc.getNoteID());
+        indexValues.add(doc.getAsInt("Index", -1));
+      });
+
+      assertEquals(expectedIds, streamedIds);
+      for (int i = 0; i < indexValues.size(); i++) {
+        assertEquals(noteIds.indexOf(expectedIds.get(i)), indexValues.get(i).intValue());
+      }
+
+      // stopping early releases the documents read ahead
+      try (Stream<Document> docs = database.streamDocuments(noteIds, null, 2)) {
+        assertEquals(noteIds.subList(0, 3), docs.limit(3).map(Document::getNoteID).collect(Collectors.toList()));
+      }
+      // closing the stream waits for the background thread
+      assertFalse(Thread.getAllStackTraces()
+          .keySet()
+          .stream()
+          .anyMatch(t -> t.isAlive() && t.getName().startsWith("JNX document prefetch")));
+    });
+  }
 }
@@ -18,9 +18,11 @@ package it.com.hcl.domino.test.data;
 
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
@@ -231,4 +233,52 @@ public class TestFormulaSearch extends AbstractNotesRuntimeTest {
     });
 
   }
+
+  @Test
+  public void testParallelScan() throws Exception {
+    final Map<String, String> computeValues = new HashMap<>();
+    computeValues.put("idx", "");
+
+    this.withTempDb(database -> {
+      final Set<Integer> expectedNoteIds = new HashSet<>();
+      for (int i = 0; i < 200; i++) {
+        final Document doc = database.createDocument();
+        doc.replaceItemValue("Form", i % 2 == 0 ? "MatchForm" : "NotMatchForm");
+        doc.replaceItemValue("idx", i);
+        doc.save();
+        if (i % 2 == 0) {
+          expectedNoteIds.add(doc.getNoteID());
+        }
+      }
+
+      final Set<Integer> foundNoteIds = ConcurrentHashMap.newKeySet();
+      final AtomicInteger duplicates = new AtomicInteger();
+
+      database.parallelScan("form=\"MatchForm\"", EnumSet.of(DocumentClass.DATA), computeValues, 4,
+          new FormulaQueryCallback() {
+
+            @Override
+            public Action deletionFound(final Database db, final SearchMatch searchMatch, final TypedAccess computedValues) {
+              return Action.Continue;
+            }
+
+            @Override
+            public Action matchFound(final Database db, final SearchMatch searchMatch, final TypedAccess computedValues) {
+              Assertions.assertEquals(0, computedValues.get("idx", int.class, -1) % 2);
+              if (!foundNoteIds.add(searchMatch.getNoteID())) {
+                duplicates.incrementAndGet();
+              }
+              return Action.Continue;
+            }
+
+            @Override
+            public Action nonMatchFound(final Database db, final SearchMatch searchMatch, final TypedAccess computedValues) {
+              return Action.Continue;
+            }
+          });
+
+      Assertions.assertEquals(0, duplicates.get());
+      Assertions.assertEquals(expectedNoteIds, foundNoteIds);
+    });
+  }
 }
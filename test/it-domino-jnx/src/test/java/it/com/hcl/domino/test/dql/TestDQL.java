@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.EnumSet;
@@ -38,6 +39,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import com.hcl.domino.commons.data.DefaultDominoDateTime;
+import com.hcl.domino.data.CollectionEntry;
 import com.hcl.domino.data.DBQuery;
 import com.hcl.domino.data.DQLQueryResult;
 import com.hcl.domino.data.Database;
@@ -45,6 +47,7 @@ import com.hcl.domino.data.Document;
 import com.hcl.domino.data.FTIndex;
 import com.hcl.domino.data.Formula;
 import com.hcl.domino.data.IDTable;
+import com.hcl.domino.data.SortSpec;
 import com.hcl.domino.dql.DQL;
 import com.hcl.domino.dql.DQL.DQLTerm;
 
@@ -168,6 +171,39 @@ public class TestDQL extends AbstractNotesRuntimeTest {
         });
     }
 
+    @Test
+    public void testDQLSortBy() throws Exception {
+        this.withTempDb(db -> {
+            final int nrOfDocs = 40;
+            final List<Integer> noteIdsByIdxDesc = new ArrayList<>();
+            for (int i = 0; i < nrOfDocs; i++) {
+                // store values in an order that differs from the note id order
+                final int idx = (i * 7) % nrOfDocs;
+                final Document doc = db.createDocument();
+                doc.replaceItemValue("Form", "SortTest");
+                doc.replaceItemValue("idx", idx);
+                doc.save();
+                noteIdsByIdxDesc.add(doc.getNoteID());
+            }
+            noteIdsByIdxDesc.sort((id1, id2) -> Integer.compare(
+                db.getDocumentById(id2).get().get("idx", Integer.class, 0),
+                db.getDocumentById(id1).get().get("idx", Integer.class, 0)));
+
+            final DQLQueryResult result = db.queryDQL(item("Form").isEqualTo("SortTest"))
+                .computeValues("idx", "")
+                .sortBy(SortSpec.descending("idx"));
+
+            // top-K page
+            assertEquals(noteIdsByIdxDesc.subList(5, 15), result.collectNoteIds(5, 10).stream().boxed().collect(Collectors.toList()));
+            // complete result
+            assertEquals(noteIdsByIdxDesc, new ArrayList<>(result.collectIds(0, Integer.MAX_VALUE)));
+
+            final List<CollectionEntry> entries = result.collectEntries(0, 3);
+            assertEquals(3, entries.size());
+            assertEquals(Integer.valueOf(nrOfDocs - 1), entries.get(0).get("idx", Integer.class, -1));
+        });
+    }
+
     @Test
     public void testDQLNot() throws Exception {
         this.withTempDb(db -> {
@@ -20,8 +20,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
@@ -32,8 +38,12 @@ import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import com.hcl.domino.DominoClient;
 import com.hcl.domino.data.Database;
 import com.hcl.domino.data.Document;
+import com.hcl.domino.data.DocumentClass;
+import com.hcl.domino.data.Item.ItemFlag;
 import com.hcl.domino.design.agent.JavaLanguageAgent;
+import com.hcl.domino.dxl.DxlExportPartition;
 import com.hcl.domino.dxl.DxlExporter;
+import com.hcl.domino.dxl.DxlExporter.DXLExportCharset;
 
 import it.com.hcl.domino.test.AbstractNotesRuntimeTest;
 import it.com.hcl.domino.test.TestValidateCredentials;
@@ -230,6 +240,68 @@ public class TestDxlExporter extends AbstractNotesRuntimeTest {
     });
   }
 
+  @Test
+  public void testExportNonAsciiChannel() throws Exception {
+    // each item stays below the 64K item limit, all of them together are long enough
+    // to have multi-byte characters split across export chunks
+    final String value = StringUtils.repeat("h\u00e9llo \u20ac \ud83d\ude00 \u4e2d\u6587 ", 1000);
+
+    this.withTempDb(database -> {
+      final Document doc = database.createDocument();
+      for (int i = 0; i < 8; i++) {
+        doc.replaceItemValue("foo" + i, EnumSet.noneOf(ItemFlag.class), value);
+      }
+      doc.save();
+
+      for (final DXLExportCharset charset : DXLExportCharset.values()) {
+        final DxlExporter exporter = this.getClient().createDxlExporter();
+        exporter.setExportCharset(charset);
+
+        final String writerResult;
+        try (StringWriter w = new StringWriter()) {
+          exporter.exportDocument(doc, w);
+          writerResult = w.toString();
+        }
+        Assertions.assertTrue(writerResult.contains(value), charset.name());
+
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+          try (WritableByteChannel channel = Channels.newChannel(os)) {
+            exporter.exportDocument(doc, channel);
+          }
+          Assertions.assertEquals(writerResult, new String(os.toByteArray(), StandardCharsets.UTF_8), charset.name());
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testExportDatabasePartitioned() throws Exception {
+    this.withTempDb(database -> {
+      for (int i = 0; i < 10; i++) {
+        final Document doc = database.createDocument();
+        doc.replaceItemValue("foo", "bar" + i);
+        doc.save();
+      }
+
+      final DxlExporter exporter = this.getClient().createDxlExporter();
+      exporter.setOutputDoctype(false);
+
+      final Map<Integer, ByteArrayOutputStream> outputs = new ConcurrentHashMap<>();
+      final List<DxlExportPartition> partitions = exporter.exportDatabase(database, EnumSet.of(DocumentClass.DATA), 3, 2,
+          partition -> outputs.computeIfAbsent(partition.getIndex(), idx -> new ByteArrayOutputStream()));
+
+      Assertions.assertEquals(4, partitions.size());
+      Assertions.assertEquals(10, partitions.stream().mapToInt(DxlExportPartition::getNoteCount).sum());
+      Assertions.assertEquals(4, outputs.size());
+      for (final DxlExportPartition partition : partitions) {
+        final String dxl = new String(outputs.get(partition.getIndex()).toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(dxl.contains("<database"));
+        Assertions.assertFalse(dxl.contains("<!DOCTYPE"));
+        Assertions.assertEquals(partition.getNoteCount(), StringUtils.countMatches(dxl, "<document "));
+      }
+    });
+  }
+
   @Test
   public void testItemNamesRoundTrip() {
     final DxlExporter exporter = this.getClient().createDxlExporter();
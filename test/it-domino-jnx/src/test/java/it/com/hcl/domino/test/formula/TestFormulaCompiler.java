@@ -22,7 +22,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
@@ -36,12 +39,14 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import com.hcl.domino.DominoClient;
 import com.hcl.domino.DominoException;
 import com.hcl.domino.commons.errors.INotesErrorConstants;
+import com.hcl.domino.data.Database.Action;
 import com.hcl.domino.data.Document;
 import com.hcl.domino.data.Formula;
 import com.hcl.domino.data.Formula.Disallow;
 import com.hcl.domino.data.Formula.FormulaExecutionResult;
 import com.hcl.domino.data.FormulaAnalyzeResult.FormulaAttributes;
 import com.hcl.domino.formula.FormulaCompiler;
+import com.hcl.domino.runtime.CacheStatistics;
 
 import it.com.hcl.domino.test.AbstractNotesRuntimeTest;
 
@@ -71,6 +76,54 @@ public class TestFormulaCompiler extends AbstractNotesRuntimeTest {
     Assertions.assertEquals(formula, decompiled);
   }
 
+  @Test
+  public void testCompiledFormulaCache() {
+    final DominoClient client = this.getClient();
+    final String formula = "\"cache-\" + \"" + System.nanoTime() + "\"";
+
+    final FormulaCompiler compiler = FormulaCompiler.get();
+    final byte[] compiled = compiler.compile(formula);
+    final List<Object> result = client.createFormula(formula).evaluate();
+
+    final long hitsBefore = this.getFormulaCacheHits(client);
+    final byte[] compiledAgain = compiler.compile(formula);
+    final List<Object> resultAgain = client.createFormula(formula).evaluate();
+
+    assertTrue(Arrays.equals(compiled, compiledAgain));
+    assertEquals(result, resultAgain);
+    assertTrue(this.getFormulaCacheHits(client) >= hitsBefore + 2);
+  }
+
+  @Test
+  public void testCompiledFormulaCacheHitAnalyzeAndEvaluate() {
+    final DominoClient client = this.getClient();
+    final String formula = "\"analyze-\" + \"" + System.nanoTime() + "\"";
+
+    final Formula first = client.createFormula(formula);
+    final EnumSet<FormulaAttributes> attributes = EnumSet.copyOf(first.analyze().getAttributes());
+    final List<Object> result = first.evaluate();
+
+    // the second instance uses the cached compiled formula
+    final long hitsBefore = this.getFormulaCacheHits(client);
+    final Formula second = client.createFormula(formula);
+    assertTrue(this.getFormulaCacheHits(client) > hitsBefore);
+    assertEquals(attributes, second.analyze().getAttributes());
+    assertEquals(result, second.evaluate());
+
+    // analyzing the same formula text twice must give the same result
+    for (int i = 0; i < 2; i++) {
+      assertEquals(EnumSet.of(FormulaAttributes.TIME_VARIANT), client.createFormula("@Now").analyze().getAttributes());
+    }
+  }
+
+  private long getFormulaCacheHits(final DominoClient client) {
+    return client.getDominoRuntime().getCacheStatistics()
+        .stream()
+        .filter(stats -> "CompiledFormulas".equals(stats.getName()))
+        .mapToLong(CacheStatistics::getHits)
+        .sum();
+  }
+
   @Test
   public void testServiceAvailable() {
     Assertions.assertNotNull(FormulaCompiler.get());
@@ -114,6 +167,38 @@ public class TestFormulaCompiler extends AbstractNotesRuntimeTest {
     assertTrue(!compiler.getFunctionParameters("ToolsRunMacro").isEmpty());
   }
   
+  @Test
+  public void testBatchEvaluation() throws Exception {
+    withTempDb((db) -> {
+      final Map<Integer, Double> expected = new HashMap<>();
+      for (int i = 0; i < 50; i++) {
+        final Document doc = db.createDocument();
+        doc.replaceItemValue("Form", "Person");
+        doc.replaceItemValue("anumber", i);
+        doc.save();
+        expected.put(doc.getNoteID(), i * 2d);
+      }
+
+      final Formula formula = this.getClient().createFormula("anumber * 2");
+      final Map<Integer, List<Object>> results = new HashMap<>();
+      formula.evaluate(db, expected.keySet(), (noteId, value) -> {
+        results.put(noteId, value);
+        return Action.Continue;
+      });
+
+      assertEquals(expected.size(), results.size());
+      expected.forEach((noteId, value) -> assertEquals(Arrays.asList(value), results.get(noteId)));
+
+      final int[] firstTwo = expected.keySet().stream().mapToInt(Integer::intValue).limit(2).toArray();
+      final AtomicInteger count = new AtomicInteger();
+      formula.evaluate(db, firstTwo, (noteId, value) -> {
+        count.incrementAndGet();
+        return Action.Stop;
+      });
+      assertEquals(1, count.get());
+    });
+  }
+
   @Test
   public void testFormulaExecutionResult() throws Exception {
     withTempDb((db) -> {
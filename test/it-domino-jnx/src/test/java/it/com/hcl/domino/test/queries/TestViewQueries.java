@@ -41,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import com.hcl.domino.DominoClient;
 import com.hcl.domino.DominoClient.Encryption;
 import com.hcl.domino.DominoException;
+import com.hcl.domino.commons.util.DominoUtils;
 import com.hcl.domino.data.CollectionEntry;
 import com.hcl.domino.data.CollectionEntry.SpecialValue;
 import com.hcl.domino.data.CollectionSearchQuery;
@@ -265,6 +266,33 @@ public class TestViewQueries extends AbstractNotesRuntimeTest {
     });
   }
 
+  @Test
+  public void testCachedQuerySize() throws Exception {
+    this.withViewQueryTestDb(database -> {
+      final DominoCollection view = database.openCollection("Lastname Firstname Flat").get();
+
+      final int total = view.query().startAtFirstEntry().size();
+      final int selected = view.query().startAtFirstEntry().selectByKey("Abbo", false).size();
+      final long hitsBefore = view.getCountCacheStatistics().getHits();
+
+      // new query objects with the same settings reuse the counts
+      Assertions.assertEquals(total, view.query().startAtFirstEntry().size());
+      Assertions.assertEquals(selected, view.query().startAtFirstEntry().selectByKey("Abbo", false).size());
+      Assertions.assertEquals(hitsBefore + 2, view.getCountCacheStatistics().getHits());
+
+      // index changes invalidate the cached counts
+      final Document doc = database.createDocument();
+      doc.replaceItemValue("Form", "Person");
+      doc.replaceItemValue("Lastname", "Abbott");
+      doc.replaceItemValue("Firstname", "Count");
+      doc.save();
+      view.refresh();
+
+      Assertions.assertEquals(total + 1, view.query().startAtFirstEntry().size());
+      Assertions.assertEquals(selected + 1, view.query().startAtFirstEntry().selectByKey("Abbo", false).size());
+    });
+  }
+
   @Test
   public void testDeselectByKey() throws Exception {
     this.withViewQueryTestDb(database -> {
@@ -389,6 +417,44 @@ public class TestViewQueries extends AbstractNotesRuntimeTest {
     });
   }
 
+  @Test
+  public void testLazyColumnValueDecoding() throws Exception {
+    withViewQueryTestDb((database) -> {
+      final DominoCollection view = database.openCollection("Lastname Firstname Flat").get();
+
+      final List<CollectionEntry> eagerEntries = view
+          .query()
+          .readColumnValues()
+          .collectEntries(0, 200);
+
+      final boolean oldLazy = DominoUtils.isLazyCollectionEntryDecoding();
+      DominoUtils.setLazyCollectionEntryDecoding(true);
+      final List<CollectionEntry> lazyEntries;
+      try {
+        lazyEntries = view
+            .query()
+            .readColumnValues()
+            .collectEntries(0, 200);
+      } finally {
+        DominoUtils.setLazyCollectionEntryDecoding(oldLazy);
+      }
+
+      Assertions.assertFalse(eagerEntries.isEmpty());
+      Assertions.assertEquals(eagerEntries.size(), lazyEntries.size());
+      for (int i = 0; i < eagerEntries.size(); i++) {
+        final CollectionEntry eager = eagerEntries.get(i);
+        final CollectionEntry lazy = lazyEntries.get(i);
+        Assertions.assertEquals(eager.getNoteID(), lazy.getNoteID());
+        Assertions.assertEquals(eager.get("Lastname", String.class, ""), lazy.get("Lastname", String.class, ""));
+        Assertions.assertEquals(eager.isEmpty(), lazy.isEmpty());
+        Assertions.assertEquals(eager.getItemNames(), lazy.getItemNames());
+        for (final String itemName : eager.getItemNames()) {
+          Assertions.assertEquals(eager.get(itemName, Object.class, null), lazy.get(itemName, Object.class, null), itemName);
+        }
+      }
+    });
+  }
+
   // Test for issue #138 "DominoCollectionInfo returns empty strings for
   // non-system collections", though it
   // has not yet resulted in reproduction of the problem
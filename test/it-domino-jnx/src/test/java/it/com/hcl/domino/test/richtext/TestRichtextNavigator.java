@@ -32,6 +32,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -181,6 +182,46 @@ public class TestRichtextNavigator extends AbstractNotesRuntimeTest {
     });
   }
 
+  @Test
+  public void testRecordRandomAccess() throws Exception {
+    this.withTempDb(database -> {
+      final Document doc = database.createDocument();
+      try (RichTextWriter w = doc.createRichTextItem("Body")) {
+        for (int i = 0; i < 3000; i++) {
+          w.addText("Paragraph " + i + " with enough text to spread the body over several items\n", null, null, true);
+        }
+      }
+      doc.save();
+
+      final List<RichTextRecord<?>> sequential = new ArrayList<>();
+      doc.getRichTextItem("Body").forEach(sequential::add);
+      Assertions.assertTrue(sequential.size() > 3000, "Body should contain the written paragraphs");
+
+      // Random access in reverse order must return the same records as reading forward
+      final List<RichTextRecord<?>> body = doc.getRichTextItem("Body");
+      for (int i = sequential.size() - 1; i >= 0; i--) {
+        final RichTextRecord<?> expected = sequential.get(i);
+        final RichTextRecord<?> actual = body.get(i);
+        Assertions.assertEquals(expected.getClass(), actual.getClass(), "Unexpected class at index " + i);
+        Assertions.assertEquals(expected.getData(), actual.getData(), "Unexpected data at index " + i);
+      }
+      Assertions.assertEquals(sequential.size(), body.size());
+      Assertions.assertThrows(IndexOutOfBoundsException.class, () -> body.get(sequential.size()));
+
+      // Parallel iteration must see every record once and in order
+      final List<String> expectedText = sequential.stream()
+          .filter(CDText.class::isInstance)
+          .map(record -> ((CDText) record).getText())
+          .collect(Collectors.toList());
+      final List<String> parallelText = doc.getRichTextItem("Body")
+          .parallelStream()
+          .filter(CDText.class::isInstance)
+          .map(record -> ((CDText) record).getText())
+          .collect(Collectors.toList());
+      Assertions.assertEquals(expectedText, parallelText);
+    });
+  }
+
   @Test
   public void testReadCDText() throws Exception {
     this.withResourceDxl("/dxl/testRichTextNavigator", database -> {